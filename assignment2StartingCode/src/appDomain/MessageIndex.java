@@ -0,0 +1,353 @@
+package appDomain;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import utilities.ListADT;
+
+/**
+ * Index of the messages in a list, used by XMLParser to drop duplicate error messages
+ * without scanning the list. It holds each message's hash and position in the list rather
+ * than the message itself; a matching hash is confirmed by reading the message back, so an
+ * entry left behind by a truncated list can never produce a false match.
+ * Recent entries live in an open-addressing hash table of at most maxSlots slots. When it
+ * is full, its entries are sorted and written to a temporary file as a run, and the newest
+ * two runs are merged while they are of similar size, so there are only logarithmically
+ * many. Runs are memory-mapped and searched in place; each keeps a Bloom filter on the
+ * heap, ten bits per entry, so a run is only searched when its filter says the hash may
+ * be there. Run files are deleted by truncate, clear and close, not at exit.
+ *
+ */
+public class MessageIndex implements Closeable {
+    /** default bound on the slots of the in-memory hash table */
+    public static final int DEFAULT_MAX_SLOTS = 1 << 18;
+
+    private static final int MIN_SLOTS = 16;
+    private static final int MAX_RUN_LENGTH = Integer.MAX_VALUE / 8;
+    private static final int BLOOM_BITS_PER_ENTRY = 10;
+    private static final int BLOOM_HASHES = 4;
+
+    private final int maxSlots;
+    private final File tempDir;
+
+    /** (hash << 32) | (position + 1), or 0 for an empty slot */
+    private long[] slots = new long[MIN_SLOTS];
+    private int count;
+    private final List<Run> runs = new ArrayList<>();
+
+    /**
+     * Entries spilled to a temporary file, sorted by hash.
+     */
+    private static class Run {
+        File file;
+        LongBuffer entries;
+        int length;
+        int firstPosition;
+        long[] bloom;
+    }
+
+    /**
+     * Constructs an index with the default hash table bound and run files in the default
+     * temporary directory.
+     */
+    public MessageIndex() {
+        this(DEFAULT_MAX_SLOTS, null);
+    }
+
+    /**
+     * Constructs an index that spills its hash table to a run once it has maxSlots slots.
+     *
+     * @param maxSlots the largest number of slots in the hash table, a power of two
+     * @param tempDir the directory for run files, or null for the default temporary directory
+     * @throws IllegalArgumentException if maxSlots is not a power of two of at least 16
+     */
+    public MessageIndex(int maxSlots, File tempDir) {
+        if (maxSlots < MIN_SLOTS || Integer.bitCount(maxSlots) != 1) {
+            throw new IllegalArgumentException("Max slots must be a power of two of at least "
+                    + MIN_SLOTS + ": " + maxSlots);
+        }
+        this.maxSlots = maxSlots;
+        this.tempDir = tempDir;
+    }
+
+    /**
+     * Checks whether a message is in the list.
+     *
+     * @param messages the indexed list
+     * @param message the message to look for
+     * @return true if an equal message is in the list
+     */
+    public boolean contains(ListADT<String> messages, String message) {
+        int hash = message.hashCode();
+        int mask = slots.length - 1;
+        for (int i = mix(hash) & mask; slots[i] != 0; i = (i + 1) & mask) {
+            if ((int) (slots[i] >>> 32) == hash && matches(messages, slots[i], message)) {
+                return true;
+            }
+        }
+        for (Run run : runs) {
+            if (mayContain(run.bloom, hash) && runContains(run, hash, messages, message)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Records a message added to the list.
+     *
+     * @param message the message
+     * @param position its index in the list
+     */
+    public void add(String message, int position) {
+        if ((count + 1) * 4 > slots.length * 3) {
+            if (slots.length < maxSlots) {
+                rehash(slots.length * 2, Integer.MAX_VALUE);
+            } else {
+                spill();
+            }
+        }
+        insert(((long) message.hashCode() << 32) | (position + 1L));
+        count++;
+    }
+
+    /**
+     * Forgets the messages at or after a position, after the list was truncated there.
+     * Runs holding only such messages are deleted; a run that holds some keeps them, as
+     * they no longer match anything once the list has shrunk or been refilled.
+     *
+     * @param size the new size of the list
+     */
+    public void truncate(int size) {
+        rehash(slots.length, size);
+        for (int r = runs.size() - 1; r >= 0; r--) {
+            if (runs.get(r).firstPosition >= size) {
+                delete(runs.remove(r));
+            }
+        }
+    }
+
+    /**
+     * Forgets all messages and deletes the run files.
+     */
+    public void clear() {
+        slots = new long[MIN_SLOTS];
+        count = 0;
+        for (Run run : runs) {
+            delete(run);
+        }
+        runs.clear();
+    }
+
+    /**
+     * Forgets all messages and deletes the run files. The index can still be used.
+     */
+    @Override
+    public void close() {
+        clear();
+    }
+
+    /**
+     * Returns the number of runs written to temporary files.
+     *
+     * @return the number of runs
+     */
+    public int getRunCount() {
+        return runs.size();
+    }
+
+    private static boolean matches(ListADT<String> messages, long slot, String message) {
+        int position = (int) slot - 1;
+        return position < messages.size() && message.equals(messages.get(position));
+    }
+
+    private void rehash(int capacity, int size) {
+        long[] old = slots;
+        slots = new long[capacity];
+        count = 0;
+        for (long slot : old) {
+            if (slot != 0 && (int) slot <= size) {
+                insert(slot);
+                count++;
+            }
+        }
+    }
+
+    private void insert(long slot) {
+        int mask = slots.length - 1;
+        int i = mix((int) (slot >>> 32)) & mask;
+        while (slots[i] != 0) {
+            i = (i + 1) & mask;
+        }
+        slots[i] = slot;
+    }
+
+    /**
+     * Writes the hash table out as a new run and empties it, then merges the newest
+     * runs while the older of the two is no larger than the newer.
+     */
+    private void spill() {
+        long[] sorted = new long[count];
+        int n = 0;
+        for (long slot : slots) {
+            if (slot != 0) {
+                sorted[n++] = slot;
+            }
+        }
+        Arrays.sort(sorted);
+        Arrays.fill(slots, 0);
+        count = 0;
+
+        try {
+            RunWriter writer = new RunWriter(sorted.length, tempDir);
+            for (long entry : sorted) {
+                writer.write(entry);
+            }
+            runs.add(writer.finish());
+
+            while (runs.size() >= 2 && runs.get(runs.size() - 2).length <= runs.get(runs.size() - 1).length
+                    && runs.get(runs.size() - 2).length <= MAX_RUN_LENGTH - runs.get(runs.size() - 1).length) {
+                Run newer = runs.remove(runs.size() - 1);
+                Run older = runs.remove(runs.size() - 1);
+                runs.add(merge(older, newer));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Merges two runs into a new one and deletes them.
+     */
+    private Run merge(Run a, Run b) throws IOException {
+        RunWriter writer = new RunWriter(a.length + b.length, tempDir);
+        try (DataInputStream inA = open(a); DataInputStream inB = open(b)) {
+            int i = 0;
+            int j = 0;
+            long x = a.length > 0 ? inA.readLong() : 0;
+            long y = b.length > 0 ? inB.readLong() : 0;
+            while (i < a.length || j < b.length) {
+                if (j == b.length || (i < a.length && x <= y)) {
+                    writer.write(x);
+                    if (++i < a.length) {
+                        x = inA.readLong();
+                    }
+                } else {
+                    writer.write(y);
+                    if (++j < b.length) {
+                        y = inB.readLong();
+                    }
+                }
+            }
+        }
+        Run merged = writer.finish();
+        merged.firstPosition = Math.min(a.firstPosition, b.firstPosition);
+        delete(a);
+        delete(b);
+        return merged;
+    }
+
+    private static DataInputStream open(Run run) throws IOException {
+        return new DataInputStream(new BufferedInputStream(new FileInputStream(run.file)));
+    }
+
+    private static void delete(Run run) {
+        run.entries = null;
+        run.file.delete();
+    }
+
+    /**
+     * Looks a hash up in a run: binary search for its first entry, then a scan over
+     * the entries with the same hash.
+     */
+    private static boolean runContains(Run run, int hash, ListADT<String> messages, String message) {
+        long key = (long) hash << 32;
+        LongBuffer entries = run.entries;
+        int low = 0;
+        int high = run.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entries.get(mid) < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        for (int i = low; i < run.length && (int) (entries.get(i) >>> 32) == hash; i++) {
+            if (matches(messages, entries.get(i), message)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean mayContain(long[] bloom, int hash) {
+        long bits = bloom.length * 64L;
+        int h1 = mix(hash);
+        int h2 = hash * 0x9E3779B9 | 1;
+        for (int i = 0; i < BLOOM_HASHES; i++) {
+            long bit = ((h1 + i * h2) & 0xFFFFFFFFL) % bits;
+            if ((bloom[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void addToBloom(long[] bloom, int hash) {
+        long bits = bloom.length * 64L;
+        int h1 = mix(hash);
+        int h2 = hash * 0x9E3779B9 | 1;
+        for (int i = 0; i < BLOOM_HASHES; i++) {
+            long bit = ((h1 + i * h2) & 0xFFFFFFFFL) % bits;
+            bloom[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    /**
+     * Writes sorted entries to a new run file, collecting its Bloom filter.
+     */
+    private static class RunWriter {
+        private final Run run = new Run();
+        private final DataOutputStream out;
+
+        RunWriter(int length, File tempDir) throws IOException {
+            run.file = File.createTempFile("index", ".bin", tempDir);
+            run.length = length;
+            run.firstPosition = Integer.MAX_VALUE;
+            run.bloom = new long[Math.max(1, (int) ((long) length * BLOOM_BITS_PER_ENTRY / 64))];
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(run.file)));
+        }
+
+        void write(long entry) throws IOException {
+            addToBloom(run.bloom, (int) (entry >>> 32));
+            run.firstPosition = Math.min(run.firstPosition, (int) entry - 1);
+            out.writeLong(entry);
+        }
+
+        Run finish() throws IOException {
+            out.close();
+            try (FileChannel channel = FileChannel.open(run.file.toPath(), StandardOpenOption.READ)) {
+                run.entries = channel.map(FileChannel.MapMode.READ_ONLY, 0, run.length * 8L).asLongBuffer();
+            }
+            return run;
+        }
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
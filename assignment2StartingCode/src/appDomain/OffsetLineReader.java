@@ -0,0 +1,144 @@
+package appDomain;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+
+/**
+ * Line reader that tracks the byte offset of every line, so a parse can be resumed from
+ * any line start. Lines end at '\n', '\r' or "\r\n", as with BufferedReader, and are
+ * decoded with the platform charset like FileReader does; that charset must encode the
+ * line terminators as single bytes, which holds for UTF-8 and the ISO-8859 family.
+ *
+ */
+class OffsetLineReader implements Closeable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final Charset charset = Charset.defaultCharset();
+
+    // bytes of a line that started in an earlier buffer
+    private byte[] partial = new byte[256];
+    private int partialLength;
+
+    private long position;
+    private boolean eof;
+
+    /**
+     * Opens a file for reading from the given byte offset, which must be a line start.
+     *
+     * @param filename the path to the file
+     * @param offset the byte offset to start reading from
+     * @throws IOException if the file cannot be opened
+     */
+    OffsetLineReader(String filename, long offset) throws IOException {
+        this.file = new RandomAccessFile(filename, "r");
+        this.channel = file.getChannel();
+        channel.position(offset);
+        this.position = offset;
+        buffer.flip();
+    }
+
+    /**
+     * Returns the byte offset just past the last line returned, which is where the next line starts.
+     *
+     * @return the current byte offset
+     */
+    long position() {
+        return position;
+    }
+
+    /**
+     * Reads the next line, without its terminator.
+     *
+     * @return the next line, or null at end of file
+     * @throws IOException if the file cannot be read
+     */
+    String readLine() throws IOException {
+        partialLength = 0;
+        while (true) {
+            if (!buffer.hasRemaining()) {
+                if (eof || !fill()) {
+                    eof = true;
+                    return partialLength > 0 ? decodePartial() : null;
+                }
+            }
+
+            byte[] bytes = buffer.array();
+            int start = buffer.position();
+            int limit = buffer.limit();
+
+            for (int i = start; i < limit; i++) {
+                byte b = bytes[i];
+                if (b == '\n' || b == '\r') {
+                    String line;
+                    if (partialLength == 0) {
+                        line = new String(bytes, start, i - start, charset);
+                    } else {
+                        appendPartial(bytes, start, i - start);
+                        line = decodePartial();
+                    }
+                    position += i - start + 1;
+                    buffer.position(i + 1);
+                    if (b == '\r') {
+                        skipLineFeed();
+                    }
+                    return line;
+                }
+            }
+
+            appendPartial(bytes, start, limit - start);
+            position += limit - start;
+            buffer.position(limit);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        file.close();
+    }
+
+    /**
+     * Consumes the '\n' of a "\r\n" pair, so that the position is always a line start.
+     *
+     * @throws IOException if the file cannot be read
+     */
+    private void skipLineFeed() throws IOException {
+        if (!buffer.hasRemaining() && (eof || !fill())) {
+            eof = true;
+            return;
+        }
+        if (buffer.get(buffer.position()) == '\n') {
+            buffer.position(buffer.position() + 1);
+            position++;
+        }
+    }
+
+    private boolean fill() throws IOException {
+        buffer.clear();
+        int read = channel.read(buffer);
+        buffer.flip();
+        return read > 0;
+    }
+
+    private void appendPartial(byte[] bytes, int offset, int length) {
+        if (partialLength + length > partial.length) {
+            byte[] grown = new byte[Math.max(partial.length * 2, partialLength + length)];
+            System.arraycopy(partial, 0, grown, 0, partialLength);
+            partial = grown;
+        }
+        System.arraycopy(bytes, offset, partial, partialLength, length);
+        partialLength += length;
+    }
+
+    private String decodePartial() {
+        String line = new String(partial, 0, partialLength, charset);
+        partialLength = 0;
+        return line;
+    }
+}
@@ -0,0 +1,627 @@
+package appDomain;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Disk-backed cache of XMLParser verdicts, keyed by a fast content hash of the XML file.
+ * The size and last-modified time recorded for a path are checked first, so an unchanged
+ * file is answered without being read at all; a touched or copied file is recognized by
+ * its hash. Results and the paths they were seen at are appended to a log file as
+ * separate records, each framed by its length and a CRC32, and kept in least-recently-used
+ * order. The log header records the parser version, and a log written by another
+ * version is discarded. Once the live entries exceed the configured size the oldest are evicted, and the
+ * log is rewritten when it has grown well past the data it still holds.
+ *
+ */
+public class ValidationCache implements Closeable {
+    /** default bound on the encoded size of the live entries */
+    public static final long DEFAULT_MAX_BYTES = 16L * 1024 * 1024;
+
+    private static final int MAGIC = 0x58564332;
+    private static final int HEADER_BYTES = 8;
+
+    /** length and CRC32 in front of every record */
+    private static final int FRAME_BYTES = 8;
+    private static final byte RESULT_RECORD = 1;
+    private static final byte PATH_RECORD = 2;
+
+    /** most paths remembered for one content hash */
+    private static final int MAX_PATHS = 8;
+    private static final int HASH_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Verdict and error list stored for one file.
+     */
+    public static class Result {
+        private final boolean valid;
+        private final List<String> errors;
+
+        /**
+         * Constructs a result from a verdict and its error messages.
+         *
+         * @param valid whether the document was well-formed
+         * @param errors the error messages reported for the document
+         */
+        Result(boolean valid, List<String> errors) {
+            this.valid = valid;
+            this.errors = errors;
+        }
+
+        /**
+         * @return true if the cached document was well-formed
+         */
+        public boolean isValid() {
+            return valid;
+        }
+
+        /**
+         * @return the cached error messages, in the order they were reported
+         */
+        public List<String> getErrors() {
+            return errors;
+        }
+    }
+
+    /**
+     * One cached result: the content hash and size it belongs to, and the paths at which
+     * that content was last seen.
+     */
+    private static class Entry {
+        long hash;
+        long size;
+        Result result;
+        int encodedSize;
+        List<PathStat> paths = new ArrayList<>(1);
+    }
+
+    /**
+     * Stat data recorded for one path, so an unchanged file is answered without reading it.
+     */
+    private static class PathStat {
+        Entry owner;
+        String path;
+        long hash;
+        long modified;
+        int encodedSize;
+    }
+
+    private final File file;
+    private final long maxBytes;
+
+    // access-ordered, so iteration starts at the least recently used entry
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final HashMap<String, PathStat> pathIndex = new HashMap<>();
+    private long liveBytes;
+    private long logBytes;
+    private DataOutputStream log;
+
+    // stat data and hash of the last missed lookup, so store() need not hash the file again
+    private String pendingPath;
+    private long pendingSize;
+    private long pendingModified;
+    private long pendingHash;
+
+    /**
+     * Opens a cache file with the default size bound, creating it if it does not exist.
+     *
+     * @param file the file the cache is persisted in
+     * @throws IOException if the cache file cannot be read or created
+     */
+    public ValidationCache(File file) throws IOException {
+        this(file, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Opens a cache file, creating it if it does not exist.
+     *
+     * @param file the file the cache is persisted in
+     * @param maxBytes the maximum encoded size of the entries kept in the cache
+     * @throws IOException if the cache file cannot be read or created
+     * @throws IllegalArgumentException if maxBytes is not positive
+     */
+    public ValidationCache(File file, long maxBytes) throws IOException {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Max size must be positive: " + maxBytes);
+        }
+        this.file = file;
+        this.maxBytes = maxBytes;
+        load();
+        evict();
+    }
+
+    /**
+     * Looks up the cached result for a file. The file is only read when its size or
+     * modification time differ from the ones recorded for its path, in which case its
+     * content hash decides whether a result still applies. Files with identical content
+     * share one result, and each of their paths keeps its own stat data.
+     *
+     * @param filename the path to the XML file
+     * @return the cached result, or null if the file has to be parsed
+     * @throws IOException if the file cannot be read or the cache cannot be written
+     */
+    public Result lookup(String filename) throws IOException {
+        File xml = new File(filename);
+        if (!xml.isFile()) {
+            return null;
+        }
+        String path = xml.getAbsolutePath();
+        long size = xml.length();
+        long modified = xml.lastModified();
+
+        PathStat known = pathIndex.get(path);
+        if (known != null && known.modified == modified) {
+            Entry entry = entries.get(known.hash);
+            if (entry != null && entry.size == size) {
+                return entry.result;
+            }
+        }
+
+        long hash = hashFile(xml);
+        Entry entry = entries.get(hash);
+        if (entry != null && entry.size == size) {
+            PathStat stat = attach(entry, path, modified);
+            appendRecord(encodePath(stat));
+            evict();
+            return entry.result;
+        }
+
+        pendingPath = path;
+        pendingSize = size;
+        pendingModified = modified;
+        pendingHash = hash;
+        return null;
+    }
+
+    /**
+     * Records the result of parsing a file.
+     *
+     * @param filename the path to the XML file that was parsed
+     * @param valid whether the document was well-formed
+     * @param errors the error messages reported for the document
+     * @throws IOException if the file cannot be hashed or the cache cannot be written
+     */
+    public void store(String filename, boolean valid, List<String> errors) throws IOException {
+        File xml = new File(filename);
+        String path = xml.getAbsolutePath();
+        long size = xml.length();
+        long modified = xml.lastModified();
+
+        long hash;
+        if (path.equals(pendingPath) && size == pendingSize && modified == pendingModified) {
+            hash = pendingHash;
+        } else {
+            hash = hashFile(xml);
+        }
+        pendingPath = null;
+
+        Entry entry = new Entry();
+        entry.hash = hash;
+        entry.size = size;
+        entry.result = new Result(valid, Collections.unmodifiableList(new ArrayList<>(errors)));
+        byte[] record = encodeResult(entry);
+        entry.encodedSize = FRAME_BYTES + record.length;
+        putResult(entry);
+        appendRecord(record);
+
+        PathStat stat = attach(entry, path, modified);
+        appendRecord(encodePath(stat));
+        evict();
+    }
+
+    /**
+     * Returns the number of results held in the cache.
+     *
+     * @return the number of cached entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Writes any buffered records and compacts the log if it holds superseded records.
+     *
+     * @throws IOException if the cache file cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        if (log == null) {
+            return;
+        }
+        if (logBytes > HEADER_BYTES + liveBytes) {
+            compact();
+        }
+        log.close();
+        log = null;
+    }
+
+    /**
+     * Replays the log into memory. Reading stops at the first record whose length runs
+     * past the end of the file, whose checksum does not match or whose content cannot be
+     * decoded, as left by a crash, and the file is truncated there; a file with an
+     * unknown header, or written by another parser version, is discarded.
+     *
+     * @throws IOException if the cache file cannot be read or created
+     */
+    private void load() throws IOException {
+        long valid = 0;
+        long length = file.isFile() ? file.length() : 0;
+        if (length >= HEADER_BYTES) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+                if (in.readInt() == MAGIC && in.readInt() == XMLParser.VERSION) {
+                    valid = HEADER_BYTES;
+                    byte[] payload;
+                    while ((payload = readRecord(in, length - valid)) != null && replay(payload)) {
+                        valid += FRAME_BYTES + payload.length;
+                    }
+                }
+            }
+        }
+
+        if (valid == 0) {
+            startLog();
+            return;
+        }
+        if (valid < length) {
+            try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+                raf.setLength(valid);
+            }
+        }
+        logBytes = valid;
+        log = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, true)));
+    }
+
+    /**
+     * Applies one record read from the log.
+     *
+     * @param payload the record's payload, its checksum already verified
+     * @return false if the payload cannot be decoded
+     */
+    private boolean replay(byte[] payload) {
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+            int kind = in.readByte();
+            long hash = in.readLong();
+            if (kind == RESULT_RECORD) {
+                Entry entry = new Entry();
+                entry.hash = hash;
+                entry.size = in.readLong();
+                boolean valid = in.readBoolean();
+                int count = in.readInt();
+                if (count < 0 || count > payload.length) {
+                    return false;
+                }
+                List<String> errors = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    errors.add(readString(in));
+                }
+                entry.result = new Result(valid, Collections.unmodifiableList(errors));
+                entry.encodedSize = FRAME_BYTES + payload.length;
+                putResult(entry);
+            } else if (kind == PATH_RECORD) {
+                long modified = in.readLong();
+                String path = readString(in);
+                Entry entry = entries.get(hash);
+                if (entry != null) {
+                    attach(entry, path, modified);
+                }
+            } else {
+                return false;
+            }
+            return in.available() == 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Starts a new, empty log file.
+     *
+     * @throws IOException if the cache file cannot be created
+     */
+    private void startLog() throws IOException {
+        log = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+        log.writeInt(MAGIC);
+        log.writeInt(XMLParser.VERSION);
+        log.flush();
+        logBytes = HEADER_BYTES;
+    }
+
+    /**
+     * Inserts or replaces the result for a hash, moving it to the most recently used
+     * position. The paths of a replaced result carry over, as their content is the same.
+     *
+     * @param entry the entry to insert
+     */
+    private void putResult(Entry entry) {
+        Entry old = entries.remove(entry.hash);
+        if (old != null) {
+            liveBytes -= old.encodedSize;
+            entry.paths = old.paths;
+            for (PathStat stat : entry.paths) {
+                stat.owner = entry;
+            }
+        }
+        entries.put(entry.hash, entry);
+        liveBytes += entry.encodedSize;
+    }
+
+    /**
+     * Records that a path was seen holding an entry's content, replacing whatever the
+     * path held before. An entry keeps at most MAX_PATHS paths and forgets the oldest.
+     *
+     * @param entry the entry the path holds
+     * @param path the absolute path
+     * @param modified the file's modification time
+     * @return the new stat data of the path
+     */
+    private PathStat attach(Entry entry, String path, long modified) {
+        PathStat old = pathIndex.get(path);
+        if (old != null) {
+            detach(old);
+        }
+        if (entry.paths.size() == MAX_PATHS) {
+            detach(entry.paths.get(0));
+        }
+
+        PathStat stat = new PathStat();
+        stat.owner = entry;
+        stat.path = path;
+        stat.hash = entry.hash;
+        stat.modified = modified;
+        stat.encodedSize = FRAME_BYTES + 1 + 8 + 8 + 4 + utf8Length(path);
+        entry.paths.add(stat);
+        pathIndex.put(path, stat);
+        liveBytes += stat.encodedSize;
+        return stat;
+    }
+
+    /**
+     * Forgets a path's stat data. The entry that held it is reached through the stat
+     * rather than the map, which would move it to the most recently used position.
+     *
+     * @param stat the stat data to remove
+     */
+    private void detach(PathStat stat) {
+        pathIndex.remove(stat.path);
+        stat.owner.paths.remove(stat);
+        liveBytes -= stat.encodedSize;
+    }
+
+    /**
+     * Evicts least recently used entries until the live entries fit the size bound,
+     * compacting the log once superseded records make up most of it.
+     *
+     * @throws IOException if the cache file cannot be written
+     */
+    private void evict() throws IOException {
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (liveBytes > maxBytes && eldest.hasNext()) {
+            Entry entry = eldest.next();
+            eldest.remove();
+            liveBytes -= entry.encodedSize;
+            for (PathStat stat : entry.paths) {
+                pathIndex.remove(stat.path);
+                liveBytes -= stat.encodedSize;
+            }
+        }
+        if (logBytes > 2 * maxBytes) {
+            compact();
+        }
+    }
+
+    /**
+     * Rewrites the log with only the live entries, least recently used first and each
+     * followed by its paths, so that replaying it restores the same eviction order.
+     *
+     * @throws IOException if the cache file cannot be written
+     */
+    private void compact() throws IOException {
+        log.close();
+        File temp = new File(file.getPath() + ".tmp");
+        long written = HEADER_BYTES;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(XMLParser.VERSION);
+            for (Entry entry : entries.values()) {
+                written += writeRecord(out, encodeResult(entry));
+                for (PathStat stat : entry.paths) {
+                    written += writeRecord(out, encodePath(stat));
+                }
+            }
+        }
+        if (!file.delete() || !temp.renameTo(file)) {
+            throw new IOException("Cannot replace cache file " + file);
+        }
+        logBytes = written;
+        log = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, true)));
+    }
+
+    /**
+     * Appends one framed record to the log and flushes it.
+     *
+     * @param payload the record's payload
+     * @throws IOException if the cache file cannot be written
+     */
+    private void appendRecord(byte[] payload) throws IOException {
+        logBytes += writeRecord(log, payload);
+        log.flush();
+    }
+
+    /**
+     * Writes one record: the payload's length and CRC32, then the payload.
+     *
+     * @param out the stream to write to
+     * @param payload the record's payload
+     * @return the number of bytes written
+     * @throws IOException if the stream cannot be written
+     */
+    private static int writeRecord(DataOutputStream out, byte[] payload) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(payload, 0, payload.length);
+        out.writeInt(payload.length);
+        out.writeInt((int) crc.getValue());
+        out.write(payload);
+        return FRAME_BYTES + payload.length;
+    }
+
+    /**
+     * Reads one record written by {@link #writeRecord(DataOutputStream, byte[])}.
+     *
+     * @param in the stream to read from
+     * @param remaining the number of bytes left in the file
+     * @return the payload, or null at the end of the log or at a truncated, oversized or
+     *         damaged record
+     * @throws IOException if the stream cannot be read
+     */
+    private static byte[] readRecord(DataInputStream in, long remaining) throws IOException {
+        try {
+            int length = in.readInt();
+            int checksum = in.readInt();
+            if (length < 1 || length > remaining - FRAME_BYTES) {
+                return null;
+            }
+            byte[] payload = new byte[length];
+            in.readFully(payload);
+            CRC32 crc = new CRC32();
+            crc.update(payload, 0, length);
+            return (int) crc.getValue() == checksum ? payload : null;
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Encodes a result record: kind, hash, content size, verdict and error list.
+     *
+     * @param entry the entry to encode
+     * @return the record's payload
+     */
+    private static byte[] encodeResult(Entry entry) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(RESULT_RECORD);
+            out.writeLong(entry.hash);
+            out.writeLong(entry.size);
+            out.writeBoolean(entry.result.isValid());
+            out.writeInt(entry.result.getErrors().size());
+            for (String error : entry.result.getErrors()) {
+                writeString(out, error);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Encodes a path record: kind, hash, modification time and path.
+     *
+     * @param stat the stat data to encode
+     * @return the record's payload
+     */
+    private static byte[] encodePath(PathStat stat) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(PATH_RECORD);
+            out.writeLong(stat.hash);
+            out.writeLong(stat.modified);
+            writeString(out, stat.path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static int utf8Length(String s) {
+        return s.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > in.available()) {
+            throw new EOFException("Corrupt string length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Computes a 64-bit hash of the file's content, eight bytes per step.
+     *
+     * @param xml the file to hash
+     * @return the content hash
+     * @throws IOException if the file cannot be read
+     */
+    static long hashFile(File xml) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(HASH_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        long h = 0x9E3779B97F4A7C15L;
+        long length = 0;
+
+        try (FileChannel channel = new FileInputStream(xml).getChannel()) {
+            int read;
+            while ((read = channel.read(buffer)) != -1) {
+                length += read;
+                buffer.flip();
+                while (buffer.remaining() >= 8) {
+                    h = mix(h, buffer.getLong());
+                }
+                buffer.compact();
+            }
+            buffer.flip();
+            long tail = 0;
+            int shift = 0;
+            while (buffer.hasRemaining()) {
+                tail |= (buffer.get() & 0xFFL) << shift;
+                shift += 8;
+            }
+            h = mix(h, tail);
+        }
+
+        h ^= length;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static long mix(long h, long v) {
+        v *= 0x87C37B91114253D5L;
+        v = Long.rotateLeft(v, 31);
+        v *= 0x4CF5AD432745937FL;
+        h ^= v;
+        return Long.rotateLeft(h, 27) * 5 + 0x52DCE729;
+    }
+}
@@ -1,15 +1,26 @@
 package appDomain;
 
+import implementations.ElementCodecs;
+import implementations.MyPersistentStack;
+import implementations.MySnapshotStack;
+import implementations.MySpillList;
+import implementations.MySpillQueue;
+import implementations.MySpscQueue;
 import implementations.MyStack;
-import implementations.MyQueue;
+import utilities.ElementCodec;
+import utilities.Iterator;
 import utilities.StackADT;
 import utilities.QueueADT;
 import exceptions.EmptyQueueException;
 import java.util.regex.Pattern;
-import java.util.regex.Matcher;
 import java.io.BufferedReader;
+import java.io.Closeable;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -17,20 +28,72 @@ import java.util.List;
  * XML Parser implementation based on Kitty's Algorithm for validating XML document structure.
  * This parser checks for proper tag nesting, matching, and well-formedness according to XML standards.
  * It uses custom stack and queue implementations to track tags and report validation errors.
+ * Errors past a memory budget spill to temporary files, which close() deletes.
  * 
  */
-public class XMLParser {
-    private StackADT<TagInfo> tagStack;
+public class XMLParser implements Closeable {
+    private MySnapshotStack<TagInfo> tagStack;
     private QueueADT<TagInfo> errorQ;
     private QueueADT<TagInfo> extrasQ;
-    private List<String> errorMessages;
+    private MySpillList<String> errorMessages;
+    private MessageIndex messageIndex;
+    private ValidationCache cache;
+    
+    /**
+     * Version of the verdicts and messages this parser produces. A cache written under
+     * another version is discarded, so raise it with any change that can alter either.
+     */
+    static final int VERSION = 1;
     
     // Regex patterns for XML tag detection
-    private static final Pattern START_TAG_PATTERN = Pattern.compile("<([a-zA-Z][a-zA-Z0-9_-]*)(\\s[^>]*)?>");
-    private static final Pattern END_TAG_PATTERN = Pattern.compile("</([a-zA-Z][a-zA-Z0-9_-]*)>");
-    private static final Pattern SELF_CLOSING_TAG_PATTERN = Pattern.compile("<([a-zA-Z][a-zA-Z0-9_-]*)(\\s[^>]*)?/>");
+    private static final Pattern START_TAG_PATTERN = Pattern.compile("<([a-zA-Z][a-zA-Z0-9_-]*)(\\s.*)?>");
+    private static final Pattern END_TAG_PATTERN = Pattern.compile("</([a-zA-Z][a-zA-Z0-9_-]*)\\s*>");
+    private static final Pattern SELF_CLOSING_TAG_PATTERN = Pattern.compile("<([a-zA-Z][a-zA-Z0-9_-]*)(\\s.*)?/>");
     private static final Pattern PROCESSING_INSTRUCTION_PATTERN = Pattern.compile("<\\?xml[^?]*\\?>");
     
+    // Scanner states for markup that may span several lines
+    private static final int SCAN_CONTENT = 0;
+    private static final int SCAN_COMMENT = 1;
+    private static final int SCAN_CDATA = 2;
+    private static final int SCAN_DOCTYPE = 3;
+    private static final int SCAN_TAG = 4;
+    private static final int SCAN_ATTRIBUTE_VALUE = 5;
+    
+    private static final String COMMENT_OPEN = "<!--";
+    private static final String COMMENT_CLOSE = "-->";
+    private static final String CDATA_OPEN = "<![CDATA[";
+    private static final String CDATA_CLOSE = "]]>";
+    private static final String DOCTYPE_OPEN = "<!DOCTYPE";
+    
+    // Bytes of error messages, and of tags in each error queue, kept on the heap before
+    // the oldest are spilled to a temporary file
+    private static final long ERROR_MEMORY_BUDGET = 1L << 20;
+    
+    // Tags each error queue keeps in its ring buffer before later ones go to its spill list
+    private static final int ERROR_QUEUE_RESIDENT = 1 << 14;
+    
+    private int scanState;
+    private int constructLine;
+    private int doctypeDepth;
+    
+    // Pending tag text, kept while a tag spans more than one line
+    private final StringBuilder tagBuffer = new StringBuilder();
+    private int tagStart;
+    private int tagLine;
+    private char quoteChar;
+    private boolean afterEquals;
+    
+    // Checkpoints of the last parse, used to resume after an in-place edit
+    private long checkpointInterval;
+    private String checkpointFile;
+    private List<Checkpoint> checkpoints = new ArrayList<>();
+    private List<ErrorRecord> rawErrors = new ArrayList<>();
+    
+    // Lines read ahead on a separate thread, handed to the scanner in blocks
+    private static final int PIPELINE_CAPACITY = 1024;
+    private static final int PIPELINE_BLOCK = 64;
+    private boolean pipelined;
+    
     /**
      * Helper class to store tag information including name, original text, and line number.
      * Used for accurate error reporting and tracking tag context.
@@ -78,20 +141,230 @@ public class XMLParser {
         }
     }
     
+    /**
+     * Encodes a TagInfo for the spilling error queues as its line number, the length of
+     * its tag name, and the UTF-8 bytes of the tag name and the original tag.
+     */
+    private static final ElementCodec<TagInfo> TAG_CODEC = new ElementCodec<TagInfo>() {
+        @Override
+        public byte[] encode(TagInfo tag) {
+            byte[] name = tag.tagName.getBytes(StandardCharsets.UTF_8);
+            byte[] original = tag.originalTag.getBytes(StandardCharsets.UTF_8);
+            ByteBuffer buffer = ByteBuffer.allocate(8 + name.length + original.length);
+            buffer.putInt(tag.lineNumber).putInt(name.length).put(name).put(original);
+            return buffer.array();
+        }
+        
+        @Override
+        public TagInfo decode(byte[] bytes, int offset, int length) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, length);
+            int lineNumber = buffer.getInt();
+            int nameLength = buffer.getInt();
+            String name = new String(bytes, offset + 8, nameLength, StandardCharsets.UTF_8);
+            String original = new String(bytes, offset + 8 + nameLength, length - 8 - nameLength,
+                    StandardCharsets.UTF_8);
+            return new TagInfo(name, original, lineNumber);
+        }
+    };
+    
+    /**
+     * Helper class recording one error as reported, before duplicates are dropped.
+     * Replaying these records reproduces the error list of the part of a parse they cover.
+     */
+    private static class ErrorRecord {
+        int lineNumber;
+        String message;
+        
+        /**
+         * Constructs an ErrorRecord.
+         * 
+         * @param lineNumber the line number the error refers to
+         * @param message the error message without its line prefix
+         */
+        ErrorRecord(int lineNumber, String message) {
+            this.lineNumber = lineNumber;
+            this.message = message;
+        }
+    }
+    
+    /**
+     * Helper class holding the complete parser state at the start of a line, so a parse
+     * can be resumed there or compared against a later parse of an edited file.
+     */
+    private static class Checkpoint {
+        long offset;
+        int lineNumber;
+        MyPersistentStack<TagInfo> stack;
+        TagInfo[] errors;
+        TagInfo[] extras;
+        int rawCount;
+        int messageCount;
+        int scanState;
+        int constructLine;
+        int doctypeDepth;
+    }
+    
+    /**
+     * Helper class describing an edit being revalidated, together with the checkpoints
+     * and error records of the parse that preceded it.
+     */
+    private static class Resume {
+        long editOffset;
+        long editEnd;
+        long delta;
+        int editLine;
+        List<Checkpoint> oldCheckpoints;
+        List<ErrorRecord> oldErrors;
+        int next;
+    }
+    
+    /**
+     * Helper thread reading the lines of a file ahead of the scanner. It is the only
+     * producer of its ring buffer and the parsing thread the only consumer. Once every
+     * line has been handed over, or reading failed, finished is set.
+     */
+    private static class LineFeeder extends Thread {
+        final MySpscQueue<String> lines = new MySpscQueue<>(PIPELINE_CAPACITY);
+        private final BufferedReader reader;
+        volatile boolean finished;
+        volatile boolean cancelled;
+        volatile IOException failure;
+        
+        /**
+         * Opens the file on the calling thread, so a missing file is reported there.
+         * 
+         * @param filename the path to the XML file
+         * @throws IOException if the file cannot be opened
+         */
+        LineFeeder(String filename) throws IOException {
+            super("XMLParser-reader");
+            setDaemon(true);
+            reader = new BufferedReader(new FileReader(filename));
+        }
+        
+        @Override
+        public void run() {
+            String[] block = new String[PIPELINE_BLOCK];
+            try {
+                int length;
+                do {
+                    length = 0;
+                    String line;
+                    while (length < block.length && (line = reader.readLine()) != null) {
+                        block[length++] = line;
+                    }
+                    for (int sent = 0; sent < length; ) {
+                        int added = lines.fillFrom(block, sent, length - sent);
+                        if (added == 0) {
+                            if (cancelled) {
+                                return;
+                            }
+                            Thread.yield();
+                        }
+                        sent += added;
+                    }
+                } while (length == block.length);
+            } catch (IOException e) {
+                failure = e;
+            } finally {
+                finished = true;
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    // nothing more to read
+                }
+            }
+        }
+        
+        /**
+         * Stops the thread if it is still running and waits for it to end.
+         */
+        void cancel() {
+            cancelled = true;
+            boolean interrupted = false;
+            while (isAlive()) {
+                try {
+                    join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+    
     /**
      * Constructs a new XMLParser with empty data structures.
      * Initializes the tag stack, error queue, extras queue, and error messages list.
      */
     public XMLParser() {
-        this.tagStack = new MyStack<>();
-        this.errorQ = new MyQueue<>();
-        this.extrasQ = new MyQueue<>();
-        this.errorMessages = new ArrayList<>();
+        this.tagStack = new MySnapshotStack<>();
+        this.errorQ = new MySpillQueue<>(TAG_CODEC, ERROR_QUEUE_RESIDENT, ERROR_MEMORY_BUDGET, null);
+        this.extrasQ = new MySpillQueue<>(TAG_CODEC, ERROR_QUEUE_RESIDENT, ERROR_MEMORY_BUDGET, null);
+        this.errorMessages = new MySpillList<>(ElementCodecs.STRING, ERROR_MEMORY_BUDGET, null);
+        this.messageIndex = new MessageIndex();
+    }
+    
+    /**
+     * Deletes the temporary files holding spilled errors and forgets the last parse's
+     * errors. The parser can still be used.
+     */
+    @Override
+    public void close() {
+        errorQ.dequeueAll();
+        extrasQ.dequeueAll();
+        errorMessages.close();
+        messageIndex.close();
+    }
+    
+    /**
+     * Sets a result cache consulted before parsing and updated after every parse.
+     * 
+     * @param cache the cache to use, or null to always parse
+     */
+    public void setCache(ValidationCache cache) {
+        this.cache = cache;
+    }
+    
+    /**
+     * Enables checkpoints: every given number of kilobytes, the parser state is recorded
+     * so that {@link #revalidate(String, long, long, long)} can resume after an edit
+     * instead of parsing the whole file again.
+     * 
+     * @param kilobytes the distance between checkpoints, or 0 to disable them
+     * @throws IllegalArgumentException if kilobytes is negative
+     */
+    public void setCheckpointInterval(int kilobytes) {
+        if (kilobytes < 0) {
+            throw new IllegalArgumentException("Checkpoint interval cannot be negative: " + kilobytes);
+        }
+        this.checkpointInterval = kilobytes * 1024L;
+        this.checkpointFile = null;
+        this.checkpoints.clear();
+        this.rawErrors.clear();
+    }
+    
+    /**
+     * Makes full parses read the file on a separate thread while this one scans it. Lines
+     * are handed over in blocks through a single-producer, single-consumer ring buffer, so
+     * reading and decoding overlap with validation. Parses with checkpoints, which need
+     * the byte position of every line, always read on the calling thread. A pipelined
+     * parse stops with an InterruptedIOException when the calling thread is interrupted,
+     * and the reading thread is stopped before it returns.
+     * 
+     * @param pipelined true to read on a separate thread
+     */
+    public void setPipelined(boolean pipelined) {
+        this.pipelined = pipelined;
     }
     
     /**
      * Parses an XML file and validates its structure.
      * Reads the file line by line, processes all tags, and checks for well-formedness.
+     * When a cache is set and holds a result for the file's current content, that result
+     * is returned instead and the file is not parsed.
      * 
      * @param filename the path to the XML file to parse
      * @return true if XML is well-formed, false if validation errors are found
@@ -102,35 +375,635 @@ public class XMLParser {
         errorQ.dequeueAll();
         extrasQ.dequeueAll();
         errorMessages.clear();
+        messageIndex.clear();
+        scanState = SCAN_CONTENT;
+        checkpointFile = null;
+        checkpoints.clear();
+        rawErrors.clear();
         
-        try (BufferedReader reader = new BufferedReader(new FileReader(filename))) {
-            String line;
-            int lineNumber = 0;
-            
-            while ((line = reader.readLine()) != null) {
-                lineNumber++;
-                processLine(line, lineNumber);
+        if (cache != null) {
+            ValidationCache.Result cached = cache.lookup(filename);
+            if (cached != null) {
+                for (String error : cached.getErrors()) {
+                    addMessage(error);
+                }
+                return cached.isValid();
             }
         }
         
+        if (checkpointInterval > 0) {
+            checkpointFile = filename;
+            try (OffsetLineReader reader = new OffsetLineReader(filename, 0)) {
+                scanWithCheckpoints(reader, 0, null);
+            }
+        } else if (pipelined) {
+            scanPipelined(filename);
+        } else {
+            try (BufferedReader reader = new BufferedReader(new FileReader(filename))) {
+                String line;
+                int lineNumber = 0;
+                
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    processLine(line, lineNumber);
+                }
+            }
+        }
+        
+        boolean valid = finishParse();
+        
+        if (cache != null) {
+            storeResult(filename, valid);
+        }
+        return valid;
+    }
+    
+    /**
+     * Validates a file again after an in-place edit, reusing the checkpoints of the previous
+     * parse of the same file. Parsing resumes from the last checkpoint before the edit and
+     * stops as soon as the parser state matches the previous parse again past the edit;
+     * the rest of the previous result is then reused with its line numbers shifted.
+     * Falls back to a full parse if checkpoints are disabled or the previous parse was
+     * of another file.
+     * 
+     * @param filename the path to the edited XML file
+     * @param editOffset the byte offset at which the edit starts
+     * @param removedLength the number of bytes the edit removed
+     * @param insertedLength the number of bytes the edit inserted in their place
+     * @return true if XML is well-formed, false if validation errors are found
+     * @throws IOException if the file cannot be read or accessed
+     */
+    public boolean revalidate(String filename, long editOffset, long removedLength, long insertedLength)
+            throws IOException {
+        if (checkpointInterval <= 0 || checkpoints.isEmpty() || !filename.equals(checkpointFile)
+                || editOffset < 0 || removedLength < 0 || insertedLength < 0) {
+            return parseFile(filename);
+        }
+        
+        int index = checkpoints.size() - 1;
+        while (checkpoints.get(index).offset > editOffset) {
+            index--;
+        }
+        Checkpoint start = checkpoints.get(index);
+        
+        Resume resume = new Resume();
+        resume.editOffset = editOffset;
+        resume.editEnd = editOffset + removedLength;
+        resume.delta = insertedLength - removedLength;
+        resume.oldCheckpoints = new ArrayList<>(checkpoints.subList(index + 1, checkpoints.size()));
+        resume.oldErrors = rawErrors;
+        
+        checkpoints.subList(index + 1, checkpoints.size()).clear();
+        rawErrors = new ArrayList<>(resume.oldErrors.subList(0, start.rawCount));
+        errorMessages.truncate(start.messageCount);
+        messageIndex.truncate(start.messageCount);
+        restoreCheckpoint(start);
+        
+        boolean matched;
+        try (OffsetLineReader reader = new OffsetLineReader(filename, start.offset)) {
+            matched = scanWithCheckpoints(reader, start.lineNumber, resume);
+        }
+        
+        boolean valid = matched ? errorMessages.isEmpty() : finishParse();
+        
+        if (cache != null) {
+            storeResult(filename, valid);
+        }
+        return valid;
+    }
+    
+    /**
+     * Reports whatever is left open at EOF and resolves the error queues.
+     * 
+     * @return true if XML is well-formed, false if validation errors are found
+     */
+    private boolean finishParse() {
+        processUnterminatedConstruct();
         processRemainingStack();
         return processQueues();
     }
     
+    /**
+     * Processes every line of the file as it arrives from a {@link LineFeeder}.
+     * 
+     * @param filename the path to the XML file
+     * @throws InterruptedIOException if the thread is interrupted, which clears the flag
+     * @throws IOException if the file cannot be read
+     */
+    private void scanPipelined(String filename) throws IOException {
+        LineFeeder feeder = new LineFeeder(filename);
+        feeder.start();
+        String[] block = new String[PIPELINE_BLOCK];
+        int lineNumber = 0;
+        
+        try {
+            while (true) {
+                // Read the flag first: once it is set, an empty drain means no more lines
+                boolean finished = feeder.finished;
+                int n = feeder.lines.drainTo(block, 0, block.length);
+                if (n == 0) {
+                    if (finished) {
+                        break;
+                    }
+                    Thread.yield();
+                }
+                for (int i = 0; i < n; i++) {
+                    lineNumber++;
+                    processLine(block[i], lineNumber);
+                }
+                if (Thread.interrupted()) {
+                    throw new InterruptedIOException("Parse interrupted after line " + lineNumber);
+                }
+            }
+        } finally {
+            feeder.cancel();
+        }
+        
+        if (feeder.failure != null) {
+            throw feeder.failure;
+        }
+    }
+    
+    /**
+     * Processes lines from the reader, taking a checkpoint whenever the checkpoint interval
+     * has passed and the scanner is not in the middle of a tag. When revalidating, the state
+     * is compared with the previous parse at each of its checkpoints past the edit, and
+     * scanning stops at the first one that matches.
+     * 
+     * @param reader the reader positioned at the start of a line
+     * @param lineNumber the number of lines before the reader's position
+     * @param resume the edit being revalidated, or null for a full parse
+     * @return true if scanning stopped at a matching checkpoint, false if it reached EOF
+     * @throws IOException if the file cannot be read
+     */
+    private boolean scanWithCheckpoints(OffsetLineReader reader, int lineNumber, Resume resume)
+            throws IOException {
+        if (checkpoints.isEmpty()) {
+            takeCheckpoint(reader.position(), lineNumber);
+        }
+        long nextCheckpoint = reader.position() + checkpointInterval;
+        String line;
+        
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            processLine(line, lineNumber);
+            long position = reader.position();
+            
+            if (resume != null) {
+                if (resume.editLine == 0 && position > resume.editOffset) {
+                    resume.editLine = lineNumber;
+                }
+                if (matchesOldCheckpoint(resume, position, lineNumber)) {
+                    return true;
+                }
+            }
+            
+            if (position >= nextCheckpoint && scanState != SCAN_TAG && scanState != SCAN_ATTRIBUTE_VALUE) {
+                takeCheckpoint(position, lineNumber);
+                nextCheckpoint = position + checkpointInterval;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Checks whether the current state equals the previous parse's checkpoint at this position.
+     * On a match, the rest of the previous parse is adopted: its remaining errors are replayed
+     * and its remaining checkpoints kept, all shifted past the edit.
+     * 
+     * @param resume the edit being revalidated
+     * @param position the byte offset of the next line
+     * @param lineNumber the number of lines processed so far
+     * @return true if the state matched and the previous result was adopted
+     */
+    private boolean matchesOldCheckpoint(Resume resume, long position, int lineNumber) {
+        List<Checkpoint> old = resume.oldCheckpoints;
+        while (resume.next < old.size()
+                && (old.get(resume.next).offset < resume.editEnd
+                    || old.get(resume.next).offset + resume.delta < position)) {
+            resume.next++;
+        }
+        if (resume.next == old.size() || old.get(resume.next).offset + resume.delta != position) {
+            return false;
+        }
+        
+        Checkpoint match = old.get(resume.next);
+        if (resume.editLine == 0) {
+            resume.editLine = lineNumber + 1;
+        }
+        int editLine = resume.editLine;
+        int lineDelta = lineNumber - match.lineNumber;
+        
+        if (scanState != match.scanState || doctypeDepth != match.doctypeDepth
+                || (scanState != SCAN_CONTENT && constructLine != shiftLine(match.constructLine, editLine, lineDelta))
+                || !sameTags(tagStack.snapshot().toArray(new TagInfo[tagStack.size()]),
+                        match.stack.toArray(new TagInfo[match.stack.size()]), editLine, lineDelta)
+                || !sameTags(toTagArray(errorQ), match.errors, editLine, lineDelta)
+                || !sameTags(toTagArray(extrasQ), match.extras, editLine, lineDelta)) {
+            return false;
+        }
+        
+        int rawBase = rawErrors.size() - match.rawCount;
+        int k = resume.next;
+        for (int i = match.rawCount; i < resume.oldErrors.size(); i++) {
+            while (k < old.size() && old.get(k).rawCount == i) {
+                checkpoints.add(shiftCheckpoint(old.get(k), resume, rawBase, lineDelta));
+                k++;
+            }
+            ErrorRecord record = resume.oldErrors.get(i);
+            addErrorMessage(shiftLine(record.lineNumber, editLine, lineDelta), record.message);
+        }
+        while (k < old.size()) {
+            checkpoints.add(shiftCheckpoint(old.get(k), resume, rawBase, lineDelta));
+            k++;
+        }
+        return true;
+    }
+    
+    /**
+     * Copies a checkpoint of the previous parse into the current one, moving it past the edit.
+     * 
+     * @param old the checkpoint of the previous parse
+     * @param resume the edit being revalidated
+     * @param rawBase the difference in reported errors before the matching checkpoint
+     * @param lineDelta the number of lines the edit added
+     * @return the shifted checkpoint
+     */
+    private Checkpoint shiftCheckpoint(Checkpoint old, Resume resume, int rawBase, int lineDelta) {
+        Checkpoint shifted = new Checkpoint();
+        shifted.offset = old.offset + resume.delta;
+        shifted.lineNumber = old.lineNumber + lineDelta;
+        shifted.stack = shiftStack(old.stack, resume.editLine, lineDelta);
+        shifted.errors = shiftTags(old.errors, resume.editLine, lineDelta);
+        shifted.extras = shiftTags(old.extras, resume.editLine, lineDelta);
+        shifted.rawCount = old.rawCount + rawBase;
+        shifted.messageCount = errorMessages.size();
+        shifted.scanState = old.scanState;
+        shifted.constructLine = shiftLine(old.constructLine, resume.editLine, lineDelta);
+        shifted.doctypeDepth = old.doctypeDepth;
+        return shifted;
+    }
+    
+    /**
+     * Records the current parser state as a checkpoint.
+     * 
+     * @param offset the byte offset of the next line
+     * @param lineNumber the number of lines processed so far
+     */
+    private void takeCheckpoint(long offset, int lineNumber) {
+        Checkpoint checkpoint = new Checkpoint();
+        checkpoint.offset = offset;
+        checkpoint.lineNumber = lineNumber;
+        checkpoint.stack = tagStack.snapshot();
+        checkpoint.errors = toTagArray(errorQ);
+        checkpoint.extras = toTagArray(extrasQ);
+        checkpoint.rawCount = rawErrors.size();
+        checkpoint.messageCount = errorMessages.size();
+        checkpoint.scanState = scanState;
+        checkpoint.constructLine = constructLine;
+        checkpoint.doctypeDepth = doctypeDepth;
+        checkpoints.add(checkpoint);
+    }
+    
+    /**
+     * Restores the stack, queues and scanner state recorded in a checkpoint.
+     * 
+     * @param checkpoint the checkpoint to restore
+     */
+    private void restoreCheckpoint(Checkpoint checkpoint) {
+        tagStack.restore(checkpoint.stack);
+        errorQ.dequeueAll();
+        for (TagInfo tag : checkpoint.errors) {
+            errorQ.enqueue(tag);
+        }
+        extrasQ.dequeueAll();
+        for (TagInfo tag : checkpoint.extras) {
+            extrasQ.enqueue(tag);
+        }
+        scanState = checkpoint.scanState;
+        constructLine = checkpoint.constructLine;
+        doctypeDepth = checkpoint.doctypeDepth;
+        tagBuffer.setLength(0);
+    }
+    
+    /**
+     * Returns the contents of a tag queue, from front to back.
+     * 
+     * @param queue the queue to copy
+     * @return the queued tags
+     */
+    private static TagInfo[] toTagArray(QueueADT<TagInfo> queue) {
+        return queue.toArray(new TagInfo[queue.size()]);
+    }
+    
+    /**
+     * Compares current tags with tags of the previous parse, allowing for the lines an edit added.
+     * 
+     * @param current the tags of the current parse
+     * @param old the tags of the previous parse
+     * @param editLine the first line affected by the edit
+     * @param lineDelta the number of lines the edit added
+     * @return true if the tags are the same once shifted
+     */
+    private static boolean sameTags(TagInfo[] current, TagInfo[] old, int editLine, int lineDelta) {
+        if (current.length != old.length) {
+            return false;
+        }
+        for (int i = 0; i < current.length; i++) {
+            if (!current[i].tagName.equals(old[i].tagName)
+                    || !current[i].originalTag.equals(old[i].originalTag)
+                    || current[i].lineNumber != shiftLine(old[i].lineNumber, editLine, lineDelta)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Moves tags of the previous parse past the edit.
+     * 
+     * @param tags the tags of the previous parse
+     * @param editLine the first line affected by the edit
+     * @param lineDelta the number of lines the edit added
+     * @return the shifted tags, or the same array if no line moved
+     */
+    private static TagInfo[] shiftTags(TagInfo[] tags, int editLine, int lineDelta) {
+        if (lineDelta == 0) {
+            return tags;
+        }
+        TagInfo[] shifted = new TagInfo[tags.length];
+        for (int i = 0; i < tags.length; i++) {
+            TagInfo tag = tags[i];
+            shifted[i] = tag.lineNumber < editLine ? tag
+                : new TagInfo(tag.tagName, tag.originalTag, tag.lineNumber + lineDelta);
+        }
+        return shifted;
+    }
+    
+    /**
+     * Moves a stack snapshot of the previous parse past the edit. Tags are stacked in line
+     * order, so the part below the edit is shared and only the tags above it are rebuilt.
+     * The tags above it are popped into an array and pushed back shifted, so nesting of
+     * any depth costs no call stack.
+     * 
+     * @param stack the stack snapshot of the previous parse
+     * @param editLine the first line affected by the edit
+     * @param lineDelta the number of lines the edit added
+     * @return the shifted snapshot
+     */
+    private static MyPersistentStack<TagInfo> shiftStack(MyPersistentStack<TagInfo> stack, int editLine, int lineDelta) {
+        if (lineDelta == 0) {
+            return stack;
+        }
+        TagInfo[] moved = new TagInfo[stack.size()];
+        int count = 0;
+        while (!stack.isEmpty() && stack.peek().lineNumber >= editLine) {
+            moved[count++] = stack.peek();
+            stack = stack.pop();
+        }
+        while (count > 0) {
+            TagInfo tag = moved[--count];
+            stack = stack.push(new TagInfo(tag.tagName, tag.originalTag, tag.lineNumber + lineDelta));
+        }
+        return stack;
+    }
+    
+    /**
+     * Maps a line number of the previous parse to the edited file.
+     * 
+     * @param lineNumber the line number in the previous parse
+     * @param editLine the first line affected by the edit
+     * @param lineDelta the number of lines the edit added
+     * @return the corresponding line number after the edit
+     */
+    private static int shiftLine(int lineNumber, int editLine, int lineDelta) {
+        return lineNumber < editLine ? lineNumber : lineNumber + lineDelta;
+    }
+    
     /**
      * Processes a single line of XML content, extracting all tags and their line numbers.
+     * Comments, CDATA sections and DOCTYPE declarations are skipped by searching directly
+     * for their terminators, and the scanner state carries over when they span several lines.
+     * Tags are delimited in a single forward pass that ignores '>' inside quoted attribute
+     * values; a tag left open at the end of the line is carried into the next one.
      * 
      * @param line the line of text to process
      * @param lineNumber the current line number in the file
      */
     private void processLine(String line, int lineNumber) {
-        Pattern tagPattern = Pattern.compile("<[^>]+>");
-        Matcher matcher = tagPattern.matcher(line);
+        int pos = 0;
+        int length = line.length();
+        
+        while (pos < length) {
+            switch (scanState) {
+                case SCAN_COMMENT:
+                    pos = skipPast(line, pos, COMMENT_CLOSE);
+                    break;
+                case SCAN_CDATA:
+                    pos = skipPast(line, pos, CDATA_CLOSE);
+                    break;
+                case SCAN_DOCTYPE:
+                    pos = skipDoctype(line, pos);
+                    break;
+                case SCAN_TAG:
+                    pos = scanTag(line, pos);
+                    break;
+                case SCAN_ATTRIBUTE_VALUE:
+                    pos = scanAttributeValue(line, pos);
+                    break;
+                default:
+                    pos = scanContent(line, pos, lineNumber);
+                    break;
+            }
+        }
         
-        while (matcher.find()) {
-            String tag = matcher.group();
-            processTag(tag, lineNumber);
+        if (scanState == SCAN_TAG || scanState == SCAN_ATTRIBUTE_VALUE) {
+            tagBuffer.append(line, tagStart, length).append(' ');
+            tagStart = 0;
+        }
+    }
+    
+    /**
+     * Scans ordinary content for the next markup construct starting at the given position.
+     * Tags are handed to {@link #processTag(String, int)}; comments, CDATA sections and
+     * DOCTYPE declarations switch the scanner into the matching skip state.
+     * 
+     * @param line the line of text being scanned
+     * @param pos the position to start scanning from
+     * @param lineNumber the current line number in the file
+     * @return the position at which scanning should continue
+     */
+    private int scanContent(String line, int pos, int lineNumber) {
+        int open = line.indexOf('<', pos);
+        if (open == -1) {
+            return line.length();
+        }
+        
+        if (line.startsWith(COMMENT_OPEN, open)) {
+            return enterConstruct(SCAN_COMMENT, lineNumber, open + COMMENT_OPEN.length());
+        }
+        if (line.startsWith(CDATA_OPEN, open)) {
+            return enterConstruct(SCAN_CDATA, lineNumber, open + CDATA_OPEN.length());
+        }
+        if (line.startsWith(DOCTYPE_OPEN, open)) {
+            doctypeDepth = 0;
+            return enterConstruct(SCAN_DOCTYPE, lineNumber, open + DOCTYPE_OPEN.length());
+        }
+        
+        if (open + 1 < line.length() && line.charAt(open + 1) == '>') {
+            return open + 1;
+        }
+        
+        scanState = SCAN_TAG;
+        tagBuffer.setLength(0);
+        tagStart = open;
+        tagLine = lineNumber;
+        afterEquals = false;
+        return scanTag(line, open + 1);
+    }
+    
+    /**
+     * Scans the inside of a tag up to its closing '>' or the start of a quoted attribute value.
+     * A quote only opens a value when it follows an '=', so stray apostrophes do not swallow the tag.
+     * 
+     * @param line the line of text being scanned
+     * @param pos the position to start scanning from
+     * @return the position at which scanning should continue
+     */
+    private int scanTag(String line, int pos) {
+        for (int i = pos; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '>') {
+                completeTag(line, i + 1);
+                return i + 1;
+            }
+            if ((c == '"' || c == '\'') && afterEquals) {
+                scanState = SCAN_ATTRIBUTE_VALUE;
+                quoteChar = c;
+                afterEquals = false;
+                return i + 1;
+            }
+            if (c == '=') {
+                afterEquals = true;
+            } else if (!Character.isWhitespace(c)) {
+                afterEquals = false;
+            }
+        }
+        return line.length();
+    }
+    
+    /**
+     * Skips a quoted attribute value with a bulk search for its closing quote.
+     * 
+     * @param line the line of text being scanned
+     * @param pos the position to start searching from
+     * @return the position just past the closing quote, or the line length if the value continues
+     */
+    private int scanAttributeValue(String line, int pos) {
+        int end = line.indexOf(quoteChar, pos);
+        if (end == -1) {
+            return line.length();
+        }
+        scanState = SCAN_TAG;
+        return end + 1;
+    }
+    
+    /**
+     * Hands a fully delimited tag to {@link #processTag(String, int)} and returns to content scanning.
+     * 
+     * @param line the line on which the tag ends
+     * @param end the position just past the tag's closing '>'
+     */
+    private void completeTag(String line, int end) {
+        String tag;
+        if (tagBuffer.length() == 0) {
+            tag = line.substring(tagStart, end);
+        } else {
+            tag = tagBuffer.append(line, tagStart, end).toString();
+            tagBuffer.setLength(0);
+        }
+        scanState = SCAN_CONTENT;
+        processTag(tag, tagLine);
+    }
+    
+    /**
+     * Switches the scanner into a skip state, remembering where the construct started.
+     * 
+     * @param state the scanner state to enter
+     * @param lineNumber the line number where the construct starts
+     * @param pos the position just past the construct's opening delimiter
+     * @return the position at which scanning should continue
+     */
+    private int enterConstruct(int state, int lineNumber, int pos) {
+        scanState = state;
+        constructLine = lineNumber;
+        return pos;
+    }
+    
+    /**
+     * Skips past the given terminator using a bulk search of the line.
+     * Leaves the scanner in its current state if the terminator is not on this line.
+     * 
+     * @param line the line of text being scanned
+     * @param pos the position to start searching from
+     * @param terminator the text that ends the current construct
+     * @return the position just past the terminator, or the line length if not found
+     */
+    private int skipPast(String line, int pos, String terminator) {
+        int end = line.indexOf(terminator, pos);
+        if (end == -1) {
+            return line.length();
+        }
+        scanState = SCAN_CONTENT;
+        return end + terminator.length();
+    }
+    
+    /**
+     * Skips a DOCTYPE declaration, including any bracketed internal subset
+     * whose markup declarations contain their own '>' characters.
+     * 
+     * @param line the line of text being scanned
+     * @param pos the position to start scanning from
+     * @return the position just past the declaration, or the line length if it continues
+     */
+    private int skipDoctype(String line, int pos) {
+        for (int i = pos; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '[') {
+                doctypeDepth++;
+            } else if (c == ']') {
+                doctypeDepth--;
+            } else if (c == '>' && doctypeDepth <= 0) {
+                scanState = SCAN_CONTENT;
+                return i + 1;
+            }
+        }
+        return line.length();
+    }
+    
+    /**
+     * Reports a comment, CDATA section, DOCTYPE declaration or tag left open at EOF.
+     */
+    private void processUnterminatedConstruct() {
+        switch (scanState) {
+            case SCAN_COMMENT:
+                addErrorMessage(constructLine, COMMENT_OPEN + " is not constructed correctly.");
+                break;
+            case SCAN_CDATA:
+                addErrorMessage(constructLine, CDATA_OPEN + " is not constructed correctly.");
+                break;
+            case SCAN_DOCTYPE:
+                addErrorMessage(constructLine, DOCTYPE_OPEN + " is not constructed correctly.");
+                break;
+            case SCAN_TAG:
+            case SCAN_ATTRIBUTE_VALUE:
+                addErrorMessage(tagLine, tagBuffer.toString().trim() + " is not constructed correctly.");
+                tagBuffer.setLength(0);
+                break;
+            default:
+                break;
         }
+        scanState = SCAN_CONTENT;
     }
     
     /**
@@ -318,13 +1191,47 @@ public class XMLParser {
      * @param message the error message to add
      */
     private void addErrorMessage(int lineNumber, String message) {
+        if (checkpointFile != null) {
+            rawErrors.add(new ErrorRecord(lineNumber, message));
+        }
+        
         // Avoid duplicate error messages
         String errorMsg = "Error at line: " + lineNumber + " " + message;
-        if (!errorMessages.contains(errorMsg)) {
-            errorMessages.add(errorMsg);
+        if (!messageIndex.contains(errorMessages, errorMsg)) {
+            addMessage(errorMsg);
         }
     }
     
+    /**
+     * Appends a message known not to be in the error list yet.
+     * 
+     * @param message the complete error message
+     */
+    private void addMessage(String message) {
+        messageIndex.add(message, errorMessages.size());
+        errorMessages.add(message);
+    }
+    
+    /**
+     * Stores the result of a parse in the cache. A result whose messages have spilled to
+     * disk is not stored, since the cache keeps its results on the heap.
+     * 
+     * @param filename the path to the parsed file
+     * @param valid whether the file is well-formed
+     * @throws IOException if the cache cannot be written
+     */
+    private void storeResult(String filename, boolean valid) throws IOException {
+        if (errorMessages.isSpilled()) {
+            return;
+        }
+        List<String> errors = new ArrayList<>(errorMessages.size());
+        Iterator<String> it = errorMessages.iterator();
+        while (it.hasNext()) {
+            errors.add(it.next());
+        }
+        cache.store(filename, valid, errors);
+    }
+    
     /**
      * Returns a formatted string containing all validation errors found during parsing.
      * If no errors were found, returns a success message.
@@ -337,12 +1244,57 @@ public class XMLParser {
         }
         
         StringBuilder errorMsg = new StringBuilder();
-        for (String error : errorMessages) {
-            errorMsg.append(error).append("\n");
+        Iterator<String> it = errorMessages.iterator();
+        while (it.hasNext()) {
+            errorMsg.append(it.next()).append("\n");
         }
         return errorMsg.toString();
     }
     
+    /**
+     * Returns the number of validation errors found during parsing.
+     * 
+     * @return the number of error messages
+     */
+    public int getErrorCount() {
+        return errorMessages.size();
+    }
+    
+    /**
+     * Returns the first validation errors found during parsing, reading no further into
+     * the error list than needed.
+     * 
+     * @param max the largest number of messages to return
+     * @return up to max error messages, in the order they were reported
+     */
+    public List<String> getErrorMessages(int max) {
+        List<String> messages = new ArrayList<>(Math.min(max, errorMessages.size()));
+        Iterator<String> it = errorMessages.iterator();
+        while (messages.size() < max && it.hasNext()) {
+            messages.add(it.next());
+        }
+        return messages;
+    }
+    
+    /**
+     * Prints the validation errors found during parsing one per line, or a success message
+     * if there were none. Unlike {@link #getErrorMessage()}, this streams the messages and
+     * never holds them all in memory at once.
+     * 
+     * @param out the stream to print to
+     */
+    public void printErrorMessages(PrintStream out) {
+        if (errorMessages.isEmpty()) {
+            out.println("XML document is constructed correctly.");
+            return;
+        }
+        
+        Iterator<String> it = errorMessages.iterator();
+        while (it.hasNext()) {
+            out.println(it.next());
+        }
+    }
+    
     // Helper methods for tag classification
     
     /**
@@ -395,14 +1347,19 @@ public class XMLParser {
      * @return the extracted tag name without attributes or formatting
      */
     private String extractTagName(String tag) {
-        String cleanTag = tag.replaceAll("[<>/]", "").trim();
-        int spaceIndex = cleanTag.indexOf(' ');
-        if (spaceIndex != -1) {
-            cleanTag = cleanTag.substring(0, spaceIndex);
+        int start = 1;
+        while (start < tag.length() && (tag.charAt(start) == '/' || tag.charAt(start) == '?')) {
+            start++;
         }
-        if (cleanTag.startsWith("?")) {
-            cleanTag = cleanTag.substring(1);
+        
+        int end = start;
+        while (end < tag.length()) {
+            char c = tag.charAt(end);
+            if (Character.isWhitespace(c) || c == '/' || c == '>') {
+                break;
+            }
+            end++;
         }
-        return cleanTag.trim();
+        return tag.substring(start, end);
     }
 }
\ No newline at end of file
@@ -1,6 +1,9 @@
 package appDomain;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 /**
  * Main application class for the XML Parser command-line interface.
@@ -10,48 +13,141 @@ import java.io.IOException;
  */
 public class XMLParserApp {
     
+    /** how long stopping a watch waits for the last validation to finish */
+    private static final long STOP_TIMEOUT_MILLIS = 5000;
+    
     /**
      * Main method that serves as the entry point for the XML Parser application.
      * Validates command-line arguments, processes the specified XML file,
      * and displays validation results or error messages.
      * 
-     * @param args command-line arguments; expects exactly one argument: the XML filename
+     * @param args command-line arguments; expects the XML filename, optionally preceded
+     *             by <code>-cache &lt;cachefile&gt;</code> to reuse results of earlier runs.
+     *             With <code>-watch</code> followed by one or more directories, the
+     *             application keeps running and revalidates XML files as they change.
      * 
      * Usage examples:
      * <pre>
      * java -jar Parser.jar sample1.xml
      * java -jar Parser.jar C:\path\to\file.xml
+     * java -jar Parser.jar -cache results.cache sample1.xml
+     * java -jar Parser.jar -watch res C:\path\to\exports
      * </pre>
      * 
      */
     public static void main(String[] args) {
         // Validate command-line arguments
-        if (args.length != 1) {
-            System.out.println("Usage: java -jar Parser.jar <xmlfile>");
+        int first = 0;
+        String cacheFile = null;
+        if (args.length >= 2 && args[0].equals("-cache")) {
+            cacheFile = args[1];
+            first = 2;
+        }
+        boolean watch = first < args.length && args[first].equals("-watch");
+        int expected = watch ? args.length - first - 1 : args.length - first;
+        if (watch ? expected < 1 : expected != 1) {
+            System.out.println("Usage: java -jar Parser.jar [-cache <cachefile>] <xmlfile>");
+            System.out.println("       java -jar Parser.jar [-cache <cachefile>] -watch <dir> [<dir> ...]");
             System.out.println("Example: java -jar Parser.jar sample1.xml");
             System.exit(1);
         }
         
-        String filename = args[0];
         XMLParser parser = new XMLParser();
+        ValidationCache cache = null;
+        int status = 0;
         
         try {
-            System.out.println("Parsing XML file: " + filename);
-            boolean isValid = parser.parseFile(filename);
+            if (cacheFile != null) {
+                cache = new ValidationCache(new File(cacheFile));
+                parser.setCache(cache);
+            }
             
-            if (isValid) {
-                System.out.println("XML document is constructed correctly.");
+            if (watch) {
+                watchDirectories(parser, args, first + 1);
             } else {
-                System.out.println(parser.getErrorMessage());
+                String filename = args[first];
+                System.out.println("Parsing XML file: " + filename);
+                boolean isValid = parser.parseFile(filename);
+                
+                if (isValid) {
+                    System.out.println("XML document is constructed correctly.");
+                } else {
+                    parser.printErrorMessages(System.out);
+                }
+            }
+            
+            if (cache != null) {
+                cache.close();
             }
             
         } catch (IOException e) {
             System.err.println("Error reading file: " + e.getMessage());
-            System.exit(1);
+            status = 1;
         } catch (Exception e) {
             System.err.println("Unexpected error: " + e.getMessage());
             e.printStackTrace();
-            System.exit(1);
+            status = 1;
+        } finally {
+            // spilled errors live in temporary files that are not deleted at exit
+            parser.close();
+        }
+        if (status != 0) {
+            System.exit(status);
+        }
+    }
+    
+    /**
+     * Watches the given directories and prints a verdict each time an XML file in them
+     * is created or modified. Runs until the process is stopped; stopping it closes the
+     * watcher and waits for this method to return, so the caller can still close the parser.
+     * 
+     * @param parser the parser reused for every validation
+     * @param args the command-line arguments
+     * @param first the index of the first directory in args
+     * @throws IOException if a directory cannot be watched
+     */
+    private static void watchDirectories(XMLParser parser, String[] args, int first) throws IOException {
+        XMLWatcher.Listener listener = new XMLWatcher.Listener() {
+            @Override
+            public void validated(Path file, XMLWatcher.Verdict verdict) {
+                System.out.println("Parsing XML file: " + file);
+                if (verdict.isReadFailed()) {
+                    System.out.println(verdict.getPreview().get(0));
+                } else {
+                    parser.printErrorMessages(System.out);
+                }
+            }
+            
+            @Override
+            public void removed(Path file) {
+                System.out.println("Removed XML file: " + file);
+            }
+        };
+        
+        Thread main = Thread.currentThread();
+        try (XMLWatcher watcher = new XMLWatcher(parser, listener)) {
+            Thread stop = new Thread(() -> {
+                try {
+                    watcher.close();
+                    main.join(STOP_TIMEOUT_MILLIS);
+                } catch (IOException | InterruptedException e) {
+                    // exiting anyway
+                }
+            });
+            for (int i = first; i < args.length; i++) {
+                watcher.watch(Paths.get(args[i]));
+            }
+            System.out.println("Watching for changes...");
+            Runtime.getRuntime().addShutdownHook(stop);
+            try {
+                watcher.run();
+            } finally {
+                try {
+                    Runtime.getRuntime().removeShutdownHook(stop);
+                } catch (IllegalStateException e) {
+                    // the hook stopped the watcher and is waiting for us
+                }
+            }
         }
     }
-}
\ No newline at end of file
+}
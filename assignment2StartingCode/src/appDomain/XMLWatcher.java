@@ -0,0 +1,386 @@
+package appDomain;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Long-running validator that watches directory trees and revalidates XML files as they
+ * are created or modified. Bursts of events for the same file are debounced, so a file
+ * is parsed once after it has been quiet for the debounce period. A single XMLParser is
+ * reused for every validation and the latest verdict of each file is kept in memory: the
+ * verdict, the number of errors and a preview of the first few, never the whole error
+ * list. Deleting a file or a directory forgets the verdicts of everything it held.
+ *
+ */
+public class XMLWatcher implements Closeable {
+    /** default time a file must be quiet before it is revalidated */
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 200;
+
+    /** most error messages a verdict keeps */
+    public static final int PREVIEW_ERRORS = 10;
+
+    /**
+     * Receives the verdict of every validation the watcher performs. Its methods are called
+     * on the thread running the watcher, and validated() is called while the parser still
+     * holds the complete result, so it can stream every error with
+     * {@link XMLParser#printErrorMessages(java.io.PrintStream)}. The exception is a file that
+     * could not be read, whose verdict holds the read error instead.
+     */
+    public interface Listener {
+        /**
+         * Called after a file has been validated.
+         *
+         * @param file the file that was validated
+         * @param verdict the file's new verdict
+         */
+        void validated(Path file, Verdict verdict);
+
+        /**
+         * Called after a watched file has been deleted.
+         *
+         * @param file the file that was deleted
+         */
+        void removed(Path file);
+    }
+
+    /**
+     * Outcome of validating one file.
+     */
+    public static class Verdict {
+        private final boolean valid;
+        private final boolean readFailed;
+        private final int errorCount;
+        private final List<String> preview;
+        private final long validatedAt;
+
+        /**
+         * Constructs a verdict.
+         *
+         * @param valid whether the document was well-formed
+         * @param readFailed whether the file could not be read
+         * @param errorCount the number of errors reported
+         * @param preview the first errors reported, at most PREVIEW_ERRORS of them
+         * @param validatedAt the time of validation in milliseconds since the epoch
+         */
+        Verdict(boolean valid, boolean readFailed, int errorCount, List<String> preview, long validatedAt) {
+            this.valid = valid;
+            this.readFailed = readFailed;
+            this.errorCount = errorCount;
+            this.preview = Collections.unmodifiableList(preview);
+            this.validatedAt = validatedAt;
+        }
+
+        /**
+         * @return true if the document was well-formed
+         */
+        public boolean isValid() {
+            return valid;
+        }
+
+        /**
+         * @return true if the file could not be read, in which case the preview holds the
+         *         read error
+         */
+        public boolean isReadFailed() {
+            return readFailed;
+        }
+
+        /**
+         * @return the number of errors reported for the document
+         */
+        public int getErrorCount() {
+            return errorCount;
+        }
+
+        /**
+         * @return the first errors reported, at most PREVIEW_ERRORS of them
+         */
+        public List<String> getPreview() {
+            return preview;
+        }
+
+        /**
+         * @return the time of validation in milliseconds since the epoch
+         */
+        public long getValidatedAt() {
+            return validatedAt;
+        }
+    }
+
+    private final WatchService watchService;
+    private final XMLParser parser;
+    private final Listener listener;
+    private final long debounceMillis;
+    private final List<Path> roots = new ArrayList<>();
+    private final Map<WatchKey, Path> keys = new HashMap<>();
+    private final Map<Path, Long> pending = new LinkedHashMap<>();
+    private final Map<Path, Verdict> verdicts = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a watcher with the default debounce period.
+     *
+     * @param parser the parser used for every validation
+     * @param listener the listener told about each validation
+     * @throws IOException if the watch service cannot be created
+     */
+    public XMLWatcher(XMLParser parser, Listener listener) throws IOException {
+        this(parser, listener, DEFAULT_DEBOUNCE_MILLIS);
+    }
+
+    /**
+     * Constructs a watcher.
+     *
+     * @param parser the parser used for every validation
+     * @param listener the listener told about each validation
+     * @param debounceMillis how long a file must be quiet before it is revalidated
+     * @throws IOException if the watch service cannot be created
+     */
+    public XMLWatcher(XMLParser parser, Listener listener, long debounceMillis) throws IOException {
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.parser = parser;
+        this.listener = listener;
+        this.debounceMillis = debounceMillis;
+    }
+
+    /**
+     * Starts watching a directory tree and validates the XML files already in it.
+     *
+     * @param root the directory to watch, including all its subdirectories
+     * @throws IOException if the tree cannot be walked or registered
+     */
+    public void watch(Path root) throws IOException {
+        roots.add(root);
+        registerTree(root);
+        validatePending(Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns the latest verdict for a file.
+     *
+     * @param file the file to look up
+     * @return the file's latest verdict, or null if it has not been validated
+     */
+    public Verdict getVerdict(Path file) {
+        return verdicts.get(file.toAbsolutePath().normalize());
+    }
+
+    /**
+     * Returns the latest verdicts of all watched files.
+     *
+     * @return a map from file to its latest verdict
+     */
+    public Map<Path, Verdict> getVerdicts() {
+        return verdicts;
+    }
+
+    /**
+     * Processes file system events until the watcher is closed or the thread is interrupted.
+     *
+     * @throws IOException if a newly created directory cannot be registered
+     */
+    public void run() throws IOException {
+        try {
+            while (true) {
+                WatchKey key = nextKey();
+                if (key != null) {
+                    processEvents(key);
+                }
+                validatePending(System.currentTimeMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // closed by another thread
+        }
+    }
+
+    /**
+     * Stops watching and releases the watch service.
+     *
+     * @throws IOException if the watch service cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    /**
+     * Waits for the next watch key, but no longer than the earliest pending deadline.
+     *
+     * @return the next signalled key, or null if a pending file became due first
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    private WatchKey nextKey() throws InterruptedException {
+        if (pending.isEmpty()) {
+            return watchService.take();
+        }
+        long earliest = Long.MAX_VALUE;
+        for (long deadline : pending.values()) {
+            earliest = Math.min(earliest, deadline);
+        }
+        long wait = earliest - System.currentTimeMillis();
+        return wait > 0 ? watchService.poll(wait, TimeUnit.MILLISECONDS) : watchService.poll();
+    }
+
+    /**
+     * Records the files touched by a key's events, pushing back their revalidation deadline.
+     *
+     * @param key the signalled watch key
+     * @throws IOException if a newly created directory cannot be registered
+     */
+    private void processEvents(WatchKey key) throws IOException {
+        Path dir = keys.get(key);
+        long deadline = System.currentTimeMillis() + debounceMillis;
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // events were lost: forget files that are gone and rescan the rest
+                for (Path file : new ArrayList<>(verdicts.keySet())) {
+                    if (!Files.exists(file, LinkOption.NOFOLLOW_LINKS)) {
+                        forget(file);
+                    }
+                }
+                for (Path root : roots) {
+                    registerTree(root);
+                }
+                continue;
+            }
+            if (dir == null) {
+                continue;
+            }
+
+            Path child = dir.resolve((Path) event.context()).toAbsolutePath().normalize();
+            if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
+                forget(child);
+            } else if (Files.isDirectory(child, LinkOption.NOFOLLOW_LINKS)) {
+                if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE) {
+                    registerTree(child);
+                }
+            } else if (isXMLFile(child)) {
+                pending.put(child, deadline);
+            }
+        }
+
+        if (!key.reset()) {
+            keys.remove(key);
+        }
+    }
+
+    /**
+     * Forgets a deleted file, or every file under a deleted directory.
+     *
+     * @param deleted the path that was deleted
+     */
+    private void forget(Path deleted) {
+        pending.keySet().removeIf(file -> file.startsWith(deleted));
+        Iterator<Path> it = verdicts.keySet().iterator();
+        while (it.hasNext()) {
+            Path file = it.next();
+            if (file.startsWith(deleted)) {
+                it.remove();
+                listener.removed(file);
+            }
+        }
+    }
+
+    /**
+     * Validates every pending file whose debounce deadline has passed.
+     *
+     * @param now the current time, or Long.MAX_VALUE to validate every pending file
+     */
+    private void validatePending(long now) {
+        Iterator<Map.Entry<Path, Long>> it = pending.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Path, Long> entry = it.next();
+            if (entry.getValue() <= now) {
+                it.remove();
+                validate(entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * Validates one file with the shared parser and records its verdict.
+     *
+     * @param file the file to validate
+     */
+    private void validate(Path file) {
+        Verdict verdict;
+        try {
+            boolean valid = parser.parseFile(file.toString());
+            verdict = new Verdict(valid, false, parser.getErrorCount(), parser.getErrorMessages(PREVIEW_ERRORS),
+                System.currentTimeMillis());
+        } catch (IOException e) {
+            if (!Files.exists(file)) {
+                return;
+            }
+            verdict = new Verdict(false, true, 1, Collections.singletonList("Error reading file: " + e.getMessage()),
+                System.currentTimeMillis());
+        }
+        verdicts.put(file, verdict);
+        listener.validated(file, verdict);
+    }
+
+    /**
+     * Registers a directory and all its subdirectories with the watch service.
+     * Every XML file found in the tree is queued for validation.
+     *
+     * @param start the directory to register
+     * @throws IOException if the tree cannot be walked or registered
+     */
+    private void registerTree(Path start) throws IOException {
+        final long now = System.currentTimeMillis();
+        Files.walkFileTree(start, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                WatchKey key = dir.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+                keys.put(key, dir);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                Path normalized = file.toAbsolutePath().normalize();
+                if (attrs.isRegularFile() && isXMLFile(normalized)) {
+                    pending.put(normalized, now);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * Checks if a path names an XML file.
+     *
+     * @param file the path to check
+     * @return true if the file name ends in .xml, ignoring case
+     */
+    private static boolean isXMLFile(Path file) {
+        Path name = file.getFileName();
+        return name != null && name.toString().toLowerCase().endsWith(".xml");
+    }
+}
@@ -0,0 +1,487 @@
+package implementations;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import utilities.ElementCodec;
+import utilities.Iterator;
+import utilities.ListADT;
+import utilities.QueueADT;
+import utilities.StackADT;
+
+/**
+ * ADTSerializer - Compact binary serialization of lists, stacks and queues through NIO channels.
+ * A structure is written as a header (magic number, kind, element encoding, element count)
+ * followed by length-prefixed blocks of records, each block staged in one buffer and written
+ * with a single channel call. Elements go through the ElementCodec given to the constructor;
+ * with ElementCodecs.INTEGER or LONG they are stored as raw 4- or 8-byte values, and with
+ * ElementCodecs.STRING ASCII strings are copied straight into the buffer, so none of these
+ * allocates a byte array per element. Any other codec stores a varint length and the encoded
+ * bytes. Readers consume exactly one structure, so several can share a channel, and pre-size
+ * array-backed targets from the count in the header, up to MAX_PRESIZE elements; past that
+ * they grow as elements arrive, so a corrupt count cannot force a huge allocation. For the
+ * same reason a block longer than the buffer is only accepted when it holds one record, and
+ * its buffer grows as its bytes arrive. Corrupt input raises an IOException.
+ * An instance reuses its buffer and is not safe for concurrent use.
+ * @param <E> the type of elements serialized
+ */
+
+public class ADTSerializer<E> {
+
+    /** default staging buffer size, which is also the largest ordinary block */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    private static final int MAGIC = 0x41445431; // "ADT1"
+    private static final int HEADER = 10;
+    private static final int BLOCK_HEADER = 8;
+
+    /** most elements a target is sized for before any has been read */
+    private static final int MAX_PRESIZE = 1 << 16;
+
+    private static final byte KIND_LIST = 1;
+    private static final byte KIND_STACK = 2;
+    private static final byte KIND_QUEUE = 3;
+
+    private static final byte ENCODING_CODEC = 0;
+    private static final byte ENCODING_STRING = 1;
+    private static final byte ENCODING_INTEGER = 2;
+    private static final byte ENCODING_LONG = 3;
+
+    private final ElementCodec<E> codec;
+    private final byte encoding;
+    private ByteBuffer buffer;
+
+    /** elements in the block being written */
+    private int blockCount;
+
+    /**
+     * Constructs a serializer with the default buffer size.
+     * @param codec turns elements into bytes and back
+     */
+    public ADTSerializer(ElementCodec<E> codec) {
+        this(codec, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructs a serializer whose blocks are at most bufferSize bytes, except for single
+     * elements that are larger. Streams must be read with a buffer at least as large as the
+     * one they were written with.
+     * @param codec turns elements into bytes and back
+     * @param bufferSize the size of the staging buffer
+     * @throws NullPointerException if the codec is null
+     * @throws IllegalArgumentException if the buffer size is less than 64 bytes
+     */
+    public ADTSerializer(ElementCodec<E> codec, int bufferSize) {
+        if (codec == null) {
+            throw new NullPointerException("Codec cannot be null");
+        }
+        if (bufferSize < 64) {
+            throw new IllegalArgumentException("Buffer size must be at least 64: " + bufferSize);
+        }
+        this.codec = codec;
+        this.buffer = ByteBuffer.allocate(bufferSize);
+        if (codec == ElementCodecs.STRING) {
+            encoding = ENCODING_STRING;
+        } else if (codec == ElementCodecs.INTEGER) {
+            encoding = ENCODING_INTEGER;
+        } else if (codec == ElementCodecs.LONG) {
+            encoding = ENCODING_LONG;
+        } else {
+            encoding = ENCODING_CODEC;
+        }
+    }
+
+    /**
+     * Writes a list, first element first.
+     * @param list the list to write
+     * @param out the channel to write to
+     * @throws IOException if the channel cannot be written
+     */
+    public void writeList(ListADT<E> list, WritableByteChannel out) throws IOException {
+        write(KIND_LIST, list.size(), list.iterator(), out);
+    }
+
+    /**
+     * Writes a stack, bottom element first, so reading it back pushes in the original order.
+     * @param stack the stack to write
+     * @param out the channel to write to
+     * @throws IOException if the channel cannot be written
+     */
+    public void writeStack(StackADT<E> stack, WritableByteChannel out) throws IOException {
+        final Object[] topFirst = stack.toArray();
+        Iterator<E> bottomFirst = new Iterator<E>() {
+            private int index = topFirst.length;
+
+            @Override
+            public boolean hasNext() {
+                return index > 0;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                return (E) topFirst[--index];
+            }
+        };
+        write(KIND_STACK, topFirst.length, bottomFirst, out);
+    }
+
+    /**
+     * Writes a queue, front element first.
+     * @param queue the queue to write
+     * @param out the channel to write to
+     * @throws IOException if the channel cannot be written
+     */
+    public void writeQueue(QueueADT<E> queue, WritableByteChannel out) throws IOException {
+        write(KIND_QUEUE, queue.size(), queue.iterator(), out);
+    }
+
+    /**
+     * Reads a list into a new MyArrayList, sized once for all of its elements.
+     * @param in the channel to read from
+     * @return the list
+     * @throws IOException if the channel cannot be read or does not hold a list written
+     *         with this codec
+     */
+    public MyArrayList<E> readArrayList(ReadableByteChannel in) throws IOException {
+        return readList(in, new MyArrayList<E>());
+    }
+
+    /**
+     * Reads a list into a new MyDLL.
+     * @param in the channel to read from
+     * @return the list
+     * @throws IOException if the channel cannot be read or does not hold a list written
+     *         with this codec
+     */
+    public MyDLL<E> readDLL(ReadableByteChannel in) throws IOException {
+        return readList(in, new MyDLL<E>());
+    }
+
+    /**
+     * Reads a list and appends its elements to a target list. A MyArrayList target is
+     * grown once, before any element is added, for up to MAX_PRESIZE elements.
+     * @param in the channel to read from
+     * @param target the list to append to
+     * @return the target
+     * @throws IOException if the channel cannot be read or does not hold a list written
+     *         with this codec
+     */
+    public <L extends ListADT<E>> L readList(ReadableByteChannel in, L target) throws IOException {
+        int count = readHeader(in, KIND_LIST);
+        if (target instanceof MyArrayList) {
+            ((MyArrayList<E>) target).ensureCapacity(target.size() + Math.min(count, MAX_PRESIZE));
+        }
+        Reader reader = new Reader(in, count);
+        while (reader.hasNext()) {
+            target.add(reader.next());
+        }
+        return target;
+    }
+
+    /**
+     * Reads a stack into a new MyStack, sized once for up to MAX_PRESIZE elements.
+     * @param in the channel to read from
+     * @return the stack, with the same top element as the one written
+     * @throws IOException if the channel cannot be read or does not hold a stack written
+     *         with this codec
+     */
+    public MyStack<E> readStack(ReadableByteChannel in) throws IOException {
+        int count = readHeader(in, KIND_STACK);
+        MyStack<E> stack = new MyStack<>();
+        stack.ensureCapacity(Math.min(count, MAX_PRESIZE));
+        Reader reader = new Reader(in, count);
+        while (reader.hasNext()) {
+            stack.push(reader.next());
+        }
+        return stack;
+    }
+
+    /**
+     * Reads a queue into a new MyQueue.
+     * @param in the channel to read from
+     * @return the queue, with the same front element as the one written
+     * @throws IOException if the channel cannot be read or does not hold a queue written
+     *         with this codec
+     */
+    public MyQueue<E> readQueue(ReadableByteChannel in) throws IOException {
+        int count = readHeader(in, KIND_QUEUE);
+        MyQueue<E> queue = new MyQueue<>();
+        Reader reader = new Reader(in, count);
+        while (reader.hasNext()) {
+            queue.enqueue(reader.next());
+        }
+        return queue;
+    }
+
+    private void write(byte kind, int count, Iterator<E> elements, WritableByteChannel out) throws IOException {
+        buffer.clear();
+        buffer.putInt(MAGIC).put(kind).put(encoding).putInt(count);
+        writeFully(out);
+
+        buffer.clear();
+        buffer.position(BLOCK_HEADER);
+        blockCount = 0;
+        for (int i = 0; i < count; i++) {
+            E element = elements.next();
+            if (element == null) {
+                throw new NullPointerException("Cannot serialize null element");
+            }
+            putElement(element, out);
+        }
+        flushBlock(out);
+    }
+
+    /** append one element's record to the current block, flushing it first if it is full */
+    private void putElement(E element, WritableByteChannel out) throws IOException {
+        switch (encoding) {
+            case ENCODING_INTEGER:
+                reserve(4, out);
+                buffer.putInt((Integer) element);
+                blockCount++;
+                break;
+            case ENCODING_LONG:
+                reserve(8, out);
+                buffer.putLong((Long) element);
+                blockCount++;
+                break;
+            case ENCODING_STRING:
+                String string = (String) element;
+                int length = string.length();
+                if (length + 5 <= buffer.capacity() - BLOCK_HEADER && isAscii(string)) {
+                    reserve(length + 5, out);
+                    putVarint(buffer, length);
+                    byte[] array = buffer.array();
+                    int pos = buffer.arrayOffset() + buffer.position();
+                    for (int i = 0; i < length; i++) {
+                        array[pos + i] = (byte) string.charAt(i);
+                    }
+                    buffer.position(buffer.position() + length);
+                    blockCount++;
+                } else {
+                    putBytes(string.getBytes(StandardCharsets.UTF_8), out);
+                }
+                break;
+            default:
+                putBytes(codec.encode(element), out);
+                break;
+        }
+    }
+
+    private static boolean isAscii(String string) {
+        for (int i = 0; i < string.length(); i++) {
+            if (string.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** append a varint length and bytes; a record too large for the buffer gets a block of its own */
+    private void putBytes(byte[] bytes, WritableByteChannel out) throws IOException {
+        if (bytes.length + 5 > buffer.capacity() - BLOCK_HEADER) {
+            flushBlock(out);
+            ByteBuffer large = ByteBuffer.allocate(BLOCK_HEADER + 5 + bytes.length);
+            large.position(BLOCK_HEADER);
+            putVarint(large, bytes.length);
+            large.put(bytes);
+            large.putInt(0, large.position() - BLOCK_HEADER);
+            large.putInt(4, 1);
+            large.flip();
+            while (large.hasRemaining()) {
+                out.write(large);
+            }
+            return;
+        }
+        reserve(bytes.length + 5, out);
+        putVarint(buffer, bytes.length);
+        buffer.put(bytes);
+        blockCount++;
+    }
+
+    /** flush the block if it has less than the given room left */
+    private void reserve(int bytes, WritableByteChannel out) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flushBlock(out);
+        }
+    }
+
+    /** write the current block with its header, if it holds any elements, and start a new one */
+    private void flushBlock(WritableByteChannel out) throws IOException {
+        if (blockCount > 0) {
+            buffer.putInt(0, buffer.position() - BLOCK_HEADER);
+            buffer.putInt(4, blockCount);
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+        }
+        buffer.clear();
+        buffer.position(BLOCK_HEADER);
+        blockCount = 0;
+    }
+
+    private void writeFully(WritableByteChannel out) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    private static void putVarint(ByteBuffer target, int value) {
+        while ((value & ~0x7F) != 0) {
+            target.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        target.put((byte) value);
+    }
+
+    /**
+     * Reads and checks a stream header.
+     * @return the element count
+     */
+    private int readHeader(ReadableByteChannel in, byte kind) throws IOException {
+        ByteBuffer header = readFully(in, buffer, HEADER);
+        if (header.getInt() != MAGIC) {
+            throw new IOException("Not a serialized ADT");
+        }
+        byte actualKind = header.get();
+        if (actualKind != kind) {
+            throw new IOException("Expected a " + kindName(kind) + " but found a " + kindName(actualKind));
+        }
+        if (header.get() != encoding) {
+            throw new IOException("Elements were written with a different codec");
+        }
+        int count = header.getInt();
+        if (count < 0) {
+            throw new IOException("Corrupt element count: " + count);
+        }
+        return count;
+    }
+
+    private static String kindName(byte kind) {
+        return kind == KIND_LIST ? "list" : kind == KIND_STACK ? "stack" : kind == KIND_QUEUE ? "queue" : "kind " + kind;
+    }
+
+    /**
+     * Reads exactly the given number of bytes into a buffer, allocating a larger one if needed.
+     * @return the buffer, flipped for reading
+     */
+    private static ByteBuffer readFully(ReadableByteChannel in, ByteBuffer target, int bytes) throws IOException {
+        if (bytes > target.capacity()) {
+            target = ByteBuffer.allocate(bytes);
+        }
+        target.clear();
+        target.limit(bytes);
+        while (target.hasRemaining()) {
+            if (in.read(target) < 0) {
+                throw new EOFException("Stream ended inside a serialized ADT");
+            }
+        }
+        target.flip();
+        return target;
+    }
+
+    /**
+     * Decodes the elements of one structure block by block
+     */
+    private class Reader {
+        private final ReadableByteChannel in;
+        private int remaining;
+        private ByteBuffer block;
+        private int blockLeft;
+
+        private Reader(ReadableByteChannel in, int count) {
+            this.in = in;
+            this.remaining = count;
+        }
+
+        private boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        private E next() throws IOException {
+            if (blockLeft == 0) {
+                ByteBuffer header = readFully(in, buffer, BLOCK_HEADER);
+                int bytes = header.getInt();
+                blockLeft = header.getInt();
+                if (bytes < 0 || blockLeft <= 0 || blockLeft > remaining) {
+                    throw new IOException("Corrupt block header");
+                }
+                if (encoding == ENCODING_INTEGER || encoding == ENCODING_LONG) {
+                    if (bytes != (long) blockLeft * (encoding == ENCODING_INTEGER ? 4 : 8)) {
+                        throw new IOException("Corrupt block length: " + bytes);
+                    }
+                } else if (bytes > buffer.capacity() - BLOCK_HEADER && blockLeft != 1) {
+                    throw new IOException("Corrupt block length: " + bytes);
+                }
+                block = bytes <= buffer.capacity() ? readFully(in, buffer, bytes) : readLarge(bytes);
+            }
+            blockLeft--;
+            remaining--;
+
+            try {
+                switch (encoding) {
+                    case ENCODING_INTEGER:
+                        return (E) Integer.valueOf(block.getInt());
+                    case ENCODING_LONG:
+                        return (E) Long.valueOf(block.getLong());
+                    case ENCODING_STRING: {
+                        int length = getVarint();
+                        String string = new String(block.array(), block.arrayOffset() + block.position(), length,
+                            StandardCharsets.UTF_8);
+                        block.position(block.position() + length);
+                        return (E) string;
+                    }
+                    default: {
+                        int length = getVarint();
+                        E element = codec.decode(block.array(), block.arrayOffset() + block.position(), length);
+                        block.position(block.position() + length);
+                        return element;
+                    }
+                }
+            } catch (RuntimeException e) {
+                throw new IOException("Corrupt block", e);
+            }
+        }
+
+        /**
+         * Reads a block holding a single oversized record, growing its buffer as the bytes
+         * arrive, so a corrupt length ends in an EOFException instead of an allocation.
+         * @return the block, flipped for reading
+         */
+        private ByteBuffer readLarge(int bytes) throws IOException {
+            ByteBuffer large = ByteBuffer.allocate(buffer.capacity());
+            while (large.position() < bytes) {
+                if (!large.hasRemaining()) {
+                    ByteBuffer grown = ByteBuffer.allocate((int) Math.min(bytes, 2L * large.capacity()));
+                    large.flip();
+                    grown.put(large);
+                    large = grown;
+                }
+                large.limit(Math.min(bytes, large.capacity()));
+                if (in.read(large) < 0) {
+                    throw new EOFException("Stream ended inside a serialized ADT");
+                }
+            }
+            large.flip();
+            return large;
+        }
+
+        private int getVarint() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = block.get();
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+}
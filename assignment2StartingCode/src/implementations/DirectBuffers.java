@@ -0,0 +1,48 @@
+package implementations;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * DirectBuffers - Helpers for buffers that live outside the Java heap, shared by the
+ * off-heap and memory-mapped containers.
+ */
+
+final class DirectBuffers {
+
+    private DirectBuffers() {
+    }
+
+    /**
+     * Frees a direct buffer's memory, or unmaps a mapped buffer, now if the JVM exposes a
+     * way to do it: Unsafe.invokeCleaner on Java 9 and later, the buffer's own cleaner on
+     * Java 8. Otherwise this happens when the buffer is garbage collected. The buffer must
+     * be the original, not a duplicate or slice, and must not be used afterwards.
+     */
+    static void release(ByteBuffer buffer) {
+        if (buffer == null || !buffer.isDirect()) {
+            return;
+        }
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            invokeCleaner.invoke(theUnsafe.get(null), buffer);
+            return;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // not Java 9+, fall through to the Java 8 route
+        }
+        try {
+            Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+            Object cleaner = cleanerMethod.invoke(buffer);
+            if (cleaner != null) {
+                cleaner.getClass().getMethod("clean").invoke(cleaner);
+            }
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // leave the buffer to the garbage collector
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package implementations;
+
+import java.nio.charset.StandardCharsets;
+import utilities.ElementCodec;
+
+/**
+ * ElementCodecs - Ready-made ElementCodec implementations for common element types.
+ * Strings are stored as UTF-8 and numbers as fixed-width big-endian values.
+ */
+
+public final class ElementCodecs {
+
+    /** UTF-8 strings */
+    public static final ElementCodec<String> STRING = new ElementCodec<String>() {
+        @Override
+        public byte[] encode(String element) {
+            return element.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String decode(byte[] bytes, int offset, int length) {
+            return new String(bytes, offset, length, StandardCharsets.UTF_8);
+        }
+    };
+
+    /** 4-byte big-endian integers */
+    public static final ElementCodec<Integer> INTEGER = new ElementCodec<Integer>() {
+        @Override
+        public byte[] encode(Integer element) {
+            int v = element;
+            return new byte[] { (byte) (v >>> 24), (byte) (v >>> 16), (byte) (v >>> 8), (byte) v };
+        }
+
+        @Override
+        public Integer decode(byte[] bytes, int offset, int length) {
+            checkLength(length, 4);
+            return (bytes[offset] & 0xFF) << 24 | (bytes[offset + 1] & 0xFF) << 16
+                | (bytes[offset + 2] & 0xFF) << 8 | (bytes[offset + 3] & 0xFF);
+        }
+    };
+
+    /** 8-byte big-endian longs */
+    public static final ElementCodec<Long> LONG = new ElementCodec<Long>() {
+        @Override
+        public byte[] encode(Long element) {
+            long v = element;
+            byte[] bytes = new byte[8];
+            for (int i = 7; i >= 0; i--) {
+                bytes[i] = (byte) v;
+                v >>>= 8;
+            }
+            return bytes;
+        }
+
+        @Override
+        public Long decode(byte[] bytes, int offset, int length) {
+            checkLength(length, 8);
+            long v = 0;
+            for (int i = 0; i < 8; i++) {
+                v = v << 8 | (bytes[offset + i] & 0xFF);
+            }
+            return v;
+        }
+    };
+
+    private ElementCodecs() {
+    }
+
+    private static void checkLength(int length, int expected) {
+        if (length != expected) {
+            throw new IllegalArgumentException("Expected " + expected + " bytes, found " + length);
+        }
+    }
+}
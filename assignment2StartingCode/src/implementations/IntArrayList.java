@@ -0,0 +1,197 @@
+package implementations;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import utilities.IntIterator;
+
+/*
+ * IntArrayList Implementation
+ * This class provides an array-based list of primitive int values with
+ * the operations of MyArrayList, but without boxing: the values live
+ * directly in an int[], so each one costs 4 bytes instead of a reference
+ * plus an Integer object.
+ * Since an index and a value are both ints, removing by value is
+ * removeValue(int) rather than an overload of remove.
+ */
+
+public class IntArrayList {
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /** largest array some VMs will allocate */
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /** backing array */
+    private int[] elements;
+
+    /** number of stored items */
+    private int size;
+
+    public IntArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity number of values to make room for up front
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public IntArrayList(int initialCapacity) {
+        if (initialCapacity < 0) throw new IllegalArgumentException("illegal capacity: " + initialCapacity);
+        elements = new int[initialCapacity];
+        size = 0;
+    }
+
+    /**
+     * Make sure the array can hold minCapacity values without growing again.
+     * Growth doubles the array, so a run of adds is amortized O(1).
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (elements.length >= minCapacity) return;
+        if (minCapacity > MAX_CAPACITY) throw new OutOfMemoryError("required capacity " + minCapacity + " is too large");
+
+        int newCapacity = elements.length > MAX_CAPACITY / 2 ? MAX_CAPACITY : elements.length * 2;
+        if (newCapacity < minCapacity) newCapacity = minCapacity;
+
+        elements = Arrays.copyOf(elements, newCapacity);
+    }
+
+    /** shrink the array to the number of stored values */
+    public void trimToSize() {
+        if (elements.length > size) elements = Arrays.copyOf(elements, size);
+    }
+
+    /** index check for get/set/remove */
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+    }
+
+    /** index check for add at position */
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size)
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public boolean add(int index, int toAdd) {
+        checkPositionIndex(index);
+
+        ensureCapacity(size + 1);
+
+        // shift right to open space
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+
+        elements[index] = toAdd;
+        size++;
+        return true;
+    }
+
+    public boolean add(int toAdd) {
+        ensureCapacity(size + 1);
+        elements[size++] = toAdd;
+        return true;
+    }
+
+    /** append every value of another list with one bulk copy */
+    public boolean addAll(IntArrayList toAdd) {
+        if (toAdd == null) throw new NullPointerException("list cannot be null");
+
+        int count = toAdd.size; // read once so that adding a list to itself works
+        ensureCapacity(size + count);
+        System.arraycopy(toAdd.elements, 0, elements, size, count);
+        size += count;
+        return count > 0;
+    }
+
+    public int get(int index) {
+        checkElementIndex(index);
+        return elements[index];
+    }
+
+    /** remove the value at index and return it */
+    public int remove(int index) {
+        checkElementIndex(index);
+
+        int removed = elements[index];
+
+        // shift left to fill the gap
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+
+        size--;
+        return removed;
+    }
+
+    /** remove the first occurrence of a value */
+    public boolean removeValue(int toRemove) {
+        int index = indexOf(toRemove);
+        if (index == -1) return false; // not found
+        remove(index);
+        return true;
+    }
+
+    public int set(int index, int toChange) {
+        checkElementIndex(index);
+
+        int old = elements[index];
+        elements[index] = toChange;
+        return old;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(int toFind) {
+        return indexOf(toFind) != -1;
+    }
+
+    /** index of the first occurrence of a value, or -1 */
+    public int indexOf(int toFind) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == toFind) return i;
+        }
+        return -1;
+    }
+
+    /** copy into toHold if it is big enough, otherwise into a new array of exactly size values */
+    public int[] toArray(int[] toHold) {
+        if (toHold == null) throw new NullPointerException("array cannot be null");
+
+        if (toHold.length < size) return toArray();
+
+        System.arraycopy(elements, 0, toHold, 0, size);
+        return toHold;
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /** iterator over the live list; the list must not change while it is in use */
+    public IntIterator iterator() {
+        return new IntArrayListIterator();
+    }
+
+    private class IntArrayListIterator implements IntIterator {
+
+        private int idx = 0;
+
+        @Override
+        public boolean hasNext() {
+            return idx < size;
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return elements[idx++];
+        }
+    }
+}
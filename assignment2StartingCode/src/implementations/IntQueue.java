@@ -0,0 +1,213 @@
+package implementations;
+
+import exceptions.EmptyQueueException;
+import java.util.NoSuchElementException;
+import utilities.IntIterator;
+
+/**
+ * IntQueue - Queue of primitive int values backed by a growable ring buffer.
+ * It mirrors the QueueADT operations of MyCircularQueue without boxing: the
+ * values live in an int[] whose capacity is a power of two, enqueue and
+ * dequeueInt only move the head index and size, and nothing is allocated
+ * per element once the ring has grown to the working size.
+ */
+
+public class IntQueue {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /** ring buffer; length is a power of two */
+    private int[] elements;
+
+    /** elements.length - 1 */
+    private int mask;
+
+    /** slot of the front value */
+    private int head;
+
+    /** number of stored values */
+    private int size;
+
+    public IntQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a queue with room for at least the given number of values before it grows.
+     * @param initialCapacity the number of values to make room for
+     * @throws IllegalArgumentException if the capacity is negative or too large
+     */
+    public IntQueue(int initialCapacity) {
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        int capacity = Integer.highestOneBit(Math.max(initialCapacity, 2) - 1) << 1;
+        elements = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    /** double the ring, unrolling it so the front lands at slot 0 */
+    private void grow() {
+        if (elements.length == MAX_CAPACITY) {
+            throw new IllegalStateException("Queue cannot grow beyond " + MAX_CAPACITY + " elements.");
+        }
+        int[] newArr = new int[elements.length << 1];
+        copyTo(newArr, 0, size);
+        elements = newArr;
+        mask = newArr.length - 1;
+        head = 0;
+    }
+
+    /** copy the first count values in order into dest at offset */
+    private void copyTo(int[] dest, int offset, int count) {
+        int firstRun = Math.min(count, elements.length - head);
+        System.arraycopy(elements, head, dest, offset, firstRun);
+        System.arraycopy(elements, 0, dest, offset + firstRun, count - firstRun);
+    }
+
+    public void enqueue(int toAdd) {
+        if (size == elements.length) {
+            grow();
+        }
+        elements[(head + size) & mask] = toAdd;
+        size++;
+    }
+
+    public int dequeueInt() throws EmptyQueueException {
+        if (size == 0) {
+            throw new EmptyQueueException("Queue is empty.");
+        }
+        int front = elements[head];
+        head = (head + 1) & mask;
+        size--;
+        return front;
+    }
+
+    public int peekInt() throws EmptyQueueException {
+        if (size == 0) {
+            throw new EmptyQueueException("Queue is empty.");
+        }
+        return elements[head];
+    }
+
+    /**
+     * Returns the value at a position counted from the front, in O(1).
+     * @param index the 0-based position from the front of the queue
+     * @return the value at that position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int get(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return elements[(head + index) & mask];
+    }
+
+    /**
+     * Dequeues up to max values into dest starting at offset, using at most two
+     * array copies.
+     * @param dest the array to fill
+     * @param offset the first index of dest to write
+     * @param max the largest number of values to dequeue
+     * @return the number of values dequeued
+     * @throws NullPointerException if dest is null
+     * @throws IndexOutOfBoundsException if offset or max do not fit dest
+     */
+    public int drainTo(int[] dest, int offset, int max) {
+        if (dest == null) {
+            throw new NullPointerException("Destination array cannot be null.");
+        }
+        if (offset < 0 || max < 0 || offset > dest.length - max) {
+            throw new IndexOutOfBoundsException("Offset: " + offset + ", Max: " + max + ", Length: " + dest.length);
+        }
+        int count = Math.min(max, size);
+        copyTo(dest, offset, count);
+        head = (head + count) & mask;
+        size -= count;
+        return count;
+    }
+
+    /**
+     * Dequeues every value onto the end of a list.
+     * @param dest the list to append to
+     * @return the number of values dequeued
+     * @throws NullPointerException if dest is null
+     */
+    public int drainTo(IntArrayList dest) {
+        if (dest == null) {
+            throw new NullPointerException("Destination list cannot be null.");
+        }
+        int count = size;
+        dest.ensureCapacity(dest.size() + count);
+        while (size > 0) {
+            dest.add(elements[head]);
+            head = (head + 1) & mask;
+            size--;
+        }
+        return count;
+    }
+
+    public void dequeueAll() {
+        head = 0;
+        size = 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int toFind) {
+        return search(toFind) != -1;
+    }
+
+    /**
+     * @return the 1-based position of the value counted from the front, or -1 if it is not queued
+     */
+    public int search(int toFind) {
+        for (int i = 0; i < size; i++) {
+            if (elements[(head + i) & mask] == toFind) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the values from front to back
+     */
+    public int[] toArray() {
+        int[] array = new int[size];
+        copyTo(array, 0, size);
+        return array;
+    }
+
+    /**
+     * Iterator from front to back over the live ring; the queue must not
+     * change while it is in use.
+     */
+    public IntIterator iterator() {
+        return new IntQueueIterator();
+    }
+
+    private class IntQueueIterator implements IntIterator {
+        private int index = 0;
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        public int nextInt() throws NoSuchElementException {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements in queue");
+            }
+            return elements[(head + index++) & mask];
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package implementations;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+import java.util.NoSuchElementException;
+import utilities.IntIterator;
+
+/*
+ * IntStack - Stack of primitive int values backed by a growable int[].
+ * It mirrors the StackADT operations of MyStack without boxing: push and
+ * popInt only move the top index, so nothing is allocated per element
+ * once the array has grown to the working depth.
+ * Iteration, toArray and search run from top to bottom, as in MyStack.
+ */
+
+public class IntStack {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** values from bottom (0) to top (size - 1) */
+    private int[] elements;
+
+    /** number of stored values */
+    private int size;
+
+    public IntStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity number of values to make room for up front
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public IntStack(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        elements = new int[initialCapacity];
+    }
+
+    public void push(int toAdd) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(elements.length * 2, DEFAULT_CAPACITY));
+        }
+        elements[size++] = toAdd;
+    }
+
+    public int popInt() throws EmptyStackException {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return elements[--size];
+    }
+
+    public int peekInt() throws EmptyStackException {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return elements[size - 1];
+    }
+
+    /**
+     * Pops up to max values into dest starting at offset, top first.
+     * @param dest the array to fill
+     * @param offset the first index of dest to write
+     * @param max the largest number of values to pop
+     * @return the number of values popped
+     * @throws NullPointerException if dest is null
+     * @throws IndexOutOfBoundsException if offset or max do not fit dest
+     */
+    public int drainTo(int[] dest, int offset, int max) {
+        if (dest == null) {
+            throw new NullPointerException("Destination array cannot be null.");
+        }
+        if (offset < 0 || max < 0 || offset > dest.length - max) {
+            throw new IndexOutOfBoundsException("Offset: " + offset + ", Max: " + max + ", Length: " + dest.length);
+        }
+        int count = Math.min(max, size);
+        for (int i = 0; i < count; i++) {
+            dest[offset + i] = elements[size - 1 - i];
+        }
+        size -= count;
+        return count;
+    }
+
+    /**
+     * Pops every value onto the end of a list, top first.
+     * @param dest the list to append to
+     * @return the number of values popped
+     * @throws NullPointerException if dest is null
+     */
+    public int drainTo(IntArrayList dest) {
+        if (dest == null) {
+            throw new NullPointerException("Destination list cannot be null.");
+        }
+        int count = size;
+        dest.ensureCapacity(dest.size() + count);
+        while (size > 0) {
+            dest.add(elements[--size]);
+        }
+        return count;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int toFind) {
+        return search(toFind) != -1;
+    }
+
+    /**
+     * @return the 1-based position of the value counted from the top, or -1 if it is not on the stack
+     */
+    public int search(int toFind) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (elements[i] == toFind) {
+                return size - i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the values from top to bottom
+     */
+    public int[] toArray() {
+        int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = elements[size - 1 - i];
+        }
+        return array;
+    }
+
+    /**
+     * Iterator from top to bottom over the live stack; the stack must not
+     * change while it is in use.
+     */
+    public IntIterator iterator() {
+        return new IntStackIterator();
+    }
+
+    private class IntStackIterator implements IntIterator {
+        private int index = size - 1;
+
+        @Override
+        public boolean hasNext() {
+            return index >= 0;
+        }
+
+        @Override
+        public int nextInt() throws NoSuchElementException {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements in stack");
+            }
+            return elements[index--];
+        }
+    }
+}
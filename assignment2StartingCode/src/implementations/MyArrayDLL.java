@@ -0,0 +1,498 @@
+package implementations;
+
+import utilities.ListADT;
+import utilities.Iterator;
+import utilities.ListIterator;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * MyArrayDLL - Doubly Linked List implementation of ListADT without node objects
+ * Elements live in one Object[] and the links in parallel int[] next/prev arrays,
+ * so a list of n elements costs three arrays instead of n scattered nodes, and a
+ * traversal reads indexes from a contiguous array instead of chasing references.
+ * Slots freed by remove are chained on a free list and reused by later adds;
+ * compact() renumbers the slots into list order and releases unused capacity.
+ * It behaves like MyDLL: O(1) at both ends, traversal from the nearer end for get/set,
+ * and a list iterator with O(1) edits at the cursor.
+ * @param <E> the type of elements in this list
+ */
+
+public class MyArrayDLL<E> implements ListADT<E> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int NONE = -1;
+
+    private Object[] elements;
+    private int[] next;
+    private int[] prev;
+
+    private int head;
+    private int tail;
+    private int size;
+
+    /** first slot of the free list, chained through next[] */
+    private int free;
+
+    /** slots at or above this index have never been used */
+    private int used;
+
+    /**
+     * Default constructor
+     */
+    public MyArrayDLL() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a list with room for the given number of elements before it grows.
+     * @param initialCapacity the number of slots to allocate
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public MyArrayDLL(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.elements = new Object[initialCapacity];
+        this.next = new int[initialCapacity];
+        this.prev = new int[initialCapacity];
+        this.head = NONE;
+        this.tail = NONE;
+        this.size = 0;
+        this.free = NONE;
+        this.used = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(elements, 0, used, null);
+        head = NONE;
+        tail = NONE;
+        size = 0;
+        free = NONE;
+        used = 0;
+    }
+
+    @Override
+    public boolean add(int index, E toAdd) throws NullPointerException, IndexOutOfBoundsException {
+        if (toAdd == null) {
+            throw new NullPointerException("Cannot add null element to the list");
+        }
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        linkBefore(toAdd, index == size ? NONE : getSlotAt(index));
+        return true;
+    }
+
+    @Override
+    public boolean add(E toAdd) throws NullPointerException {
+        if (toAdd == null) {
+            throw new NullPointerException("Cannot add null element");
+        }
+        linkBefore(toAdd, NONE);
+        return true;
+    }
+
+    @Override
+    public boolean addAll(ListADT<? extends E> toAdd) throws NullPointerException {
+        if (toAdd == null) {
+            throw new NullPointerException("Cannot add null list");
+        }
+
+        // Snapshot the source first so that adding a list to itself terminates
+        Object[] source = toAdd.toArray();
+        ensureCapacity(size + source.length);
+        for (Object element : source) {
+            @SuppressWarnings("unchecked")
+            E e = (E) element;
+            linkBefore(e, NONE);
+        }
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) throws IndexOutOfBoundsException {
+        checkElementIndex(index);
+        return (E) elements[getSlotAt(index)];
+    }
+
+    @Override
+    public E remove(int index) throws IndexOutOfBoundsException {
+        checkElementIndex(index);
+        return unlink(getSlotAt(index));
+    }
+
+    @Override
+    public E remove(E toRemove) throws NullPointerException {
+        if (toRemove == null) {
+            throw new NullPointerException("Cannot remove null element");
+        }
+
+        for (int slot = head; slot != NONE; slot = next[slot]) {
+            if (toRemove.equals(elements[slot])) {
+                return unlink(slot);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E toChange) throws NullPointerException, IndexOutOfBoundsException {
+        if (toChange == null) {
+            throw new NullPointerException("Cannot set null element");
+        }
+        checkElementIndex(index);
+
+        int slot = getSlotAt(index);
+        E oldElement = (E) elements[slot];
+        elements[slot] = toChange;
+        return oldElement;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(E toFind) throws NullPointerException {
+        if (toFind == null) {
+            throw new NullPointerException("Cannot search for null element");
+        }
+        return indexOf(toFind) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of an element, in a single traversal.
+     * @param toFind the element to search for
+     * @return the index of the first equal element, or -1 if there is none
+     * @throws NullPointerException if the element is null
+     */
+    public int indexOf(E toFind) throws NullPointerException {
+        if (toFind == null) {
+            throw new NullPointerException("Cannot search for null element");
+        }
+
+        int index = 0;
+        for (int slot = head; slot != NONE; slot = next[slot]) {
+            if (toFind.equals(elements[slot])) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E[] toArray(E[] toHold) throws NullPointerException {
+        if (toHold == null) {
+            throw new NullPointerException("Array cannot be null");
+        }
+
+        if (toHold.length < size) {
+            toHold = (E[]) java.lang.reflect.Array.newInstance(
+                toHold.getClass().getComponentType(), size);
+        }
+        copyInto(toHold);
+
+        for (int j = size; j < toHold.length; j++) {
+            toHold[j] = null;
+        }
+        return toHold;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        copyInto(array);
+        return array;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new ArrayDLLListIterator(head, 0);
+    }
+
+    /**
+     * Returns a list iterator positioned at the head. Remove, set and add at the
+     * cursor are O(1).
+     * @return a list iterator over this list
+     */
+    public ListIterator<E> listIterator() {
+        return new ArrayDLLListIterator(head, 0);
+    }
+
+    /**
+     * Returns a list iterator whose first call to next() returns the element at the index.
+     * @param index the starting position, from 0 to size()
+     * @return a list iterator over this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public ListIterator<E> listIterator(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return new ArrayDLLListIterator(index == size ? NONE : getSlotAt(index), index);
+    }
+
+    /**
+     * Renumbers the slots so that the list occupies slots 0 to size() - 1 in order,
+     * empties the free list and trims the arrays to the larger of size() and the
+     * default capacity. After a long run of removes and inserts this restores
+     * sequential memory access for traversals.
+     */
+    public void compact() {
+        int capacity = Math.max(size, DEFAULT_CAPACITY);
+        Object[] newElements = new Object[capacity];
+        int[] newNext = new int[capacity];
+        int[] newPrev = new int[capacity];
+
+        int i = 0;
+        for (int slot = head; slot != NONE; slot = next[slot]) {
+            newElements[i] = elements[slot];
+            newPrev[i] = i - 1;
+            newNext[i] = i + 1;
+            i++;
+        }
+
+        elements = newElements;
+        next = newNext;
+        prev = newPrev;
+        used = size;
+        free = NONE;
+        if (size == 0) {
+            head = NONE;
+            tail = NONE;
+        } else {
+            head = 0;
+            tail = size - 1;
+            next[tail] = NONE;
+        }
+    }
+
+    /**
+     * Helper method to get the slot of the element at an index
+     * @param index the index of the element
+     * @return the slot holding that element
+     */
+    private int getSlotAt(int index) {
+        // traverse from head if index is in first half, from tail if in second half
+        int slot;
+        if (index < size / 2) {
+            slot = head;
+            for (int i = 0; i < index; i++) {
+                slot = next[slot];
+            }
+        } else {
+            slot = tail;
+            for (int i = size - 1; i > index; i--) {
+                slot = prev[slot];
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * Links a new slot holding the element in front of the given slot.
+     * @param toAdd the element to insert
+     * @param successor the slot to insert before, or NONE to append at the tail
+     * @return the slot the element was stored in
+     */
+    private int linkBefore(E toAdd, int successor) {
+        int slot = allocate();
+        int previous = successor == NONE ? tail : prev[successor];
+
+        elements[slot] = toAdd;
+        prev[slot] = previous;
+        next[slot] = successor;
+
+        if (previous == NONE) {
+            head = slot;
+        } else {
+            next[previous] = slot;
+        }
+        if (successor == NONE) {
+            tail = slot;
+        } else {
+            prev[successor] = slot;
+        }
+        size++;
+        return slot;
+    }
+
+    /**
+     * Unlinks a slot from the list and puts it on the free list.
+     * @param slot the slot to remove
+     * @return the element the slot held
+     */
+    @SuppressWarnings("unchecked")
+    private E unlink(int slot) {
+        int previous = prev[slot];
+        int following = next[slot];
+
+        if (previous == NONE) {
+            head = following;
+        } else {
+            next[previous] = following;
+        }
+        if (following == NONE) {
+            tail = previous;
+        } else {
+            prev[following] = previous;
+        }
+        size--;
+
+        E element = (E) elements[slot];
+        elements[slot] = null;
+        next[slot] = free;
+        free = slot;
+        return element;
+    }
+
+    /**
+     * Takes a slot from the free list, or the next never-used slot, growing the arrays if needed.
+     * @return a slot that is not part of the list
+     */
+    private int allocate() {
+        if (free != NONE) {
+            int slot = free;
+            free = next[slot];
+            return slot;
+        }
+        ensureCapacity(used + 1);
+        return used++;
+    }
+
+    /**
+     * Grows the arrays so that at least the given number of slots exist.
+     * @param minCapacity the number of slots needed
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity <= elements.length) {
+            return;
+        }
+        int newCapacity = Math.max(elements.length * 2, Math.max(minCapacity, DEFAULT_CAPACITY));
+        elements = Arrays.copyOf(elements, newCapacity);
+        next = Arrays.copyOf(next, newCapacity);
+        prev = Arrays.copyOf(prev, newCapacity);
+    }
+
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void copyInto(Object[] array) {
+        int i = 0;
+        for (int slot = head; slot != NONE; slot = next[slot]) {
+            array[i++] = elements[slot];
+        }
+    }
+
+    /**
+     * List iterator over the live slots of the list
+     */
+    private class ArrayDLLListIterator implements ListIterator<E> {
+        private int nextSlot; // NONE when the cursor is past the tail
+        private int nextIndex;
+        private int lastReturned = NONE;
+
+        private ArrayDLLListIterator(int nextSlot, int nextIndex) {
+            this.nextSlot = nextSlot;
+            this.nextIndex = nextIndex;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() throws NoSuchElementException {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements in the list");
+            }
+
+            lastReturned = nextSlot;
+            nextSlot = MyArrayDLL.this.next[nextSlot];
+            nextIndex++;
+            return (E) elements[lastReturned];
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E previous() throws NoSuchElementException {
+            if (!hasPrevious()) {
+                throw new NoSuchElementException("No previous element in the list");
+            }
+
+            nextSlot = nextSlot == NONE ? tail : prev[nextSlot];
+            lastReturned = nextSlot;
+            nextIndex--;
+            return (E) elements[lastReturned];
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() throws IllegalStateException {
+            if (lastReturned == NONE) {
+                throw new IllegalStateException("No element to remove");
+            }
+
+            if (lastReturned == nextSlot) {
+                // returned by previous(): the cursor moves past the removed slot
+                nextSlot = MyArrayDLL.this.next[nextSlot];
+            } else {
+                nextIndex--;
+            }
+            unlink(lastReturned);
+            lastReturned = NONE;
+        }
+
+        @Override
+        public void set(E toChange) throws NullPointerException, IllegalStateException {
+            if (toChange == null) {
+                throw new NullPointerException("Cannot set null element");
+            }
+            if (lastReturned == NONE) {
+                throw new IllegalStateException("No element to replace");
+            }
+            elements[lastReturned] = toChange;
+        }
+
+        @Override
+        public void add(E toAdd) throws NullPointerException {
+            if (toAdd == null) {
+                throw new NullPointerException("Cannot add null element");
+            }
+            linkBefore(toAdd, nextSlot);
+            nextIndex++;
+            lastReturned = NONE;
+        }
+    }
+}
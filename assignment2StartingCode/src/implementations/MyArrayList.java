@@ -2,6 +2,7 @@ package implementations;
 
 import java.util.NoSuchElementException;
 import utilities.Iterator;
+import utilities.ListIterator;
 import utilities.ListADT;
 
 /*
@@ -23,15 +24,26 @@ public class MyArrayList<E> implements ListADT<E> {
     /** number of stored items */
     private int size;
 
+    /**
+     * list iterator that keeps a gap of empty slots open at its cursor, so that removing
+     * or inserting there moves nothing; null if the elements are contiguous
+     */
+    private ArrayListListIterator gapOwner;
+
     @SuppressWarnings("unchecked")
     public MyArrayList() {
         elements = (E[]) new Object[DEFAULT_CAPACITY];
         size = 0;
     }
 
-    /** make sure array is big enough */
+    /**
+     * Makes sure the backing array can hold at least minCapacity elements, so that many
+     * adds in a row, such as when a list is read back from a stream, grow it only once.
+     * @param minCapacity the number of elements to make room for
+     */
     @SuppressWarnings("unchecked")
-    private void ensureCapacity(int minCapacity) {
+    public void ensureCapacity(int minCapacity) {
+        closeGap();
         if (elements.length >= minCapacity) return;
 
         int newCapacity = elements.length * 2;
@@ -42,6 +54,35 @@ public class MyArrayList<E> implements ListADT<E> {
         elements = newArr;
     }
 
+    /**
+     * move the elements after an iterator's gap back over it, so index i is in slot i
+     * again; only methods that change the list call this, so reads never write the array
+     */
+    private void closeGap() {
+        if (gapOwner == null) return;
+
+        int gapStart = gapOwner.gapStart;
+        int gapLength = gapOwner.gapLength;
+        System.arraycopy(elements, gapStart + gapLength, elements, gapStart, size - gapStart);
+        for (int i = size; i < size + gapLength; i++) elements[i] = null;
+        gapOwner.gapLength = 0;
+        gapOwner = null;
+    }
+
+    /** slot of the element at index, allowing for an iterator's gap */
+    private int slot(int index) {
+        if (gapOwner == null || index < gapOwner.gapStart) return index;
+        return index + gapOwner.gapLength;
+    }
+
+    /** copy the elements in order into the front of dest, allowing for an iterator's gap */
+    private void copyTo(Object[] dest) {
+        int front = gapOwner == null ? size : gapOwner.gapStart;
+        int gapLength = gapOwner == null ? 0 : gapOwner.gapLength;
+        System.arraycopy(elements, 0, dest, 0, front);
+        System.arraycopy(elements, front + gapLength, dest, front, size - front);
+    }
+
     /** index check for get/set/remove */
     private void checkElementIndex(int index) {
         if (index < 0 || index >= size)
@@ -61,6 +102,7 @@ public class MyArrayList<E> implements ListADT<E> {
 
     @Override
     public void clear() {
+        closeGap();
         for (int i = 0; i < size; i++) elements[i] = null;
         size = 0;
     }
@@ -107,12 +149,13 @@ public class MyArrayList<E> implements ListADT<E> {
     @Override
     public E get(int index) {
         checkElementIndex(index);
-        return elements[index];
+        return elements[slot(index)];
     }
 
     @Override
     public E remove(int index) {
         checkElementIndex(index);
+        closeGap();
 
         E removed = elements[index];
 
@@ -128,6 +171,7 @@ public class MyArrayList<E> implements ListADT<E> {
     @Override
     public E remove(E toRemove) {
         if (toRemove == null) throw new NullPointerException("cannot remove null");
+        closeGap();
 
         for (int i = 0; i < size; i++) {
             if (toRemove.equals(elements[i]))
@@ -141,8 +185,9 @@ public class MyArrayList<E> implements ListADT<E> {
         if (toChange == null) throw new NullPointerException("cannot set null");
         checkElementIndex(index);
 
-        E old = elements[index];
-        elements[index] = toChange;
+        int slot = slot(index);
+        E old = elements[slot];
+        elements[slot] = toChange;
         return old;
     }
 
@@ -156,7 +201,7 @@ public class MyArrayList<E> implements ListADT<E> {
         if (toFind == null) throw new NullPointerException("cannot search for null");
 
         for (int i = 0; i < size; i++) {
-            if (toFind.equals(elements[i])) return true;
+            if (toFind.equals(elements[slot(i)])) return true;
         }
         return false;
     }
@@ -169,11 +214,11 @@ public class MyArrayList<E> implements ListADT<E> {
         if (toHold.length < size) {
             Class<?> type = toHold.getClass().getComponentType();
             E[] newArr = (E[]) java.lang.reflect.Array.newInstance(type, size);
-            for (int i = 0; i < size; i++) newArr[i] = elements[i];
+            copyTo(newArr);
             return newArr;
         }
 
-        for (int i = 0; i < size; i++) toHold[i] = elements[i];
+        copyTo(toHold);
         if (toHold.length > size) toHold[size] = null;
         return toHold;
     }
@@ -181,7 +226,7 @@ public class MyArrayList<E> implements ListADT<E> {
     @Override
     public Object[] toArray() {
         Object[] arr = new Object[size];
-        System.arraycopy(elements, 0, arr, 0, size);
+        copyTo(arr);
         return arr;
     }
 
@@ -190,6 +235,27 @@ public class MyArrayList<E> implements ListADT<E> {
         return new ArrayListIterator();
     }
 
+    /**
+     * List iterator over the live array, starting at the front.
+     * Removing or inserting at the cursor leaves a gap there instead of shifting the
+     * tail, and the gap travels with the cursor, so filtering a whole list costs O(n)
+     * rather than O(n) per edit. The gap belongs to the iterator: reads on the list step
+     * over it without moving anything, and it is closed when the iterator reaches the
+     * end, when another iterator edits the list, or when the list is next modified.
+     */
+    public ListIterator<E> listIterator() {
+        return new ArrayListListIterator(0);
+    }
+
+    /**
+     * List iterator whose first call to next() returns the element at index.
+     * @throws IndexOutOfBoundsException if index is not in 0..size
+     */
+    public ListIterator<E> listIterator(int index) {
+        checkPositionIndex(index);
+        return new ArrayListListIterator(index);
+    }
+
     /** iterator over a fixed snapshot of the list */
     private class ArrayListIterator implements Iterator<E> {
 
@@ -212,4 +278,147 @@ public class MyArrayList<E> implements ListADT<E> {
             return (E) snapshot[idx++];
         }
     }
+
+    /** list iterator over the live array, keeping a gap at its cursor once it edits */
+    private class ArrayListListIterator implements ListIterator<E> {
+
+        /** index of the element next() returns */
+        private int cursor;
+
+        /** index of the last returned element, -1 if there is none */
+        private int lastRet = -1;
+
+        /** empty slots starting at gapStart, kept at the cursor while this is the gap owner */
+        private int gapStart;
+        private int gapLength;
+
+        private ArrayListListIterator(int index) {
+            cursor = index;
+        }
+
+        /** take over the list's gap, closing one left by another iterator */
+        private void ownGap() {
+            if (gapOwner == this) return;
+
+            closeGap();
+            gapOwner = this;
+            gapStart = cursor;
+            gapLength = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (cursor < size) return true;
+
+            // a gap at the end is only spare capacity
+            if (gapOwner == this) {
+                gapLength = 0;
+                gapOwner = null;
+            }
+            return false;
+        }
+
+        @Override
+        public E next() {
+            if (cursor >= size) throw new NoSuchElementException();
+            lastRet = cursor++;
+            if (gapOwner != this || gapLength == 0) {
+                if (gapOwner == this) gapStart++;
+                return elements[slot(lastRet)];
+            }
+
+            // move the next element across the gap
+            int from = gapStart + gapLength;
+            elements[gapStart] = elements[from];
+            elements[from] = null;
+            return elements[gapStart++];
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        @Override
+        public E previous() {
+            if (!hasPrevious()) throw new NoSuchElementException();
+            lastRet = --cursor;
+            if (gapOwner == this) {
+                // move the previous element across the gap
+                gapStart--;
+                if (gapLength != 0) {
+                    elements[gapStart + gapLength] = elements[gapStart];
+                    elements[gapStart] = null;
+                }
+            }
+            return elements[slot(lastRet)];
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastRet < 0) throw new IllegalStateException("no element to remove");
+            ownGap();
+
+            // widen the gap over the removed slot, on whichever side of the cursor it is
+            if (lastRet < cursor) {
+                elements[--gapStart] = null;
+                cursor = lastRet;
+            } else {
+                elements[gapStart + gapLength] = null;
+            }
+            gapLength++;
+            size--;
+            lastRet = -1;
+        }
+
+        @Override
+        public void set(E toChange) {
+            if (toChange == null) throw new NullPointerException("cannot set null");
+            if (lastRet < 0) throw new IllegalStateException("no element to replace");
+            elements[slot(lastRet)] = toChange;
+        }
+
+        @Override
+        public void add(E toAdd) {
+            if (toAdd == null) throw new NullPointerException("cannot add null");
+            ownGap();
+            if (gapLength == 0) openGap();
+
+            elements[gapStart++] = toAdd;
+            gapLength--;
+            cursor++;
+            size++;
+            lastRet = -1;
+        }
+
+        /**
+         * Opens a gap at the cursor big enough for a run of adds, half the list or at
+         * least DEFAULT_CAPACITY slots, growing the array if needed.
+         */
+        @SuppressWarnings("unchecked")
+        private void openGap() {
+            int room = Math.max(DEFAULT_CAPACITY, size >> 1);
+            int tail = size - gapStart;
+            if (elements.length < size + room) {
+                E[] newArr = (E[]) new Object[Math.max(elements.length * 2, size + room)];
+                System.arraycopy(elements, 0, newArr, 0, gapStart);
+                System.arraycopy(elements, gapStart, newArr, gapStart + room, tail);
+                elements = newArr;
+            } else {
+                System.arraycopy(elements, gapStart, elements, gapStart + room, tail);
+                for (int i = gapStart; i < gapStart + Math.min(room, tail); i++) elements[i] = null;
+            }
+            gapLength = room;
+        }
+    }
 }
@@ -0,0 +1,499 @@
+package implementations;
+
+import exceptions.EmptyQueueException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import utilities.Iterator;
+import utilities.QueueADT;
+
+/**
+ * MyBoundedQueue<E> - Thread-safe, fixed-capacity implementation of QueueADT
+ * Elements live in a ring array of exactly the requested capacity, so isFull() is
+ * real and a producer that outruns its consumers is held back instead of filling
+ * memory. Producers and consumers take separate locks: producers own the tail
+ * index and consumers the head index, and the element count, an atomic integer,
+ * is the only state they share. A slot is written before the count that makes it
+ * visible is raised, and emptied before the count that frees it is lowered.
+ * There are three forms of each operation:
+ * - enqueue and dequeue never wait; enqueue throws IllegalStateException when the
+ *   queue is full and dequeue throws EmptyQueueException when it is empty
+ * - offer and poll never wait either, and return false or null instead
+ * - put and take wait as long as needed, and the timed offer and poll wait up to a
+ *   time limit; all four respond to interruption
+ * Iterators, search, contains and toArray work on a copy taken with both locks
+ * held, so they see the queue as it was at one instant.
+ * @param <E> the type of elements in this queue
+ */
+
+public class MyBoundedQueue<E> implements QueueADT<E> {
+
+    private final Object[] items;
+
+    /** slot of the front element; guarded by takeLock */
+    private int head;
+
+    /** slot the next element goes in; guarded by putLock */
+    private int tail;
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    private final ReentrantLock takeLock = new ReentrantLock();
+    private final Condition notEmpty = takeLock.newCondition();
+    private final ReentrantLock putLock = new ReentrantLock();
+    private final Condition notFull = putLock.newCondition();
+
+    /**
+     * Constructs an empty queue that holds at most the given number of elements.
+     * @param capacity the largest number of elements the queue holds
+     * @throws IllegalArgumentException if the capacity is less than 1
+     */
+    public MyBoundedQueue(int capacity) throws IllegalArgumentException {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Illegal capacity: " + capacity);
+        }
+        items = new Object[capacity];
+    }
+
+    /**
+     * Returns the largest number of elements the queue holds.
+     * @return the capacity given to the constructor
+     */
+    public int capacity() {
+        return items.length;
+    }
+
+    /**
+     * Returns how many more elements fit before the queue is full.
+     * @return the capacity minus the current size
+     */
+    public int remainingCapacity() {
+        return items.length - count.get();
+    }
+
+    /**
+     * Adds an element at the back without waiting.
+     * @param toAdd the element to add
+     * @throws NullPointerException if the element is null
+     * @throws IllegalStateException if the queue is full
+     */
+    @Override
+    public void enqueue(E toAdd) throws NullPointerException, IllegalStateException {
+        if (!offer(toAdd)) {
+            throw new IllegalStateException("Queue is full.");
+        }
+    }
+
+    /**
+     * Adds an element at the back if there is room, without waiting.
+     * @param toAdd the element to add
+     * @return true if the element was added, false if the queue was full
+     * @throws NullPointerException if the element is null
+     */
+    public boolean offer(E toAdd) throws NullPointerException {
+        if (toAdd == null) {
+            throw new NullPointerException("Cannot enqueue null element.");
+        }
+        if (count.get() == items.length) {
+            return false;
+        }
+
+        int before;
+        putLock.lock();
+        try {
+            if (count.get() == items.length) {
+                return false;
+            }
+            before = insert(toAdd);
+        } finally {
+            putLock.unlock();
+        }
+        if (before == 0) {
+            signalNotEmpty();
+        }
+        return true;
+    }
+
+    /**
+     * Adds an element at the back, waiting up to the given time for room.
+     * @param toAdd the element to add
+     * @param timeout how long to wait, in units of unit
+     * @param unit the unit of the timeout
+     * @return true if the element was added, false if the time ran out first
+     * @throws NullPointerException if the element or the unit is null
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public boolean offer(E toAdd, long timeout, TimeUnit unit) throws NullPointerException, InterruptedException {
+        if (toAdd == null) {
+            throw new NullPointerException("Cannot enqueue null element.");
+        }
+
+        long nanos = unit.toNanos(timeout);
+        int before;
+        putLock.lockInterruptibly();
+        try {
+            while (count.get() == items.length) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            before = insert(toAdd);
+        } finally {
+            putLock.unlock();
+        }
+        if (before == 0) {
+            signalNotEmpty();
+        }
+        return true;
+    }
+
+    /**
+     * Adds an element at the back, waiting as long as it takes for room.
+     * @param toAdd the element to add
+     * @throws NullPointerException if the element is null
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public void put(E toAdd) throws NullPointerException, InterruptedException {
+        if (toAdd == null) {
+            throw new NullPointerException("Cannot enqueue null element.");
+        }
+
+        int before;
+        putLock.lockInterruptibly();
+        try {
+            while (count.get() == items.length) {
+                notFull.await();
+            }
+            before = insert(toAdd);
+        } finally {
+            putLock.unlock();
+        }
+        if (before == 0) {
+            signalNotEmpty();
+        }
+    }
+
+    /**
+     * Stores an element at the tail. The caller holds putLock and has checked for room.
+     * @return the count before the element was added
+     */
+    private int insert(E toAdd) {
+        items[tail] = toAdd;
+        if (++tail == items.length) {
+            tail = 0;
+        }
+        int before = count.getAndIncrement();
+
+        // Wake the next waiting producer if there is still room
+        if (before + 1 < items.length) {
+            notFull.signal();
+        }
+        return before;
+    }
+
+    @Override
+    public E dequeue() throws EmptyQueueException {
+        E element = poll();
+        if (element == null) {
+            throw new EmptyQueueException("Queue is empty.");
+        }
+        return element;
+    }
+
+    /**
+     * Removes and returns the front element without waiting.
+     * @return the front element, or null if the queue is empty
+     */
+    public E poll() {
+        if (count.get() == 0) {
+            return null;
+        }
+
+        E element;
+        int before;
+        takeLock.lock();
+        try {
+            if (count.get() == 0) {
+                return null;
+            }
+            element = extract();
+            before = count.getAndDecrement();
+            if (before > 1) {
+                notEmpty.signal();
+            }
+        } finally {
+            takeLock.unlock();
+        }
+        if (before == items.length) {
+            signalNotFull();
+        }
+        return element;
+    }
+
+    /**
+     * Removes and returns the front element, waiting up to the given time for one.
+     * @param timeout how long to wait, in units of unit
+     * @param unit the unit of the timeout
+     * @return the front element, or null if the time ran out first
+     * @throws NullPointerException if the unit is null
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public E poll(long timeout, TimeUnit unit) throws NullPointerException, InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        E element;
+        int before;
+        takeLock.lockInterruptibly();
+        try {
+            while (count.get() == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            element = extract();
+            before = count.getAndDecrement();
+            if (before > 1) {
+                notEmpty.signal();
+            }
+        } finally {
+            takeLock.unlock();
+        }
+        if (before == items.length) {
+            signalNotFull();
+        }
+        return element;
+    }
+
+    /**
+     * Removes and returns the front element, waiting as long as it takes for one.
+     * @return the front element
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public E take() throws InterruptedException {
+        E element;
+        int before;
+        takeLock.lockInterruptibly();
+        try {
+            while (count.get() == 0) {
+                notEmpty.await();
+            }
+            element = extract();
+            before = count.getAndDecrement();
+            if (before > 1) {
+                notEmpty.signal();
+            }
+        } finally {
+            takeLock.unlock();
+        }
+        if (before == items.length) {
+            signalNotFull();
+        }
+        return element;
+    }
+
+    /**
+     * Empties the head slot and returns its element. The caller holds takeLock and
+     * has checked that the queue is not empty; the count is lowered afterwards.
+     */
+    @SuppressWarnings("unchecked")
+    private E extract() {
+        E element = (E) items[head];
+        items[head] = null;
+        if (++head == items.length) {
+            head = 0;
+        }
+        return element;
+    }
+
+    private void signalNotEmpty() {
+        takeLock.lock();
+        try {
+            notEmpty.signal();
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    private void signalNotFull() {
+        putLock.lock();
+        try {
+            notFull.signal();
+        } finally {
+            putLock.unlock();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() throws EmptyQueueException {
+        takeLock.lock();
+        try {
+            if (count.get() == 0) {
+                throw new EmptyQueueException("Queue is empty.");
+            }
+            return (E) items[head];
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    @Override
+    public void dequeueAll() {
+        putLock.lock();
+        takeLock.lock();
+        try {
+            for (int i = 0, slot = head, n = count.get(); i < n; i++) {
+                items[slot] = null;
+                if (++slot == items.length) {
+                    slot = 0;
+                }
+            }
+            head = tail;
+            count.set(0);
+            notFull.signalAll();
+        } finally {
+            takeLock.unlock();
+            putLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count.get() == 0;
+    }
+
+    @Override
+    public boolean contains(E toFind) throws NullPointerException {
+        if (toFind == null) {
+            throw new NullPointerException("Cannot search for null element.");
+        }
+        return search(toFind) != -1;
+    }
+
+    @Override
+    public int search(E toFind) {
+        if (toFind == null) {
+            return -1;
+        }
+
+        // 1-based position from the front
+        Object[] snapshot = toArray();
+        for (int i = 0; i < snapshot.length; i++) {
+            if (toFind.equals(snapshot[i])) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new BoundedQueueIterator(toArray());
+    }
+
+    @Override
+    public boolean equals(QueueADT<E> that) {
+        if (that == null) {
+            return false;
+        }
+
+        Object[] snapshot = toArray();
+        if (snapshot.length != that.size()) {
+            return false;
+        }
+        Iterator<E> it = that.iterator();
+        for (Object element : snapshot) {
+            if (!it.hasNext() || !element.equals(it.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Object[] toArray() {
+        putLock.lock();
+        takeLock.lock();
+        try {
+            Object[] array = new Object[count.get()];
+            copyTo(array);
+            return array;
+        } finally {
+            takeLock.unlock();
+            putLock.unlock();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E[] toArray(E[] holder) throws NullPointerException {
+        if (holder == null) {
+            throw new NullPointerException("Holder array cannot be null.");
+        }
+
+        putLock.lock();
+        takeLock.lock();
+        try {
+            int size = count.get();
+            if (holder.length < size) {
+                holder = (E[]) java.lang.reflect.Array.newInstance(
+                    holder.getClass().getComponentType(), size);
+            }
+            copyTo(holder);
+            for (int i = size; i < holder.length; i++) {
+                holder[i] = null;
+            }
+            return holder;
+        } finally {
+            takeLock.unlock();
+            putLock.unlock();
+        }
+    }
+
+    /** copy the queue in order into the front of dest; the caller holds both locks */
+    private void copyTo(Object[] dest) {
+        int size = count.get();
+        int firstRun = Math.min(size, items.length - head);
+        System.arraycopy(items, head, dest, 0, firstRun);
+        System.arraycopy(items, 0, dest, firstRun, size - firstRun);
+    }
+
+    @Override
+    public boolean isFull() {
+        return count.get() == items.length;
+    }
+
+    @Override
+    public int size() {
+        return count.get();
+    }
+
+    /**
+     * Iterator over a copy of the queue
+     */
+    private class BoundedQueueIterator implements Iterator<E> {
+        private final Object[] snapshot;
+        private int next;
+
+        BoundedQueueIterator(Object[] snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < snapshot.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() throws NoSuchElementException {
+            if (next >= snapshot.length) {
+                throw new NoSuchElementException("No more elements in queue");
+            }
+            return (E) snapshot[next++];
+        }
+    }
+}
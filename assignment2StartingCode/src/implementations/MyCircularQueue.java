@@ -0,0 +1,234 @@
+package implementations;
+
+import exceptions.EmptyQueueException;
+import java.util.NoSuchElementException;
+import utilities.Iterator;
+import utilities.QueueADT;
+
+/**
+ * MyCircularQueue<E> - Queue implementation backed by a growable ring buffer.
+ * Elements live in one contiguous array whose capacity is always a power of two,
+ * so the physical slot of a position is found with a mask instead of a modulo.
+ * enqueue and dequeue only move the head index and size, nothing is allocated
+ * per element, and the array doubles when it fills up.
+ * Positional access with get(int) is O(1) and toArray copies the (at most two)
+ * filled runs of the array with System.arraycopy.
+ * @param <E> the type of elements in this queue
+ */
+
+public class MyCircularQueue<E> implements QueueADT<E> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /** ring buffer; length is a power of two */
+    private E[] elements;
+
+    /** elements.length - 1 */
+    private int mask;
+
+    /** slot of the front element */
+    private int head;
+
+    /** number of stored items */
+    private int size;
+
+    public MyCircularQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a queue with room for at least the given number of elements before it grows.
+     * @param initialCapacity the number of elements to make room for
+     * @throws IllegalArgumentException if the capacity is negative or too large
+     */
+    @SuppressWarnings("unchecked")
+    public MyCircularQueue(int initialCapacity) {
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        int capacity = Integer.highestOneBit(Math.max(initialCapacity, 2) - 1) << 1;
+        elements = (E[]) new Object[capacity];
+        mask = capacity - 1;
+    }
+
+    /** double the ring, unrolling it so the front lands at slot 0 */
+    @SuppressWarnings("unchecked")
+    private void grow() {
+        if (elements.length == MAX_CAPACITY) {
+            throw new IllegalStateException("Queue cannot grow beyond " + MAX_CAPACITY + " elements.");
+        }
+        E[] newArr = (E[]) new Object[elements.length << 1];
+        copyTo(newArr);
+        elements = newArr;
+        mask = newArr.length - 1;
+        head = 0;
+    }
+
+    /** copy the queue in order into the front of dest */
+    private void copyTo(Object[] dest) {
+        int firstRun = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, dest, 0, firstRun);
+        System.arraycopy(elements, 0, dest, firstRun, size - firstRun);
+    }
+
+    @Override
+    public void enqueue(E toAdd) throws NullPointerException {
+        if (toAdd == null) {
+            throw new NullPointerException("Cannot enqueue null element.");
+        }
+        if (size == elements.length) {
+            grow();
+        }
+        elements[(head + size) & mask] = toAdd;
+        size++;
+    }
+
+    @Override
+    public E dequeue() throws EmptyQueueException {
+        if (size == 0) {
+            throw new EmptyQueueException("Queue is empty.");
+        }
+        E front = elements[head];
+        elements[head] = null;
+        head = (head + 1) & mask;
+        size--;
+        return front;
+    }
+
+    @Override
+    public E peek() throws EmptyQueueException {
+        if (size == 0) {
+            throw new EmptyQueueException("Queue is empty.");
+        }
+        return elements[head];
+    }
+
+    /**
+     * Returns the element at a position counted from the front, in O(1).
+     * @param index the 0-based position from the front of the queue
+     * @return the element at that position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public E get(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return elements[(head + index) & mask];
+    }
+
+    @Override
+    public void dequeueAll() {
+        for (int i = 0; i < size; i++) {
+            elements[(head + i) & mask] = null;
+        }
+        head = 0;
+        size = 0;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(E toFind) throws NullPointerException {
+        if (toFind == null) {
+            throw new NullPointerException("Cannot search for null element.");
+        }
+        return search(toFind) != -1;
+    }
+
+    @Override
+    public int search(E toFind) {
+        if (toFind == null) {
+            return -1;
+        }
+
+        // Search from front to back (1-based position)
+        for (int i = 0; i < size; i++) {
+            if (toFind.equals(elements[(head + i) & mask])) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new CircularQueueIterator();
+    }
+
+    @Override
+    public boolean equals(QueueADT<E> that) {
+        if (that == null || this.size() != that.size()) {
+            return false;
+        }
+
+        Iterator<E> it1 = this.iterator();
+        Iterator<E> it2 = that.iterator();
+
+        while (it1.hasNext() && it2.hasNext()) {
+            E elem1 = it1.next();
+            E elem2 = it2.next();
+            if (elem1 == null || elem2 == null || !elem1.equals(elem2)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        copyTo(array);
+        return array;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E[] toArray(E[] holder) throws NullPointerException {
+        if (holder == null) {
+            throw new NullPointerException("Holder array cannot be null.");
+        }
+        if (holder.length < size) {
+            holder = (E[]) java.lang.reflect.Array.newInstance(
+                holder.getClass().getComponentType(), size);
+        }
+        copyTo(holder);
+        if (holder.length > size) {
+            holder[size] = null;
+        }
+        return holder;
+    }
+
+    @Override
+    public boolean isFull() {
+        return false; // the ring grows on demand
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Iterator from front to back over the live ring
+     */
+    private class CircularQueueIterator implements Iterator<E> {
+        private int index = 0;
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        public E next() throws NoSuchElementException {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements in queue");
+            }
+            return elements[(head + index++) & mask];
+        }
+    }
+}
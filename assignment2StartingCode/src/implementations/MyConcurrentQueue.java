@@ -0,0 +1,324 @@
+package implementations;
+
+import exceptions.EmptyQueueException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import utilities.Iterator;
+import utilities.QueueADT;
+
+/**
+ * MyConcurrentQueue<E> - Lock-free Michael-Scott implementation of QueueADT
+ * The queue is a singly linked list that starts with a dummy node. Producers link
+ * a new node after the last one with compare-and-set and then swing the tail to
+ * it; consumers swing the head to the first real node, which becomes the new
+ * dummy. A thread that finds the tail lagging moves it on before retrying, so no
+ * thread ever waits for another and any number can enqueue and dequeue at once.
+ * dequeue() keeps the EmptyQueueException contract of QueueADT; poll() returns
+ * null instead, for loops that expect to find the queue empty often.
+ * Iterators, search and toArray walk the list from the current head and are
+ * weakly consistent: they never fail, see every element that was present when
+ * they started and not dequeued since, and may see elements enqueued meanwhile.
+ * size() is kept by a striped counter and is exact when no operation is in
+ * progress.
+ * @param <E> the type of elements in this queue
+ */
+
+public class MyConcurrentQueue<E> implements QueueADT<E> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Node, Node> NEXT =
+        AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "next");
+
+    private final AtomicReference<Node<E>> head;
+    private final AtomicReference<Node<E>> tail;
+    private final LongAdder count = new LongAdder();
+
+    public MyConcurrentQueue() {
+        Node<E> dummy = new Node<>(null);
+        head = new AtomicReference<>(dummy);
+        tail = new AtomicReference<>(dummy);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void enqueue(E toAdd) throws NullPointerException {
+        if (toAdd == null) {
+            throw new NullPointerException("Cannot enqueue null element.");
+        }
+
+        Node<E> node = new Node<>(toAdd);
+        while (true) {
+            Node<E> last = tail.get();
+            Node<E> next = last.next;
+            if (last != tail.get()) {
+                continue;
+            }
+            if (next == null) {
+                if (NEXT.compareAndSet(last, null, node)) {
+                    tail.compareAndSet(last, node);
+                    count.increment();
+                    return;
+                }
+            } else {
+                // Another producer linked a node but has not moved the tail yet
+                tail.compareAndSet(last, next);
+            }
+        }
+    }
+
+    @Override
+    public E dequeue() throws EmptyQueueException {
+        E element = poll();
+        if (element == null) {
+            throw new EmptyQueueException("Queue is empty.");
+        }
+        return element;
+    }
+
+    /**
+     * Removes and returns the front element, or returns null if the queue is empty.
+     * @return the front element, or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        while (true) {
+            Node<E> first = head.get();
+            Node<E> last = tail.get();
+            Node<E> next = first.next;
+            if (first != head.get()) {
+                continue;
+            }
+            if (next == null) {
+                return null;
+            }
+            if (first == last) {
+                // Never let the head pass a lagging tail
+                tail.compareAndSet(last, next);
+                continue;
+            }
+
+            E element = next.element;
+            if (head.compareAndSet(first, next)) {
+                // next is the new dummy; the old one links to itself so that
+                // iterators holding it know to start again from the head
+                next.element = null;
+                NEXT.lazySet(first, first);
+                count.decrement();
+                return element;
+            }
+        }
+    }
+
+    @Override
+    public E peek() throws EmptyQueueException {
+        while (true) {
+            Node<E> first = head.get();
+            Node<E> next = first.next;
+            if (first != head.get()) {
+                continue;
+            }
+            if (next == null) {
+                throw new EmptyQueueException("Queue is empty.");
+            }
+            E element = next.element;
+            if (first == head.get()) {
+                return element;
+            }
+        }
+    }
+
+    /**
+     * Dequeues every element present when it starts. Elements enqueued while it
+     * runs may survive it.
+     */
+    @Override
+    public void dequeueAll() {
+        Node<E> last = tail.get();
+        for (Node<E> next = last.next; next != null && next != last; next = last.next) {
+            last = next;
+        }
+
+        // The last node loses its element once everything up to it is dequeued
+        while (last.element != null && poll() != null) {
+            // poll() does the work
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        while (true) {
+            Node<E> first = head.get();
+            Node<E> next = first.next;
+            if (first == head.get()) {
+                return next == null;
+            }
+        }
+    }
+
+    @Override
+    public boolean contains(E toFind) throws NullPointerException {
+        if (toFind == null) {
+            throw new NullPointerException("Cannot search for null element.");
+        }
+        return search(toFind) != -1;
+    }
+
+    @Override
+    public int search(E toFind) {
+        if (toFind == null) {
+            return -1;
+        }
+
+        // 1-based position from the front
+        Iterator<E> it = iterator();
+        for (int position = 1; it.hasNext(); position++) {
+            if (toFind.equals(it.next())) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new ConcurrentQueueIterator();
+    }
+
+    /**
+     * Compares the elements from front to back. The sizes are not compared up front
+     * because size() may lag behind a concurrent enqueue or dequeue.
+     */
+    @Override
+    public boolean equals(QueueADT<E> that) {
+        if (that == null) {
+            return false;
+        }
+
+        Iterator<E> it1 = this.iterator();
+        Iterator<E> it2 = that.iterator();
+
+        while (it1.hasNext() && it2.hasNext()) {
+            E elem1 = it1.next();
+            E elem2 = it2.next();
+            if (elem1 == null || elem2 == null || !elem1.equals(elem2)) {
+                return false;
+            }
+        }
+        return !it1.hasNext() && !it2.hasNext();
+    }
+
+    @Override
+    public Object[] toArray() {
+        MyArrayList<E> elements = new MyArrayList<>();
+        for (Iterator<E> it = iterator(); it.hasNext(); ) {
+            elements.add(it.next());
+        }
+        return elements.toArray();
+    }
+
+    @Override
+    public E[] toArray(E[] holder) throws NullPointerException {
+        if (holder == null) {
+            throw new NullPointerException("Holder array cannot be null.");
+        }
+
+        MyArrayList<E> elements = new MyArrayList<>();
+        for (Iterator<E> it = iterator(); it.hasNext(); ) {
+            elements.add(it.next());
+        }
+        return elements.toArray(holder);
+    }
+
+    @Override
+    public boolean isFull() {
+        return false; // linked nodes never fill up
+    }
+
+    @Override
+    public int size() {
+        long size = count.sum();
+        return size <= 0 ? 0 : (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the first node after the dummy, or null if the queue is empty.
+     */
+    private Node<E> firstNode() {
+        while (true) {
+            Node<E> first = head.get();
+            Node<E> next = first.next;
+            if (first == head.get()) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Returns the node after the given one, starting again from the head if the
+     * given node has been dequeued.
+     */
+    private Node<E> successor(Node<E> node) {
+        Node<E> next = node.next;
+        return next == node ? firstNode() : next;
+    }
+
+    /**
+     * Node of the queue. element is cleared when the node becomes the dummy, and
+     * next is set once by enqueue, or to the node itself once it is dequeued.
+     */
+    private static final class Node<E> {
+        volatile E element;
+        volatile Node<E> next;
+
+        Node(E element) {
+            this.element = element;
+        }
+    }
+
+    /**
+     * Iterator that reads each element ahead, so hasNext and next agree even if the
+     * element is dequeued in between
+     */
+    private class ConcurrentQueueIterator implements Iterator<E> {
+        private Node<E> nextNode;
+        private E nextElement;
+
+        ConcurrentQueueIterator() {
+            advance(firstNode());
+        }
+
+        /**
+         * Moves to the first node from the given one that still holds an element.
+         */
+        private void advance(Node<E> node) {
+            while (node != null) {
+                E element = node.element;
+                if (element != null) {
+                    nextNode = node;
+                    nextElement = element;
+                    return;
+                }
+                node = successor(node);
+            }
+            nextNode = null;
+            nextElement = null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+
+        @Override
+        public E next() throws NoSuchElementException {
+            if (nextNode == null) {
+                throw new NoSuchElementException("No more elements in queue");
+            }
+            E element = nextElement;
+            advance(successor(nextNode));
+            return element;
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package implementations;
+
+import java.util.EmptyStackException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import utilities.Iterator;
+import utilities.StackADT;
+
+/**
+ * MyConcurrentStack<E> - Lock-free Treiber stack implementation of StackADT
+ * The stack is a singly linked list whose top is swapped with compare-and-set, so
+ * any number of threads can push and pop without a lock. A node never changes once
+ * it is linked in, which makes every read of the top a consistent snapshot:
+ * iterators, toArray, search and equals walk the stack as it was when they started
+ * and never fail, however the stack changes meanwhile.
+ * Under contention a thread whose compare-and-set fails tries elimination before it
+ * retries: a pusher parks its node in a random slot of a small arena for a moment,
+ * and a popper that finds a parked node takes it. The pair cancels out without
+ * touching the top, so contended push-pop traffic spreads over the arena instead of
+ * queueing on one reference.
+ * size() is kept by a striped counter and is weakly consistent: it is exact when no
+ * push or pop is in progress.
+ * @param <E> the type of elements in this stack
+ */
+
+public class MyConcurrentStack<E> implements StackADT<E> {
+    /** largest number of elimination slots */
+    private static final int MAX_ARENA = 32;
+
+    /** how many times a parked pusher checks its slot before withdrawing */
+    private static final int SPINS = 1 << 7;
+
+    private final AtomicReference<Node<E>> top = new AtomicReference<>();
+    private final AtomicReferenceArray<Node<E>> arena;
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Default constructor. The arena has one slot for every two processors.
+     */
+    public MyConcurrentStack() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        arena = new AtomicReferenceArray<>(Math.min(MAX_ARENA, Math.max(1, processors / 2)));
+    }
+
+    @Override
+    public void push(E toAdd) throws NullPointerException {
+        if (toAdd == null) {
+            throw new NullPointerException("Cannot push null onto stack.");
+        }
+
+        Node<E> node = new Node<>(toAdd);
+        while (true) {
+            Node<E> current = top.get();
+            node.next = current;
+            if (top.compareAndSet(current, node)) {
+                count.increment();
+                return;
+            }
+            if (eliminatePush(node)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public E pop() throws EmptyStackException {
+        while (true) {
+            Node<E> current = top.get();
+            if (current == null) {
+                throw new EmptyStackException();
+            }
+            if (top.compareAndSet(current, current.next)) {
+                count.decrement();
+                return current.element;
+            }
+            Node<E> node = eliminatePop();
+            if (node != null) {
+                return node.element;
+            }
+        }
+    }
+
+    /**
+     * Parks a node in a random arena slot and waits briefly for a popper to take it.
+     * @param node the node that failed to be pushed
+     * @return true if a popper took the node, false if it must be pushed again
+     */
+    private boolean eliminatePush(Node<E> node) {
+        int slot = ThreadLocalRandom.current().nextInt(arena.length());
+        if (!arena.compareAndSet(slot, null, node)) {
+            return false;
+        }
+        for (int i = 0; i < SPINS; i++) {
+            if (arena.get(slot) != node) {
+                return true;
+            }
+        }
+
+        // Withdraw, unless a popper took the node in the meantime
+        return !arena.compareAndSet(slot, node, null);
+    }
+
+    /**
+     * Takes a node parked by a concurrent pusher from a random arena slot.
+     * @return the node taken, or null if there was none
+     */
+    private Node<E> eliminatePop() {
+        int slot = ThreadLocalRandom.current().nextInt(arena.length());
+        Node<E> node = arena.get(slot);
+        if (node != null && arena.compareAndSet(slot, node, null)) {
+            return node;
+        }
+        return null;
+    }
+
+    @Override
+    public E peek() throws EmptyStackException {
+        Node<E> current = top.get();
+        if (current == null) {
+            throw new EmptyStackException();
+        }
+        return current.element;
+    }
+
+    /**
+     * Removes every element at once. Elements pushed while clear runs may survive it.
+     */
+    @Override
+    public void clear() {
+        Node<E> removed = top.getAndSet(null);
+        int n = 0;
+        for (Node<E> node = removed; node != null; node = node.next) {
+            n++;
+        }
+        count.add(-n);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return top.get() == null;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Node<E> snapshot = top.get();
+        Object[] array = new Object[length(snapshot)];
+        int i = 0;
+        for (Node<E> node = snapshot; node != null; node = node.next) {
+            array[i++] = node.element;
+        }
+        return array;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E[] toArray(E[] holder) throws NullPointerException {
+        if (holder == null) {
+            throw new NullPointerException("Holder array cannot be null.");
+        }
+
+        Node<E> snapshot = top.get();
+        int length = length(snapshot);
+        if (holder.length < length) {
+            holder = (E[]) java.lang.reflect.Array.newInstance(
+                holder.getClass().getComponentType(), length);
+        }
+
+        int i = 0;
+        for (Node<E> node = snapshot; node != null; node = node.next) {
+            holder[i++] = node.element;
+        }
+        for (; i < holder.length; i++) {
+            holder[i] = null;
+        }
+        return holder;
+    }
+
+    /**
+     * Counts the nodes from the given one to the bottom.
+     */
+    private static int length(Node<?> node) {
+        int length = 0;
+        for (; node != null; node = node.next) {
+            length++;
+        }
+        return length;
+    }
+
+    @Override
+    public boolean contains(E toFind) throws NullPointerException {
+        if (toFind == null) {
+            throw new NullPointerException("Cannot search for null element.");
+        }
+        return search(toFind) != -1;
+    }
+
+    @Override
+    public int search(E toFind) {
+        if (toFind == null) {
+            return -1;
+        }
+
+        // 1-based position from the top
+        int position = 1;
+        for (Node<E> node = top.get(); node != null; node = node.next) {
+            if (toFind.equals(node.element)) {
+                return position;
+            }
+            position++;
+        }
+        return -1;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new ConcurrentStackIterator(top.get());
+    }
+
+    /**
+     * Compares the elements from top to bottom. The sizes are not compared up front
+     * because size() may lag behind a concurrent push or pop.
+     */
+    @Override
+    public boolean equals(StackADT<E> that) {
+        if (that == null) {
+            return false;
+        }
+
+        Iterator<E> it1 = this.iterator();
+        Iterator<E> it2 = that.iterator();
+
+        while (it1.hasNext() && it2.hasNext()) {
+            E elem1 = it1.next();
+            E elem2 = it2.next();
+            if (elem1 == null || elem2 == null || !elem1.equals(elem2)) {
+                return false;
+            }
+        }
+        return !it1.hasNext() && !it2.hasNext();
+    }
+
+    @Override
+    public int size() {
+        long size = count.sum();
+        return size <= 0 ? 0 : (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean stackOverflow() {
+        return false; // linked nodes never fill up
+    }
+
+    /**
+     * Node of the stack. next is written only before the node is published.
+     */
+    private static final class Node<E> {
+        final E element;
+        Node<E> next;
+
+        Node(E element) {
+            this.element = element;
+        }
+    }
+
+    /**
+     * Iterator walking the nodes below the top it started from
+     */
+    private class ConcurrentStackIterator implements Iterator<E> {
+        private Node<E> current;
+
+        ConcurrentStackIterator(Node<E> start) {
+            current = start;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current != null;
+        }
+
+        @Override
+        public E next() throws NoSuchElementException {
+            if (current == null) {
+                throw new NoSuchElementException("No more elements in stack");
+            }
+            E element = current.element;
+            current = current.next;
+            return element;
+        }
+    }
+}
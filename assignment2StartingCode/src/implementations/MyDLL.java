@@ -2,6 +2,7 @@ package implementations;
 
 import utilities.ListADT;
 import utilities.Iterator;
+import utilities.ListIterator;
 import java.util.NoSuchElementException;
 
 /**
@@ -50,35 +51,8 @@ public class MyDLL<E> implements ListADT<E> {
             throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
         }
         
-        // Case 1: Adding to empty list
-        if (isEmpty()) {
-            MyDLLNode<E> newNode = new MyDLLNode<>(toAdd);
-            head = newNode;
-            tail = newNode;
-        }
-        // Case 2: Adding at the beginning
-        else if (index == 0) {
-            MyDLLNode<E> newNode = new MyDLLNode<>(toAdd, null, head);
-            head.setPrevious(newNode);
-            head = newNode;
-        }
-        // Case 3: Adding at the end
-        else if (index == size) {
-            MyDLLNode<E> newNode = new MyDLLNode<>(toAdd, tail, null);
-            tail.setNext(newNode);
-            tail = newNode;
-        }
-        // Case 4: Adding in the middle
-        else {
-            MyDLLNode<E> current = getNodeAt(index);
-            MyDLLNode<E> previous = current.getPrevious();
-            MyDLLNode<E> newNode = new MyDLLNode<>(toAdd, previous, current);
-            
-            previous.setNext(newNode);
-            current.setPrevious(newNode);
-        }
-        
-        size++;
+        // Adding at the end needs no traversal; otherwise link before the node at index
+        linkBefore(toAdd, index == size ? null : getNodeAt(index));
         return true;
     }
     
@@ -96,8 +70,10 @@ public class MyDLL<E> implements ListADT<E> {
             throw new NullPointerException("Cannot add null list");
         }
         
+        // Take only the elements present now, so list.addAll(list) does not read its own appends
+        int count = toAdd.size();
         Iterator<? extends E> iterator = toAdd.iterator();
-        while (iterator.hasNext()) {
+        for (int i = 0; i < count; i++) {
             E element = iterator.next();
             add(element); 
         }
@@ -105,6 +81,94 @@ public class MyDLL<E> implements ListADT<E> {
         return true;
     }
     
+    /**
+     * Moves every node of another list to the end of this one in O(1). No nodes are
+     * copied; the other list is left empty.
+     * @param other the list to drain into this one
+     * @throws NullPointerException if the other list is null
+     * @throws IllegalArgumentException if the other list is this list
+     */
+    public void spliceAll(MyDLL<E> other) throws NullPointerException, IllegalArgumentException {
+        if (other == null) {
+            throw new NullPointerException("Cannot splice null list");
+        }
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot splice a list into itself");
+        }
+        if (other.isEmpty()) {
+            return;
+        }
+        
+        linkChain(other.head, other.tail, other.size, null);
+        other.clear();
+    }
+    
+    /**
+     * Moves the elements from fromIndex (inclusive) to toIndex (exclusive) of another list
+     * into this one, so that the first of them ends up at index. Finding the three
+     * positions walks from the nearer end of each list; the nodes themselves are
+     * relinked in O(1) however many there are.
+     * @param index the position in this list to insert at, from 0 to size()
+     * @param other the list to take the elements from
+     * @param fromIndex the first index of the range in the other list
+     * @param toIndex the index just past the range in the other list
+     * @throws NullPointerException if the other list is null
+     * @throws IllegalArgumentException if the other list is this list
+     * @throws IndexOutOfBoundsException if an index is out of range
+     */
+    public void transfer(int index, MyDLL<E> other, int fromIndex, int toIndex)
+            throws NullPointerException, IllegalArgumentException, IndexOutOfBoundsException {
+        if (other == null) {
+            throw new NullPointerException("Cannot transfer from null list");
+        }
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot transfer within the same list");
+        }
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (fromIndex < 0 || toIndex > other.size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                "From: " + fromIndex + ", To: " + toIndex + ", Size: " + other.size);
+        }
+        
+        int count = toIndex - fromIndex;
+        if (count == 0) {
+            return;
+        }
+        
+        MyDLLNode<E> first = other.getNodeAt(fromIndex);
+        MyDLLNode<E> last = count == 1 ? first : other.getNodeAt(toIndex - 1);
+        MyDLLNode<E> successor = index == size ? null : getNodeAt(index);
+        other.unlinkChain(first, last, count);
+        linkChain(first, last, count, successor);
+    }
+    
+    /**
+     * Splits the list in two in O(1) relinking: the elements from index to the end are
+     * moved, in order, into a new list that is returned.
+     * @param index the index of the first element to move, from 0 to size()
+     * @return a new list holding the elements from index onwards
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public MyDLL<E> split(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        
+        MyDLL<E> back = new MyDLL<>();
+        if (index == size) {
+            return back;
+        }
+        
+        MyDLLNode<E> first = getNodeAt(index);
+        MyDLLNode<E> last = tail;
+        int count = size - index;
+        unlinkChain(first, last, count);
+        back.linkChain(first, last, count, null);
+        return back;
+    }
+    
     @Override
     public E get(int index) throws IndexOutOfBoundsException {
         if (index < 0 || index >= size) {
@@ -121,40 +185,7 @@ public class MyDLL<E> implements ListADT<E> {
             throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
         }
         
-        E removedElement;
-        
-        // Case 1: Removing the only element
-        if (size == 1) {
-            removedElement = head.getElement();
-            head = null;
-            tail = null;
-        }
-        // Case 2: Removing from the beginning
-        else if (index == 0) {
-            removedElement = head.getElement();
-            head = head.getNext();
-            head.setPrevious(null);
-        }
-        // Case 3: Removing from the end
-        else if (index == size - 1) {
-            removedElement = tail.getElement();
-            tail = tail.getPrevious();
-            tail.setNext(null);
-        }
-        // Case 4: Removing from the middle
-        else {
-            MyDLLNode<E> toRemove = getNodeAt(index);
-            removedElement = toRemove.getElement();
-            
-            MyDLLNode<E> previous = toRemove.getPrevious();
-            MyDLLNode<E> next = toRemove.getNext();
-            
-            previous.setNext(next);
-            next.setPrevious(previous);
-        }
-        
-        size--;
-        return removedElement;
+        return unlink(getNodeAt(index));
     }
     
     @Override
@@ -163,16 +194,14 @@ public class MyDLL<E> implements ListADT<E> {
             throw new NullPointerException("Cannot remove null element");
         }
         
-        // Find the node containing the element
-        MyDLLNode<E> current = head;
-        int index = 0;
-        
-        while (current != null) {
-            if (toRemove.equals(current.getElement())) {
-                return remove(index);
+        // Find and unlink the node in a single traversal
+        ListIterator<E> it = listIterator();
+        while (it.hasNext()) {
+            E element = it.next();
+            if (toRemove.equals(element)) {
+                it.remove();
+                return element;
             }
-            current = current.getNext();
-            index++;
         }
         
         // Element not found
@@ -207,15 +236,27 @@ public class MyDLL<E> implements ListADT<E> {
             throw new NullPointerException("Cannot search for null element");
         }
         
-        MyDLLNode<E> current = head;
-        while (current != null) {
-            if (toFind.equals(current.getElement())) {
-                return true;
-            }
-            current = current.getNext();
+        return indexOf(toFind) != -1;
+    }
+    
+    /**
+     * Returns the index of the first occurrence of an element, in a single traversal.
+     * @param toFind the element to search for
+     * @return the index of the first equal element, or -1 if there is none
+     * @throws NullPointerException if the element is null
+     */
+    public int indexOf(E toFind) throws NullPointerException {
+        if (toFind == null) {
+            throw new NullPointerException("Cannot search for null element");
         }
         
-        return false;
+        ListIterator<E> it = listIterator();
+        while (it.hasNext()) {
+            if (toFind.equals(it.next())) {
+                return it.previousIndex();
+            }
+        }
+        return -1;
     }
     
     @Override
@@ -265,6 +306,28 @@ public class MyDLL<E> implements ListADT<E> {
         return new DLLIterator();
     }
     
+    /**
+     * Returns a list iterator positioned at the head. Unlike iterator(), it walks the
+     * live nodes, so remove, set and add at the cursor are O(1).
+     * @return a list iterator over this list
+     */
+    public ListIterator<E> listIterator() {
+        return new DLLListIterator(head, 0);
+    }
+    
+    /**
+     * Returns a list iterator whose first call to next() returns the element at the index.
+     * @param index the starting position, from 0 to size()
+     * @return a list iterator over this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public ListIterator<E> listIterator(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return new DLLListIterator(index == size ? null : getNodeAt(index), index);
+    }
+    
     /**
      * Helper method to get node at specific index
      * @param index the index of the node to retrieve
@@ -289,6 +352,199 @@ public class MyDLL<E> implements ListADT<E> {
         }
     }
     
+    /**
+     * Links a new node holding the element in front of the given node.
+     * @param toAdd the element to insert
+     * @param successor the node to insert before, or null to append at the tail
+     */
+    private void linkBefore(E toAdd, MyDLLNode<E> successor) {
+        MyDLLNode<E> previous = successor == null ? tail : successor.getPrevious();
+        MyDLLNode<E> newNode = new MyDLLNode<>(toAdd, previous, successor);
+        
+        if (previous == null) {
+            head = newNode;
+        } else {
+            previous.setNext(newNode);
+        }
+        if (successor == null) {
+            tail = newNode;
+        } else {
+            successor.setPrevious(newNode);
+        }
+        size++;
+    }
+    
+    /**
+     * Links a detached chain of nodes in front of the given node.
+     * @param first the first node of the chain
+     * @param last the last node of the chain
+     * @param count the number of nodes in the chain
+     * @param successor the node to insert before, or null to append at the tail
+     */
+    private void linkChain(MyDLLNode<E> first, MyDLLNode<E> last, int count, MyDLLNode<E> successor) {
+        MyDLLNode<E> previous = successor == null ? tail : successor.getPrevious();
+        first.setPrevious(previous);
+        last.setNext(successor);
+        
+        if (previous == null) {
+            head = first;
+        } else {
+            previous.setNext(first);
+        }
+        if (successor == null) {
+            tail = last;
+        } else {
+            successor.setPrevious(last);
+        }
+        size += count;
+    }
+    
+    /**
+     * Unlinks a chain of nodes from the list, leaving the chain's own links between
+     * first and last intact and its outer links cleared.
+     * @param first the first node of the chain
+     * @param last the last node of the chain
+     * @param count the number of nodes in the chain
+     */
+    private void unlinkChain(MyDLLNode<E> first, MyDLLNode<E> last, int count) {
+        MyDLLNode<E> previous = first.getPrevious();
+        MyDLLNode<E> next = last.getNext();
+        
+        if (previous == null) {
+            head = next;
+        } else {
+            previous.setNext(next);
+        }
+        if (next == null) {
+            tail = previous;
+        } else {
+            next.setPrevious(previous);
+        }
+        first.setPrevious(null);
+        last.setNext(null);
+        size -= count;
+    }
+    
+    /**
+     * Unlinks a node from the list.
+     * @param node the node to remove
+     * @return the element the node held
+     */
+    private E unlink(MyDLLNode<E> node) {
+        MyDLLNode<E> previous = node.getPrevious();
+        MyDLLNode<E> next = node.getNext();
+        
+        if (previous == null) {
+            head = next;
+        } else {
+            previous.setNext(next);
+        }
+        if (next == null) {
+            tail = previous;
+        } else {
+            next.setPrevious(previous);
+        }
+        node.setPrevious(null);
+        node.setNext(null);
+        size--;
+        return node.getElement();
+    }
+    
+    /**
+     * List iterator over the live nodes of the list
+     */
+    private class DLLListIterator implements ListIterator<E> {
+        private MyDLLNode<E> nextNode; // null when the cursor is past the tail
+        private int nextIndex;
+        private MyDLLNode<E> lastReturned;
+        
+        private DLLListIterator(MyDLLNode<E> nextNode, int nextIndex) {
+            this.nextNode = nextNode;
+            this.nextIndex = nextIndex;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+        
+        @Override
+        public E next() throws NoSuchElementException {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements in the list");
+            }
+            
+            lastReturned = nextNode;
+            nextNode = nextNode.getNext();
+            nextIndex++;
+            return lastReturned.getElement();
+        }
+        
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+        
+        @Override
+        public E previous() throws NoSuchElementException {
+            if (!hasPrevious()) {
+                throw new NoSuchElementException("No previous element in the list");
+            }
+            
+            nextNode = nextNode == null ? tail : nextNode.getPrevious();
+            lastReturned = nextNode;
+            nextIndex--;
+            return lastReturned.getElement();
+        }
+        
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+        
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+        
+        @Override
+        public void remove() throws IllegalStateException {
+            if (lastReturned == null) {
+                throw new IllegalStateException("No element to remove");
+            }
+            
+            if (lastReturned == nextNode) {
+                // returned by previous(): the cursor moves past the removed node
+                nextNode = nextNode.getNext();
+            } else {
+                nextIndex--;
+            }
+            unlink(lastReturned);
+            lastReturned = null;
+        }
+        
+        @Override
+        public void set(E toChange) throws NullPointerException, IllegalStateException {
+            if (toChange == null) {
+                throw new NullPointerException("Cannot set null element");
+            }
+            if (lastReturned == null) {
+                throw new IllegalStateException("No element to replace");
+            }
+            lastReturned.setElement(toChange);
+        }
+        
+        @Override
+        public void add(E toAdd) throws NullPointerException {
+            if (toAdd == null) {
+                throw new NullPointerException("Cannot add null element");
+            }
+            linkBefore(toAdd, nextNode);
+            nextIndex++;
+            lastReturned = null;
+        }
+    }
+    
     /**
      * Iterator implementation for MyDLL
      */
@@ -0,0 +1,712 @@
+package implementations;
+
+import exceptions.EmptyQueueException;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.zip.CRC32;
+import utilities.ElementCodec;
+import utilities.Iterator;
+import utilities.QueueADT;
+
+/**
+ * MyDiskQueue<E> - Durable queue stored in an append-only log of memory-mapped segment files.
+ * Elements are turned into bytes by an ElementCodec and appended to the tail segment as
+ * [length][checksum][payload] records; dequeue reads from the head and records the new head
+ * position in a small checkpoint file. Both only touch mapped memory, so they run at close to
+ * memory speed. The operating system writes the pages back in its own time, and the queue
+ * forces them to disk every syncEvery operations, on sync() and on close().
+ * When the tail segment is full the log carries on in a new one, and a segment the head has
+ * left is renamed and reused as a later tail segment instead of being deleted.
+ * Opening a directory recovers the queue left in it: the head comes from the checkpoint and
+ * the tail is the first record whose checksum does not match, so a write torn by a crash is
+ * dropped along with anything after it. If the process dies nothing is lost; if the machine
+ * does, operations since the last forced write may be lost or undone.
+ * The queue is not safe for concurrent use, and a directory must not be opened twice at once.
+ * @param <E> the type of elements in this queue
+ */
+
+public class MyDiskQueue<E> implements QueueADT<E>, Closeable {
+
+    /** default segment size, in bytes */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+
+    /** default number of enqueues and dequeues between forced writes */
+    public static final int DEFAULT_SYNC_EVERY = 1024;
+
+    private static final int MIN_SEGMENT_SIZE = 64;
+
+    /** record header: length word, then checksum */
+    private static final int HEADER = 8;
+
+    /** length word of the record that says the log continues in the next segment */
+    private static final int NEXT_SEGMENT = -1;
+
+    /** result of probe() when there is no valid record */
+    private static final int END = -2;
+
+    /** consumed segments kept for reuse; any more are deleted */
+    private static final int MAX_SPARES = 2;
+
+    private static final String CHECKPOINT_FILE = "head.chk";
+
+    /** checkpoint slot: version, segment, position, checksum */
+    private static final int CHECKPOINT_SLOT = 32;
+    private static final int CHECKPOINT_DATA = 20;
+
+    private final File dir;
+    private final ElementCodec<E> codec;
+    private final int segmentSize;
+    private final int syncEvery;
+    private final CRC32 crc = new CRC32();
+    private final byte[] prefix = new byte[12];
+
+    /** segment and position of the front record */
+    private long headSeq;
+    private MappedByteBuffer headBuffer;
+    private int headPos;
+
+    /** segment and position where the next record goes */
+    private long tailSeq;
+    private MappedByteBuffer tailBuffer;
+    private int tailPos;
+
+    /** two slots, written alternately so a torn write leaves the other one intact */
+    private MappedByteBuffer checkpoint;
+    private long checkpointVersion;
+
+    /** consumed segment files, ready to become the next tail */
+    private final MyStack<File> spares = new MyStack<>();
+
+    private int size;
+    private int unsynced;
+    private int modCount;
+
+    /** decoded front element and the position of the record after it, or null */
+    private E headElement;
+    private int headNext;
+
+    private boolean closed;
+
+    /**
+     * Opens the queue stored in a directory with the default segment size and sync interval.
+     * @param dir the directory holding the queue's files
+     * @param codec turns elements into bytes and back
+     * @throws IOException if the directory cannot be created or its files cannot be mapped
+     */
+    public MyDiskQueue(File dir, ElementCodec<E> codec) throws IOException {
+        this(dir, codec, DEFAULT_SEGMENT_SIZE, DEFAULT_SYNC_EVERY);
+    }
+
+    /**
+     * Opens the queue stored in a directory, creating it if needed, and recovers its contents.
+     * @param dir the directory holding the queue's files
+     * @param codec turns elements into bytes and back
+     * @param segmentSize the size of new segment files in bytes; every encoded element must fit in one
+     * @param syncEvery the number of enqueues and dequeues between forced writes, or 0 to force
+     *        only on sync() and close()
+     * @throws NullPointerException if the directory or codec is null
+     * @throws IllegalArgumentException if the segment size is under 64 bytes or syncEvery is negative
+     * @throws IOException if the directory cannot be created or its files cannot be mapped
+     */
+    public MyDiskQueue(File dir, ElementCodec<E> codec, int segmentSize, int syncEvery) throws IOException {
+        if (dir == null || codec == null) {
+            throw new NullPointerException("Directory and codec cannot be null.");
+        }
+        if (segmentSize < MIN_SEGMENT_SIZE) {
+            throw new IllegalArgumentException("Illegal segment size: " + segmentSize);
+        }
+        if (syncEvery < 0) {
+            throw new IllegalArgumentException("Illegal sync interval: " + syncEvery);
+        }
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("Cannot create directory " + dir);
+        }
+        this.dir = dir;
+        this.codec = codec;
+        this.segmentSize = segmentSize;
+        this.syncEvery = syncEvery;
+        recover();
+    }
+
+    /**
+     * Finds the head from the checkpoint and the tail by scanning forward from it.
+     */
+    private void recover() throws IOException {
+        long[] seqs = listSegments();
+        File[] files = dir.listFiles();
+        for (File file : files == null ? new File[0] : files) {
+            if (file.getName().startsWith("spare-") && file.getName().endsWith(".seg")) {
+                if (spares.size() < MAX_SPARES) {
+                    spares.push(file);
+                } else {
+                    delete(file);
+                }
+            }
+        }
+
+        checkpoint = map(new File(dir, CHECKPOINT_FILE), 2 * CHECKPOINT_SLOT);
+        if (!readCheckpoint()) {
+            headSeq = seqs.length > 0 ? seqs[0] : 0;
+            headPos = 0;
+        }
+
+        // Segments before the head are consumed; if the head's own segment is gone the
+        // checkpoint was not forced before it was recycled, so start at the next one
+        int first = 0;
+        while (first < seqs.length && seqs[first] < headSeq) {
+            recycle(seqs[first++]);
+        }
+        if (first == seqs.length) {
+            headPos = 0;
+            headBuffer = createSegment(headSeq);
+        } else {
+            if (seqs[first] != headSeq) {
+                headSeq = seqs[first];
+                headPos = 0;
+            }
+            headBuffer = mapSegment(headSeq);
+        }
+
+        long seq = headSeq;
+        MappedByteBuffer buffer = headBuffer;
+        int pos = headPos;
+        int count = 0;
+        while (true) {
+            int length = probe(buffer, seq, pos);
+            if (length >= 0) {
+                count++;
+                pos += HEADER + length;
+            } else if (length == NEXT_SEGMENT && segmentFile(seq + 1).exists()) {
+                if (buffer != headBuffer) {
+                    DirectBuffers.release(buffer);
+                }
+                seq++;
+                buffer = mapSegment(seq);
+                pos = 0;
+            } else {
+                break;
+            }
+        }
+        tailSeq = seq;
+        tailBuffer = buffer;
+        tailPos = pos;
+        size = count;
+
+        // Segments past the tail were never reached, and may hold records that would pass
+        // their checksums if the segment number came round again, so they are not reused
+        for (long s : seqs) {
+            if (s > tailSeq) {
+                delete(segmentFile(s));
+            }
+        }
+        writeCheckpoint();
+    }
+
+    /** sequence numbers of the segment files in the directory, in order */
+    private long[] listSegments() {
+        String[] names = dir.list();
+        long[] seqs = new long[names == null ? 0 : names.length];
+        int count = 0;
+        for (int i = 0; i < seqs.length; i++) {
+            String name = names[i];
+            if (name.startsWith("queue-") && name.endsWith(".seg")) {
+                try {
+                    seqs[count] = Long.parseLong(name.substring(6, name.length() - 4), 16);
+                    count++;
+                } catch (NumberFormatException e) {
+                    // not one of ours
+                }
+            }
+        }
+        seqs = Arrays.copyOf(seqs, count);
+        Arrays.sort(seqs);
+        return seqs;
+    }
+
+    private File segmentFile(long seq) {
+        return new File(dir, String.format("queue-%016x.seg", seq));
+    }
+
+    /** map an existing segment at its current length */
+    private MappedByteBuffer mapSegment(long seq) throws IOException {
+        File file = segmentFile(seq);
+        return map(file, (int) Math.min(file.length(), Integer.MAX_VALUE));
+    }
+
+    /** map a new segment, reusing a spare file if there is one */
+    private MappedByteBuffer createSegment(long seq) throws IOException {
+        File file = segmentFile(seq);
+        if (!spares.isEmpty()) {
+            File spare = spares.pop();
+            if (!spare.renameTo(file)) {
+                delete(spare);
+            }
+        }
+        return map(file, segmentSize);
+    }
+
+    /** map a file read-write, setting its length first */
+    private static MappedByteBuffer map(File file, int length) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            if (raf.length() != length) {
+                raf.setLength(length);
+            }
+            return raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, length);
+        }
+    }
+
+    /** keep a consumed segment as a spare, or delete it if there are enough spares */
+    private void recycle(long seq) throws IOException {
+        File file = segmentFile(seq);
+        if (spares.size() < MAX_SPARES) {
+            File spare = new File(dir, "spare-" + seq + ".seg");
+            if (file.renameTo(spare)) {
+                spares.push(spare);
+                return;
+            }
+        }
+        delete(file);
+    }
+
+    private static void delete(File file) throws IOException {
+        if (!file.delete() && file.exists()) {
+            throw new IOException("Cannot delete " + file);
+        }
+    }
+
+    /**
+     * Checks the record at a position in a segment.
+     * @return the payload length of a valid record, NEXT_SEGMENT if the log continues in
+     *         the next segment, or END if there is no valid record here
+     */
+    private int probe(ByteBuffer buffer, long seq, int pos) {
+        if (pos + HEADER > buffer.capacity()) {
+            return NEXT_SEGMENT;
+        }
+        int word = buffer.getInt(pos);
+        int stored = buffer.getInt(pos + 4);
+        if (word == NEXT_SEGMENT) {
+            return stored == checksum(seq, word, buffer, pos, 0) ? NEXT_SEGMENT : END;
+        }
+        int length = word - 1;
+        if (length < 0 || length > buffer.capacity() - pos - HEADER) {
+            return END;
+        }
+        return stored == checksum(seq, word, buffer, pos + HEADER, length) ? length : END;
+    }
+
+    /**
+     * Checksum of a record. It covers the segment number, so a record left over in a
+     * reused segment file never passes as one written since.
+     */
+    private int checksum(long seq, int word, ByteBuffer buffer, int from, int length) {
+        startChecksum(seq, word);
+        ByteBuffer view = buffer.duplicate();
+        view.limit(from + length);
+        view.position(from);
+        crc.update(view);
+        return (int) crc.getValue();
+    }
+
+    private int checksum(long seq, int word, byte[] payload) {
+        startChecksum(seq, word);
+        crc.update(payload, 0, payload.length);
+        return (int) crc.getValue();
+    }
+
+    private void startChecksum(long seq, int word) {
+        for (int i = 0; i < 8; i++) {
+            prefix[i] = (byte) (seq >>> (56 - 8 * i));
+        }
+        for (int i = 0; i < 4; i++) {
+            prefix[8 + i] = (byte) (word >>> (24 - 8 * i));
+        }
+        crc.reset();
+        crc.update(prefix, 0, prefix.length);
+    }
+
+    /** load the newest valid checkpoint slot; false if there is none */
+    private boolean readCheckpoint() {
+        boolean found = false;
+        for (int slot = 0; slot < 2 * CHECKPOINT_SLOT; slot += CHECKPOINT_SLOT) {
+            long version = checkpoint.getLong(slot);
+            if (version > checkpointVersion && checkpoint.getInt(slot + CHECKPOINT_DATA) == checkpointChecksum(slot)) {
+                checkpointVersion = version;
+                headSeq = checkpoint.getLong(slot + 8);
+                headPos = checkpoint.getInt(slot + 16);
+                found = true;
+            }
+        }
+        return found;
+    }
+
+    /** record the head position in the older checkpoint slot */
+    private void writeCheckpoint() {
+        checkpointVersion++;
+        int slot = (int) (checkpointVersion & 1) * CHECKPOINT_SLOT;
+        checkpoint.putLong(slot, checkpointVersion);
+        checkpoint.putLong(slot + 8, headSeq);
+        checkpoint.putInt(slot + 16, headPos);
+        checkpoint.putInt(slot + CHECKPOINT_DATA, checkpointChecksum(slot));
+    }
+
+    private int checkpointChecksum(int slot) {
+        ByteBuffer view = checkpoint.duplicate();
+        view.limit(slot + CHECKPOINT_DATA);
+        view.position(slot);
+        crc.reset();
+        crc.update(view);
+        return (int) crc.getValue();
+    }
+
+    /** true if the log continues in the next segment from this position */
+    private static boolean atSegmentEnd(ByteBuffer buffer, int pos) {
+        return pos + HEADER > buffer.capacity() || buffer.getInt(pos) == NEXT_SEGMENT;
+    }
+
+    /** move the head on to the next segment while the current one has no more records */
+    private void skipToRecord() throws IOException {
+        while (headSeq < tailSeq && atSegmentEnd(headBuffer, headPos)) {
+            long consumed = headSeq;
+            MappedByteBuffer old = headBuffer;
+            headSeq++;
+            headPos = 0;
+            headBuffer = headSeq == tailSeq ? tailBuffer : mapSegment(headSeq);
+
+            // The checkpoint must reach the disk before the segment it points into is reused
+            writeCheckpoint();
+            checkpoint.force();
+            DirectBuffers.release(old);
+            recycle(consumed);
+        }
+    }
+
+    /** end the tail segment and carry on in a new one */
+    private void nextTailSegment() throws IOException {
+        MappedByteBuffer next = createSegment(tailSeq + 1);
+        if (tailPos + HEADER <= tailBuffer.capacity()) {
+            tailBuffer.putInt(tailPos + 4, checksum(tailSeq, NEXT_SEGMENT, tailBuffer, tailPos, 0));
+            tailBuffer.putInt(tailPos, NEXT_SEGMENT);
+        }
+        tailBuffer.force();
+        if (tailBuffer != headBuffer) {
+            DirectBuffers.release(tailBuffer);
+        }
+        tailSeq++;
+        tailBuffer = next;
+        tailPos = 0;
+    }
+
+    private E decode(ByteBuffer buffer, int pos, int length) {
+        byte[] bytes = new byte[length];
+        ByteBuffer view = buffer.duplicate();
+        view.position(pos);
+        view.get(bytes);
+        return codec.decode(bytes, 0, length);
+    }
+
+    /** count an operation towards the next forced write */
+    private void operationDone() {
+        modCount++;
+        if (syncEvery > 0 && ++unsynced >= syncEvery) {
+            sync();
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Queue is closed.");
+        }
+    }
+
+    /**
+     * Appends an element to the tail segment.
+     * @throws IllegalArgumentException if the encoded element does not fit in a segment
+     * @throws UncheckedIOException if a new segment cannot be created
+     */
+    @Override
+    public void enqueue(E toAdd) throws NullPointerException {
+        if (toAdd == null) {
+            throw new NullPointerException("Cannot enqueue null element.");
+        }
+        checkOpen();
+        byte[] bytes = codec.encode(toAdd);
+        if (bytes.length > segmentSize - HEADER) {
+            throw new IllegalArgumentException("Element of " + bytes.length + " bytes does not fit in a segment.");
+        }
+
+        try {
+            if (tailPos + HEADER + bytes.length > tailBuffer.capacity()) {
+                nextTailSegment();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        int word = bytes.length + 1;
+        ByteBuffer view = tailBuffer.duplicate();
+        view.position(tailPos + HEADER);
+        view.put(bytes);
+        tailBuffer.putInt(tailPos + 4, checksum(tailSeq, word, bytes));
+        tailBuffer.putInt(tailPos, word);
+        tailPos += HEADER + bytes.length;
+        size++;
+        operationDone();
+    }
+
+    /**
+     * Removes the front element and checkpoints the new head.
+     * @throws UncheckedIOException if a consumed segment cannot be recycled
+     */
+    @Override
+    public E dequeue() throws EmptyQueueException {
+        E front = peek();
+        headPos = headNext;
+        headElement = null;
+        size--;
+        writeCheckpoint();
+        try {
+            skipToRecord();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        operationDone();
+        return front;
+    }
+
+    /**
+     * Returns the front element. It is decoded once and kept until it is dequeued.
+     */
+    @Override
+    public E peek() throws EmptyQueueException {
+        checkOpen();
+        if (size == 0) {
+            throw new EmptyQueueException("Queue is empty.");
+        }
+        if (headElement == null) {
+            try {
+                skipToRecord();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            int length = headBuffer.getInt(headPos) - 1;
+            headElement = decode(headBuffer, headPos + HEADER, length);
+            headNext = headPos + HEADER + length;
+        }
+        return headElement;
+    }
+
+    /**
+     * Forces the tail segment and the checkpoint to disk. Called automatically every
+     * syncEvery operations and on close().
+     */
+    public void sync() {
+        checkOpen();
+        tailBuffer.force();
+        checkpoint.force();
+        unsynced = 0;
+    }
+
+    /**
+     * Syncs the queue and unmaps its files. The queue cannot be used afterwards;
+     * calling close() again has no effect.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        sync();
+        closed = true;
+        if (headBuffer != tailBuffer) {
+            DirectBuffers.release(headBuffer);
+        }
+        DirectBuffers.release(tailBuffer);
+        DirectBuffers.release(checkpoint);
+        headBuffer = null;
+        tailBuffer = null;
+        checkpoint = null;
+        headElement = null;
+    }
+
+    @Override
+    public void dequeueAll() {
+        checkOpen();
+        long first = headSeq;
+        MappedByteBuffer old = headBuffer;
+        headSeq = tailSeq;
+        headBuffer = tailBuffer;
+        headPos = tailPos;
+        headElement = null;
+        size = 0;
+        writeCheckpoint();
+        try {
+            if (first < tailSeq) {
+                checkpoint.force();
+                DirectBuffers.release(old);
+                for (long seq = first; seq < tailSeq; seq++) {
+                    recycle(seq);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        operationDone();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(E toFind) throws NullPointerException {
+        if (toFind == null) {
+            throw new NullPointerException("Cannot search for null element.");
+        }
+        return search(toFind) != -1;
+    }
+
+    @Override
+    public int search(E toFind) {
+        if (toFind == null) {
+            return -1;
+        }
+
+        // Search from front to back in one pass over the log (1-based position)
+        Iterator<E> it = iterator();
+        for (int position = 1; it.hasNext(); position++) {
+            if (toFind.equals(it.next())) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an iterator that decodes the elements from the log, front to back. It throws
+     * ConcurrentModificationException if the queue is changed while it is in use.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        checkOpen();
+        return new DiskQueueIterator();
+    }
+
+    @Override
+    public boolean equals(QueueADT<E> that) {
+        if (that == null || this.size() != that.size()) {
+            return false;
+        }
+
+        Iterator<E> it1 = this.iterator();
+        Iterator<E> it2 = that.iterator();
+
+        while (it1.hasNext() && it2.hasNext()) {
+            E elem1 = it1.next();
+            E elem2 = it2.next();
+            if (elem1 == null || elem2 == null || !elem1.equals(elem2)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        copyTo(array);
+        return array;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E[] toArray(E[] holder) throws NullPointerException {
+        if (holder == null) {
+            throw new NullPointerException("Holder array cannot be null.");
+        }
+        if (holder.length < size) {
+            holder = (E[]) java.lang.reflect.Array.newInstance(
+                holder.getClass().getComponentType(), size);
+        }
+        copyTo(holder);
+        if (holder.length > size) {
+            holder[size] = null;
+        }
+        return holder;
+    }
+
+    /** decode the queue in order into the front of dest */
+    private void copyTo(Object[] dest) {
+        Iterator<E> it = iterator();
+        for (int i = 0; it.hasNext(); i++) {
+            dest[i] = it.next();
+        }
+    }
+
+    @Override
+    public boolean isFull() {
+        return false; // the log grows by segments on demand
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Iterator that reads records in place. Segments between the head and the tail are
+     * mapped while it passes through them.
+     */
+    private class DiskQueueIterator implements Iterator<E> {
+        private final int expectedModCount = modCount;
+        private long seq = headSeq;
+        private MappedByteBuffer buffer = headBuffer;
+        private int pos = headPos;
+        private int remaining = size;
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public E next() throws NoSuchElementException {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements in queue");
+            }
+            if (closed || modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            while (atSegmentEnd(buffer, pos)) {
+                if (buffer != headBuffer && buffer != tailBuffer) {
+                    DirectBuffers.release(buffer);
+                }
+                seq++;
+                pos = 0;
+                try {
+                    buffer = seq == tailSeq ? tailBuffer : mapSegment(seq);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            int length = buffer.getInt(pos) - 1;
+            E element = decode(buffer, pos + HEADER, length);
+            pos += HEADER + length;
+            remaining--;
+            if (remaining == 0 && buffer != headBuffer && buffer != tailBuffer) {
+                DirectBuffers.release(buffer);
+            }
+            return element;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package implementations;
+
+import java.util.NoSuchElementException;
+import utilities.Iterator;
+import utilities.ListADT;
+
+/*
+ * MyGapList<E> Implementation
+ * This class provides a gap-buffer list: one array holding the elements
+ * with a run of empty slots (the gap) at the last edit position.
+ * An add or remove at the gap costs O(1); the gap is only moved, with
+ * System.arraycopy, when an edit happens somewhere else, so edits that
+ * cluster around a moving cursor are amortized O(1).
+ * get, set and iteration skip over the gap and behave as in MyArrayList.
+ * @param <E> The type of elements stored in this list
+ */
+
+public class MyGapList<E> implements ListADT<E> {
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /** backing array; slots gapStart..gapEnd-1 are empty */
+    private E[] elements;
+
+    /** first empty slot, which is also the list index of the gap */
+    private int gapStart;
+
+    /** first slot after the gap */
+    private int gapEnd;
+
+    @SuppressWarnings("unchecked")
+    public MyGapList() {
+        elements = (E[]) new Object[DEFAULT_CAPACITY];
+        gapStart = 0;
+        gapEnd = DEFAULT_CAPACITY;
+    }
+
+    /** array slot of a list index */
+    private int slot(int index) {
+        return index < gapStart ? index : index + gapEnd - gapStart;
+    }
+
+    /** move the gap so it starts at index */
+    private void moveGap(int index) {
+        if (index < gapStart) {
+            // shift the elements between index and the gap to the far side of the gap
+            int count = gapStart - index;
+            System.arraycopy(elements, index, elements, gapEnd - count, count);
+            java.util.Arrays.fill(elements, index, Math.min(gapStart, gapEnd - count), null);
+            gapStart = index;
+            gapEnd -= count;
+        } else if (index > gapStart) {
+            // shift the elements after the gap, up to index, to the near side
+            int count = index - gapStart;
+            System.arraycopy(elements, gapEnd, elements, gapStart, count);
+            java.util.Arrays.fill(elements, Math.max(gapEnd, index), gapEnd + count, null);
+            gapStart = index;
+            gapEnd += count;
+        }
+    }
+
+    /** make sure the gap has room for at least one element */
+    @SuppressWarnings("unchecked")
+    private void ensureGap() {
+        if (gapStart < gapEnd) return;
+
+        int newCapacity = Math.max(elements.length * 2, DEFAULT_CAPACITY);
+        E[] newArr = (E[]) new Object[newCapacity];
+        int tail = elements.length - gapEnd;
+        System.arraycopy(elements, 0, newArr, 0, gapStart);
+        System.arraycopy(elements, gapEnd, newArr, newCapacity - tail, tail);
+        elements = newArr;
+        gapEnd = newCapacity - tail;
+    }
+
+    /** index check for get/set/remove */
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size())
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size());
+    }
+
+    /** index check for add at position */
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size())
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size());
+    }
+
+    @Override
+    public int size() {
+        return elements.length - (gapEnd - gapStart);
+    }
+
+    @Override
+    public void clear() {
+        java.util.Arrays.fill(elements, null);
+        gapStart = 0;
+        gapEnd = elements.length;
+    }
+
+    @Override
+    public boolean add(int index, E toAdd) {
+        if (toAdd == null) throw new NullPointerException("cannot add null");
+        checkPositionIndex(index);
+
+        moveGap(index);
+        ensureGap();
+        elements[gapStart++] = toAdd;
+        return true;
+    }
+
+    @Override
+    public boolean add(E toAdd) {
+        if (toAdd == null) throw new NullPointerException("cannot add null");
+        return add(size(), toAdd);
+    }
+
+    @Override
+    public boolean addAll(ListADT<? extends E> toAdd) {
+        if (toAdd == null) throw new NullPointerException("list cannot be null");
+
+        // snapshot first so that adding a list to itself terminates
+        Object[] source = toAdd.toArray();
+        moveGap(size());
+        for (Object element : source) {
+            @SuppressWarnings("unchecked")
+            E e = (E) element;
+            ensureGap();
+            elements[gapStart++] = e;
+        }
+        return source.length > 0;
+    }
+
+    @Override
+    public E get(int index) {
+        checkElementIndex(index);
+        return elements[slot(index)];
+    }
+
+    @Override
+    public E remove(int index) {
+        checkElementIndex(index);
+
+        // with the gap at index the element is the first one after it
+        moveGap(index);
+        E removed = elements[gapEnd];
+        elements[gapEnd++] = null;
+        return removed;
+    }
+
+    @Override
+    public E remove(E toRemove) {
+        if (toRemove == null) throw new NullPointerException("cannot remove null");
+
+        int index = indexOf(toRemove);
+        return index == -1 ? null : remove(index); // null if not found
+    }
+
+    @Override
+    public E set(int index, E toChange) {
+        if (toChange == null) throw new NullPointerException("cannot set null");
+        checkElementIndex(index);
+
+        int slot = slot(index);
+        E old = elements[slot];
+        elements[slot] = toChange;
+        return old;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean contains(E toFind) {
+        if (toFind == null) throw new NullPointerException("cannot search for null");
+        return indexOf(toFind) != -1;
+    }
+
+    /**
+     * Index of the first occurrence of an element.
+     * @return the index, or -1 if the element is not in the list
+     * @throws NullPointerException if the element is null
+     */
+    public int indexOf(E toFind) {
+        if (toFind == null) throw new NullPointerException("cannot search for null");
+
+        for (int i = 0; i < gapStart; i++) {
+            if (toFind.equals(elements[i])) return i;
+        }
+        for (int i = gapEnd; i < elements.length; i++) {
+            if (toFind.equals(elements[i])) return i - (gapEnd - gapStart);
+        }
+        return -1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E[] toArray(E[] toHold) {
+        if (toHold == null) throw new NullPointerException("array cannot be null");
+
+        int size = size();
+        if (toHold.length < size) {
+            Class<?> type = toHold.getClass().getComponentType();
+            toHold = (E[]) java.lang.reflect.Array.newInstance(type, size);
+        }
+        copyInto(toHold);
+        if (toHold.length > size) toHold[size] = null;
+        return toHold;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] arr = new Object[size()];
+        copyInto(arr);
+        return arr;
+    }
+
+    /** copy both sides of the gap into the front of dest */
+    private void copyInto(Object[] dest) {
+        System.arraycopy(elements, 0, dest, 0, gapStart);
+        System.arraycopy(elements, gapEnd, dest, gapStart, elements.length - gapEnd);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new GapListIterator();
+    }
+
+    /** iterator over a fixed snapshot of the list */
+    private class GapListIterator implements Iterator<E> {
+
+        private Object[] snapshot;
+        private int idx = 0;
+
+        private GapListIterator() {
+            snapshot = toArray();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return idx < snapshot.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return (E) snapshot[idx++];
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package implementations;
+
+import java.util.EmptyStackException;
+import java.util.NoSuchElementException;
+import utilities.Iterator;
+
+/**
+ * MyPersistentStack<E> - Immutable stack built on a singly linked cons list.
+ * push and pop never modify a stack; they return a new version that shares every
+ * node below the top with the version it came from. Keeping an old version is
+ * therefore an O(1) snapshot, which is what parser checkpoints and speculative
+ * recovery need. Use MySnapshotStack where a mutable StackADT is expected.
+ * @param <E> the type of elements in this stack
+ */
+
+public final class MyPersistentStack<E> {
+
+    private static final MyPersistentStack<?> EMPTY = new MyPersistentStack<>(null, null, 0);
+
+    private final E top;
+    private final MyPersistentStack<E> rest;
+    private final int size;
+
+    private MyPersistentStack(E top, MyPersistentStack<E> rest, int size) {
+        this.top = top;
+        this.rest = rest;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty stack.
+     * @param <E> the type of elements in the stack
+     * @return the shared empty stack
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> MyPersistentStack<E> empty() {
+        return (MyPersistentStack<E>) EMPTY;
+    }
+
+    /**
+     * Returns a stack with the given element on top of this one, in O(1).
+     * @param toAdd the element to push
+     * @return the new version of the stack
+     * @throws NullPointerException if the element is null
+     */
+    public MyPersistentStack<E> push(E toAdd) throws NullPointerException {
+        if (toAdd == null) {
+            throw new NullPointerException("Cannot push null onto stack.");
+        }
+        return new MyPersistentStack<>(toAdd, this, size + 1);
+    }
+
+    /**
+     * Returns this stack without its top element, in O(1).
+     * @return the stack below the top element
+     * @throws EmptyStackException if this stack is empty
+     */
+    public MyPersistentStack<E> pop() throws EmptyStackException {
+        if (isEmpty()) {
+            throw new EmptyStackException();
+        }
+        return rest;
+    }
+
+    /**
+     * Returns the top element.
+     * @return the element on top of this stack
+     * @throws EmptyStackException if this stack is empty
+     */
+    public E peek() throws EmptyStackException {
+        if (isEmpty()) {
+            throw new EmptyStackException();
+        }
+        return top;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the elements from top to bottom.
+     * @return an array holding the elements of this stack
+     */
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        MyPersistentStack<E> current = this;
+        for (int i = 0; i < size; i++) {
+            array[i] = current.top;
+            current = current.rest;
+        }
+        return array;
+    }
+
+    /**
+     * Returns the elements from top to bottom in an array of the holder's runtime type.
+     * @param holder the array to fill, if it is big enough
+     * @return an array holding the elements of this stack
+     * @throws NullPointerException if the holder is null
+     */
+    @SuppressWarnings("unchecked")
+    public E[] toArray(E[] holder) throws NullPointerException {
+        if (holder == null) {
+            throw new NullPointerException("Holder array cannot be null.");
+        }
+        if (holder.length < size) {
+            holder = (E[]) java.lang.reflect.Array.newInstance(
+                holder.getClass().getComponentType(), size);
+        }
+
+        MyPersistentStack<E> current = this;
+        for (int i = 0; i < size; i++) {
+            holder[i] = current.top;
+            current = current.rest;
+        }
+        for (int i = size; i < holder.length; i++) {
+            holder[i] = null;
+        }
+        return holder;
+    }
+
+    /**
+     * Returns an iterator from top to bottom. The stack cannot change, so no copy is made.
+     * @return an iterator over the elements of this stack
+     */
+    public Iterator<E> iterator() {
+        return new PersistentStackIterator();
+    }
+
+    /**
+     * Iterator walking the cons cells from top to bottom
+     */
+    private class PersistentStackIterator implements Iterator<E> {
+        private MyPersistentStack<E> current = MyPersistentStack.this;
+
+        @Override
+        public boolean hasNext() {
+            return !current.isEmpty();
+        }
+
+        @Override
+        public E next() throws NoSuchElementException {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements in stack");
+            }
+            E element = current.top;
+            current = current.rest;
+            return element;
+        }
+    }
+}
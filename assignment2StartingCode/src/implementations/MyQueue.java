@@ -2,12 +2,14 @@ package implementations;
 
 import exceptions.EmptyQueueException;
 import utilities.Iterator;
+import utilities.ListADT;
 import utilities.QueueADT;
 
 /**
  * MyQueue<E> – Queue implementation backed by a MyDLL doubly linked list.
  * This class provides a FIFO (First-In, First-Out) queue structure using
- * a MyDLL as the underlying storage.
+ * a MyDLL as the underlying storage by default; any ListADT with O(1) removal
+ * at the front, such as MyArrayDLL, can be supplied instead.
  * Elements are enqueued at the end of the list and dequeued from the front.
  * The implementation has queue operations such as enqueue,
  * dequeue, peek, contains, search, iteration, clearing the queue, and conversion to arrays.
@@ -15,12 +17,25 @@ import utilities.QueueADT;
 
 public class MyQueue<E> implements QueueADT<E> {
 
-    private MyDLL<E> list;
+    private ListADT<E> list;
 
     public MyQueue() {
         list = new MyDLL<>();
     }
 
+    /**
+     * Constructs a queue stored in the given list. Elements already in the list
+     * become the queue's contents, front first.
+     * @param list the list to store the queue in
+     * @throws NullPointerException if the list is null
+     */
+    public MyQueue(ListADT<E> list) throws NullPointerException {
+        if (list == null) {
+            throw new NullPointerException("Backing list cannot be null.");
+        }
+        this.list = list;
+    }
+
     @Override
     public void enqueue(E toAdd) throws NullPointerException {
         if (toAdd == null) {
@@ -45,6 +60,29 @@ public class MyQueue<E> implements QueueADT<E> {
         return list.get(0);
     }
 
+    /**
+     * Moves every element of another queue to the back of this one, keeping their
+     * order. This is O(1) when both queues are stored in a MyDLL. The other queue is
+     * left empty.
+     * @param other the queue to drain into this one
+     * @throws NullPointerException if the other queue is null
+     * @throws IllegalArgumentException if the other queue is this queue
+     */
+    public void spliceAll(MyQueue<E> other) throws NullPointerException, IllegalArgumentException {
+        if (other == null) {
+            throw new NullPointerException("Cannot splice null queue.");
+        }
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot splice a queue into itself.");
+        }
+        if (list instanceof MyDLL && other.list instanceof MyDLL) {
+            ((MyDLL<E>) list).spliceAll((MyDLL<E>) other.list);
+        } else {
+            list.addAll(other.list);
+            other.list.clear();
+        }
+    }
+
     @Override
     public void dequeueAll() {
         list.clear();
@@ -69,10 +107,11 @@ public class MyQueue<E> implements QueueADT<E> {
             return -1;
         }
         
-        // Search from front to back (1-based position)
-        for (int i = 0; i < list.size(); i++) {
-            if (toFind.equals(list.get(i))) {
-                return i + 1;
+        // Search from front to back in one traversal (1-based position)
+        Iterator<E> it = list.iterator();
+        for (int position = 1; it.hasNext(); position++) {
+            if (toFind.equals(it.next())) {
+                return position;
             }
         }
         return -1;
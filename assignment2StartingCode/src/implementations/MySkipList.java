@@ -0,0 +1,457 @@
+package implementations;
+
+import utilities.ListADT;
+import utilities.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * MySkipList - Indexable skip list implementation of ListADT with lock-free reads
+ * Elements are ordered by position. Every link of every level records its span, the
+ * number of elements it skips, so get, add and remove by index descend from the top
+ * level on spans in expected O(log n).
+ * Writers are serialized by a lock; readers never take it. Links, spans, elements and
+ * the size are all volatile, and a new node is fully built before it is linked in, so
+ * appending never disturbs a reader. Inserting or removing anywhere else bumps a
+ * version counter around the edit, and positional reads retry if it changed while
+ * they ran. Iterators walk the bottom level and are weakly consistent: they never
+ * fail, see every element that was present when they started and not removed since,
+ * and see elements appended while they run.
+ * @param <E> the type of elements in this list
+ */
+
+public class MySkipList<E> implements ListADT<E> {
+    private static final int MAX_LEVEL = 16;
+
+    private final Node<E> head = new Node<>(null, MAX_LEVEL);
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Random random = new Random();
+
+    /** number of levels in use */
+    private volatile int level = 1;
+
+    private volatile int size = 0;
+
+    /** odd while a writer is inserting or removing anywhere but the end */
+    private volatile long version = 0;
+
+    /**
+     * Default constructor
+     */
+    public MySkipList() {
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        writeLock.lock();
+        try {
+            version++;
+            for (int l = 0; l < level; l++) {
+                head.next.set(l, null);
+            }
+            level = 1;
+            size = 0;
+            version++;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean add(int index, E toAdd) throws NullPointerException, IndexOutOfBoundsException {
+        if (toAdd == null) {
+            throw new NullPointerException("Cannot add null element to the list");
+        }
+
+        writeLock.lock();
+        try {
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            insertAt(index, toAdd);
+        } finally {
+            writeLock.unlock();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean add(E toAdd) throws NullPointerException {
+        if (toAdd == null) {
+            throw new NullPointerException("Cannot add null element");
+        }
+
+        writeLock.lock();
+        try {
+            insertAt(size, toAdd);
+        } finally {
+            writeLock.unlock();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean addAll(ListADT<? extends E> toAdd) throws NullPointerException {
+        if (toAdd == null) {
+            throw new NullPointerException("Cannot add null list");
+        }
+
+        // Snapshot the source first so that adding a list to itself terminates
+        Object[] source = toAdd.toArray();
+        writeLock.lock();
+        try {
+            for (Object element : source) {
+                @SuppressWarnings("unchecked")
+                E e = (E) element;
+                insertAt(size, e);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        return true;
+    }
+
+    @Override
+    public E get(int index) throws IndexOutOfBoundsException {
+        while (true) {
+            long stamp = version;
+            if ((stamp & 1) != 0) {
+                Thread.yield();
+                continue;
+            }
+
+            int currentSize = size;
+            Node<E> node = index < 0 || index >= currentSize ? null : findNode(index);
+            E element = node == null ? null : node.element;
+            if (version != stamp) {
+                continue;
+            }
+            if (node == null) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + currentSize);
+            }
+            return element;
+        }
+    }
+
+    @Override
+    public E remove(int index) throws IndexOutOfBoundsException {
+        writeLock.lock();
+        try {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return removeAt(index);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public E remove(E toRemove) throws NullPointerException {
+        if (toRemove == null) {
+            throw new NullPointerException("Cannot remove null element");
+        }
+
+        writeLock.lock();
+        try {
+            int index = 0;
+            for (Node<E> node = head.next.get(0); node != null; node = node.next.get(0)) {
+                if (toRemove.equals(node.element)) {
+                    return removeAt(index);
+                }
+                index++;
+            }
+            return null;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public E set(int index, E toChange) throws NullPointerException, IndexOutOfBoundsException {
+        if (toChange == null) {
+            throw new NullPointerException("Cannot set null element");
+        }
+
+        writeLock.lock();
+        try {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            Node<E> node = findNode(index);
+            E oldElement = node.element;
+            node.element = toChange;
+            return oldElement;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(E toFind) throws NullPointerException {
+        if (toFind == null) {
+            throw new NullPointerException("Cannot search for null element");
+        }
+        return indexOf(toFind) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of an element, in a single traversal.
+     * @param toFind the element to search for
+     * @return the index of the first equal element, or -1 if there is none
+     * @throws NullPointerException if the element is null
+     */
+    public int indexOf(E toFind) throws NullPointerException {
+        if (toFind == null) {
+            throw new NullPointerException("Cannot search for null element");
+        }
+
+        while (true) {
+            long stamp = version;
+            if ((stamp & 1) != 0) {
+                Thread.yield();
+                continue;
+            }
+
+            int found = -1;
+            int index = 0;
+            for (Node<E> node = head.next.get(0); node != null; node = node.next.get(0)) {
+                if (toFind.equals(node.element)) {
+                    found = index;
+                    break;
+                }
+                index++;
+            }
+            if (version == stamp) {
+                return found;
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E[] toArray(E[] toHold) throws NullPointerException {
+        if (toHold == null) {
+            throw new NullPointerException("Array cannot be null");
+        }
+
+        Object[] snapshot = toArray();
+        if (toHold.length < snapshot.length) {
+            toHold = (E[]) java.lang.reflect.Array.newInstance(
+                toHold.getClass().getComponentType(), snapshot.length);
+        }
+        System.arraycopy(snapshot, 0, toHold, 0, snapshot.length);
+
+        for (int j = snapshot.length; j < toHold.length; j++) {
+            toHold[j] = null;
+        }
+        return toHold;
+    }
+
+    /**
+     * Returns the elements in order. Appends made while copying are left out, and an
+     * edit anywhere else makes the copy start again, so the result is always a state
+     * the list actually had.
+     */
+    @Override
+    public Object[] toArray() {
+        while (true) {
+            long stamp = version;
+            if ((stamp & 1) != 0) {
+                Thread.yield();
+                continue;
+            }
+
+            Object[] array = new Object[size];
+            int i = 0;
+            for (Node<E> node = head.next.get(0); node != null && i < array.length; node = node.next.get(0)) {
+                array[i++] = node.element;
+            }
+            if (version == stamp && i == array.length) {
+                return array;
+            }
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new SkipListIterator();
+    }
+
+    /**
+     * Helper method to get the node at an index by descending on link spans
+     * @param index the index of the node
+     * @return the node at that index, or null if a concurrent edit got in the way
+     */
+    private Node<E> findNode(int index) {
+        Node<E> node = head;
+        int position = -1;
+        for (int l = level - 1; l >= 0; l--) {
+            Node<E> next = node.next.get(l);
+            while (next != null && position + node.span.get(l) <= index) {
+                position += node.span.get(l);
+                node = next;
+                next = node.next.get(l);
+            }
+        }
+        return position == index ? node : null;
+    }
+
+    /**
+     * Links a new element in at an index. The caller holds the write lock.
+     * @param index the position of the new element, from 0 to size
+     * @param toAdd the element to insert
+     */
+    @SuppressWarnings("unchecked")
+    private void insertAt(int index, E toAdd) {
+        boolean append = index == size;
+        Node<E>[] update = (Node<E>[]) new Node<?>[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        findPredecessors(index, update, rank);
+
+        int height = randomLevel();
+        for (int l = level; l < height; l++) {
+            update[l] = head;
+            rank[l] = -1;
+        }
+
+        // Build the node completely before any reader can reach it
+        Node<E> node = new Node<>(toAdd, height);
+        for (int l = 0; l < height; l++) {
+            Node<E> successor = update[l].next.get(l);
+            if (successor != null) {
+                node.span.set(l, rank[l] + update[l].span.get(l) + 1 - index);
+            }
+            node.next.set(l, successor);
+        }
+
+        if (!append) {
+            version++;
+        }
+        for (int l = 0; l < height; l++) {
+            update[l].span.set(l, index - rank[l]);
+            update[l].next.set(l, node);
+        }
+        for (int l = height; l < level; l++) {
+            if (update[l].next.get(l) != null) {
+                update[l].span.incrementAndGet(l);
+            }
+        }
+        if (height > level) {
+            level = height;
+        }
+        size++;
+        if (!append) {
+            version++;
+        }
+    }
+
+    /**
+     * Unlinks the element at an index. The removed node keeps its forward links so
+     * that iterators standing on it can carry on. The caller holds the write lock.
+     * @param index the position of the element, from 0 to size - 1
+     * @return the removed element
+     */
+    @SuppressWarnings("unchecked")
+    private E removeAt(int index) {
+        Node<E>[] update = (Node<E>[]) new Node<?>[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        findPredecessors(index, update, rank);
+        Node<E> target = update[0].next.get(0);
+
+        version++;
+        for (int l = 0; l < level; l++) {
+            Node<E> next = update[l].next.get(l);
+            if (next == target) {
+                update[l].span.set(l, update[l].span.get(l) + target.span.get(l) - 1);
+                update[l].next.set(l, target.next.get(l));
+            } else if (next != null) {
+                update[l].span.decrementAndGet(l);
+            }
+        }
+        while (level > 1 && head.next.get(level - 1) == null) {
+            level--;
+        }
+        size--;
+        version++;
+        return target.element;
+    }
+
+    /**
+     * Finds, on every level in use, the last node before an index and its position.
+     */
+    private void findPredecessors(int index, Node<E>[] update, int[] rank) {
+        Node<E> node = head;
+        int position = -1;
+        for (int l = level - 1; l >= 0; l--) {
+            Node<E> next = node.next.get(l);
+            while (next != null && position + node.span.get(l) < index) {
+                position += node.span.get(l);
+                node = next;
+                next = node.next.get(l);
+            }
+            update[l] = node;
+            rank[l] = position;
+        }
+    }
+
+    /** height of a new node: each extra level with probability 1/4 */
+    private int randomLevel() {
+        int height = 1;
+        while (height < MAX_LEVEL && (random.nextInt() & 3) == 0) {
+            height++;
+        }
+        return height;
+    }
+
+    /**
+     * Skip list node: an element and, per level, a forward link and its span
+     */
+    private static final class Node<E> {
+        private volatile E element;
+        private final AtomicReferenceArray<Node<E>> next;
+        private final AtomicIntegerArray span;
+
+        private Node(E element, int height) {
+            this.element = element;
+            this.next = new AtomicReferenceArray<>(height);
+            this.span = new AtomicIntegerArray(height);
+        }
+    }
+
+    /**
+     * Weakly consistent iterator over the bottom level
+     */
+    private class SkipListIterator implements Iterator<E> {
+        private Node<E> nextNode = head.next.get(0);
+
+        @Override
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+
+        @Override
+        public E next() throws NoSuchElementException {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements in the list");
+            }
+
+            E element = nextNode.element;
+            nextNode = nextNode.next.get(0);
+            return element;
+        }
+    }
+}
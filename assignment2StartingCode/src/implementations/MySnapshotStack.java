@@ -0,0 +1,148 @@
+package implementations;
+
+import java.util.EmptyStackException;
+import utilities.Iterator;
+import utilities.StackADT;
+
+/**
+ * MySnapshotStack<E> - StackADT adapter over a MyPersistentStack.
+ * The adapter holds the current version of an immutable stack, so push and pop
+ * are O(1) like MyStack, and snapshot() hands out the current version in O(1)
+ * without copying. A snapshot never changes, and restore() makes any snapshot
+ * the current version again.
+ * @param <E> the type of elements in this stack
+ */
+
+public class MySnapshotStack<E> implements StackADT<E> {
+
+    private MyPersistentStack<E> current;
+
+    public MySnapshotStack() {
+        current = MyPersistentStack.empty();
+    }
+
+    /**
+     * Constructs a stack whose current version is the given snapshot.
+     * @param snapshot the version to start from
+     * @throws NullPointerException if the snapshot is null
+     */
+    public MySnapshotStack(MyPersistentStack<E> snapshot) throws NullPointerException {
+        restore(snapshot);
+    }
+
+    /**
+     * Returns the current version of the stack in O(1). Later pushes and pops
+     * do not affect it.
+     * @return the current version
+     */
+    public MyPersistentStack<E> snapshot() {
+        return current;
+    }
+
+    /**
+     * Makes a snapshot the current version of the stack in O(1).
+     * @param snapshot the version to restore
+     * @throws NullPointerException if the snapshot is null
+     */
+    public void restore(MyPersistentStack<E> snapshot) throws NullPointerException {
+        if (snapshot == null) {
+            throw new NullPointerException("Snapshot cannot be null.");
+        }
+        current = snapshot;
+    }
+
+    @Override
+    public void push(E toAdd) throws NullPointerException {
+        current = current.push(toAdd);
+    }
+
+    @Override
+    public E pop() throws EmptyStackException {
+        E top = current.peek();
+        current = current.pop();
+        return top;
+    }
+
+    @Override
+    public E peek() throws EmptyStackException {
+        return current.peek();
+    }
+
+    @Override
+    public void clear() {
+        current = MyPersistentStack.empty();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return current.isEmpty();
+    }
+
+    @Override
+    public Object[] toArray() {
+        return current.toArray();
+    }
+
+    @Override
+    public E[] toArray(E[] holder) throws NullPointerException {
+        return current.toArray(holder);
+    }
+
+    @Override
+    public boolean contains(E toFind) throws NullPointerException {
+        if (toFind == null) {
+            throw new NullPointerException("Cannot search for null element.");
+        }
+        return search(toFind) != -1;
+    }
+
+    @Override
+    public int search(E toFind) {
+        if (toFind == null) {
+            return -1;
+        }
+
+        // 1-based position from the top
+        Iterator<E> it = current.iterator();
+        for (int position = 1; it.hasNext(); position++) {
+            if (toFind.equals(it.next())) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return current.iterator();
+    }
+
+    @Override
+    public boolean equals(StackADT<E> that) {
+        if (that == null || this.size() != that.size()) {
+            return false;
+        }
+
+        Iterator<E> it1 = this.iterator();
+        Iterator<E> it2 = that.iterator();
+
+        while (it1.hasNext() && it2.hasNext()) {
+            E elem1 = it1.next();
+            E elem2 = it2.next();
+            if (elem1 == null || elem2 == null || !elem1.equals(elem2)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return current.size();
+    }
+
+    @Override
+    public boolean stackOverflow() {
+        return false; // linked versions never fill up
+    }
+}
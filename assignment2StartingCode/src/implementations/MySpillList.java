@@ -0,0 +1,669 @@
+package implementations;
+
+import utilities.ElementCodec;
+import utilities.ListADT;
+import utilities.Iterator;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * MySpillList - ListADT implementation that keeps a bounded amount of memory and spills
+ * the rest to a temporary file
+ * Elements are encoded by an ElementCodec into blocks of length-prefixed records. The
+ * blocks at the end of the list stay in memory; once their total size passes the memory
+ * budget, the oldest of them are written to the spill file and dropped from the heap,
+ * so the list holds its newest elements in memory whatever its size. Appending is O(1)
+ * and iteration streams the blocks in order, reading one spilled block at a time.
+ * get, set, add and remove by index work anywhere but have to find the block first and
+ * read it from the file if it was spilled, so the list suits mostly sequential use.
+ * Elements are decoded on every read, so get returns an equal element, not the one added.
+ * close() deletes the spill file; the file is also created lazily and deleted by clear().
+ * It is not registered with File.deleteOnExit, so a list that spilled must be closed.
+ * @param <E> the type of elements in this list
+ */
+
+public class MySpillList<E> implements ListADT<E>, Closeable {
+    /** default memory budget, in bytes of encoded elements */
+    public static final long DEFAULT_MEMORY_BUDGET = 8L << 20;
+
+    private static final int MIN_BLOCK_BYTES = 16;
+    private static final int MAX_BLOCK_BYTES = 8192;
+
+    /** garbage in the spill file below which it is not worth compacting */
+    private static final long MIN_COMPACT_BYTES = 1L << 16;
+
+    private final ElementCodec<E> codec;
+    private final long memoryBudget;
+    private final int blockBytes;
+    private final File tempDir;
+
+    /** all blocks in order; those before firstResident are spilled, the rest are in memory */
+    private final MyArrayList<Block> blocks = new MyArrayList<>();
+    private int firstResident;
+    private long residentBytes;
+    private int size;
+
+    private File file;
+    private RandomAccessFile spill;
+    private long fileEnd;
+
+    /** bytes of the spill file no longer used by any block */
+    private long garbage;
+
+    /** the last spilled block read or written, and its bytes */
+    private Block cachedBlock;
+    private byte[] cachedData;
+
+    /** block index and starting element index of the last findBlock result */
+    private int hintBlock;
+    private int hintStart;
+
+    /** offset inside the block returned by the last call to findBlock */
+    private int foundOffset;
+
+    /**
+     * Constructs a list with the default memory budget and spill files in the default
+     * temporary directory.
+     * @param codec turns elements into bytes and back
+     */
+    public MySpillList(ElementCodec<E> codec) {
+        this(codec, DEFAULT_MEMORY_BUDGET, null);
+    }
+
+    /**
+     * Constructs a list that spills once its in-memory blocks pass a memory budget.
+     * @param codec turns elements into bytes and back
+     * @param memoryBudget the bytes of encoded elements to keep in memory
+     * @param tempDir the directory for the spill file, or null for the default temporary directory
+     * @throws NullPointerException if the codec is null
+     * @throws IllegalArgumentException if the memory budget is not positive
+     */
+    public MySpillList(ElementCodec<E> codec, long memoryBudget, File tempDir) {
+        if (codec == null) {
+            throw new NullPointerException("Codec cannot be null");
+        }
+        if (memoryBudget <= 0) {
+            throw new IllegalArgumentException("Memory budget must be positive: " + memoryBudget);
+        }
+        this.codec = codec;
+        this.memoryBudget = memoryBudget;
+        this.blockBytes = (int) Math.max(MIN_BLOCK_BYTES, Math.min(MAX_BLOCK_BYTES, memoryBudget / 4));
+        this.tempDir = tempDir;
+    }
+
+    /**
+     * @return true if some elements are currently held in the spill file
+     */
+    public boolean isSpilled() {
+        return firstResident > 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all elements and deletes the spill file.
+     */
+    @Override
+    public void clear() {
+        blocks.clear();
+        firstResident = 0;
+        residentBytes = 0;
+        size = 0;
+        hintBlock = 0;
+        hintStart = 0;
+        cachedBlock = null;
+        cachedData = null;
+        try {
+            closeFile();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Removes all elements and deletes the spill file. The list can still be used.
+     */
+    @Override
+    public void close() {
+        clear();
+    }
+
+    @Override
+    public boolean add(int index, E toAdd) throws NullPointerException, IndexOutOfBoundsException {
+        if (toAdd == null) {
+            throw new NullPointerException("Cannot add null element to the list");
+        }
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        if (index == size) {
+            return add(toAdd);
+        }
+        Block block = findBlock(index);
+        edit(hintBlock, block, foundOffset, false, codec.encode(toAdd));
+        return true;
+    }
+
+    @Override
+    public boolean add(E toAdd) throws NullPointerException {
+        if (toAdd == null) {
+            throw new NullPointerException("Cannot add null element");
+        }
+
+        byte[] bytes = codec.encode(toAdd);
+        Block last = blocks.isEmpty() ? null : blocks.get(blocks.size() - 1);
+        if (last == null || last.data == null || last.used >= blockBytes) {
+            last = new Block();
+            last.data = new byte[Math.max(blockBytes, recordLength(bytes))];
+            blocks.add(last);
+        }
+        int length = recordLength(bytes);
+        if (last.used + length > last.data.length) {
+            last.data = Arrays.copyOf(last.data, Math.max(last.used + length, last.data.length * 2));
+        }
+        writeRecord(last.data, last.used, bytes);
+        last.used += length;
+        last.count++;
+        residentBytes += length;
+        size++;
+        spillIfNeeded();
+        return true;
+    }
+
+    /**
+     * Appends the elements of another list by iterating it, so a large source is never
+     * copied into an array first.
+     */
+    @Override
+    public boolean addAll(ListADT<? extends E> toAdd) throws NullPointerException {
+        if (toAdd == null) {
+            throw new NullPointerException("Cannot add null list");
+        }
+
+        // Stop after the original size so that adding a list to itself terminates
+        int count = toAdd.size();
+        Iterator<? extends E> it = toAdd.iterator();
+        for (int i = 0; i < count && it.hasNext(); i++) {
+            add(it.next());
+        }
+        return count > 0;
+    }
+
+    @Override
+    public E get(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        Block block = findBlock(index);
+        byte[] data = load(block);
+        return decodeAt(data, position(data, foundOffset));
+    }
+
+    @Override
+    public E remove(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        Block block = findBlock(index);
+        return edit(hintBlock, block, foundOffset, true, null);
+    }
+
+    @Override
+    public E remove(E toRemove) throws NullPointerException {
+        if (toRemove == null) {
+            throw new NullPointerException("Cannot remove null element");
+        }
+
+        int index = indexOf(toRemove);
+        return index == -1 ? null : remove(index);
+    }
+
+    @Override
+    public E set(int index, E toChange) throws NullPointerException, IndexOutOfBoundsException {
+        if (toChange == null) {
+            throw new NullPointerException("Cannot set null element");
+        }
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        Block block = findBlock(index);
+        return edit(hintBlock, block, foundOffset, true, codec.encode(toChange));
+    }
+
+    /**
+     * Removes every element from an index to the end of the list. Whole blocks past the
+     * index are dropped without being read.
+     * @param newSize the number of elements to keep
+     * @throws IndexOutOfBoundsException if newSize is negative or greater than the size
+     */
+    public void truncate(int newSize) throws IndexOutOfBoundsException {
+        if (newSize < 0 || newSize > size) {
+            throw new IndexOutOfBoundsException("Size: " + newSize + ", current size: " + size);
+        }
+        if (newSize == 0) {
+            clear();
+            return;
+        }
+
+        while (size - blocks.get(blocks.size() - 1).count >= newSize) {
+            Block last = blocks.get(blocks.size() - 1);
+            discard(blocks.size() - 1, last);
+            size -= last.count;
+        }
+        int lastIndex = blocks.size() - 1;
+        Block last = blocks.get(lastIndex);
+        int keep = last.count - (size - newSize);
+        if (keep < last.count) {
+            byte[] data = load(last);
+            int used = position(data, keep);
+            store(lastIndex, last, data, used, keep);
+            size = newSize;
+        }
+        hintBlock = 0;
+        hintStart = 0;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(E toFind) throws NullPointerException {
+        if (toFind == null) {
+            throw new NullPointerException("Cannot search for null element");
+        }
+        return indexOf(toFind) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of an element, streaming the list once.
+     * @param toFind the element to search for
+     * @return the index of the first equal element, or -1 if there is none
+     * @throws NullPointerException if the element is null
+     */
+    public int indexOf(E toFind) throws NullPointerException {
+        if (toFind == null) {
+            throw new NullPointerException("Cannot search for null element");
+        }
+
+        Iterator<E> it = iterator();
+        for (int index = 0; it.hasNext(); index++) {
+            if (toFind.equals(it.next())) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E[] toArray(E[] toHold) throws NullPointerException {
+        if (toHold == null) {
+            throw new NullPointerException("Array cannot be null");
+        }
+
+        if (toHold.length < size) {
+            toHold = (E[]) java.lang.reflect.Array.newInstance(
+                toHold.getClass().getComponentType(), size);
+        }
+        copyTo(toHold);
+        if (toHold.length > size) {
+            toHold[size] = null;
+        }
+        return toHold;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        copyTo(array);
+        return array;
+    }
+
+    private void copyTo(Object[] dest) {
+        Iterator<E> it = iterator();
+        for (int i = 0; it.hasNext(); i++) {
+            dest[i] = it.next();
+        }
+    }
+
+    /**
+     * Returns an iterator that streams the list from the front, reading each spilled block
+     * once. The list must not be changed while the iterator is in use, except by appending.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new SpillListIterator();
+    }
+
+    /**
+     * Finds the block holding an index, starting from the last block found when the
+     * index is at or after it, so a sequence of nearby gets does not rescan the list.
+     * @return the block; its position is left in hintBlock and the offset in foundOffset
+     */
+    private Block findBlock(int index) {
+        int b = 0;
+        int start = 0;
+        if (hintBlock < blocks.size() && hintStart <= index) {
+            b = hintBlock;
+            start = hintStart;
+        }
+        Block block = blocks.get(b);
+        while (index >= start + block.count) {
+            start += block.count;
+            block = blocks.get(++b);
+        }
+        hintBlock = b;
+        hintStart = start;
+        foundOffset = index - start;
+        return block;
+    }
+
+    /**
+     * Removes, replaces or inserts one record of a block.
+     * @param b the position of the block in the list
+     * @param block the block
+     * @param offset the record to edit
+     * @param removeOld whether the record at the offset is removed
+     * @param insert the encoded element to put at the offset, or null
+     * @return the removed element, or null if none was removed
+     */
+    private E edit(int b, Block block, int offset, boolean removeOld, byte[] insert) {
+        byte[] data = load(block);
+        int pos = position(data, offset);
+        int oldLength = 0;
+        E old = null;
+        if (removeOld) {
+            old = decodeAt(data, pos);
+            oldLength = position(data, pos, 1) - pos;
+        }
+        int newLength = insert == null ? 0 : recordLength(insert);
+        int used = block.used + newLength - oldLength;
+
+        byte[] target = data;
+        if (used > data.length || (block.data == null && newLength > oldLength)) {
+            // Spilled blocks are read into an exact-size array, which may be the cached copy
+            target = new byte[Math.max(used, Math.min(data.length * 2, used + blockBytes))];
+            System.arraycopy(data, 0, target, 0, pos);
+        }
+        System.arraycopy(data, pos + oldLength, target, pos + newLength, block.used - pos - oldLength);
+        if (insert != null) {
+            writeRecord(target, pos, insert);
+        }
+
+        int count = block.count + (insert == null ? 0 : 1) - (removeOld ? 1 : 0);
+        size += count - block.count;
+        store(b, block, target, used, count);
+        hintBlock = 0;
+        hintStart = 0;
+        return old;
+    }
+
+    /**
+     * Saves the new contents of a block: in memory for a resident block, in the spill
+     * file otherwise. An empty block is removed and an oversized one is split in two.
+     */
+    private void store(int b, Block block, byte[] data, int used, int count) {
+        if (count == 0) {
+            discard(b, block);
+            return;
+        }
+        if (used > 2 * blockBytes && count > 1) {
+            int half = position(data, count / 2);
+            Block second = new Block();
+            second.count = count - count / 2;
+            second.used = used - half;
+            byte[] secondData = Arrays.copyOfRange(data, half, Math.max(used, half + blockBytes));
+            blocks.add(b + 1, second);
+            if (block.data == null) {
+                firstResident++;
+                writeBlock(second, secondData);
+            } else {
+                second.data = secondData;
+                residentBytes += second.used;
+            }
+            used = half;
+            count = count / 2;
+        }
+
+        if (block.data == null) {
+            block.used = used;
+            block.count = count;
+            writeBlock(block, data);
+        } else {
+            residentBytes += used - block.used;
+            block.data = data;
+            block.used = used;
+            block.count = count;
+            spillIfNeeded();
+        }
+    }
+
+    /** remove a block from the list and release its memory or file space */
+    private void discard(int b, Block block) {
+        blocks.remove(b);
+        if (block.data == null) {
+            garbage += block.diskLength;
+            firstResident--;
+            if (cachedBlock == block) {
+                cachedBlock = null;
+                cachedData = null;
+            }
+        } else {
+            residentBytes -= block.used;
+        }
+    }
+
+    /** write the oldest resident blocks to the file while over budget, keeping the last one */
+    private void spillIfNeeded() {
+        while (residentBytes > memoryBudget && firstResident < blocks.size() - 1) {
+            Block block = blocks.get(firstResident);
+            byte[] data = block.data;
+            block.data = null;
+            residentBytes -= block.used;
+            firstResident++;
+            writeBlock(block, data);
+        }
+    }
+
+    /** the bytes of a block, reading them from the spill file if it was spilled */
+    private byte[] load(Block block) {
+        if (block.data != null) {
+            return block.data;
+        }
+        if (cachedBlock != block) {
+            byte[] data = new byte[block.used];
+            try {
+                spill.seek(block.offset);
+                spill.readFully(data);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            cachedBlock = block;
+            cachedData = data;
+        }
+        return cachedData;
+    }
+
+    /**
+     * Writes a spilled block's records to the file: in place if they fit in the space the
+     * block had, otherwise at the end of the file.
+     */
+    private void writeBlock(Block block, byte[] data) {
+        try {
+            openFile();
+            if (block.diskLength < block.used) {
+                garbage += block.diskLength;
+                block.offset = fileEnd;
+                block.diskLength = block.used;
+                fileEnd += block.used;
+            }
+            spill.seek(block.offset);
+            spill.write(data, 0, block.used);
+            cachedBlock = block;
+            cachedData = data;
+            if (garbage > MIN_COMPACT_BYTES && garbage > fileEnd / 2) {
+                compact();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** copy the spilled blocks to a new file, leaving out the garbage */
+    private void compact() throws IOException {
+        File newFile = File.createTempFile("spill", ".bin", tempDir);
+        RandomAccessFile newSpill = new RandomAccessFile(newFile, "rw");
+        long end = 0;
+        try {
+            for (int b = 0; b < firstResident; b++) {
+                Block block = blocks.get(b);
+                byte[] data = load(block);
+                newSpill.write(data, 0, block.used);
+                block.offset = end;
+                block.diskLength = block.used;
+                end += block.used;
+            }
+        } catch (IOException e) {
+            newSpill.close();
+            newFile.delete();
+            throw e;
+        }
+        closeFile();
+        file = newFile;
+        spill = newSpill;
+        fileEnd = end;
+    }
+
+    private void openFile() throws IOException {
+        if (spill == null) {
+            file = File.createTempFile("spill", ".bin", tempDir);
+            spill = new RandomAccessFile(file, "rw");
+            fileEnd = 0;
+            garbage = 0;
+        }
+    }
+
+    private void closeFile() throws IOException {
+        if (spill != null) {
+            spill.close();
+            spill = null;
+        }
+        if (file != null) {
+            file.delete();
+            file = null;
+        }
+        fileEnd = 0;
+        garbage = 0;
+    }
+
+    /** size of an element's record: a varint length, then the bytes */
+    private static int recordLength(byte[] bytes) {
+        int length = bytes.length;
+        int prefix = 1;
+        while ((length >>>= 7) != 0) {
+            prefix++;
+        }
+        return prefix + bytes.length;
+    }
+
+    private static void writeRecord(byte[] data, int pos, byte[] bytes) {
+        int length = bytes.length;
+        while ((length & ~0x7F) != 0) {
+            data[pos++] = (byte) (length & 0x7F | 0x80);
+            length >>>= 7;
+        }
+        data[pos++] = (byte) length;
+        System.arraycopy(bytes, 0, data, pos, bytes.length);
+    }
+
+    /** byte position of a record in a block */
+    private static int position(byte[] data, int record) {
+        return position(data, 0, record);
+    }
+
+    /** byte position reached by skipping a number of records from a position */
+    private static int position(byte[] data, int pos, int records) {
+        for (int i = 0; i < records; i++) {
+            int length = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[pos++];
+                length |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            pos += length;
+        }
+        return pos;
+    }
+
+    private E decodeAt(byte[] data, int pos) {
+        int length = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = data[pos++];
+            length |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return codec.decode(data, pos, length);
+    }
+
+    /**
+     * A run of records, held in memory (data is set) or in the spill file
+     */
+    private static final class Block {
+        private byte[] data;
+        private int used;
+        private int count;
+        private long offset;
+        private int diskLength;
+    }
+
+    /**
+     * Iterator that decodes one record at a time, moving block by block
+     */
+    private class SpillListIterator implements Iterator<E> {
+        private int blockIndex = -1;
+        private byte[] data;
+        private int pos;
+        private int left;
+
+        @Override
+        public boolean hasNext() {
+            return left > 0 || blockIndex + 1 < blocks.size();
+        }
+
+        @Override
+        public E next() throws NoSuchElementException {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements in the list");
+            }
+
+            while (left == 0) {
+                Block block = blocks.get(++blockIndex);
+                data = load(block);
+                pos = 0;
+                left = block.count;
+            }
+            E element = decodeAt(data, pos);
+            pos = position(data, pos, 1);
+            left--;
+            return element;
+        }
+    }
+}
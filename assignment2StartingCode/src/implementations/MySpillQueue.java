@@ -0,0 +1,260 @@
+package implementations;
+
+import exceptions.EmptyQueueException;
+import java.io.Closeable;
+import java.io.File;
+import java.util.NoSuchElementException;
+import utilities.ElementCodec;
+import utilities.Iterator;
+import utilities.QueueADT;
+
+/**
+ * MySpillQueue<E> - Queue that stays in a MyCircularQueue until it grows past a bound
+ * The front of the queue is a ring buffer of at most maxResident elements, so as long as
+ * the queue is that short it costs exactly what a MyCircularQueue does. Elements enqueued
+ * while the ring is full, or while older elements are still waiting behind it, are
+ * appended to a MySpillList, which keeps its newest blocks in memory and writes the rest
+ * to a temporary file. When the ring runs empty it is refilled from the spill list in
+ * order, reading each spilled block once; the spill list is only ever appended to and
+ * read from the front, and is cleared once it has been read to the end.
+ * close() deletes the spill file; the queue can still be used afterwards.
+ * @param <E> the type of elements in this queue
+ */
+
+public class MySpillQueue<E> implements QueueADT<E>, Closeable {
+
+    /** front of the queue, never more than maxResident elements */
+    private final MyCircularQueue<E> front = new MyCircularQueue<>();
+    private final int maxResident;
+
+    /** elements behind the ring, in order; those before read have moved to the ring */
+    private final MySpillList<E> overflow;
+    private Iterator<E> reader;
+    private int read;
+
+    /**
+     * Constructs a queue that keeps up to maxResident elements in a ring buffer and
+     * spills the rest through a MySpillList.
+     * @param codec turns elements into bytes and back for the spill list
+     * @param maxResident the number of elements kept in the ring buffer
+     * @param memoryBudget the bytes of encoded elements the spill list keeps in memory
+     * @param tempDir the directory for the spill file, or null for the default temporary directory
+     * @throws NullPointerException if the codec is null
+     * @throws IllegalArgumentException if maxResident or the memory budget is not positive
+     */
+    public MySpillQueue(ElementCodec<E> codec, int maxResident, long memoryBudget, File tempDir) {
+        if (maxResident <= 0) {
+            throw new IllegalArgumentException("Resident elements must be positive: " + maxResident);
+        }
+        this.overflow = new MySpillList<>(codec, memoryBudget, tempDir);
+        this.maxResident = maxResident;
+    }
+
+    /**
+     * @return true if some elements are currently held in the spill file
+     */
+    public boolean isSpilled() {
+        return overflow.isSpilled();
+    }
+
+    /** number of elements still waiting in the spill list */
+    private int pending() {
+        return overflow.size() - read;
+    }
+
+    /** move up to maxResident waiting elements into the empty ring */
+    private void refill() {
+        if (reader == null) {
+            reader = overflow.iterator();
+        }
+        int n = Math.min(maxResident, pending());
+        for (int i = 0; i < n; i++) {
+            front.enqueue(reader.next());
+        }
+        read += n;
+        if (pending() == 0) {
+            resetOverflow();
+        }
+    }
+
+    private void resetOverflow() {
+        overflow.clear();
+        reader = null;
+        read = 0;
+    }
+
+    @Override
+    public void enqueue(E toAdd) throws NullPointerException {
+        if (toAdd == null) {
+            throw new NullPointerException("Cannot enqueue null element.");
+        }
+        if (pending() == 0 && front.size() < maxResident) {
+            front.enqueue(toAdd);
+        } else {
+            overflow.add(toAdd);
+        }
+    }
+
+    @Override
+    public E dequeue() throws EmptyQueueException {
+        if (front.isEmpty() && pending() > 0) {
+            refill();
+        }
+        return front.dequeue();
+    }
+
+    @Override
+    public E peek() throws EmptyQueueException {
+        if (front.isEmpty() && pending() > 0) {
+            refill();
+        }
+        return front.peek();
+    }
+
+    /**
+     * Removes all elements and deletes the spill file.
+     */
+    @Override
+    public void dequeueAll() {
+        front.dequeueAll();
+        resetOverflow();
+    }
+
+    /**
+     * Removes all elements and deletes the spill file. The queue can still be used.
+     */
+    @Override
+    public void close() {
+        dequeueAll();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean contains(E toFind) throws NullPointerException {
+        if (toFind == null) {
+            throw new NullPointerException("Cannot search for null element.");
+        }
+        return search(toFind) != -1;
+    }
+
+    @Override
+    public int search(E toFind) {
+        if (toFind == null) {
+            return -1;
+        }
+
+        // 1-based position from the front
+        Iterator<E> it = iterator();
+        for (int position = 1; it.hasNext(); position++) {
+            if (toFind.equals(it.next())) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an iterator from front to back. It streams the spill list, skipping the
+     * elements already moved to the ring, so the queue must not change while it is in use.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new SpillQueueIterator();
+    }
+
+    @Override
+    public boolean equals(QueueADT<E> that) {
+        if (that == null || this.size() != that.size()) {
+            return false;
+        }
+
+        Iterator<E> it1 = this.iterator();
+        Iterator<E> it2 = that.iterator();
+
+        while (it1.hasNext() && it2.hasNext()) {
+            E elem1 = it1.next();
+            E elem2 = it2.next();
+            if (elem1 == null || elem2 == null || !elem1.equals(elem2)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size()];
+        copyTo(array);
+        return array;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E[] toArray(E[] holder) throws NullPointerException {
+        if (holder == null) {
+            throw new NullPointerException("Holder array cannot be null.");
+        }
+        int size = size();
+        if (holder.length < size) {
+            holder = (E[]) java.lang.reflect.Array.newInstance(
+                holder.getClass().getComponentType(), size);
+        }
+        copyTo(holder);
+        if (holder.length > size) {
+            holder[size] = null;
+        }
+        return holder;
+    }
+
+    private void copyTo(Object[] dest) {
+        Iterator<E> it = iterator();
+        for (int i = 0; it.hasNext(); i++) {
+            dest[i] = it.next();
+        }
+    }
+
+    @Override
+    public boolean isFull() {
+        return false; // the spill list grows on demand
+    }
+
+    @Override
+    public int size() {
+        return front.size() + pending();
+    }
+
+    /**
+     * Iterator over the ring, then over the waiting part of the spill list
+     */
+    private class SpillQueueIterator implements Iterator<E> {
+        private int index = 0;
+        private Iterator<E> spilled;
+
+        @Override
+        public boolean hasNext() {
+            return index < size();
+        }
+
+        @Override
+        public E next() throws NoSuchElementException {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements in queue");
+            }
+            if (index < front.size()) {
+                return front.get(index++);
+            }
+            if (spilled == null) {
+                spilled = overflow.iterator();
+                for (int i = 0; i < read; i++) {
+                    spilled.next();
+                }
+            }
+            index++;
+            return spilled.next();
+        }
+    }
+}
@@ -0,0 +1,418 @@
+package implementations;
+
+import exceptions.EmptyQueueException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import utilities.Iterator;
+import utilities.QueueADT;
+
+/**
+ * MySpscQueue<E> - Bounded ring buffer for exactly one producer and one consumer thread
+ * Each side owns one index: the producer writes the tail, the consumer the head, and
+ * neither ever takes a lock or runs a compare-and-set. A slot is filled before the
+ * tail that covers it is published with an ordered store (lazySet), and emptied
+ * before the head that frees it is, so the index is all the other side has to read.
+ * Each side also keeps a cached copy of the other side's index and reads the real one
+ * only when the cache says the ring is full (producer) or empty (consumer), so in
+ * steady flow a thread rarely touches the other's cache line. The two indexes are
+ * separated by padding fields and the array by padding slots, so they do not share a
+ * cache line with each other or with neighbouring objects.
+ * fillFrom and drainTo move whole blocks and publish the index once per block.
+ * Producer-side methods are enqueue, offer and fillFrom. Every other method belongs to
+ * the consumer side: it must be called from the consumer thread, or while the producer
+ * is idle, and sees the elements published when it started.
+ * The capacity is rounded up to a power of two.
+ * @param <E> the type of elements in this queue
+ */
+
+public class MySpscQueue<E> extends SpscPadAfterConsumer implements QueueADT<E> {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /** unused slots before and after the ring inside the array */
+    private static final int PAD_SLOTS = 16;
+
+    private static final AtomicLongFieldUpdater<SpscProducerIndex> TAIL =
+        AtomicLongFieldUpdater.newUpdater(SpscProducerIndex.class, "tail");
+    private static final AtomicLongFieldUpdater<SpscConsumerIndex> HEAD =
+        AtomicLongFieldUpdater.newUpdater(SpscConsumerIndex.class, "head");
+
+    /** ring of capacity slots starting at PAD_SLOTS */
+    private final Object[] buffer;
+
+    /** capacity - 1 */
+    private final int mask;
+
+    /**
+     * Constructs a queue with room for at least the given number of elements.
+     * @param capacity the number of elements to make room for
+     * @throws IllegalArgumentException if the capacity is less than 1 or too large
+     */
+    public MySpscQueue(int capacity) throws IllegalArgumentException {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Illegal capacity: " + capacity);
+        }
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        buffer = new Object[size + 2 * PAD_SLOTS];
+        mask = size - 1;
+    }
+
+    /**
+     * Returns the number of elements the queue holds when full.
+     * @return the capacity, a power of two
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    private int slot(long index) {
+        return PAD_SLOTS + ((int) index & mask);
+    }
+
+    /**
+     * Adds an element at the back without waiting. Producer thread only.
+     * @param toAdd the element to add
+     * @throws NullPointerException if the element is null
+     * @throws IllegalStateException if the queue is full
+     */
+    @Override
+    public void enqueue(E toAdd) throws NullPointerException, IllegalStateException {
+        if (!offer(toAdd)) {
+            throw new IllegalStateException("Queue is full.");
+        }
+    }
+
+    /**
+     * Adds an element at the back if there is room. Producer thread only.
+     * @param toAdd the element to add
+     * @return true if the element was added, false if the queue was full
+     * @throws NullPointerException if the element is null
+     */
+    public boolean offer(E toAdd) throws NullPointerException {
+        if (toAdd == null) {
+            throw new NullPointerException("Cannot enqueue null element.");
+        }
+
+        long t = tail;
+        if (t - headCache > mask) {
+            headCache = head;
+            if (t - headCache > mask) {
+                return false;
+            }
+        }
+        buffer[slot(t)] = toAdd;
+        TAIL.lazySet(this, t + 1);
+        return true;
+    }
+
+    /**
+     * Adds as many elements from the array as there is room for, in order, and
+     * publishes them all at once. Producer thread only.
+     * @param source the array to take elements from
+     * @param offset the index of the first element to add
+     * @param length the number of elements to add
+     * @return the number of elements added, from 0 to length
+     * @throws NullPointerException if the array is null, or if one of the elements is
+     *                              null, in which case the elements before it are added
+     * @throws IndexOutOfBoundsException if the range is outside the array
+     */
+    public int fillFrom(E[] source, int offset, int length)
+            throws NullPointerException, IndexOutOfBoundsException {
+        if (offset < 0 || length < 0 || offset > source.length - length) {
+            throw new IndexOutOfBoundsException("Offset: " + offset + ", Length: " + length
+                + ", Size: " + source.length);
+        }
+
+        long t = tail;
+        long room = mask + 1 - (t - headCache);
+        if (room < length) {
+            headCache = head;
+            room = mask + 1 - (t - headCache);
+        }
+
+        int n = (int) Math.min(room, length);
+        for (int i = 0; i < n; i++) {
+            E element = source[offset + i];
+            if (element == null) {
+                TAIL.lazySet(this, t + i);
+                throw new NullPointerException("Cannot enqueue null element.");
+            }
+            buffer[slot(t + i)] = element;
+        }
+        TAIL.lazySet(this, t + n);
+        return n;
+    }
+
+    @Override
+    public E dequeue() throws EmptyQueueException {
+        E element = poll();
+        if (element == null) {
+            throw new EmptyQueueException("Queue is empty.");
+        }
+        return element;
+    }
+
+    /**
+     * Removes and returns the front element. Consumer thread only.
+     * @return the front element, or null if the queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long h = head;
+        if (h >= tailCache) {
+            tailCache = tail;
+            if (h >= tailCache) {
+                return null;
+            }
+        }
+        int index = slot(h);
+        E element = (E) buffer[index];
+        buffer[index] = null;
+        HEAD.lazySet(this, h + 1);
+        return element;
+    }
+
+    /**
+     * Removes up to max elements from the front into the array, in order, and frees
+     * their slots all at once. Consumer thread only.
+     * @param target the array to store the elements in
+     * @param offset the index in the array for the first element
+     * @param max the largest number of elements to remove
+     * @return the number of elements removed, from 0 to max
+     * @throws NullPointerException if the array is null
+     * @throws IndexOutOfBoundsException if the range is outside the array
+     */
+    @SuppressWarnings("unchecked")
+    public int drainTo(E[] target, int offset, int max) throws NullPointerException, IndexOutOfBoundsException {
+        if (offset < 0 || max < 0 || offset > target.length - max) {
+            throw new IndexOutOfBoundsException("Offset: " + offset + ", Length: " + max
+                + ", Size: " + target.length);
+        }
+
+        long h = head;
+        long available = tailCache - h;
+        if (available < max) {
+            tailCache = tail;
+            available = tailCache - h;
+        }
+
+        int n = (int) Math.min(available, max);
+        for (int i = 0; i < n; i++) {
+            int index = slot(h + i);
+            target[offset + i] = (E) buffer[index];
+            buffer[index] = null;
+        }
+        if (n > 0) {
+            HEAD.lazySet(this, h + n);
+        }
+        return n;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() throws EmptyQueueException {
+        long h = head;
+        if (h >= tailCache) {
+            tailCache = tail;
+            if (h >= tailCache) {
+                throw new EmptyQueueException("Queue is empty.");
+            }
+        }
+        return (E) buffer[slot(h)];
+    }
+
+    /**
+     * Removes every element published so far. Consumer thread only.
+     */
+    @Override
+    public void dequeueAll() {
+        long h = head;
+        long t = tail;
+        for (long i = h; i < t; i++) {
+            buffer[slot(i)] = null;
+        }
+        tailCache = t;
+        HEAD.lazySet(this, t);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean contains(E toFind) throws NullPointerException {
+        if (toFind == null) {
+            throw new NullPointerException("Cannot search for null element.");
+        }
+        return search(toFind) != -1;
+    }
+
+    @Override
+    public int search(E toFind) {
+        if (toFind == null) {
+            return -1;
+        }
+
+        // 1-based position from the front
+        long h = head;
+        long t = tail;
+        for (long i = h; i < t; i++) {
+            if (toFind.equals(buffer[slot(i)])) {
+                return (int) (i - h) + 1;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new SpscQueueIterator(head, tail);
+    }
+
+    @Override
+    public boolean equals(QueueADT<E> that) {
+        if (that == null || this.size() != that.size()) {
+            return false;
+        }
+
+        Iterator<E> it1 = this.iterator();
+        Iterator<E> it2 = that.iterator();
+
+        while (it1.hasNext() && it2.hasNext()) {
+            E elem1 = it1.next();
+            E elem2 = it2.next();
+            if (elem1 == null || elem2 == null || !elem1.equals(elem2)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Object[] toArray() {
+        long h = head;
+        Object[] array = new Object[(int) (tail - h)];
+        copyTo(array, h, array.length);
+        return array;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E[] toArray(E[] holder) throws NullPointerException {
+        if (holder == null) {
+            throw new NullPointerException("Holder array cannot be null.");
+        }
+
+        long h = head;
+        int size = (int) (tail - h);
+        if (holder.length < size) {
+            holder = (E[]) java.lang.reflect.Array.newInstance(
+                holder.getClass().getComponentType(), size);
+        }
+        copyTo(holder, h, size);
+        for (int i = size; i < holder.length; i++) {
+            holder[i] = null;
+        }
+        return holder;
+    }
+
+    /** copy size elements from index h in order into the front of dest */
+    private void copyTo(Object[] dest, long h, int size) {
+        int first = slot(h);
+        int firstRun = Math.min(size, PAD_SLOTS + mask + 1 - first);
+        System.arraycopy(buffer, first, dest, 0, firstRun);
+        System.arraycopy(buffer, PAD_SLOTS, dest, firstRun, size - firstRun);
+    }
+
+    @Override
+    public boolean isFull() {
+        return size() == mask + 1;
+    }
+
+    /**
+     * Returns the number of elements, read so that the head and tail belong together.
+     * Either thread may call it.
+     */
+    @Override
+    public int size() {
+        while (true) {
+            long before = head;
+            long t = tail;
+            long after = head;
+            if (before == after) {
+                return (int) (t - after);
+            }
+        }
+    }
+
+    /**
+     * Iterator over the slots between the head and tail it started with
+     */
+    private class SpscQueueIterator implements Iterator<E> {
+        private long next;
+        private final long end;
+
+        SpscQueueIterator(long start, long end) {
+            this.next = start;
+            this.end = end;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < end;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() throws NoSuchElementException {
+            if (next >= end) {
+                throw new NoSuchElementException("No more elements in queue");
+            }
+            return (E) buffer[slot(next++)];
+        }
+    }
+}
+
+/**
+ * Padding before the producer's fields
+ */
+abstract class SpscPadBeforeProducer {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+}
+
+/**
+ * The producer's index and its copy of the consumer's
+ */
+abstract class SpscProducerIndex extends SpscPadBeforeProducer {
+    /** index of the next slot to fill; written by the producer only */
+    volatile long tail;
+
+    /** last head the producer read */
+    long headCache;
+}
+
+/**
+ * Padding between the producer's and the consumer's fields
+ */
+abstract class SpscPadBetween extends SpscProducerIndex {
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+/**
+ * The consumer's index and its copy of the producer's
+ */
+abstract class SpscConsumerIndex extends SpscPadBetween {
+    /** index of the next slot to empty; written by the consumer only */
+    volatile long head;
+
+    /** last tail the consumer read */
+    long tailCache;
+}
+
+/**
+ * Padding after the consumer's fields
+ */
+abstract class SpscPadAfterConsumer extends SpscConsumerIndex {
+    long p20, p21, p22, p23, p24, p25, p26, p27;
+}
@@ -21,6 +21,15 @@ public class MyStack<E> implements StackADT<E> {
         list = new MyArrayList<>();
     }
 
+    /**
+     * Makes room for at least minCapacity elements so the stack does not grow while
+     * they are pushed.
+     * @param minCapacity the number of elements to make room for
+     */
+    public void ensureCapacity(int minCapacity) {
+        list.ensureCapacity(minCapacity);
+    }
+
     @Override
     public void push(E toAdd) throws NullPointerException {
         if (toAdd == null) {
@@ -0,0 +1,521 @@
+package implementations;
+
+import utilities.ListADT;
+import utilities.Iterator;
+import utilities.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * MyTreeList - Order-statistic AVL tree implementation of ListADT
+ * Elements are kept in an AVL tree ordered by position rather than by value. Each
+ * node stores the size of its subtree, so the node at an index is found by comparing
+ * the index with the left subtree size on the way down, and get, set, add and remove
+ * by index are all O(log n). Nodes also keep a parent link, so iteration steps to the
+ * in-order successor without a stack and without allocating per element.
+ * @param <E> the type of elements in this list
+ */
+
+public class MyTreeList<E> implements ListADT<E> {
+    private Node<E> root;
+
+    /**
+     * Default constructor
+     */
+    public MyTreeList() {
+        this.root = null;
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    @Override
+    public void clear() {
+        root = null;
+    }
+
+    @Override
+    public boolean add(int index, E toAdd) throws NullPointerException, IndexOutOfBoundsException {
+        if (toAdd == null) {
+            throw new NullPointerException("Cannot add null element to the list");
+        }
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+
+        insertAt(index, toAdd);
+        return true;
+    }
+
+    @Override
+    public boolean add(E toAdd) throws NullPointerException {
+        if (toAdd == null) {
+            throw new NullPointerException("Cannot add null element");
+        }
+        insertAt(size(), toAdd);
+        return true;
+    }
+
+    @Override
+    public boolean addAll(ListADT<? extends E> toAdd) throws NullPointerException {
+        if (toAdd == null) {
+            throw new NullPointerException("Cannot add null list");
+        }
+
+        // Snapshot the source first so that adding a list to itself terminates
+        Object[] source = toAdd.toArray();
+        for (Object element : source) {
+            @SuppressWarnings("unchecked")
+            E e = (E) element;
+            insertAt(size(), e);
+        }
+        return true;
+    }
+
+    @Override
+    public E get(int index) throws IndexOutOfBoundsException {
+        checkElementIndex(index);
+        return nodeAt(index).element;
+    }
+
+    @Override
+    public E remove(int index) throws IndexOutOfBoundsException {
+        checkElementIndex(index);
+        return removeAt(index);
+    }
+
+    @Override
+    public E remove(E toRemove) throws NullPointerException {
+        if (toRemove == null) {
+            throw new NullPointerException("Cannot remove null element");
+        }
+
+        int index = indexOf(toRemove);
+        return index == -1 ? null : removeAt(index);
+    }
+
+    @Override
+    public E set(int index, E toChange) throws NullPointerException, IndexOutOfBoundsException {
+        if (toChange == null) {
+            throw new NullPointerException("Cannot set null element");
+        }
+        checkElementIndex(index);
+
+        Node<E> node = nodeAt(index);
+        E oldElement = node.element;
+        node.element = toChange;
+        return oldElement;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    @Override
+    public boolean contains(E toFind) throws NullPointerException {
+        if (toFind == null) {
+            throw new NullPointerException("Cannot search for null element");
+        }
+        return indexOf(toFind) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of an element, in a single in-order traversal.
+     * @param toFind the element to search for
+     * @return the index of the first equal element, or -1 if there is none
+     * @throws NullPointerException if the element is null
+     */
+    public int indexOf(E toFind) throws NullPointerException {
+        if (toFind == null) {
+            throw new NullPointerException("Cannot search for null element");
+        }
+
+        int index = 0;
+        for (Node<E> node = first(root); node != null; node = successor(node)) {
+            if (toFind.equals(node.element)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E[] toArray(E[] toHold) throws NullPointerException {
+        if (toHold == null) {
+            throw new NullPointerException("Array cannot be null");
+        }
+
+        int size = size();
+        if (toHold.length < size) {
+            toHold = (E[]) java.lang.reflect.Array.newInstance(
+                toHold.getClass().getComponentType(), size);
+        }
+        copyInto(toHold);
+
+        for (int j = size; j < toHold.length; j++) {
+            toHold[j] = null;
+        }
+        return toHold;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size()];
+        copyInto(array);
+        return array;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new TreeListIterator(first(root), 0);
+    }
+
+    /**
+     * Returns a list iterator positioned at the start. Moving the cursor is O(1)
+     * amortized; remove and add at the cursor are O(log n).
+     * @return a list iterator over this list
+     */
+    public ListIterator<E> listIterator() {
+        return new TreeListIterator(first(root), 0);
+    }
+
+    /**
+     * Returns a list iterator whose first call to next() returns the element at the index.
+     * @param index the starting position, from 0 to size()
+     * @return a list iterator over this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public ListIterator<E> listIterator(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        return new TreeListIterator(index == size() ? null : nodeAt(index), index);
+    }
+
+    /**
+     * Helper method to get the node at an index by descending on subtree sizes
+     * @param index the index of the node, from 0 to size() - 1
+     * @return the node at that index
+     */
+    private Node<E> nodeAt(int index) {
+        Node<E> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    private void insertAt(int index, E toAdd) {
+        root = insert(root, index, toAdd);
+        root.parent = null;
+    }
+
+    private E removeAt(int index) {
+        E removed = nodeAt(index).element;
+        root = remove(root, index);
+        if (root != null) {
+            root.parent = null;
+        }
+        return removed;
+    }
+
+    /**
+     * Inserts an element at an index of a subtree and rebalances on the way back up.
+     * @return the new root of the subtree
+     */
+    private Node<E> insert(Node<E> node, int index, E toAdd) {
+        if (node == null) {
+            return new Node<>(toAdd);
+        }
+
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            node.left = insert(node.left, index, toAdd);
+            node.left.parent = node;
+        } else {
+            node.right = insert(node.right, index - leftSize - 1, toAdd);
+            node.right.parent = node;
+        }
+        return rebalance(node);
+    }
+
+    /**
+     * Removes the element at an index of a subtree and rebalances on the way back up.
+     * A node with two children takes its successor's element, and the successor
+     * node is removed from the right subtree instead.
+     * @return the new root of the subtree, or null if it became empty
+     */
+    private Node<E> remove(Node<E> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            node.left = remove(node.left, index);
+            if (node.left != null) {
+                node.left.parent = node;
+            }
+        } else if (index > leftSize) {
+            node.right = remove(node.right, index - leftSize - 1);
+            if (node.right != null) {
+                node.right.parent = node;
+            }
+        } else if (node.left == null || node.right == null) {
+            return node.left == null ? node.right : node.left;
+        } else {
+            node.element = first(node.right).element;
+            node.right = remove(node.right, 0);
+            if (node.right != null) {
+                node.right.parent = node;
+            }
+        }
+        return rebalance(node);
+    }
+
+    /**
+     * Updates a node's height and size and restores the AVL balance with rotations.
+     * @return the new root of the subtree
+     */
+    private Node<E> rebalance(Node<E> node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<E> rotateRight(Node<E> node) {
+        Node<E> pivot = node.left;
+        node.left = pivot.right;
+        if (node.left != null) {
+            node.left.parent = node;
+        }
+        pivot.right = node;
+        pivot.parent = node.parent;
+        node.parent = pivot;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private Node<E> rotateLeft(Node<E> node) {
+        Node<E> pivot = node.right;
+        node.right = pivot.left;
+        if (node.right != null) {
+            node.right.parent = node;
+        }
+        pivot.left = node;
+        pivot.parent = node.parent;
+        node.parent = pivot;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static <E> void update(Node<E> node) {
+        node.height = Math.max(height(node.left), height(node.right)) + 1;
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /** leftmost node of a subtree, or null for an empty subtree */
+    private static <E> Node<E> first(Node<E> node) {
+        if (node == null) {
+            return null;
+        }
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node;
+    }
+
+    /** rightmost node of a subtree, or null for an empty subtree */
+    private static <E> Node<E> last(Node<E> node) {
+        if (node == null) {
+            return null;
+        }
+        while (node.right != null) {
+            node = node.right;
+        }
+        return node;
+    }
+
+    /** next node in order, found through the parent links */
+    private static <E> Node<E> successor(Node<E> node) {
+        if (node.right != null) {
+            return first(node.right);
+        }
+        while (node.parent != null && node.parent.right == node) {
+            node = node.parent;
+        }
+        return node.parent;
+    }
+
+    /** previous node in order, found through the parent links */
+    private static <E> Node<E> predecessor(Node<E> node) {
+        if (node.left != null) {
+            return last(node.left);
+        }
+        while (node.parent != null && node.parent.left == node) {
+            node = node.parent;
+        }
+        return node.parent;
+    }
+
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+    }
+
+    private void copyInto(Object[] array) {
+        int i = 0;
+        for (Node<E> node = first(root); node != null; node = successor(node)) {
+            array[i++] = node.element;
+        }
+    }
+
+    /**
+     * Tree node holding one element, its subtree height and size, and a parent link
+     */
+    private static final class Node<E> {
+        private E element;
+        private Node<E> left;
+        private Node<E> right;
+        private Node<E> parent;
+        private int height = 1;
+        private int size = 1;
+
+        private Node(E element) {
+            this.element = element;
+        }
+    }
+
+    /**
+     * List iterator stepping through the nodes in order. Structural edits go through
+     * the tree and then look up the node after the cursor again.
+     */
+    private class TreeListIterator implements ListIterator<E> {
+        private Node<E> nextNode; // null when the cursor is at the end
+        private int nextIndex;
+        private Node<E> lastReturned;
+        private int lastIndex = -1;
+
+        private TreeListIterator(Node<E> nextNode, int nextIndex) {
+            this.nextNode = nextNode;
+            this.nextIndex = nextIndex;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+
+        @Override
+        public E next() throws NoSuchElementException {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements in the list");
+            }
+
+            lastReturned = nextNode;
+            lastIndex = nextIndex;
+            nextNode = successor(nextNode);
+            nextIndex++;
+            return lastReturned.element;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public E previous() throws NoSuchElementException {
+            if (!hasPrevious()) {
+                throw new NoSuchElementException("No previous element in the list");
+            }
+
+            nextNode = nextNode == null ? last(root) : predecessor(nextNode);
+            nextIndex--;
+            lastReturned = nextNode;
+            lastIndex = nextIndex;
+            return lastReturned.element;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() throws IllegalStateException {
+            if (lastReturned == null) {
+                throw new IllegalStateException("No element to remove");
+            }
+
+            removeAt(lastIndex);
+            if (lastIndex < nextIndex) {
+                nextIndex--;
+            }
+            relocate();
+        }
+
+        @Override
+        public void set(E toChange) throws NullPointerException, IllegalStateException {
+            if (toChange == null) {
+                throw new NullPointerException("Cannot set null element");
+            }
+            if (lastReturned == null) {
+                throw new IllegalStateException("No element to replace");
+            }
+            lastReturned.element = toChange;
+        }
+
+        @Override
+        public void add(E toAdd) throws NullPointerException {
+            if (toAdd == null) {
+                throw new NullPointerException("Cannot add null element");
+            }
+            insertAt(nextIndex, toAdd);
+            nextIndex++;
+            relocate();
+        }
+
+        /** find the node after the cursor again, since rotations may have moved elements */
+        private void relocate() {
+            nextNode = nextIndex < size() ? nodeAt(nextIndex) : null;
+            lastReturned = null;
+            lastIndex = -1;
+        }
+    }
+}
@@ -0,0 +1,424 @@
+package implementations;
+
+import utilities.ListADT;
+import utilities.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * MyUnrolledList - Unrolled linked list implementation of ListADT
+ * Each node holds a small array block of elements, so a scan reads whole blocks
+ * sequentially and an insert or remove in the middle only shifts the elements of one
+ * block. A full block is split in half before an insert; a block that falls below
+ * half full after a remove is merged with a neighbour when the two fit in one block.
+ * Finding an index walks whole blocks from the nearer end of the list.
+ * @param <E> the type of elements in this list
+ */
+
+public class MyUnrolledList<E> implements ListADT<E> {
+    public static final int DEFAULT_BLOCK_SIZE = 64;
+    private static final int MIN_BLOCK_SIZE = 4;
+
+    private final int blockSize;
+
+    private Block head;
+    private Block tail;
+    private int size;
+
+    /** offset inside the block returned by the last call to findBlock */
+    private int foundOffset;
+
+    /**
+     * Default constructor
+     */
+    public MyUnrolledList() {
+        this(DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Constructs a list whose blocks hold the given number of elements.
+     * @param blockSize the capacity of each block
+     * @throws IllegalArgumentException if the block size is less than 4
+     */
+    public MyUnrolledList(int blockSize) {
+        if (blockSize < MIN_BLOCK_SIZE) {
+            throw new IllegalArgumentException("Block size must be at least " + MIN_BLOCK_SIZE + ": " + blockSize);
+        }
+        this.blockSize = blockSize;
+        this.head = null;
+        this.tail = null;
+        this.size = 0;
+    }
+
+    /**
+     * @return the capacity of each block
+     */
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+    }
+
+    @Override
+    public boolean add(int index, E toAdd) throws NullPointerException, IndexOutOfBoundsException {
+        if (toAdd == null) {
+            throw new NullPointerException("Cannot add null element to the list");
+        }
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        if (index == size) {
+            append(toAdd);
+            return true;
+        }
+
+        Block block = findBlock(index);
+        int offset = foundOffset;
+        if (block.count == blockSize) {
+            Block upper = split(block);
+            if (offset > block.count) {
+                offset -= block.count;
+                block = upper;
+            }
+        }
+        block.insert(offset, toAdd);
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean add(E toAdd) throws NullPointerException {
+        if (toAdd == null) {
+            throw new NullPointerException("Cannot add null element");
+        }
+        append(toAdd);
+        return true;
+    }
+
+    @Override
+    public boolean addAll(ListADT<? extends E> toAdd) throws NullPointerException {
+        if (toAdd == null) {
+            throw new NullPointerException("Cannot add null list");
+        }
+
+        // Snapshot the source first so that adding a list to itself terminates
+        Object[] source = toAdd.toArray();
+        for (Object element : source) {
+            @SuppressWarnings("unchecked")
+            E e = (E) element;
+            append(e);
+        }
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) throws IndexOutOfBoundsException {
+        checkElementIndex(index);
+        Block block = findBlock(index);
+        return (E) block.items[foundOffset];
+    }
+
+    @Override
+    public E remove(int index) throws IndexOutOfBoundsException {
+        checkElementIndex(index);
+        Block block = findBlock(index);
+        return removeAt(block, foundOffset);
+    }
+
+    @Override
+    public E remove(E toRemove) throws NullPointerException {
+        if (toRemove == null) {
+            throw new NullPointerException("Cannot remove null element");
+        }
+
+        for (Block block = head; block != null; block = block.next) {
+            for (int i = 0; i < block.count; i++) {
+                if (toRemove.equals(block.items[i])) {
+                    return removeAt(block, i);
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E toChange) throws NullPointerException, IndexOutOfBoundsException {
+        if (toChange == null) {
+            throw new NullPointerException("Cannot set null element");
+        }
+        checkElementIndex(index);
+
+        Block block = findBlock(index);
+        E oldElement = (E) block.items[foundOffset];
+        block.items[foundOffset] = toChange;
+        return oldElement;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(E toFind) throws NullPointerException {
+        if (toFind == null) {
+            throw new NullPointerException("Cannot search for null element");
+        }
+        return indexOf(toFind) != -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of an element, in a single traversal.
+     * @param toFind the element to search for
+     * @return the index of the first equal element, or -1 if there is none
+     * @throws NullPointerException if the element is null
+     */
+    public int indexOf(E toFind) throws NullPointerException {
+        if (toFind == null) {
+            throw new NullPointerException("Cannot search for null element");
+        }
+
+        int start = 0;
+        for (Block block = head; block != null; block = block.next) {
+            for (int i = 0; i < block.count; i++) {
+                if (toFind.equals(block.items[i])) {
+                    return start + i;
+                }
+            }
+            start += block.count;
+        }
+        return -1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E[] toArray(E[] toHold) throws NullPointerException {
+        if (toHold == null) {
+            throw new NullPointerException("Array cannot be null");
+        }
+
+        if (toHold.length < size) {
+            toHold = (E[]) java.lang.reflect.Array.newInstance(
+                toHold.getClass().getComponentType(), size);
+        }
+        copyInto(toHold);
+
+        for (int j = size; j < toHold.length; j++) {
+            toHold[j] = null;
+        }
+        return toHold;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        copyInto(array);
+        return array;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new UnrolledIterator();
+    }
+
+    /**
+     * Helper method to find the block holding an index. The offset of the index
+     * inside that block is left in foundOffset.
+     * @param index the index of the element, from 0 to size() - 1
+     * @return the block holding that element
+     */
+    private Block findBlock(int index) {
+        // traverse from head if index is in first half, from tail if in second half
+        if (index < size / 2) {
+            Block block = head;
+            while (index >= block.count) {
+                index -= block.count;
+                block = block.next;
+            }
+            foundOffset = index;
+            return block;
+        }
+
+        Block block = tail;
+        int start = size - block.count;
+        while (index < start) {
+            block = block.prev;
+            start -= block.count;
+        }
+        foundOffset = index - start;
+        return block;
+    }
+
+    /**
+     * Adds an element at the end, starting a new block when the tail is full so that
+     * appended runs fill their blocks completely.
+     */
+    private void append(E toAdd) {
+        if (tail == null || tail.count == blockSize) {
+            linkAfter(new Block(blockSize), tail);
+        }
+        tail.items[tail.count++] = toAdd;
+        size++;
+    }
+
+    /**
+     * Moves the upper half of a full block into a new block linked after it.
+     * @param block the block to split
+     * @return the new block
+     */
+    private Block split(Block block) {
+        Block upper = new Block(blockSize);
+        int keep = block.count / 2;
+        int move = block.count - keep;
+        System.arraycopy(block.items, keep, upper.items, 0, move);
+        java.util.Arrays.fill(block.items, keep, block.count, null);
+        upper.count = move;
+        block.count = keep;
+        linkAfter(upper, block);
+        return upper;
+    }
+
+    /**
+     * Removes the element at an offset in a block, then merges the block with a
+     * neighbour if it has fallen below half full and the two fit in one block.
+     */
+    @SuppressWarnings("unchecked")
+    private E removeAt(Block block, int offset) {
+        E removed = (E) block.items[offset];
+        block.remove(offset);
+        size--;
+
+        if (block.count == 0) {
+            unlinkBlock(block);
+        } else if (block.count < blockSize / 2) {
+            if (block.next != null && block.count + block.next.count <= blockSize) {
+                merge(block, block.next);
+            } else if (block.prev != null && block.prev.count + block.count <= blockSize) {
+                merge(block.prev, block);
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Appends the elements of a block to the block before it and unlinks it.
+     */
+    private void merge(Block into, Block from) {
+        System.arraycopy(from.items, 0, into.items, into.count, from.count);
+        into.count += from.count;
+        unlinkBlock(from);
+    }
+
+    private void linkAfter(Block block, Block previous) {
+        Block following = previous == null ? head : previous.next;
+        block.prev = previous;
+        block.next = following;
+        if (previous == null) {
+            head = block;
+        } else {
+            previous.next = block;
+        }
+        if (following == null) {
+            tail = block;
+        } else {
+            following.prev = block;
+        }
+    }
+
+    private void unlinkBlock(Block block) {
+        if (block.prev == null) {
+            head = block.next;
+        } else {
+            block.prev.next = block.next;
+        }
+        if (block.next == null) {
+            tail = block.prev;
+        } else {
+            block.next.prev = block.prev;
+        }
+        block.prev = null;
+        block.next = null;
+    }
+
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void copyInto(Object[] array) {
+        int i = 0;
+        for (Block block = head; block != null; block = block.next) {
+            System.arraycopy(block.items, 0, array, i, block.count);
+            i += block.count;
+        }
+    }
+
+    /**
+     * A node of the list: an array block and the number of elements in use
+     */
+    private static final class Block {
+        private final Object[] items;
+        private int count;
+        private Block prev;
+        private Block next;
+
+        private Block(int capacity) {
+            this.items = new Object[capacity];
+        }
+
+        /** shift the elements from offset right by one and store the element there */
+        private void insert(int offset, Object element) {
+            System.arraycopy(items, offset, items, offset + 1, count - offset);
+            items[offset] = element;
+            count++;
+        }
+
+        /** shift the elements after offset left by one over the removed slot */
+        private void remove(int offset) {
+            System.arraycopy(items, offset + 1, items, offset, count - offset - 1);
+            items[--count] = null;
+        }
+    }
+
+    /**
+     * Iterator walking the blocks of the list
+     */
+    private class UnrolledIterator implements Iterator<E> {
+        private Block block = head;
+        private int offset = 0;
+        private int remaining = size;
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() throws NoSuchElementException {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements in the list");
+            }
+
+            while (offset == block.count) {
+                block = block.next;
+                offset = 0;
+            }
+            remaining--;
+            return (E) block.items[offset++];
+        }
+    }
+}
@@ -0,0 +1,417 @@
+package implementations;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * OffHeapRecordList - Positional list of fixed-width records stored outside the Java heap.
+ * Records live in direct ByteBuffer segments of a fixed number of records each, so the
+ * garbage collector never scans or copies them and the list grows by adding a segment
+ * rather than by copying. Fields are read and written in place by byte offset within a
+ * record, either by index on the list or through a Cursor, a reusable flyweight that
+ * walks the list without allocating per record.
+ * Memory is released by free(), which runs each segment's cleaner where the JVM allows
+ * it and otherwise leaves the segments to the garbage collector. The list cannot be
+ * used after free(), and it is not safe for concurrent use.
+ */
+
+public class OffHeapRecordList {
+
+    /** default segment size, in bytes */
+    public static final int DEFAULT_SEGMENT_BYTES = 1 << 20;
+
+    private final int recordSize;
+    private final int recordsPerSegment;
+    private final int segmentShift;
+    private final int segmentMask;
+
+    /** null once the list has been freed */
+    private ByteBuffer[] segments;
+    private int segmentCount;
+    private int size;
+
+    /** staging area for moving records, one segment long */
+    private byte[] scratch;
+
+    /**
+     * Constructs a list of records of the given width with segments of about 1 MB.
+     * @param recordSize the number of bytes in each record
+     * @throws IllegalArgumentException if the record size is not positive
+     */
+    public OffHeapRecordList(int recordSize) {
+        this(recordSize, Math.max(1, DEFAULT_SEGMENT_BYTES / Math.max(recordSize, 1)));
+    }
+
+    /**
+     * Constructs a list of records of the given width.
+     * @param recordSize the number of bytes in each record
+     * @param recordsPerSegment the number of records in each segment, rounded down to a power of two
+     * @throws IllegalArgumentException if either argument is not positive or a segment would exceed 2 GB
+     */
+    public OffHeapRecordList(int recordSize, int recordsPerSegment) {
+        if (recordSize <= 0) {
+            throw new IllegalArgumentException("Illegal record size: " + recordSize);
+        }
+        if (recordsPerSegment <= 0) {
+            throw new IllegalArgumentException("Illegal records per segment: " + recordsPerSegment);
+        }
+        int perSegment = Integer.highestOneBit(recordsPerSegment);
+        if ((long) perSegment * recordSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Segment too large: " + perSegment + " records of " + recordSize + " bytes");
+        }
+        this.recordSize = recordSize;
+        this.recordsPerSegment = perSegment;
+        this.segmentShift = Integer.numberOfTrailingZeros(perSegment);
+        this.segmentMask = perSegment - 1;
+        this.segments = new ByteBuffer[4];
+    }
+
+    public int getRecordSize() {
+        return recordSize;
+    }
+
+    public int size() {
+        checkNotFreed();
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Removes every record but keeps the segments for reuse. Use trimToSize() or free()
+     * to give the memory back.
+     */
+    public void clear() {
+        checkNotFreed();
+        size = 0;
+    }
+
+    /**
+     * Appends a zero-filled record.
+     * @return the index of the new record
+     */
+    public int add() {
+        checkNotFreed();
+        if (size == Integer.MAX_VALUE) {
+            throw new IllegalStateException("List cannot hold more than " + Integer.MAX_VALUE + " records.");
+        }
+        ensureSegments(size + 1);
+        zero(size);
+        return size++;
+    }
+
+    /**
+     * Inserts a zero-filled record at an index, shifting the records after it.
+     * @param index the position of the new record, from 0 to size()
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public void add(int index) {
+        checkNotFreed();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (size == Integer.MAX_VALUE) {
+            throw new IllegalStateException("List cannot hold more than " + Integer.MAX_VALUE + " records.");
+        }
+        ensureSegments(size + 1);
+        moveRecords(index, index + 1, size - index);
+        zero(index);
+        size++;
+    }
+
+    /**
+     * Removes the record at an index, shifting the records after it.
+     * @param index the position of the record
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public void remove(int index) {
+        checkElementIndex(index);
+        moveRecords(index + 1, index, size - index - 1);
+        size--;
+    }
+
+    /**
+     * Copies one record over another.
+     * @param from the index of the record to copy
+     * @param to the index of the record to overwrite
+     * @throws IndexOutOfBoundsException if either index is out of range
+     */
+    public void copy(int from, int to) {
+        checkElementIndex(from);
+        checkElementIndex(to);
+        moveRecords(from, to, 1);
+    }
+
+    public byte getByte(int index, int field) {
+        checkField(index, field, 1);
+        return segment(index).get(offset(index) + field);
+    }
+
+    public void putByte(int index, int field, byte value) {
+        checkField(index, field, 1);
+        segment(index).put(offset(index) + field, value);
+    }
+
+    public short getShort(int index, int field) {
+        checkField(index, field, 2);
+        return segment(index).getShort(offset(index) + field);
+    }
+
+    public void putShort(int index, int field, short value) {
+        checkField(index, field, 2);
+        segment(index).putShort(offset(index) + field, value);
+    }
+
+    public int getInt(int index, int field) {
+        checkField(index, field, 4);
+        return segment(index).getInt(offset(index) + field);
+    }
+
+    public void putInt(int index, int field, int value) {
+        checkField(index, field, 4);
+        segment(index).putInt(offset(index) + field, value);
+    }
+
+    public long getLong(int index, int field) {
+        checkField(index, field, 8);
+        return segment(index).getLong(offset(index) + field);
+    }
+
+    public void putLong(int index, int field, long value) {
+        checkField(index, field, 8);
+        segment(index).putLong(offset(index) + field, value);
+    }
+
+    /**
+     * Returns a new cursor positioned before the first record. One cursor can walk the
+     * whole list, and be repositioned any number of times, without further allocation.
+     * @return a cursor over this list
+     */
+    public Cursor cursor() {
+        checkNotFreed();
+        return new Cursor();
+    }
+
+    /**
+     * Releases the segments that hold no records.
+     */
+    public void trimToSize() {
+        checkNotFreed();
+        int needed = (int) (((long) size + recordsPerSegment - 1) >>> segmentShift);
+        for (int i = needed; i < segmentCount; i++) {
+            DirectBuffers.release(segments[i]);
+            segments[i] = null;
+        }
+        segmentCount = Math.min(segmentCount, needed);
+    }
+
+    /**
+     * Releases all off-heap memory now, where the JVM allows it. The list and its
+     * cursors cannot be used afterwards. Calling free() again has no effect.
+     */
+    public void free() {
+        if (segments == null) {
+            return;
+        }
+        for (int i = 0; i < segmentCount; i++) {
+            DirectBuffers.release(segments[i]);
+        }
+        segments = null;
+        segmentCount = 0;
+        size = 0;
+        scratch = null;
+    }
+
+    /**
+     * @return true once free() has been called
+     */
+    public boolean isFreed() {
+        return segments == null;
+    }
+
+    private ByteBuffer segment(int index) {
+        return segments[index >>> segmentShift];
+    }
+
+    private int offset(int index) {
+        return (index & segmentMask) * recordSize;
+    }
+
+    private void checkNotFreed() {
+        if (segments == null) {
+            throw new IllegalStateException("Record list has been freed.");
+        }
+    }
+
+    private void checkElementIndex(int index) {
+        checkNotFreed();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void checkField(int index, int field, int width) {
+        checkElementIndex(index);
+        if (field < 0 || field > recordSize - width) {
+            throw new IndexOutOfBoundsException("Field: " + field + ", Width: " + width + ", Record size: " + recordSize);
+        }
+    }
+
+    /** allocate segments until there is room for the given number of records */
+    private void ensureSegments(int records) {
+        while ((long) segmentCount << segmentShift < records) {
+            if (segmentCount == segments.length) {
+                segments = Arrays.copyOf(segments, segments.length * 2);
+            }
+            segments[segmentCount++] = ByteBuffer.allocateDirect(recordsPerSegment * recordSize)
+                .order(ByteOrder.nativeOrder());
+        }
+    }
+
+    private void zero(int index) {
+        ByteBuffer segment = segment(index);
+        int offset = offset(index);
+        for (int i = 0; i < recordSize; i++) {
+            segment.put(offset + i, (byte) 0);
+        }
+    }
+
+    /**
+     * Copies count records starting at from to the records starting at to, in runs that
+     * stay inside one segment on both sides. Overlapping ranges are handled by copying
+     * from the far end first when moving towards higher indexes.
+     */
+    private void moveRecords(int from, int to, int count) {
+        if (count == 0 || from == to) {
+            return;
+        }
+        if (scratch == null) {
+            scratch = new byte[recordsPerSegment * recordSize];
+        }
+
+        if (to > from) {
+            int srcEnd = from + count;
+            int dstEnd = to + count;
+            while (count > 0) {
+                int run = Math.min(count, Math.min(((srcEnd - 1) & segmentMask) + 1, ((dstEnd - 1) & segmentMask) + 1));
+                copyRun(srcEnd - run, dstEnd - run, run);
+                srcEnd -= run;
+                dstEnd -= run;
+                count -= run;
+            }
+        } else {
+            while (count > 0) {
+                int run = Math.min(count, recordsPerSegment - Math.max(from & segmentMask, to & segmentMask));
+                copyRun(from, to, run);
+                from += run;
+                to += run;
+                count -= run;
+            }
+        }
+    }
+
+    /** copy a run of records that does not cross a segment boundary on either side */
+    private void copyRun(int from, int to, int run) {
+        int bytes = run * recordSize;
+        ByteBuffer source = segment(from).duplicate();
+        source.position(offset(from));
+        source.get(scratch, 0, bytes);
+        ByteBuffer target = segment(to).duplicate();
+        target.position(offset(to));
+        target.put(scratch, 0, bytes);
+    }
+
+    /**
+     * Flyweight view of one record at a time. next() steps through the list in order and
+     * moveTo() jumps to any index; the field accessors read and write the current record
+     * in place. The cursor holds no copy of the record, so nothing is allocated as it moves.
+     */
+    public final class Cursor {
+        private int index = -1;
+
+        private Cursor() {
+        }
+
+        /**
+         * Moves to the next record.
+         * @return true if there is one, false if the cursor has passed the last record
+         */
+        public boolean next() {
+            checkNotFreed();
+            if (index + 1 >= size) {
+                index = size;
+                return false;
+            }
+            index++;
+            return true;
+        }
+
+        /**
+         * Moves to a record.
+         * @param index the index of the record
+         * @throws IndexOutOfBoundsException if the index is out of range
+         */
+        public void moveTo(int index) {
+            checkElementIndex(index);
+            this.index = index;
+        }
+
+        /**
+         * Moves back before the first record, so that next() starts over.
+         */
+        public void reset() {
+            index = -1;
+        }
+
+        /**
+         * @return the index of the current record
+         */
+        public int index() {
+            return index;
+        }
+
+        public byte getByte(int field) {
+            return OffHeapRecordList.this.getByte(current(), field);
+        }
+
+        public void putByte(int field, byte value) {
+            OffHeapRecordList.this.putByte(current(), field, value);
+        }
+
+        public short getShort(int field) {
+            return OffHeapRecordList.this.getShort(current(), field);
+        }
+
+        public void putShort(int field, short value) {
+            OffHeapRecordList.this.putShort(current(), field, value);
+        }
+
+        public int getInt(int field) {
+            return OffHeapRecordList.this.getInt(current(), field);
+        }
+
+        public void putInt(int field, int value) {
+            OffHeapRecordList.this.putInt(current(), field, value);
+        }
+
+        public long getLong(int field) {
+            return OffHeapRecordList.this.getLong(current(), field);
+        }
+
+        public void putLong(int field, long value) {
+            OffHeapRecordList.this.putLong(current(), field, value);
+        }
+
+        private int current() {
+            checkNotFreed();
+            if (index < 0 || index >= size) {
+                throw new NoSuchElementException("Cursor is not on a record");
+            }
+            return index;
+        }
+    }
+}
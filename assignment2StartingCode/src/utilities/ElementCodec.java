@@ -0,0 +1,34 @@
+package utilities;
+
+/**
+ * <p>
+ * The <code>ElementCodec</code> interface turns the elements of a data structure
+ * into bytes and back, so that implementations which keep their contents on disk
+ * or in another process can hold any element type. An implementation must be
+ * stateless, or at least safe to call repeatedly, and <code>decode</code> must
+ * return an element equal to the one that was encoded.
+ * </p>
+ * 
+ * @param <E> The type of elements this codec handles.
+ */
+public interface ElementCodec<E>
+{
+	/**
+	 * Encodes an element.
+	 * 
+	 * @param element The element to encode; never <code>null</code>.
+	 * @return The bytes representing the element.
+	 */
+	public byte[] encode( E element );
+
+	/**
+	 * Decodes an element from part of an array.
+	 * 
+	 * @param bytes  The array holding the encoded element.
+	 * @param offset The index of the first byte of the element.
+	 * @param length The number of bytes of the element.
+	 * @return The decoded element.
+	 * @throws IllegalArgumentException If the bytes are not a valid encoding.
+	 */
+	public E decode( byte[] bytes, int offset, int length ) throws IllegalArgumentException;
+}
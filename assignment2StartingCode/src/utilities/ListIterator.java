@@ -0,0 +1,82 @@
+package utilities;
+
+import java.util.NoSuchElementException;
+
+/**
+ * This interface extends the mono-directional iterator with the moves and
+ * edits of a list cursor. Unlike <code>Iterator</code>, a list iterator does
+ * not walk a copy: it works on the list itself, so elements can be removed,
+ * replaced or inserted at the cursor without searching for their position
+ * again. The cursor always lies between two elements, the one that
+ * <code>previous()</code> would return and the one that <code>next()</code>
+ * would return. The list must not be modified other than through the
+ * iterator while the iterator is in use.
+ *
+ * @param <E> The type of element this iterator returns.
+ */
+public interface ListIterator<E> extends Iterator<E>
+{
+	/**
+	 * Returns <code>true</code> if there is an element before the cursor. (In
+	 * other words, returns <code>true</code> if <code>previous()</code> would
+	 * return an element rather than throwing an exception.)
+	 *
+	 * @return <code>true</code> if the iterator has a previous element.
+	 */
+	public boolean hasPrevious();
+
+	/**
+	 * Returns the element before the cursor and moves the cursor backwards.
+	 *
+	 * @return The previous element in the list.
+	 * @throws NoSuchElementException If the cursor is at the start of the list.
+	 */
+	public E previous() throws NoSuchElementException;
+
+	/**
+	 * Returns the index of the element that would be returned by
+	 * <code>next()</code>, or the list size if the cursor is at the end.
+	 *
+	 * @return The index of the element after the cursor.
+	 */
+	public int nextIndex();
+
+	/**
+	 * Returns the index of the element that would be returned by
+	 * <code>previous()</code>, or -1 if the cursor is at the start.
+	 *
+	 * @return The index of the element before the cursor.
+	 */
+	public int previousIndex();
+
+	/**
+	 * Removes the element last returned by <code>next()</code> or
+	 * <code>previous()</code> from the list. It can be called once per call to
+	 * <code>next()</code> or <code>previous()</code>, and not after
+	 * <code>add()</code>.
+	 *
+	 * @throws IllegalStateException If there is no element to remove.
+	 */
+	public void remove() throws IllegalStateException;
+
+	/**
+	 * Replaces the element last returned by <code>next()</code> or
+	 * <code>previous()</code>. It cannot be called after <code>remove()</code>
+	 * or <code>add()</code>.
+	 *
+	 * @param toChange The element to store in its place.
+	 * @throws NullPointerException If the element is <code>null</code>.
+	 * @throws IllegalStateException If there is no element to replace.
+	 */
+	public void set( E toChange ) throws NullPointerException, IllegalStateException;
+
+	/**
+	 * Inserts an element immediately before the cursor, so a following call to
+	 * <code>next()</code> is unaffected and a call to <code>previous()</code>
+	 * returns the new element.
+	 *
+	 * @param toAdd The element to insert.
+	 * @throws NullPointerException If the element is <code>null</code>.
+	 */
+	public void add( E toAdd ) throws NullPointerException;
+}
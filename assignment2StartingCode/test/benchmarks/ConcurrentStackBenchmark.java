@@ -0,0 +1,108 @@
+package benchmarks;
+
+import java.util.concurrent.CountDownLatch;
+
+import implementations.MyConcurrentStack;
+import implementations.MyStack;
+import utilities.StackADT;
+
+/**
+ * @author agent
+ * @version 1.0 Oct. 18, 2026
+ * Class Description:
+ * Throughput harness comparing MyConcurrentStack with a MyStack guarded by
+ * synchronized, the way worker threads would share a stack of pending work. At
+ * each thread count every thread pushes a short burst and pops it again until
+ * the total number of operations is done, and the table shows operations per
+ * millisecond. Run it as a plain Java application; the optional argument is the
+ * number of push-pop pairs per run, default 2000000.
+ */
+
+public class ConcurrentStackBenchmark
+{
+	private static final int ROUNDS = 3;
+	private static final int BURST = 4;
+	private static final int[] THREADS = { 1, 2, 4, 8, 16, 32, 64 };
+
+	public static void main( String[] args ) throws InterruptedException
+	{
+		int pairs = args.length > 0 ? Integer.parseInt( args[0] ) : 2000000;
+		System.out.printf( "pairs=%d, processors=%d, best of %d rounds%n", pairs,
+				Runtime.getRuntime().availableProcessors(), ROUNDS );
+		System.out.printf( "%-8s %16s %16s%n", "threads", "lock-free", "synchronized" );
+		for( int threads : THREADS )
+		{
+			double lockFree = 0;
+			double locked = 0;
+			for( int round = 0; round < ROUNDS; round++ )
+			{
+				lockFree = Math.max( lockFree, run( new MyConcurrentStack<Integer>(), threads, pairs ) );
+				locked = Math.max( locked, run( new SynchronizedStack(), threads, pairs ) );
+			}
+			System.out.printf( "%-8d %13.0f/ms %13.0f/ms%n", threads, lockFree, locked );
+		}
+	}
+
+	/**
+	 * Runs the workload on the given number of threads and returns operations per millisecond.
+	 */
+	private static double run( StackADT<Integer> stack, int threads, int pairs ) throws InterruptedException
+	{
+		final int perThread = pairs / threads / BURST;
+		final CountDownLatch start = new CountDownLatch( 1 );
+		Thread[] workers = new Thread[threads];
+		for( int t = 0; t < threads; t++ )
+		{
+			final int id = t;
+			workers[t] = new Thread( () -> {
+				try
+				{
+					start.await();
+				}
+				catch( InterruptedException e )
+				{
+					return;
+				}
+				for( int i = 0; i < perThread; i++ )
+				{
+					for( int j = 0; j < BURST; j++ )
+					{
+						stack.push( id + j );
+					}
+					for( int j = 0; j < BURST; j++ )
+					{
+						stack.pop();
+					}
+				}
+			} );
+			workers[t].start();
+		}
+
+		long begin = System.nanoTime();
+		start.countDown();
+		for( Thread worker : workers )
+		{
+			worker.join();
+		}
+		double millis = ( System.nanoTime() - begin ) / 1e6;
+		return 2.0 * perThread * BURST * threads / millis;
+	}
+
+	/**
+	 * MyStack with every operation the benchmark uses behind one monitor.
+	 */
+	private static class SynchronizedStack extends MyStack<Integer>
+	{
+		@Override
+		public synchronized void push( Integer toAdd )
+		{
+			super.push( toAdd );
+		}
+
+		@Override
+		public synchronized Integer pop()
+		{
+			return super.pop();
+		}
+	}
+}
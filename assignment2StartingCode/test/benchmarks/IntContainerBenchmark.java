@@ -0,0 +1,132 @@
+package benchmarks;
+
+import exceptions.EmptyQueueException;
+import implementations.IntQueue;
+import implementations.IntStack;
+import implementations.MyQueue;
+import implementations.MyStack;
+
+/**
+ * @author agent
+ * @version 1.0 Oct. 18, 2026
+ * Class Description:
+ * Timing harness comparing IntStack and IntQueue with MyStack&lt;Integer&gt; and
+ * MyQueue&lt;Integer&gt;. Each structure is filled and emptied in bursts, the way
+ * the parser pushes and pops tag ids, and values run up to 100000 so most of
+ * them fall outside the Integer cache and have to be boxed. Run it as a plain
+ * Java application; the optional argument is the number of values per round,
+ * default 1000000.
+ */
+
+public class IntContainerBenchmark
+{
+	private static final int ROUNDS = 5;
+	private static final int BURST = 64;
+
+	public static void main( String[] args ) throws EmptyQueueException
+	{
+		int count = args.length > 0 ? Integer.parseInt( args[0] ) : 1000000;
+		double[] times = new double[4];
+		for( int round = 0; round < ROUNDS; round++ )
+		{
+			times[0] = intStack( count );
+			times[1] = myStack( count );
+			times[2] = intQueue( count );
+			times[3] = myQueue( count );
+		}
+		System.out.printf( "values=%d, last of %d rounds%n", count, ROUNDS );
+		System.out.printf( "%-20s %10.1fms%n", "IntStack", times[0] );
+		System.out.printf( "%-20s %10.1fms%n", "MyStack<Integer>", times[1] );
+		System.out.printf( "%-20s %10.1fms%n", "IntQueue", times[2] );
+		System.out.printf( "%-20s %10.1fms%n", "MyQueue<Integer>", times[3] );
+	}
+
+	private static double intStack( int count )
+	{
+		IntStack stack = new IntStack();
+		long sum = 0;
+		long start = System.nanoTime();
+		for( int i = 0; i < count; i += BURST )
+		{
+			for( int j = 0; j < BURST; j++ )
+			{
+				stack.push( ( i + j ) % 100000 );
+			}
+			for( int j = 0; j < BURST; j++ )
+			{
+				sum += stack.popInt();
+			}
+		}
+		return finish( start, sum );
+	}
+
+	private static double myStack( int count )
+	{
+		MyStack<Integer> stack = new MyStack<>();
+		long sum = 0;
+		long start = System.nanoTime();
+		for( int i = 0; i < count; i += BURST )
+		{
+			for( int j = 0; j < BURST; j++ )
+			{
+				stack.push( ( i + j ) % 100000 );
+			}
+			for( int j = 0; j < BURST; j++ )
+			{
+				sum += stack.pop();
+			}
+		}
+		return finish( start, sum );
+	}
+
+	private static double intQueue( int count ) throws EmptyQueueException
+	{
+		IntQueue queue = new IntQueue();
+		long sum = 0;
+		long start = System.nanoTime();
+		for( int i = 0; i < count; i += BURST )
+		{
+			for( int j = 0; j < BURST; j++ )
+			{
+				queue.enqueue( ( i + j ) % 100000 );
+			}
+			for( int j = 0; j < BURST; j++ )
+			{
+				sum += queue.dequeueInt();
+			}
+		}
+		return finish( start, sum );
+	}
+
+	private static double myQueue( int count ) throws EmptyQueueException
+	{
+		MyQueue<Integer> queue = new MyQueue<>();
+		long sum = 0;
+		long start = System.nanoTime();
+		for( int i = 0; i < count; i += BURST )
+		{
+			for( int j = 0; j < BURST; j++ )
+			{
+				queue.enqueue( ( i + j ) % 100000 );
+			}
+			for( int j = 0; j < BURST; j++ )
+			{
+				sum += queue.dequeue();
+			}
+		}
+		return finish( start, sum );
+	}
+
+	/**
+	 * Returns the elapsed milliseconds; the checksum keeps the work from being optimized away.
+	 */
+	private static double finish( long start, long checksum )
+	{
+		double millis = ( System.nanoTime() - start ) / 1e6;
+		if( checksum == Long.MIN_VALUE )
+		{
+			System.out.println( checksum );
+		}
+		return millis;
+	}
+}
@@ -0,0 +1,211 @@
+package benchmarks;
+
+import java.util.Random;
+
+import implementations.MyArrayDLL;
+import implementations.MyArrayList;
+import implementations.MyDLL;
+import implementations.MyGapList;
+import implementations.MySkipList;
+import implementations.MyTreeList;
+import implementations.MyUnrolledList;
+import utilities.Iterator;
+import utilities.ListADT;
+
+/**
+ * @author agent
+ * @version 1.0 Oct. 18, 2026
+ * Class Description:
+ * Timing harness comparing the ListADT implementations on mixed workloads.
+ * Run it as a plain Java application; each workload is repeated so the JIT
+ * has warmed up before the last (reported) round. Optional arguments are the
+ * list size and the number of operations, defaults 100000 and 20000.
+ */
+
+public class ListBenchmark
+{
+	private static final int ROUNDS = 5;
+
+	/**
+	 * Supplies a fresh, empty list for each run.
+	 */
+	private interface ListFactory
+	{
+		ListADT<Integer> create();
+	}
+
+	public static void main( String[] args )
+	{
+		int size = args.length > 0 ? Integer.parseInt( args[0] ) : 100000;
+		int operations = args.length > 1 ? Integer.parseInt( args[1] ) : 20000;
+
+		String[] names = { "MyArrayList", "MyDLL", "MyArrayDLL", "MyUnrolledList", "MyTreeList", "MySkipList", "MyGapList" };
+		ListFactory[] factories = {
+			() -> new MyArrayList<Integer>(),
+			() -> new MyDLL<Integer>(),
+			() -> new MyArrayDLL<Integer>(),
+			() -> new MyUnrolledList<Integer>(),
+			() -> new MyTreeList<Integer>(),
+			() -> new MySkipList<Integer>(),
+			() -> new MyGapList<Integer>()
+		};
+
+		System.out.printf( "size=%d operations=%d%n", size, operations );
+		System.out.printf( "%-16s %12s %12s %12s %12s %12s%n", "list", "append+scan", "mid insert", "mixed", "random get",
+				"cursor edit" );
+		for( int i = 0; i < names.length; i++ )
+		{
+			double[] times = new double[5];
+			for( int round = 0; round < ROUNDS; round++ )
+			{
+				times[0] = appendAndScan( factories[i].create(), size );
+				times[1] = middleInserts( factories[i].create(), size, operations );
+				times[2] = mixed( factories[i].create(), size, operations );
+				times[3] = randomGets( factories[i].create(), size, operations );
+				times[4] = cursorEdits( factories[i].create(), size, operations );
+			}
+			System.out.printf( "%-16s %10.1fms %10.1fms %10.1fms %10.1fms %10.1fms%n",
+					names[i], times[0], times[1], times[2], times[3], times[4] );
+		}
+	}
+
+	/**
+	 * Appends size elements, then sums them twice with the iterator.
+	 */
+	private static double appendAndScan( ListADT<Integer> list, int size )
+	{
+		long start = System.nanoTime();
+		for( int i = 0; i < size; i++ )
+		{
+			list.add( i );
+		}
+		long sum = 0;
+		for( int pass = 0; pass < 2; pass++ )
+		{
+			Iterator<Integer> it = list.iterator();
+			while( it.hasNext() )
+			{
+				sum += it.next();
+			}
+		}
+		return finish( start, sum );
+	}
+
+	/**
+	 * Fills the list, then inserts at random positions.
+	 */
+	private static double middleInserts( ListADT<Integer> list, int size, int operations )
+	{
+		fill( list, size );
+		Random random = new Random( 1 );
+		long start = System.nanoTime();
+		for( int i = 0; i < operations; i++ )
+		{
+			list.add( random.nextInt( list.size() + 1 ), i );
+		}
+		return finish( start, list.size() );
+	}
+
+	/**
+	 * Fills the list, then runs random inserts, removes and gets in equal measure,
+	 * followed by one full scan.
+	 */
+	private static double mixed( ListADT<Integer> list, int size, int operations )
+	{
+		fill( list, size );
+		Random random = new Random( 2 );
+		long sum = 0;
+		long start = System.nanoTime();
+		for( int i = 0; i < operations; i++ )
+		{
+			int choice = random.nextInt( 3 );
+			if( choice == 0 )
+			{
+				list.add( random.nextInt( list.size() + 1 ), i );
+			}
+			else if( choice == 1 )
+			{
+				sum += list.remove( random.nextInt( list.size() ) );
+			}
+			else
+			{
+				sum += list.get( random.nextInt( list.size() ) );
+			}
+		}
+		Iterator<Integer> it = list.iterator();
+		while( it.hasNext() )
+		{
+			sum += it.next();
+		}
+		return finish( start, sum );
+	}
+
+	/**
+	 * Fills the list, then reads random positions.
+	 */
+	private static double randomGets( ListADT<Integer> list, int size, int operations )
+	{
+		fill( list, size );
+		Random random = new Random( 3 );
+		long sum = 0;
+		long start = System.nanoTime();
+		for( int i = 0; i < operations; i++ )
+		{
+			sum += list.get( random.nextInt( size ) );
+		}
+		return finish( start, sum );
+	}
+
+	/**
+	 * Fills the list, then inserts and removes around a cursor that mostly moves a
+	 * few places at a time and occasionally jumps, like edits to a document.
+	 */
+	private static double cursorEdits( ListADT<Integer> list, int size, int operations )
+	{
+		fill( list, size );
+		Random random = new Random( 4 );
+		int cursor = size / 2;
+		long start = System.nanoTime();
+		for( int i = 0; i < operations; i++ )
+		{
+			if( random.nextInt( 100 ) == 0 )
+			{
+				cursor = random.nextInt( list.size() );
+			}
+			else
+			{
+				cursor = Math.max( 0, Math.min( list.size() - 1, cursor + random.nextInt( 5 ) - 2 ) );
+			}
+			if( random.nextBoolean() )
+			{
+				list.add( cursor, i );
+			}
+			else
+			{
+				list.remove( cursor );
+			}
+		}
+		return finish( start, list.size() );
+	}
+
+	private static void fill( ListADT<Integer> list, int size )
+	{
+		for( int i = 0; i < size; i++ )
+		{
+			list.add( i );
+		}
+	}
+
+	/**
+	 * Returns the elapsed milliseconds; the checksum keeps the work from being optimized away.
+	 */
+	private static double finish( long start, long checksum )
+	{
+		double millis = ( System.nanoTime() - start ) / 1e6;
+		if( checksum == Long.MIN_VALUE )
+		{
+			System.out.println( checksum );
+		}
+		return millis;
+	}
+}
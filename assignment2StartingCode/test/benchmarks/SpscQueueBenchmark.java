@@ -0,0 +1,235 @@
+package benchmarks;
+
+import exceptions.EmptyQueueException;
+import implementations.MyBoundedQueue;
+import implementations.MyConcurrentQueue;
+import implementations.MyQueue;
+import implementations.MySpscQueue;
+
+/**
+ * @author agent
+ * @version 1.0 Oct. 19, 2026
+ * Class Description:
+ * Throughput harness for a single producer thread handing items to a single
+ * consumer thread, the shape of one stage of a parsing pipeline. MySpscQueue is
+ * timed with one item at a time and with blocks of 64, against MyConcurrentQueue,
+ * MyBoundedQueue and a MyQueue guarded by synchronized. Bounded queues have 1024
+ * slots; both threads yield when they find the queue full or empty. Run it as a
+ * plain Java application; the optional argument is the number of items per run,
+ * default 5000000.
+ */
+
+public class SpscQueueBenchmark
+{
+	private static final int ROUNDS = 3;
+	private static final int CAPACITY = 1024;
+	private static final int BLOCK = 64;
+
+	/**
+	 * One side of a transfer, run on its own thread.
+	 */
+	private interface Side
+	{
+		void run( int count );
+	}
+
+	public static void main( String[] args ) throws InterruptedException
+	{
+		int count = args.length > 0 ? Integer.parseInt( args[0] ) : 5000000;
+		String[] names = { "MySpscQueue", "MySpscQueue blocks", "MyConcurrentQueue", "MyBoundedQueue",
+				"synchronized MyQueue" };
+		double[] best = new double[names.length];
+		for( int round = 0; round < ROUNDS; round++ )
+		{
+			for( int q = 0; q < names.length; q++ )
+			{
+				best[q] = Math.max( best[q], run( q, count ) );
+			}
+		}
+		System.out.printf( "items=%d, processors=%d, best of %d rounds%n", count,
+				Runtime.getRuntime().availableProcessors(), ROUNDS );
+		for( int q = 0; q < names.length; q++ )
+		{
+			System.out.printf( "%-22s %10.0f items/ms%n", names[q], best[q] );
+		}
+	}
+
+	private static double run( int which, int count ) throws InterruptedException
+	{
+		Side producer;
+		Side consumer;
+		switch( which )
+		{
+			case 0:
+			{
+				MySpscQueue<Integer> queue = new MySpscQueue<>( CAPACITY );
+				producer = n -> {
+					for( int i = 0; i < n; i++ )
+					{
+						while( !queue.offer( i ) )
+						{
+							Thread.yield();
+						}
+					}
+				};
+				consumer = n -> {
+					for( int i = 0; i < n; )
+					{
+						if( queue.poll() == null )
+						{
+							Thread.yield();
+						}
+						else
+						{
+							i++;
+						}
+					}
+				};
+				break;
+			}
+			case 1:
+			{
+				MySpscQueue<Integer> queue = new MySpscQueue<>( CAPACITY );
+				producer = n -> {
+					Integer[] block = new Integer[BLOCK];
+					for( int i = 0; i < n; )
+					{
+						int length = Math.min( BLOCK, n - i );
+						for( int j = 0; j < length; j++ )
+						{
+							block[j] = i + j;
+						}
+						for( int sent = 0; sent < length; )
+						{
+							int added = queue.fillFrom( block, sent, length - sent );
+							if( added == 0 )
+							{
+								Thread.yield();
+							}
+							sent += added;
+						}
+						i += length;
+					}
+				};
+				consumer = n -> {
+					Integer[] block = new Integer[BLOCK];
+					for( int i = 0; i < n; )
+					{
+						int taken = queue.drainTo( block, 0, BLOCK );
+						if( taken == 0 )
+						{
+							Thread.yield();
+						}
+						i += taken;
+					}
+				};
+				break;
+			}
+			case 2:
+			{
+				MyConcurrentQueue<Integer> queue = new MyConcurrentQueue<>();
+				producer = n -> {
+					for( int i = 0; i < n; i++ )
+					{
+						queue.enqueue( i );
+					}
+				};
+				consumer = n -> {
+					for( int i = 0; i < n; )
+					{
+						if( queue.poll() == null )
+						{
+							Thread.yield();
+						}
+						else
+						{
+							i++;
+						}
+					}
+				};
+				break;
+			}
+			case 3:
+			{
+				MyBoundedQueue<Integer> queue = new MyBoundedQueue<>( CAPACITY );
+				producer = n -> {
+					for( int i = 0; i < n; i++ )
+					{
+						while( !queue.offer( i ) )
+						{
+							Thread.yield();
+						}
+					}
+				};
+				consumer = n -> {
+					for( int i = 0; i < n; )
+					{
+						if( queue.poll() == null )
+						{
+							Thread.yield();
+						}
+						else
+						{
+							i++;
+						}
+					}
+				};
+				break;
+			}
+			default:
+			{
+				MyQueue<Integer> queue = new MyQueue<>();
+				producer = n -> {
+					for( int i = 0; i < n; i++ )
+					{
+						synchronized( queue )
+						{
+							queue.enqueue( i );
+						}
+					}
+				};
+				consumer = n -> {
+					for( int i = 0; i < n; )
+					{
+						if( dequeueOne( queue ) == 0 )
+						{
+							Thread.yield();
+						}
+						else
+						{
+							i++;
+						}
+					}
+				};
+				break;
+			}
+		}
+
+		Thread other = new Thread( () -> consumer.run( count ) );
+		long start = System.nanoTime();
+		other.start();
+		producer.run( count );
+		other.join();
+		return count / ( ( System.nanoTime() - start ) / 1e6 );
+	}
+
+	/**
+	 * Dequeues one item from a synchronized MyQueue.
+	 * @return 1 if an item was dequeued, 0 if the queue was empty
+	 */
+	private static int dequeueOne( MyQueue<Integer> queue )
+	{
+		synchronized( queue )
+		{
+			try
+			{
+				queue.dequeue();
+				return 1;
+			}
+			catch( EmptyQueueException e )
+			{
+				return 0;
+			}
+		}
+	}
+}
@@ -0,0 +1,251 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.NoSuchElementException;
+
+import org.junit.Test;
+
+import implementations.MyArrayDLL;
+import utilities.ListIterator;
+
+/**
+ * @author agent
+ * @version 1.0 Oct. 18, 2026
+ * Class Description:
+ * Test for the array-linked implementation of the ListADT defined in the CPRG304
+ * Assignment 2.
+ */
+
+public class ArrayDLLTest extends ListADTContract<MyArrayDLL<Integer>>
+{
+	/**
+	 * Creates an empty MyArrayDLL for the ListADT tests inherited from ListADTContract.
+	 * @return a new empty list
+	 */
+	@Override
+	protected MyArrayDLL<Integer> newList()
+	{
+		return new MyArrayDLL<>();
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayDLL#indexOf(java.lang.Object)}
+	 * to return the index of the first occurrence of an item.
+	 */
+	@Test
+	public void testIndexOf_found()
+	{
+		myList.add( one );
+		myList.add( two );
+		myList.add( three );
+		myList.add( two );
+
+		int actual = myList.indexOf( two );
+		assertEquals( "Failed to return first index.", 1, actual );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayDLL#indexOf(java.lang.Object)}
+	 * to return -1 for an item that is not in the list.
+	 */
+	@Test
+	public void testIndexOf_notFound()
+	{
+		myList.add( one );
+		myList.add( two );
+
+		int actual = myList.indexOf( five );
+		assertEquals( "Failed to return -1.", -1, actual );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayDLL#listIterator()}
+	 * to remove items at the cursor while walking the list.
+	 */
+	@Test
+	public void testListIterator_removeWhileIterating()
+	{
+		for( int i = 1; i <= 10; i++ )
+		{
+			myList.add( i );
+		}
+
+		ListIterator<Integer> it = myList.listIterator();
+		while( it.hasNext() )
+		{
+			if( it.next() % 2 == 0 )
+			{
+				it.remove();
+			}
+		}
+
+		Integer[] expected = { 1, 3, 5, 7, 9 };
+		assertArrayEquals( "Failed to remove at cursor.", expected, myList.toArray( new Integer[0] ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayDLL#listIterator(int)}
+	 * to walk backwards and replace items with set.
+	 */
+	@Test
+	public void testListIterator_previousAndSet()
+	{
+		myList.add( one );
+		myList.add( two );
+		myList.add( three );
+
+		ListIterator<Integer> it = myList.listIterator( myList.size() );
+		assertEquals( "Failed to start at the end.", 3, it.nextIndex() );
+		assertEquals( "Failed to return previous item.", three, it.previous() );
+		assertEquals( "Failed to return previous item.", two, it.previous() );
+		it.set( five );
+		assertEquals( "Failed to update previous index.", 0, it.previousIndex() );
+
+		Integer[] expected = { 1, 5, 3 };
+		assertArrayEquals( "Failed to set at cursor.", expected, myList.toArray( new Integer[0] ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayDLL#listIterator()}
+	 * to insert items in front of the cursor.
+	 */
+	@Test
+	public void testListIterator_add()
+	{
+		myList.add( one );
+		myList.add( three );
+
+		ListIterator<Integer> it = myList.listIterator();
+		it.next();
+		it.add( two );
+		assertEquals( "Failed to advance past added item.", three, it.next() );
+		it.add( four );
+		assertEquals( "Failed to place added item before cursor.", four, it.previous() );
+
+		Integer[] expected = { 1, 2, 3, 4 };
+		assertArrayEquals( "Failed to add at cursor.", expected, myList.toArray( new Integer[0] ) );
+		assertEquals( "Failed to update size.", 4, myList.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayDLL#listIterator()}
+	 * to throw IllegalStateException when remove is called before next.
+	 */
+	@Test
+	public void testListIterator_removeIllegalState()
+	{
+		myList.add( one );
+		ListIterator<Integer> it = myList.listIterator();
+		try
+		{
+			it.remove();
+			fail( "Failed to throw IllegalStateException." );
+		}
+		catch( IllegalStateException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayDLL#listIterator()}
+	 * to throw NoSuchElementException when previous is called at the start.
+	 */
+	@Test
+	public void testListIterator_previousNoSuchElement()
+	{
+		myList.add( one );
+		ListIterator<Integer> it = myList.listIterator();
+		try
+		{
+			it.previous();
+			fail( "Failed to throw NoSuchElementException." );
+		}
+		catch( NoSuchElementException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayDLL#add(java.lang.Object)}
+	 * to reuse freed slots after removals and keep the order.
+	 */
+	@Test
+	public void testAdd_reusesFreedSlots()
+	{
+		for( int i = 0; i < 10; i++ )
+		{
+			myList.add( i );
+		}
+		for( int i = 0; i < 5; i++ )
+		{
+			myList.remove( 0 );
+		}
+		for( int i = 10; i < 15; i++ )
+		{
+			myList.add( 0, i );
+		}
+
+		Integer[] expected = { 14, 13, 12, 11, 10, 5, 6, 7, 8, 9 };
+		assertArrayEquals( "Failed to keep order.", expected, myList.toArray( new Integer[0] ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayDLL#compact()}
+	 * to keep every item in order and keep the list usable afterwards.
+	 */
+	@Test
+	public void testCompact()
+	{
+		for( int i = 0; i < 100; i++ )
+		{
+			myList.add( i );
+		}
+		ListIterator<Integer> it = myList.listIterator();
+		while( it.hasNext() )
+		{
+			if( it.next() % 3 != 0 )
+			{
+				it.remove();
+			}
+		}
+
+		myList.compact();
+		myList.add( 0, five );
+		myList.add( five );
+
+		assertEquals( "Failed to update size.", 36, myList.size() );
+		assertEquals( "Failed to keep head.", five, myList.get( 0 ) );
+		assertEquals( "Failed to keep order.", Integer.valueOf( 99 ), myList.get( 34 ) );
+		assertEquals( "Failed to keep tail.", five, myList.remove( 35 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayDLL#compact()}
+	 * to leave an empty list usable.
+	 */
+	@Test
+	public void testCompact_empty()
+	{
+		myList.add( one );
+		myList.remove( 0 );
+
+		myList.compact();
+		myList.add( two );
+
+		assertEquals( "Failed to add after compact.", two, myList.get( 0 ) );
+		assertEquals( "Failed to update size.", 1, myList.size() );
+	}
+}
@@ -11,6 +11,7 @@ import org.junit.Test;
 import implementations.MyArrayList;
 import implementations.MyDLL;
 import utilities.Iterator;
+import utilities.ListIterator;
 
 /**
  * @author kitty, maryam
@@ -1299,4 +1300,328 @@ public class ArrayListTest
 
 		assertArrayEquals( "Failed to convert list to array.", original, returnArray );
 	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#listIterator()}
+	 * to remove items at the cursor while walking the list.
+	 */
+	@Test
+	public void testListIterator_removeWhileIterating()
+	{
+		for( int i = 1; i <= 10; i++ )
+		{
+			myList.add( i );
+		}
+
+		ListIterator<Integer> it = myList.listIterator();
+		while( it.hasNext() )
+		{
+			if( it.next() % 2 == 0 )
+			{
+				it.remove();
+			}
+		}
+
+		Integer[] expected = { 1, 3, 5, 7, 9 };
+		assertArrayEquals( "Failed to remove at cursor.", expected, myList.toArray( new Integer[0] ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#listIterator(int)}
+	 * to walk backwards and replace items with set.
+	 */
+	@Test
+	public void testListIterator_previousAndSet()
+	{
+		myList.add( one );
+		myList.add( two );
+		myList.add( three );
+
+		ListIterator<Integer> it = myList.listIterator( myList.size() );
+		assertEquals( "Failed to start at the end.", 3, it.nextIndex() );
+		assertEquals( "Failed to return previous item.", three, it.previous() );
+		assertEquals( "Failed to return previous item.", two, it.previous() );
+		it.set( five );
+		assertEquals( "Failed to update previous index.", 0, it.previousIndex() );
+
+		Integer[] expected = { 1, 5, 3 };
+		assertArrayEquals( "Failed to set at cursor.", expected, myList.toArray( new Integer[0] ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#listIterator()}
+	 * to insert items in front of the cursor.
+	 */
+	@Test
+	public void testListIterator_add()
+	{
+		myList.add( one );
+		myList.add( three );
+
+		ListIterator<Integer> it = myList.listIterator();
+		it.next();
+		it.add( two );
+		assertEquals( "Failed to advance past added item.", three, it.next() );
+		it.add( four );
+		assertEquals( "Failed to place added item before cursor.", four, it.previous() );
+
+		Integer[] expected = { 1, 2, 3, 4 };
+		assertArrayEquals( "Failed to add at cursor.", expected, myList.toArray( new Integer[0] ) );
+		assertEquals( "Failed to update size.", 4, myList.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#listIterator()}
+	 * to throw IllegalStateException when remove is called before next.
+	 */
+	@Test
+	public void testListIterator_removeIllegalState()
+	{
+		myList.add( one );
+		ListIterator<Integer> it = myList.listIterator();
+		try
+		{
+			it.remove();
+			fail( "Failed to throw IllegalStateException." );
+		}
+		catch( IllegalStateException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#listIterator()}
+	 * to throw NoSuchElementException when previous is called at the start.
+	 */
+	@Test
+	public void testListIterator_previousNoSuchElement()
+	{
+		myList.add( one );
+		ListIterator<Integer> it = myList.listIterator();
+		try
+		{
+			it.previous();
+			fail( "Failed to throw NoSuchElementException." );
+		}
+		catch( NoSuchElementException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#listIterator()}
+	 * to remove every other item of a large list in one pass, and leave the
+	 * list usable afterwards.
+	 */
+	@Test
+	public void testListIterator_filterLargeList()
+	{
+		int count = 200000;
+		for( int i = 0; i < count; i++ )
+		{
+			myList.add( i );
+		}
+
+		ListIterator<Integer> it = myList.listIterator();
+		while( it.hasNext() )
+		{
+			if( it.next() % 2 == 1 )
+			{
+				it.remove();
+			}
+		}
+
+		assertEquals( "Failed to update size.", count / 2, myList.size() );
+		for( int i = 0; i < count / 2; i++ )
+		{
+			assertEquals( "Failed to keep order.", Integer.valueOf( 2 * i ), myList.get( i ) );
+		}
+		myList.add( -1 );
+		assertEquals( "Failed to append after filtering.", Integer.valueOf( -1 ), myList.get( count / 2 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#listIterator(int)}
+	 * to agree with java.util.ArrayList over random moves and edits at the
+	 * cursor, with reads of the list in between.
+	 */
+	@Test
+	public void testListIterator_randomEdits()
+	{
+		java.util.Random random = new java.util.Random( 3 );
+		java.util.List<Integer> model = new java.util.ArrayList<>();
+		for( int i = 0; i < 50; i++ )
+		{
+			myList.add( i );
+			model.add( i );
+		}
+
+		for( int round = 0; round < 20; round++ )
+		{
+			int start = random.nextInt( model.size() + 1 );
+			ListIterator<Integer> it = myList.listIterator( start );
+			java.util.ListIterator<Integer> expected = model.listIterator( start );
+			boolean canEdit = false;
+			for( int step = 0; step < 200; step++ )
+			{
+				int op = random.nextInt( 6 );
+				if( op == 0 && expected.hasNext() )
+				{
+					assertEquals( "Failed to return next item.", expected.next(), it.next() );
+					canEdit = true;
+				}
+				else if( op == 1 && expected.hasPrevious() )
+				{
+					assertEquals( "Failed to return previous item.", expected.previous(), it.previous() );
+					canEdit = true;
+				}
+				else if( op == 2 && canEdit )
+				{
+					expected.remove();
+					it.remove();
+					canEdit = false;
+				}
+				else if( op == 3 && canEdit )
+				{
+					expected.set( 1000 + step );
+					it.set( 1000 + step );
+				}
+				else if( op == 4 )
+				{
+					expected.add( 2000 + step );
+					it.add( 2000 + step );
+					canEdit = false;
+				}
+				assertEquals( "Failed to track next index.", expected.nextIndex(), it.nextIndex() );
+				assertEquals( "Failed to track size.", model.size(), myList.size() );
+				assertEquals( "Failed to track hasNext.", expected.hasNext(), it.hasNext() );
+			}
+			assertArrayEquals( "Failed to edit at cursor.", model.toArray( new Integer[0] ),
+					myList.toArray( new Integer[0] ) );
+			if( !model.isEmpty() )
+			{
+				int index = random.nextInt( model.size() );
+				assertEquals( "Failed to read after editing.", model.get( index ), myList.get( index ) );
+			}
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#listIterator()}
+	 * to let several threads read a list while a list iterator's gap is open,
+	 * as reads step over the gap without moving elements, and to close the gap
+	 * when the list is next modified.
+	 * @throws Exception
+	 */
+	@Test
+	public void testListIterator_concurrentReadsOverGap() throws Exception
+	{
+		for( int round = 0; round < 10; round++ )
+		{
+			myList.clear();
+			java.util.List<Integer> model = new java.util.ArrayList<>();
+			for( int i = 0; i < 100000; i++ )
+			{
+				myList.add( i );
+				model.add( i );
+			}
+			ListIterator<Integer> it = myList.listIterator();
+			for( int i = 0; i < 2000; i++ )
+			{
+				it.next();
+				if( i % 2 == 0 )
+				{
+					it.remove();
+				}
+			}
+			for( int i = 0; i < 1000; i++ )
+			{
+				model.remove( i );
+			}
+
+			Integer[] expected = model.toArray( new Integer[0] );
+			java.util.concurrent.CountDownLatch start = new java.util.concurrent.CountDownLatch( 1 );
+			java.util.concurrent.atomic.AtomicReference<Throwable> failure = new java.util.concurrent.atomic.AtomicReference<>();
+			Thread[] readers = new Thread[4];
+			for( int t = 0; t < readers.length; t++ )
+			{
+				readers[t] = new Thread( () -> {
+					try
+					{
+						start.await();
+						for( int i = expected.length - 1; i >= 0; i-- )
+						{
+							assertEquals( "Failed to read over the gap.", expected[i], myList.get( i ) );
+						}
+						assertTrue( "Failed to search over the gap.", myList.contains( 99999 ) );
+						assertArrayEquals( "Failed to copy over the gap.", expected, myList.toArray( new Integer[0] ) );
+					}
+					catch( Throwable e )
+					{
+						failure.set( e );
+					}
+				} );
+				readers[t].start();
+			}
+			start.countDown();
+			for( Thread reader : readers )
+			{
+				reader.join();
+			}
+			assertNull( failure.get() );
+
+			myList.add( 0, -1 );
+			model.add( 0, -1 );
+			assertArrayEquals( "Failed to close the gap.", model.toArray( new Integer[0] ),
+					myList.toArray( new Integer[0] ) );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyArrayList#listIterator(int)}
+	 * to read past the gap left by another list iterator, and to close that
+	 * gap before opening its own when it edits.
+	 */
+	@Test
+	public void testListIterator_secondIteratorOverGap()
+	{
+		for( int i = 0; i < 20; i++ )
+		{
+			myList.add( i );
+		}
+		ListIterator<Integer> first = myList.listIterator( 5 );
+		first.next();
+		first.remove();
+		first.add( 100 );
+		first.add( 101 );
+
+		ListIterator<Integer> second = myList.listIterator( 3 );
+		Integer[] expected = { 3, 4, 100, 101, 6, 7 };
+		for( Integer value : expected )
+		{
+			assertEquals( "Failed to read past another iterator's gap.", value, second.next() );
+		}
+		second.remove();
+		second.add( 200 );
+		assertEquals( "Failed to read back across the gap.", Integer.valueOf( 200 ), second.previous() );
+		assertEquals( "Failed to read back across the gap.", Integer.valueOf( 6 ), second.previous() );
+
+		Integer[] all = { 0, 1, 2, 3, 4, 100, 101, 6, 200, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19 };
+		assertArrayEquals( "Failed to edit with two iterators.", all, myList.toArray( new Integer[0] ) );
+		for( int i = 0; i < all.length; i++ )
+		{
+			assertEquals( "Failed to read after editing.", all[i], myList.get( i ) );
+		}
+	}
 }
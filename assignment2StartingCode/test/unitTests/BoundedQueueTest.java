@@ -0,0 +1,916 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import exceptions.EmptyQueueException;
+import utilities.Iterator;
+import implementations.MyBoundedQueue;
+
+/**
+ * @author agent
+ * @version 1.0 Oct. 18, 2026
+ * Class Description:
+ * Test for the bounded, blocking implementation of the QueueADT defined in the CPRG 304
+ * Assignment 2. The contract tests use a capacity large enough never to fill;
+ * the tests after them fill small queues and block on them from other threads.
+ */
+
+public class BoundedQueueTest
+{
+	private static final int CAPACITY = 1000;
+
+	// Attributes
+	private MyBoundedQueue<Integer> queue;
+	private Integer one;
+	private Integer two;
+	private Integer three;
+	private Integer four;
+	private Integer five;
+	
+	/**
+	 * Initializes a MyBoundedQueue instance and five Integer instances before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		queue = new MyBoundedQueue<Integer>( CAPACITY );
+		one = 111;
+		two = 222;
+		three = 333;
+		four = 444;
+		five = 555;
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		queue = null;
+		one = null;
+		two = null;
+		three = null;
+		four = null;
+		five = null;
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyBoundedQueue#MyBoundedQueue(int)}
+	 * to create a queue.
+	 */
+	@Test
+	public void testConstructor()
+	{
+		boolean expected = true;
+		boolean actual = queue != null;
+		assertEquals( "Failed to create the queue.", expected, actual );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyBoundedQueue#dequeueAll()}
+	 * to clear the queue.
+	 */
+	@Test
+	public void testDequeueAll_Size()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.dequeueAll();
+		
+		assertEquals( "Failed to clear.", 0, queue.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyBoundedQueue#equals(utilities.QueueADT)}
+	 * to return true when two queues are equal.
+	 */
+	@Test
+	public void testEquals_True()
+	{
+		MyBoundedQueue<Integer> queue2 = new MyBoundedQueue<Integer>( CAPACITY );
+		boolean expected = true;
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+
+		queue2.enqueue( one );
+		queue2.enqueue( two );
+		queue2.enqueue( three );
+
+		boolean actual = queue.equals( queue2 );
+		assertEquals( "Failed to return true.", expected, actual );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyBoundedQueue#equals(utilities.QueueADT)}
+	 * to return false when two queues are not equal.
+	 * @throws EmptyQueueException 
+	 */
+	@Test
+	public void testEquals_False() throws EmptyQueueException
+	{
+		MyBoundedQueue<Integer> queue2 = new MyBoundedQueue<Integer>( CAPACITY );
+		boolean expected = false;
+		queue.enqueue( two );
+		queue.enqueue( one );
+		queue.enqueue( three );
+
+		queue2.enqueue( one );
+		queue2.enqueue( two );
+		queue2.enqueue( three );
+
+		boolean actual = queue.equals( queue2 );
+		assertEquals( "Failed to return false.", expected, actual );
+
+		
+		queue2.dequeue();
+		actual = queue.equals( queue2 );
+		assertEquals( "Failed to return false", expected, actual );
+
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyBoundedQueue#isEmpty()}
+	 * to return true when queue is empty.
+	 */
+	@Test
+	public void testIsEmpty_True()
+	{
+		boolean expected = true;
+
+		boolean actual = queue.isEmpty();
+		assertEquals( "Failed to return true.", expected, actual );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyBoundedQueue#isEmpty()}
+	 * to return false when the queue is not empty.
+	 */
+	@Test
+	public void testIsEmpty_False()
+	{
+		boolean expected = false;
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		boolean actual = queue.isEmpty();
+		assertEquals( "Failed to return false.", expected, actual );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyBoundedQueue#iterator()} 
+	 * to return and iterator to iterate over the items of the queue from head to tail.
+	 */
+	@Test
+	public void testIterator()
+	{
+		int expected1 = 111;
+		int expected2 = 222;
+		int expected3 = 333;
+		int expected4 = 444;
+		int expected5 = 555;
+
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		queue.enqueue( four );
+		queue.enqueue( five );
+
+		Iterator<Integer> it = queue.iterator();
+		
+		assertTrue(it.hasNext());
+		
+		int actual1 = it.next();
+		int actual2 = it.next();
+		int actual3 = it.next();
+		int actual4 = it.next();
+		int actual5 = it.next();
+
+		assertFalse(it.hasNext());
+		
+		assertEquals( "Failed to return item at position.", expected1, actual1 );
+		assertEquals( "Failed to return item at position.", expected2, actual2 );
+		assertEquals( "Failed to return item at position.", expected3, actual3 );
+		assertEquals( "Failed to return item at position.", expected4, actual4 );
+		assertEquals( "Failed to return item at position.", expected5, actual5 );
+		
+	}
+	
+	/**
+	 * Test method for 
+	 * {@link implementations.MyBoundedQueue#iterator()} 
+	 * to return and iterator when the queue is empty.
+	 */
+	@Test
+	public void testIterator_EmptyQ()
+	{
+		Iterator<Integer> it = queue.iterator();
+		
+		assertFalse(it.hasNext());
+		
+		try
+		{
+			it.next();
+			fail("Failed to throw NoSuchElementException.");
+		}
+		catch(NoSuchElementException e)
+		{
+			assertTrue(true);
+		}
+
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyBoundedQueue#peek()}
+	 * to return the first item in the queue.
+	 * @throws EmptyQueueException 
+	 */
+	@Test
+	public void testPeek_First() throws EmptyQueueException
+	{
+		int expected1 = 111;
+
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		queue.enqueue( four );
+		queue.enqueue( five );
+
+		int actual1 = queue.peek();
+		assertEquals( "Failed to return the item.", expected1, actual1 );
+		assertEquals( "Failed to maintain size.", 5, queue.size() );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyBoundedQueue#peek()}
+	 * to throw EmptyQueueException when queue is empty.
+	 */
+	@Test
+	public void testPeek_Empty()
+	{
+		try
+		{
+			queue.peek();
+			fail( "Failed to throw EmptyQueueException." );
+		}
+		catch( EmptyQueueException e )
+		{
+			assertTrue( true );
+		}
+		assertEquals( "Failed to maintain size.", 0, queue.size() );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyBoundedQueue#dequeue()}
+	 * to remove the first item in the queue.
+	 * 
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testDequeue_Front() throws EmptyQueueException
+	{
+		int expected1 = 111;
+
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		queue.enqueue( four );
+		queue.enqueue( five );
+
+		int actual1 = queue.dequeue();
+		assertEquals( "Failed to remove the item.", expected1, actual1 );
+		assertEquals( "Failed to update size.", 4, queue.size() );
+		
+		expected1 = 222;
+		actual1 = queue.peek();
+		
+		assertEquals( "Failed to remove the item.", expected1, actual1 );
+		
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyBoundedQueue#dequeue()}
+	 * to throw EmptyQueueException when removing from an empty queue.
+	 */
+	@Test
+	public void testDequeue_Empty()
+	{
+		try
+		{
+			queue.dequeue();
+			fail( "Failed to throw EmptyQueueException." );
+		}
+		catch( EmptyQueueException e )
+		{
+			assertTrue( true );
+		}
+		assertEquals( "Failed to maintain size.", 0, queue.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyBoundedQueue#enqueue(java.lang.Object)}.
+	 * to enqueue multiple items to the queue.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testEnqueue() throws EmptyQueueException
+	{
+		queue.enqueue( one );
+		int actual = queue.peek();
+		assertEquals( "Failed to enqueueed the correct element", 111, actual );
+		assertEquals( "Failed to update size", 1, queue.size() );
+
+		queue.enqueue( two );
+		actual = queue.peek();
+		assertEquals( "Queue enqueueed wrong element to head of Queue ", 111, actual );
+		assertEquals( "Queue size is incorrect ", 2, queue.size() );
+
+		queue.enqueue( three );
+		actual = queue.peek();
+		assertEquals( "Queue enqueueed wrong element to head of Queue ", 111, actual );
+		assertEquals( "Queue size is incorrect ", 3, queue.size() );
+
+		queue.enqueue( four );
+		actual = queue.peek();
+		assertEquals( "Queue enqueueed wrong element to head of Queue ", 111, actual );
+		assertEquals( "Queue size is incorrect ", 4, queue.size() );
+
+		queue.enqueue( five );
+		actual = queue.peek();
+		assertEquals( "Queue enqueueed wrong element to head of Queue ", 111, actual );
+		assertEquals( "Queue size is incorrect ", 5, queue.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyBoundedQueue#enqueue(java.lang.Object)}
+	 * to throw a NullPointerException when a null is passed.
+	 */
+	@Test
+	public void testEnqueue_NullPointerException()
+	{
+		Integer empty = null;
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		try
+		{
+			queue.enqueue( empty );
+			fail( "Failed to throw NullPointerException." );
+		}
+		catch( NullPointerException e )
+		{
+			assertTrue( true );
+		}
+		assertEquals( "Failed to maintain queue size.", 3, queue.size() );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link utilities.QueueADT#size()}
+	 * to return the size of the queue when the queue has one item.
+	 */
+	@Test
+	public void testSize_AddOneToEmpty()
+	{
+		queue.enqueue( one );
+		assertEquals( "Failed to update queue size.", 1, queue.size() );
+	}
+	
+	/**
+	 * Test method for 
+	 * {@link utilities.QueueADT#size()}
+	 * to return the size of the queue when the queue has multiple items.
+	 */
+	@Test
+	public void testSize_AddMany()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		queue.enqueue( four );
+		queue.enqueue( five );
+		assertEquals( "Failed to update queue size.", 5, queue.size() );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyBoundedQueue#toArray()}
+	 * to return an Object array storing all items in the queue from head to first.
+	 */
+	@Test
+	public void testToArray()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+
+		Integer[] expectedArray = new Integer[3];
+		
+		expectedArray[0] = one;
+		expectedArray[1] = two;
+		expectedArray[2] = three;
+
+		Object[] actualArray = queue.toArray();
+		assertArrayEquals( "Failed to convert queue to array.", expectedArray, actualArray );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyBoundedQueue#toArray(E[])}
+	 * to return an array storing all items in the queue from head to first when the array passed has sufficient length.
+	 */
+	@Test
+	public void testToArrayEArray_SufficientArray()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+	
+		Object[] expectedArray = new Integer[3];
+		
+		expectedArray[0] = one;
+		expectedArray[1] = two;
+		expectedArray[2] = three;
+		
+		Integer[] actualArray = new Integer[3];;
+		actualArray = queue.toArray( actualArray );
+		assertArrayEquals( "Failed to convert queue to array.", expectedArray, actualArray );
+	}
+	
+	/**
+	 * Test method for 
+	 * {@link implementations.MyBoundedQueue#toArray(E[])}
+	 * to return an array storing all items in the queue from head to first when the array passed has insufficient length.
+	 */
+	@Test
+	public void testToArrayEArray_InsufficientArray()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+	
+		Object[] expectedArray = new Integer[3];
+		
+		expectedArray[0] = one;
+		expectedArray[1] = two;
+		expectedArray[2] = three;
+		
+		Integer[] actualArray = new Integer[2];;
+		actualArray = queue.toArray( actualArray );
+		assertArrayEquals( "Failed to convert queue to array.", expectedArray, actualArray );
+	}
+	
+	/**
+	 * Test method for 
+	 * {@link implementations.MyBoundedQueue#toArray(E[])}
+	 * to throw NullPointerException when a null is passed.
+	 */@Test
+	public void testToArrayNullArray()
+	{
+		Integer[] returnArray = null;
+		try 
+		{
+			returnArray = queue.toArray(returnArray);
+			fail("Failed to throw NullPointerException.");
+		} 
+		catch (NullPointerException e) 
+		{
+			assertTrue(true);
+		}
+	}
+	 
+	 /**
+	  * Test method for 
+	  * {@link implementations.MyBoundedQueue#isFull()}
+	  * to return false.
+	  */@Test
+		public void testIsFull()
+		{
+			assertFalse(queue.isFull());
+			
+			for( int i = 0; i < 500; i++ )
+			{
+				queue.enqueue( i );
+			}
+	
+			assertFalse(queue.isFull());
+		} 
+	
+	 /**
+	  * Test method for 
+	  * {@link implementations.MyBoundedQueue#contains(java.lang.Object)}
+	  * to return true when item is found.
+	  */@Test
+		public void testContains_Found()
+		{
+		  	queue.enqueue( one );
+			queue.enqueue( two );
+			queue.enqueue( three );
+			
+			assertTrue( queue.contains( one ) );
+			assertTrue( queue.contains( two ) );
+			assertTrue( queue.contains( three ) );
+			
+		} 
+	  
+	  /**
+	  * Test method for 
+	  * {@link implementations.MyBoundedQueue#contains(java.lang.Object)}
+	  * to return true when item is not found.
+	  */@Test
+		public void testContains_NotFound()
+		{
+		  	queue.enqueue( one );
+			queue.enqueue( two );
+			queue.enqueue( three );
+			
+			assertFalse( queue.contains( four ) );
+			assertFalse( queue.contains( five ) );
+			
+		} 
+	  
+	  /**
+	  * Test method for 
+	  * {@link implementations.MyBoundedQueue#contains(java.lang.Object)}
+	  * to throw NullPointerException when null is passed.
+	  */@Test
+		public void testContains_NullPointerException()
+		{
+		  	try
+		  	{
+		  		queue.contains( null );
+		  		fail("Failed to throw NullPointerException.");
+		  	}
+		  	catch(NullPointerException e)
+		  	{
+		  		assertTrue(true);
+		  	}
+
+		}
+	  
+	  /**
+	  * Test method for 
+	  * {@link implementations.MyBoundedQueue#search(java.lang.Object)}
+	  * to return the index of the item when the item exists.
+	  */@Test
+		public void testSearch_Found()
+		{
+		  	queue.enqueue( one );
+			queue.enqueue( two );
+			queue.enqueue( three );
+			
+			int expectedIndex = 1;
+			int actualIndex = queue.search( one ); 
+			
+			assertEquals("Failed to find item", expectedIndex, actualIndex );
+			
+			expectedIndex = 2;
+			actualIndex = queue.search( two ); 
+			assertEquals("Failed to find item", expectedIndex, actualIndex );
+			
+			expectedIndex = 3;
+			actualIndex = queue.search( three ); 
+			assertEquals("Failed to find item", expectedIndex, actualIndex );
+			
+		} 
+	  
+	  /**
+	  * Test method for 
+	  * {@link implementations.MyBoundedQueue#search(java.lang.Object)}
+	  * to return the index of the item when the item doesn't exist.
+	  */@Test
+		public void testSearch_NotFound()
+		{
+			int expectedIndex = -1;
+			int actualIndex = queue.search( one ); 
+			assertEquals("Failed to return -1 for not found", expectedIndex, actualIndex);
+			
+		  	queue.enqueue( one );
+			queue.enqueue( two );
+			queue.enqueue( three );
+			
+			actualIndex = queue.search( five ); 
+			
+			assertEquals("Failed to return -1 for not found", expectedIndex, actualIndex);
+		} 
+ 
+	/**
+	 * Test method for
+	 * {@link implementations.MyBoundedQueue#isFull()}
+	 * to return true exactly when the queue holds its capacity.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testIsFull_AtCapacity() throws EmptyQueueException
+	{
+		MyBoundedQueue<Integer> small = new MyBoundedQueue<Integer>( 3 );
+		small.enqueue( one );
+		small.enqueue( two );
+		assertFalse( "Failed to report room.", small.isFull() );
+		assertEquals( "Failed to report remaining capacity.", 1, small.remainingCapacity() );
+
+		small.enqueue( three );
+		assertTrue( "Failed to report full queue.", small.isFull() );
+
+		small.dequeue();
+		assertFalse( "Failed to report room after dequeue.", small.isFull() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyBoundedQueue#enqueue(Object)}
+	 * and offer to refuse an item when the queue is full.
+	 */
+	@Test
+	public void testEnqueue_Full()
+	{
+		MyBoundedQueue<Integer> small = new MyBoundedQueue<Integer>( 2 );
+		small.enqueue( one );
+		assertTrue( "Failed to offer item.", small.offer( two ) );
+		assertFalse( "Failed to refuse item.", small.offer( three ) );
+		try
+		{
+			small.enqueue( three );
+			fail( "Failed to throw IllegalStateException." );
+		}
+		catch( IllegalStateException e )
+		{
+			assertTrue( true );
+		}
+		assertEquals( "Failed to keep size.", 2, small.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyBoundedQueue#MyBoundedQueue(int)}
+	 * to reject a capacity below 1.
+	 */
+	@Test
+	public void testConstructor_IllegalArgumentException()
+	{
+		try
+		{
+			new MyBoundedQueue<Integer>( 0 );
+			fail( "Failed to throw IllegalArgumentException." );
+		}
+		catch( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyBoundedQueue#dequeue()}
+	 * to keep FIFO order while the items wrap around the end of the ring.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testDequeue_WrapAround() throws EmptyQueueException
+	{
+		MyBoundedQueue<Integer> small = new MyBoundedQueue<Integer>( 3 );
+		for( int i = 0; i < 10; i++ )
+		{
+			small.enqueue( i );
+			small.enqueue( i + 100 );
+			assertEquals( "Failed to keep order.", Integer.valueOf( i ), small.dequeue() );
+			assertArrayEquals( "Failed to copy wrapped items.", new Object[] { i + 100 }, small.toArray() );
+			assertEquals( "Failed to keep order.", Integer.valueOf( i + 100 ), small.dequeue() );
+		}
+		assertTrue( "Failed to empty queue.", small.isEmpty() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyBoundedQueue#offer(Object, long, TimeUnit)}
+	 * and the timed poll to give up when the time runs out.
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testTimedOfferPoll_TimeOut() throws InterruptedException
+	{
+		MyBoundedQueue<Integer> small = new MyBoundedQueue<Integer>( 1 );
+		assertNull( "Failed to time out on empty queue.", small.poll( 20, TimeUnit.MILLISECONDS ) );
+		assertTrue( "Failed to offer item.", small.offer( one, 20, TimeUnit.MILLISECONDS ) );
+
+		long start = System.nanoTime();
+		assertFalse( "Failed to time out on full queue.", small.offer( two, 20, TimeUnit.MILLISECONDS ) );
+		assertTrue( "Failed to wait.", System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos( 20 ) );
+		assertEquals( "Failed to poll item.", one, small.poll( 20, TimeUnit.MILLISECONDS ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyBoundedQueue#put(Object)}
+	 * to wait until a consumer makes room, and take to wait until a producer adds an item.
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testPutTake_Blocking() throws InterruptedException
+	{
+		final MyBoundedQueue<Integer> small = new MyBoundedQueue<Integer>( 1 );
+		final AtomicReference<Integer> taken = new AtomicReference<>();
+		small.put( one );
+
+		Thread producer = new Thread( () -> {
+			try
+			{
+				small.put( two );
+			}
+			catch( InterruptedException e )
+			{
+				Thread.currentThread().interrupt();
+			}
+		} );
+		producer.start();
+		producer.join( 50 );
+		assertTrue( "Failed to block producer on full queue.", producer.isAlive() );
+
+		assertEquals( "Failed to take front item.", one, small.take() );
+		producer.join();
+		assertEquals( "Failed to let producer in.", two, small.take() );
+
+		Thread consumer = new Thread( () -> {
+			try
+			{
+				taken.set( small.take() );
+			}
+			catch( InterruptedException e )
+			{
+				Thread.currentThread().interrupt();
+			}
+		} );
+		consumer.start();
+		consumer.join( 50 );
+		assertTrue( "Failed to block consumer on empty queue.", consumer.isAlive() );
+
+		small.put( three );
+		consumer.join();
+		assertEquals( "Failed to hand item to consumer.", three, taken.get() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyBoundedQueue#take()}
+	 * to stop waiting with InterruptedException when the thread is interrupted.
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testTake_Interrupted() throws InterruptedException
+	{
+		final AtomicInteger interrupted = new AtomicInteger();
+		Thread consumer = new Thread( () -> {
+			try
+			{
+				queue.take();
+			}
+			catch( InterruptedException e )
+			{
+				interrupted.incrementAndGet();
+			}
+		} );
+		consumer.start();
+		consumer.interrupt();
+		consumer.join();
+
+		assertEquals( "Failed to throw InterruptedException.", 1, interrupted.get() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyBoundedQueue#dequeueAll()}
+	 * to wake a producer waiting for room.
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testDequeueAll_WakesProducer() throws InterruptedException
+	{
+		final MyBoundedQueue<Integer> small = new MyBoundedQueue<Integer>( 2 );
+		small.put( one );
+		small.put( two );
+
+		Thread producer = new Thread( () -> {
+			try
+			{
+				small.put( three );
+			}
+			catch( InterruptedException e )
+			{
+				Thread.currentThread().interrupt();
+			}
+		} );
+		producer.start();
+		producer.join( 50 );
+		small.dequeueAll();
+		producer.join();
+
+		assertArrayEquals( "Failed to let producer in.", new Object[] { three }, small.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyBoundedQueue#put(Object)} and
+	 * {@link implementations.MyBoundedQueue#take()}
+	 * to deliver every item exactly once, never holding more than the capacity,
+	 * while several producers and consumers share a small queue.
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testPutTake_ConcurrentProducersAndConsumers() throws InterruptedException
+	{
+		final int producers = 4;
+		final int consumers = 3;
+		final int perProducer = 20000;
+		final MyBoundedQueue<Integer> small = new MyBoundedQueue<Integer>( 8 );
+		final AtomicIntegerArray received = new AtomicIntegerArray( producers * perProducer );
+		final AtomicInteger errors = new AtomicInteger();
+
+		Thread[] threads = new Thread[producers + consumers];
+		for( int p = 0; p < producers; p++ )
+		{
+			final int id = p;
+			threads[p] = new Thread( () -> {
+				try
+				{
+					for( int i = 0; i < perProducer; i++ )
+					{
+						small.put( id * perProducer + i );
+						if( small.size() > small.capacity() )
+						{
+							errors.incrementAndGet();
+						}
+					}
+				}
+				catch( InterruptedException e )
+				{
+					errors.incrementAndGet();
+				}
+			} );
+		}
+		for( int c = 0; c < consumers; c++ )
+		{
+			threads[producers + c] = new Thread( () -> {
+				try
+				{
+					for( int item = small.take(); item >= 0; item = small.take() )
+					{
+						received.incrementAndGet( item );
+					}
+				}
+				catch( InterruptedException e )
+				{
+					errors.incrementAndGet();
+				}
+			} );
+		}
+		for( Thread thread : threads )
+		{
+			thread.start();
+		}
+		for( int p = 0; p < producers; p++ )
+		{
+			threads[p].join();
+		}
+		for( int c = 0; c < consumers; c++ )
+		{
+			small.put( -1 );
+		}
+		for( int c = 0; c < consumers; c++ )
+		{
+			threads[producers + c].join();
+		}
+
+		assertEquals( "Failed to respect capacity.", 0, errors.get() );
+		for( int i = 0; i < received.length(); i++ )
+		{
+			assertEquals( "Failed to deliver item exactly once: " + i, 1, received.get( i ) );
+		}
+		assertTrue( "Failed to empty queue.", small.isEmpty() );
+	}
+}
@@ -0,0 +1,928 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayDeque;
+import java.util.EmptyStackException;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import utilities.Iterator;
+import implementations.MyConcurrentStack;
+
+/**
+ * @author agent
+ * @version 1.0 Oct. 18, 2026
+ * Class Description:
+ * Test for the lock-free linked implementation of the StackADT defined in the CPRG 304
+ * Assignment 2. The last tests run several threads against one stack, including a
+ * linearizability check on short random histories.
+ */
+
+public class ConcurrentStackTest
+{
+	// Attributes
+	private MyConcurrentStack<Integer> stack;
+	private Integer one;
+	private Integer two;
+	private Integer three;
+	private Integer four;
+	private Integer five;
+
+	/**
+	 * Initializes a MyConcurrentStack instance and five Integer instances before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		stack = new MyConcurrentStack<Integer>();
+		one = 111;
+		two = 222;
+		three = 333;
+		four = 444;
+		five = 555;
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		stack = null;
+		one = null;
+		two = null;
+		three = null;
+		four = null;
+		five = null;
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyConcurrentStack#MyConcurrentStack()}
+	 * to create a stack.
+	 */
+	@Test
+	public void testConstructor()
+	{
+		boolean expected = true;
+		boolean actual = stack != null;
+		assertEquals( "Failed to create stack.", expected, actual );
+		assertEquals( "Failed to return correct size", 0, stack.size() );
+	}
+
+	/**
+	 * Test method for {@link implementations.MyConcurrentStack#clear()}
+	 * to clear the items of the stack.
+	 */
+	@Test
+	public void testClear_Size()
+	{
+		stack.push( one );
+		stack.push( two );
+		stack.clear();
+		
+		assertEquals( "Stack size is incorrect ", 0, stack.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyConcurrentStack#contains(java.lang.Object)}
+	 * to return true when the stack contains an item.
+	 */
+	@Test
+	public void testContains_True()
+	{
+		stack.push( one );
+		stack.push( two );
+		stack.push( three );
+		
+		assertTrue(stack.contains( one ));
+		assertTrue(stack.contains( two ));
+		assertTrue(stack.contains( three ));
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyConcurrentStack#contains(java.lang.Object)}
+	 * to return false when the stack doesn't contain the item.
+	 */
+	@Test
+	public void testContains_False()
+	{
+		stack.push( one );
+		stack.push( two );
+		stack.push( three );
+
+		assertFalse( stack.contains( four ) );
+		assertFalse( stack.contains( five ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyConcurrentStack#contains(java.lang.Object)}
+	 * to throw a NullPointerException when null is passed.
+	 */
+	@Test
+	public void testContains_NullPointerException()
+	{
+		Integer empty = null;
+		stack.push( one );
+		stack.push( two );
+		stack.push( three );
+		try
+		{
+			stack.contains( empty );
+			fail( "Failed to throw NullPointerException." );
+		}
+		catch( NullPointerException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyConcurrentStack#equals(utilities.MyConcurrentStack)}
+	 * to return true when the two stacks are equal.
+	 */
+	@Test
+	public void testEquals_True()
+	{
+		MyConcurrentStack<Integer> stack2 = new MyConcurrentStack<Integer>();
+		boolean expected = true;
+		stack.push( one );
+		stack.push( two );
+		stack.push( three );
+
+		stack2.push( one );
+		stack2.push( two );
+		stack2.push( three );
+
+		boolean actual = stack.equals( stack2 );
+		assertEquals( "Failed to return true", expected, actual );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyConcurrentStack#equals(utilities.MyConcurrentStack)}
+	 * to return false when the two stacks are not equal.
+	 */
+	@Test
+	public void testEquals_False()
+	{
+		MyConcurrentStack<Integer> stack2 = new MyConcurrentStack<Integer>();
+		boolean expected = false;
+		stack.push( two );
+		stack.push( one );
+		stack.push( three );
+
+		stack2.push( one );
+		stack2.push( two );
+		stack2.push( three );
+
+		boolean actual = stack.equals( stack2 );
+		
+		assertEquals( "Failed to return false.", expected, actual );
+		
+		stack2.clear();
+		stack2.push(two);
+		stack2.push(one);
+		
+		actual = stack.equals( stack2 );
+		
+		assertEquals( "Failed to return false.", expected, actual );
+		
+	}
+	
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyConcurrentStack#isEmpty()}
+	 * to return true when the stack is empty.
+	 */
+	@Test
+	public void testIsEmpty_True()
+	{
+		assertTrue(stack.isEmpty());
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyConcurrentStack#isEmpty()}
+	 * to return false when the stack is not empty.
+	 */
+	@Test
+	public void testIsEmpty_False()
+	{
+		stack.push( one );
+		stack.push( two );
+		stack.push( three );
+		
+		assertFalse(stack.isEmpty());
+	}
+
+
+	/**
+	 * Test method for {@link implementations.MyConcurrentStack#iterator()}
+	 * to return an iterator to iterate over items in the stack from top to bottom.
+	 */
+	@Test
+	public void testIterator_NotEmpty()
+	{
+		int expected1 = 111;
+		int expected2 = 222;
+		int expected3 = 333;
+		int expected4 = 444;
+		int expected5 = 555;
+
+		stack.push( one );
+		stack.push( two );
+		stack.push( three );
+		stack.push( four );
+		stack.push( five );
+
+		Iterator<Integer> it = stack.iterator();
+		
+		assertTrue(it.hasNext());
+		
+		int actual5 = it.next(); // kitty: flipped 1-5 to 5-1
+		int actual4 = it.next();
+		int actual3 = it.next();
+		int actual2 = it.next();
+		int actual1 = it.next();
+		
+		assertFalse(it.hasNext());
+		
+		assertEquals( "Stack iterator contained wrong element at position 1 ", expected5, actual5 );
+		assertEquals( "Stack iterator contained wrong element at position 2 ", expected4, actual4 );
+		assertEquals( "Stack iterator contained wrong element at position 3 ", expected3, actual3 );
+		assertEquals( "Stack iterator contained wrong element at position 4 ", expected2, actual2 );
+		assertEquals( "Stack iterator contained wrong element at position 5 ", expected1, actual1 );
+		
+	}
+	
+	/**
+	 * Test method for {@link implementations.MyConcurrentStack#iterator()}
+	 * to return an iterator to iterate over items in an empty stack.
+	 */
+	@Test
+	public void testIterator_Empty()
+	{
+		Iterator<Integer> it = stack.iterator();
+		
+		assertFalse(it.hasNext());
+		
+		try
+		{
+			it.next();
+			fail("Failed to throw NoSuchElementException.");
+		}
+		catch(NoSuchElementException e)
+		{
+			assertTrue(true);
+		}
+		
+	}
+
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyConcurrentStack#peek()}
+	 * to return the item on the top of the stack without removing it.
+	 * 
+	 * @throws EmptyStackException
+	 */
+	@Test
+	public void testPeek_Top() throws EmptyStackException
+	{
+		int expected5 = 555;
+
+		stack.push( one );
+		stack.push( two );
+		stack.push( three );
+		stack.push( four );
+		stack.push( five );
+
+		int actual5 = stack.peek();
+		assertEquals( "Failed to return the top element.", expected5, actual5 );
+		assertEquals( "Failed to maintain size.", 5, stack.size() );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyConcurrentStack#peek()}
+	 * to throw EmptyStackException when peeking at the top of an empty stack.
+	 */
+	@Test
+	public void testPeek_Empty()
+	{
+		try
+		{
+			stack.peek();
+			fail( "Failed to throw EmptyStackException." );
+		}
+		catch( EmptyStackException e )
+		{
+			assertTrue( true );
+		}
+		assertEquals( "Failed to maintain size.", 0, stack.size() );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyConcurrentStack#pop()}
+	 * to remove the item on top of the stack.
+	 * 
+	 * @throws EmptyStackException
+	 */
+	@Test
+	public void testPop_Top() throws EmptyStackException
+	{
+		int expected5 = 555;
+
+		stack.push( one );
+		stack.push( two );
+		stack.push( three );
+		stack.push( four );
+		stack.push( five );
+
+		int actual5 = stack.pop();
+		assertEquals( "Failed to pop the top element.", expected5, actual5 );
+		assertEquals( "Failed to update size.", 4, stack.size() );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyConcurrentStack#pop()}
+	 * to throw EmptyStackException when removing from an empty stack.
+	 */
+	@Test
+	public void testPop_Empty()
+	{
+		try
+		{
+			stack.pop();
+			fail( "Failed to throw EmptyStackException." );
+		}
+		catch( EmptyStackException e )
+		{
+			assertTrue( true );
+		}
+		assertEquals( "Failed to maintain size.", 0, stack.size() );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyConcurrentStack#push(java.lang.Object)}
+	 * to add multiple items to top of the stack.
+	 * 
+	 * @throws EmptyStackException
+	 */
+	@Test
+	public void testPush_Top() throws EmptyStackException
+	{
+		stack.push( one );
+		int actual = stack.peek();
+		assertEquals( "Failed to push item.", 111, actual );
+		assertEquals( "Failed to update size.", 1, stack.size() );
+
+		stack.push( two );
+		actual = stack.peek();
+		assertEquals( "Failed to push item.", 222, actual );
+		assertEquals( "Failed to update size.", 2, stack.size() );
+
+		stack.push( three );
+		actual = stack.peek();
+		assertEquals( "Failed to push item.", 333, actual );
+		assertEquals( "Failed to update size.", 3, stack.size() );
+
+		stack.push( four );
+		actual = stack.peek();
+		assertEquals( "Failed to push item.", 444, actual );
+		assertEquals( "Failed to update size.", 4, stack.size() );
+
+		stack.push( five );
+		actual = stack.peek();
+		assertEquals( "Failed to push item.", 555, actual );
+		assertEquals( "Failed to update size.", 5, stack.size() );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyConcurrentStack#push(java.lang.Object)}
+	 * to throw a NullPointerException when adding a null to the stack.
+	 */
+	@Test
+	public void testPush_NullPointerException()
+	{
+		Integer empty = null;
+		stack.push( one );
+		stack.push( two );
+		stack.push( three );
+		try
+		{
+			stack.push( empty );
+			fail( "Failed to throw NullPointerException." );
+		}
+		catch( NullPointerException e )
+		{
+			assertTrue( true );
+		}
+		assertEquals( "Failed to maintain size.", 3, stack.size() );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyConcurrentStack#search(java.lang.Object)}
+	 * to return the position of an item at the bottom of the stack.
+	 */
+	@Test
+	public void testSearch_Botton()
+	{
+		int expected = 5;
+		stack.push( one );
+		stack.push( two );
+		stack.push( three );
+		stack.push( four );
+		stack.push( five );
+
+		int actual = stack.search( one );
+		assertEquals( "Failed to return the correct position.", expected, actual );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyConcurrentStack#search(java.lang.Object)}
+	 * to return the position of an item at the top of the stack.
+	 */
+	@Test
+	public void testSearch_Top()
+	{
+		int expected = 1;
+		stack.push( one );
+		stack.push( two );
+		stack.push( three );
+		stack.push( four );
+		stack.push( five );
+
+		int actual = stack.search( five );
+		assertEquals( "Failed to return the correct position.", expected, actual );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyConcurrentStack#search(java.lang.Object)}
+	 * to return the position of an item in the middle of the stack.
+	 */
+	@Test
+	public void testSearch_Middle()
+	{
+		int expected = 3;
+		stack.push( one );
+		stack.push( two );
+		stack.push( three );
+		stack.push( four );
+		stack.push( five );
+
+		int actual = stack.search( three );
+		assertEquals( "Failed to return the correct position.", expected, actual );
+	}
+	
+	/**
+	 * Test method for 
+	 * {@link implementations.MyConcurrentStack#search(java.lang.Object)}
+	 * to return -1 when the item is not found in the stack.
+	 */
+	@Test
+	public void testSearch_NotFound()
+	{
+		int expected = -1;
+		stack.push( one );
+		stack.push( two );
+		stack.push( three );
+
+		int actual = stack.search( five );
+		assertEquals( "Failed to return -1.", expected, actual );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link utilities.MyConcurrentStack#size()}
+	 * to return size when stack is empty.
+	 */
+	@Test
+	public void testSize_Empty()
+	{
+		assertEquals( "Failed to return size.", 0, stack.size() );
+	}
+	
+	/**
+	 * Test method for 
+	 * {@link utilities.MyConcurrentStack#size()}
+	 * to return size when stack has one item.
+	 */
+	@Test
+	public void testSize_One()
+	{
+		stack.push( one );
+		assertEquals( "SFailed to return size.", 1, stack.size() );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link utilities.MyConcurrentStack#size()}
+	 * to return size when there are many items in the stack.
+	 */
+	@Test
+	public void testSize_AddMany()
+	{
+		stack.push( one );
+		stack.push( two );
+		stack.push( three );
+		stack.push( four );
+		stack.push( five );
+		assertEquals( "Failed to return size.", 5, stack.size() );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyConcurrentStack#toArray()}
+	 * to return an Object array containing all the items in the stack from top to bottom.
+	 */
+	@Test
+	public void testToArray()
+	{
+		stack.push( one );
+		stack.push( two );
+		stack.push( three );
+
+		Integer[] array = new Integer[3];
+		
+		array[0] = three;
+		array[1] = two;
+		array[2] = one;
+
+		Object[] returnArray = new Integer[3];;
+		returnArray = stack.toArray();
+		assertArrayEquals( "Failed to convert to array.", array, returnArray );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyConcurrentStack#toArray(E[])}
+	 * returning an array containing all items in the stack when the array passed has sufficient length.
+	 */
+	@Test
+	public void testToArrayEArray_Sufficient()
+	{
+		stack.push( one );
+		stack.push( two );
+		stack.push( three );
+
+	
+		Object[] array = new Integer[3];
+		
+		array[0] = three;
+		array[1] = two;
+		array[2] = one;
+
+		Integer[] returnArray = new Integer[3];;
+		returnArray = stack.toArray( returnArray );
+		assertArrayEquals( "Failed to return the correct array.", array, returnArray );
+	}
+	
+	/**
+	 * Test method for 
+	 * {@link implementations.MyConcurrentStack#toArray(E[])}
+	 * returning an array containing all items in the stack when the array passed doesn't have
+	 *  sufficient length.
+	 */
+	@Test
+	public void testToArrayEArray_Insufficient()
+	{
+		stack.push( one );
+		stack.push( two );
+		stack.push( three );
+
+	
+		Object[] array = new Integer[3];
+		
+		array[0] = three;
+		array[1] = two;
+		array[2] = one;
+
+		Integer[] returnArray = new Integer[2];;
+		returnArray = stack.toArray( returnArray );
+		assertArrayEquals( "Failed to return the correct array.", array, returnArray );
+	}
+	
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MyConcurrentStack#toArray(E[])}
+	 * to throw NullPointerException when a null is passed.
+	 */@Test
+	public void testToArrayNullArray()
+	{
+		Integer[] returnArray = null;
+		try 
+		{
+			returnArray = stack.toArray(returnArray);
+			fail("Failed to throw NullPointerException.");
+		} 
+		catch (NullPointerException e) 
+		{
+			assertTrue(true);
+		}
+	}
+	 
+	/**
+	 * Test method for 
+	 * {@link implementations.MyConcurrentStack#stackOverflow(E[])}
+	 * to return false since the stack doesn't have a fixed size .
+	 */@Test
+	public void testStackoverflow()
+	{
+		assertFalse(stack.stackOverflow());
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyConcurrentStack#push(Object)} and
+	 * {@link implementations.MyConcurrentStack#pop()}
+	 * to pop every pushed element exactly once while many threads push and pop at
+	 * the same time, which is when elimination takes place.
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testPushPop_concurrentNoLossOrDuplicate() throws InterruptedException
+	{
+		final int threads = 8;
+		final int perThread = 20000;
+		final boolean[][] popped = new boolean[threads][threads * perThread];
+		final AtomicInteger errors = new AtomicInteger();
+
+		Thread[] workers = new Thread[threads];
+		for( int t = 0; t < threads; t++ )
+		{
+			final int id = t;
+			workers[t] = new Thread( () -> {
+				for( int i = 0; i < perThread; i++ )
+				{
+					stack.push( id * perThread + i );
+					if( i % 3 != 2 )
+					{
+						try
+						{
+							popped[id][stack.pop()] = true;
+						}
+						catch( EmptyStackException e )
+						{
+							errors.incrementAndGet();
+						}
+					}
+				}
+			} );
+			workers[t].start();
+		}
+		for( Thread worker : workers )
+		{
+			worker.join();
+		}
+
+		assertEquals( "Failed to find pushed elements.", 0, errors.get() );
+		boolean[] seen = new boolean[threads * perThread];
+		int left = 0;
+		while( !stack.isEmpty() )
+		{
+			seen[stack.pop()] = true;
+			left++;
+		}
+		for( int value = 0; value < seen.length; value++ )
+		{
+			int times = seen[value] ? 1 : 0;
+			for( int t = 0; t < threads; t++ )
+			{
+				times += popped[t][value] ? 1 : 0;
+			}
+			assertEquals( "Failed to pop element exactly once: " + value, 1, times );
+		}
+		assertEquals( "Failed to leave unpopped elements.", threads * ( perThread / 3 ), left );
+		assertEquals( "Failed to update size.", 0, stack.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyConcurrentStack#iterator()}
+	 * and toArray to see a consistent stack while another thread pushes and pops.
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testIterator_concurrentSnapshot() throws InterruptedException
+	{
+		final AtomicBoolean done = new AtomicBoolean();
+		final AtomicInteger errors = new AtomicInteger();
+
+		// the writer keeps the elements consecutive from the top down to 0
+		Thread writer = new Thread( () -> {
+			int next = 0;
+			for( int i = 0; i < 200000; i++ )
+			{
+				if( next == 0 || i % 4 != 3 )
+				{
+					stack.push( next++ );
+				}
+				else
+				{
+					stack.pop();
+					next--;
+				}
+			}
+			done.set( true );
+		} );
+		writer.start();
+
+		while( !done.get() )
+		{
+			Object[] array = stack.toArray();
+			for( int i = 0; i < array.length; i++ )
+			{
+				if( (Integer) array[i] != array.length - 1 - i )
+				{
+					errors.incrementAndGet();
+				}
+			}
+			Iterator<Integer> it = stack.iterator();
+			Integer previous = null;
+			while( it.hasNext() )
+			{
+				Integer item = it.next();
+				if( previous != null && item != previous - 1 )
+				{
+					errors.incrementAndGet();
+				}
+				previous = item;
+			}
+		}
+		writer.join();
+
+		assertEquals( "Failed to give readers a consistent stack.", 0, errors.get() );
+		assertEquals( "Failed to update size.", stack.toArray().length, stack.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyConcurrentStack#push(Object)} and
+	 * {@link implementations.MyConcurrentStack#pop()}
+	 * to be linearizable. Many short rounds of a few random pushes and pops run on
+	 * several threads; each operation records when it was called and when it
+	 * returned, and each round's history must have an order consistent with those
+	 * times in which a sequential stack gives the same results.
+	 * @throws Exception
+	 */
+	@Test
+	public void testPushPop_linearizable() throws Exception
+	{
+		final int rounds = 2000;
+		final int threads = 4;
+		final int opsPerThread = 3;
+		final Op[][] history = new Op[rounds][threads * opsPerThread];
+		final AtomicReference<MyConcurrentStack<Integer>> shared = new AtomicReference<>();
+		final CyclicBarrier barrier = new CyclicBarrier( threads,
+				() -> shared.set( new MyConcurrentStack<Integer>() ) );
+
+		Thread[] workers = new Thread[threads];
+		for( int t = 0; t < threads; t++ )
+		{
+			final int id = t;
+			workers[t] = new Thread( () -> {
+				Random random = new Random( id );
+				try
+				{
+					for( int r = 0; r < rounds; r++ )
+					{
+						barrier.await();
+						MyConcurrentStack<Integer> roundStack = shared.get();
+						for( int i = 0; i < opsPerThread; i++ )
+						{
+							Op op = new Op();
+							op.push = random.nextBoolean();
+							op.value = op.push ? id * opsPerThread + i + 1 : EMPTY;
+							op.called = System.nanoTime();
+							if( op.push )
+							{
+								roundStack.push( op.value );
+							}
+							else
+							{
+								try
+								{
+									op.value = roundStack.pop();
+								}
+								catch( EmptyStackException e )
+								{
+									op.value = EMPTY;
+								}
+							}
+							op.returned = System.nanoTime();
+							history[r][id * opsPerThread + i] = op;
+						}
+					}
+				}
+				catch( Exception e )
+				{
+					throw new RuntimeException( e );
+				}
+			} );
+			workers[t].start();
+		}
+		for( Thread worker : workers )
+		{
+			worker.join();
+		}
+
+		for( int r = 0; r < rounds; r++ )
+		{
+			assertTrue( "Failed to be linearizable in round " + r + ".",
+					linearizable( history[r], 0, new ArrayDeque<Integer>() ) );
+		}
+	}
+
+	private static final int EMPTY = 0;
+
+	/**
+	 * One recorded push or pop. value is the element pushed or popped, or EMPTY for
+	 * a pop that found the stack empty.
+	 */
+	private static class Op
+	{
+		boolean push;
+		int value;
+		long called;
+		long returned;
+	}
+
+	/**
+	 * Searches for a linearization of the operations not yet in done. An operation
+	 * can go next if no other remaining operation returned before it was called,
+	 * and if the sequential stack gives the recorded result for it.
+	 */
+	private static boolean linearizable( Op[] ops, int done, ArrayDeque<Integer> model )
+	{
+		if( done == ( 1 << ops.length ) - 1 )
+		{
+			return true;
+		}
+
+		long firstReturn = Long.MAX_VALUE;
+		for( int i = 0; i < ops.length; i++ )
+		{
+			if( ( done & 1 << i ) == 0 )
+			{
+				firstReturn = Math.min( firstReturn, ops[i].returned );
+			}
+		}
+
+		for( int i = 0; i < ops.length; i++ )
+		{
+			Op op = ops[i];
+			if( ( done & 1 << i ) != 0 || op.called > firstReturn )
+			{
+				continue;
+			}
+			if( op.push )
+			{
+				model.push( op.value );
+				if( linearizable( ops, done | 1 << i, model ) )
+				{
+					return true;
+				}
+				model.pop();
+			}
+			else if( op.value == EMPTY ? model.isEmpty() : !model.isEmpty() && model.peek() == op.value )
+			{
+				Integer top = model.poll();
+				if( linearizable( ops, done | 1 << i, model ) )
+				{
+					return true;
+				}
+				if( top != null )
+				{
+					model.push( top );
+				}
+			}
+		}
+		return false;
+	}
+}
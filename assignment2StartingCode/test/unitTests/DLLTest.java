@@ -11,6 +11,7 @@ import org.junit.Test;
 import implementations.MyArrayList;
 import implementations.MyDLL;
 import utilities.Iterator;
+import utilities.ListIterator;
 
 /**
  * @author kitty, maryam
@@ -475,6 +476,58 @@ public class DLLTest
 		}
 	}
 
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#indexOf(java.lang.Object)}
+	 * to return the index of the first occurrence of an item.
+	 */
+	@Test
+	public void testIndexOf_found()
+	{
+		myList.add( one );
+		myList.add( two );
+		myList.add( three );
+		myList.add( two );
+
+		int actual = myList.indexOf( two );
+		assertEquals( "Failed to return first index.", 1, actual );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#indexOf(java.lang.Object)}
+	 * to return -1 for an item that is not in the list.
+	 */
+	@Test
+	public void testIndexOf_notFound()
+	{
+		myList.add( one );
+		myList.add( two );
+
+		int actual = myList.indexOf( five );
+		assertEquals( "Failed to return -1.", -1, actual );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#remove(java.lang.Object)}
+	 * to remove only the first occurrence of a repeated item and keep the links intact.
+	 */
+	@Test
+	public void testRemoveElement_firstOccurrence()
+	{
+		myList.add( two );
+		myList.add( one );
+		myList.add( two );
+
+		myList.remove( two );
+		myList.add( 0, three );
+
+		assertEquals( "Failed to update size.", 3, myList.size() );
+		assertEquals( "Failed to keep head.", three, myList.get( 0 ) );
+		assertEquals( "Failed to keep second occurrence.", two, myList.get( 2 ) );
+	}
+
 	/**
 	 * Test method for 
 	 * {@link implementations.MyDLLt#get(int)}
@@ -1325,4 +1378,252 @@ public class DLLTest
 
 		assertArrayEquals( "Failed to convert list to array.", original, returnArray );
 	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#listIterator()}
+	 * to remove items at the cursor while walking the list.
+	 */
+	@Test
+	public void testListIterator_removeWhileIterating()
+	{
+		for( int i = 1; i <= 10; i++ )
+		{
+			myList.add( i );
+		}
+
+		ListIterator<Integer> it = myList.listIterator();
+		while( it.hasNext() )
+		{
+			if( it.next() % 2 == 0 )
+			{
+				it.remove();
+			}
+		}
+
+		Integer[] expected = { 1, 3, 5, 7, 9 };
+		assertArrayEquals( "Failed to remove at cursor.", expected, myList.toArray( new Integer[0] ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#listIterator(int)}
+	 * to walk backwards and replace items with set.
+	 */
+	@Test
+	public void testListIterator_previousAndSet()
+	{
+		myList.add( one );
+		myList.add( two );
+		myList.add( three );
+
+		ListIterator<Integer> it = myList.listIterator( myList.size() );
+		assertEquals( "Failed to start at the end.", 3, it.nextIndex() );
+		assertEquals( "Failed to return previous item.", three, it.previous() );
+		assertEquals( "Failed to return previous item.", two, it.previous() );
+		it.set( five );
+		assertEquals( "Failed to update previous index.", 0, it.previousIndex() );
+
+		Integer[] expected = { 1, 5, 3 };
+		assertArrayEquals( "Failed to set at cursor.", expected, myList.toArray( new Integer[0] ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#listIterator()}
+	 * to insert items in front of the cursor.
+	 */
+	@Test
+	public void testListIterator_add()
+	{
+		myList.add( one );
+		myList.add( three );
+
+		ListIterator<Integer> it = myList.listIterator();
+		it.next();
+		it.add( two );
+		assertEquals( "Failed to advance past added item.", three, it.next() );
+		it.add( four );
+		assertEquals( "Failed to place added item before cursor.", four, it.previous() );
+
+		Integer[] expected = { 1, 2, 3, 4 };
+		assertArrayEquals( "Failed to add at cursor.", expected, myList.toArray( new Integer[0] ) );
+		assertEquals( "Failed to update size.", 4, myList.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#listIterator()}
+	 * to throw IllegalStateException when remove is called before next.
+	 */
+	@Test
+	public void testListIterator_removeIllegalState()
+	{
+		myList.add( one );
+		ListIterator<Integer> it = myList.listIterator();
+		try
+		{
+			it.remove();
+			fail( "Failed to throw IllegalStateException." );
+		}
+		catch( IllegalStateException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#listIterator()}
+	 * to throw NoSuchElementException when previous is called at the start.
+	 */
+	@Test
+	public void testListIterator_previousNoSuchElement()
+	{
+		myList.add( one );
+		ListIterator<Integer> it = myList.listIterator();
+		try
+		{
+			it.previous();
+			fail( "Failed to throw NoSuchElementException." );
+		}
+		catch( NoSuchElementException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#addAll(utilities.ListADT)}
+	 * to copy another MyDLL, including the list itself, without changing the source.
+	 */
+	@Test
+	public void testAddAll_fromMyDLL()
+	{
+		MyDLL<Integer> other = new MyDLL<>();
+		other.add( three );
+		other.add( four );
+		myList.add( one );
+
+		myList.addAll( other );
+		myList.addAll( myList );
+
+		Integer[] expected = { 1, 3, 4, 1, 3, 4 };
+		assertArrayEquals( "Failed to append copies.", expected, myList.toArray( new Integer[0] ) );
+		assertEquals( "Failed to leave source intact.", 2, other.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#spliceAll(implementations.MyDLL)}
+	 * to move every item of another list to the end and empty the other list.
+	 */
+	@Test
+	public void testSpliceAll()
+	{
+		MyDLL<Integer> other = new MyDLL<>();
+		other.add( three );
+		other.add( four );
+		myList.add( one );
+		myList.add( two );
+
+		myList.spliceAll( other );
+		myList.add( five );
+
+		Integer[] expected = { 1, 2, 3, 4, 5 };
+		assertArrayEquals( "Failed to splice list.", expected, myList.toArray( new Integer[0] ) );
+		assertTrue( "Failed to empty other list.", other.isEmpty() );
+		assertEquals( "Failed to link tail backwards.", four, myList.get( 3 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#spliceAll(implementations.MyDLL)}
+	 * to throw IllegalArgumentException when a list is spliced into itself.
+	 */
+	@Test
+	public void testSpliceAll_self()
+	{
+		myList.add( one );
+		try
+		{
+			myList.spliceAll( myList );
+			fail( "Failed to throw IllegalArgumentException." );
+		}
+		catch( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#split(int)}
+	 * to move the items from an index onwards into a new list.
+	 */
+	@Test
+	public void testSplit()
+	{
+		for( int i = 1; i <= 5; i++ )
+		{
+			myList.add( i );
+		}
+
+		MyDLL<Integer> back = myList.split( 2 );
+
+		Integer[] front = { 1, 2 };
+		Integer[] rest = { 3, 4, 5 };
+		assertArrayEquals( "Failed to keep front.", front, myList.toArray( new Integer[0] ) );
+		assertArrayEquals( "Failed to move back.", rest, back.toArray( new Integer[0] ) );
+		assertEquals( "Failed to update tail.", two, myList.get( 1 ) );
+		assertEquals( "Failed to set new head.", three, back.remove( 0 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#transfer(int, implementations.MyDLL, int, int)}
+	 * to move a range of another list into the middle of this one.
+	 */
+	@Test
+	public void testTransfer()
+	{
+		MyDLL<Integer> other = new MyDLL<>();
+		for( int i = 10; i <= 14; i++ )
+		{
+			other.add( i );
+		}
+		myList.add( one );
+		myList.add( two );
+
+		myList.transfer( 1, other, 1, 4 );
+
+		Integer[] expected = { 1, 11, 12, 13, 2 };
+		Integer[] left = { 10, 14 };
+		assertArrayEquals( "Failed to insert range.", expected, myList.toArray( new Integer[0] ) );
+		assertArrayEquals( "Failed to remove range.", left, other.toArray( new Integer[0] ) );
+		assertEquals( "Failed to update size.", 5, myList.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDLL#transfer(int, implementations.MyDLL, int, int)}
+	 * to throw IndexOutOfBoundsException for an inverted range.
+	 */
+	@Test
+	public void testTransfer_IndexOutOfBounds()
+	{
+		MyDLL<Integer> other = new MyDLL<>();
+		other.add( one );
+		other.add( two );
+		try
+		{
+			myList.transfer( 0, other, 2, 1 );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+	}
 }
@@ -0,0 +1,398 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import exceptions.EmptyQueueException;
+import implementations.ElementCodecs;
+import implementations.MyDiskQueue;
+import implementations.MyQueue;
+import utilities.Iterator;
+
+/**
+ * @author agent
+ * @version 1.0 Oct. 18, 2026
+ * Class Description:
+ * Test for the memory-mapped, disk-backed implementation of the QueueADT.
+ * Each test works in its own temporary directory. Segments are kept to 64
+ * bytes so that a handful of short strings spans several of them.
+ */
+
+public class DiskQueueTest
+{
+	private static final int SEGMENT = 64;
+
+	// Attributes
+	private File dir;
+	private MyDiskQueue<String> queue;
+
+	/**
+	 * Opens a queue in a fresh temporary directory before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		dir = Files.createTempDirectory( "diskqueue" ).toFile();
+		queue = open();
+	}
+
+	/**
+	 * Closes the queue and deletes its directory after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		queue.close();
+		queue = null;
+		File[] files = dir.listFiles();
+		for( File file : files == null ? new File[0] : files )
+		{
+			file.delete();
+		}
+		dir.delete();
+	}
+
+	private MyDiskQueue<String> open() throws Exception
+	{
+		return new MyDiskQueue<String>( dir, ElementCodecs.STRING, SEGMENT, 0 );
+	}
+
+	/**
+	 * Closes the queue and opens the same directory again.
+	 */
+	private void reopen() throws Exception
+	{
+		queue.close();
+		queue = open();
+	}
+
+	private int segmentFiles()
+	{
+		return dir.list( ( d, name ) -> name.endsWith( ".seg" ) ).length;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDiskQueue#dequeue()}
+	 * to return elements in the order they were enqueued across segments.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testDequeue_fifoAcrossSegments() throws EmptyQueueException
+	{
+		for( int i = 0; i < 40; i++ )
+		{
+			queue.enqueue( "e" + i );
+		}
+		assertEquals( "Failed to update size.", 40, queue.size() );
+		assertTrue( "Failed to roll over to new segments.", segmentFiles() > 1 );
+
+		for( int i = 0; i < 40; i++ )
+		{
+			assertEquals( "Failed to dequeue in order.", "e" + i, queue.dequeue() );
+		}
+		assertTrue( "Failed to empty queue.", queue.isEmpty() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDiskQueue#peek()}
+	 * to return the front element without removing it.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testPeek_doesNotRemove() throws EmptyQueueException
+	{
+		queue.enqueue( "a" );
+		queue.enqueue( "b" );
+
+		assertEquals( "Failed to peek front.", "a", queue.peek() );
+		assertEquals( "Failed to peek front twice.", "a", queue.peek() );
+		assertEquals( "Failed to keep size.", 2, queue.size() );
+		assertEquals( "Failed to dequeue peeked element.", "a", queue.dequeue() );
+		assertEquals( "Failed to peek next element.", "b", queue.peek() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDiskQueue#dequeue()}
+	 * to throw EmptyQueueException on an empty queue.
+	 */
+	@Test
+	public void testDequeue_empty()
+	{
+		try
+		{
+			queue.dequeue();
+			fail( "Failed to throw EmptyQueueException." );
+		}
+		catch( EmptyQueueException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDiskQueue#MyDiskQueue(File, utilities.ElementCodec, int, int)}
+	 * to recover the elements and the checkpointed head after the queue is reopened.
+	 * @throws Exception
+	 */
+	@Test
+	public void testReopen_recoversHeadAndTail() throws Exception
+	{
+		for( int i = 0; i < 30; i++ )
+		{
+			queue.enqueue( "e" + i );
+		}
+		for( int i = 0; i < 12; i++ )
+		{
+			queue.dequeue();
+		}
+
+		reopen();
+
+		assertEquals( "Failed to recover size.", 18, queue.size() );
+		assertEquals( "Failed to recover head.", "e12", queue.peek() );
+		queue.enqueue( "new" );
+		for( int i = 12; i < 30; i++ )
+		{
+			assertEquals( "Failed to recover order.", "e" + i, queue.dequeue() );
+		}
+		assertEquals( "Failed to append after recovery.", "new", queue.dequeue() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDiskQueue#MyDiskQueue(File, utilities.ElementCodec, int, int)}
+	 * to drop a record whose bytes were damaged, as after a torn write, and anything after it.
+	 * @throws Exception
+	 */
+	@Test
+	public void testReopen_tornTailDropped() throws Exception
+	{
+		for( int i = 0; i < 5; i++ )
+		{
+			queue.enqueue( "e" + i );
+		}
+		queue.close();
+
+		// Each record is an 8-byte header and a 2-byte payload; damage the fourth payload
+		try( RandomAccessFile file = new RandomAccessFile( new File( dir, "queue-0000000000000000.seg" ), "rw" ) )
+		{
+			file.seek( 3 * 10 + 8 );
+			file.write( 'x' );
+		}
+		queue = open();
+
+		assertEquals( "Failed to drop damaged records.", 3, queue.size() );
+		queue.enqueue( "after" );
+		assertArrayEquals( "Failed to recover valid prefix.",
+				new Object[] { "e0", "e1", "e2", "after" }, queue.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDiskQueue#dequeue()}
+	 * to reuse consumed segment files instead of creating new ones for ever.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testDequeue_recyclesSegments() throws EmptyQueueException
+	{
+		for( int i = 0; i < 1000; i++ )
+		{
+			queue.enqueue( "e" + i );
+			assertEquals( "Failed to dequeue in order.", "e" + i, queue.dequeue() );
+			assertTrue( "Failed to recycle segments.", segmentFiles() <= 4 );
+		}
+		assertTrue( "Failed to empty queue.", queue.isEmpty() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDiskQueue#dequeueAll()}
+	 * to empty the queue durably.
+	 * @throws Exception
+	 */
+	@Test
+	public void testDequeueAll_persists() throws Exception
+	{
+		for( int i = 0; i < 30; i++ )
+		{
+			queue.enqueue( "e" + i );
+		}
+		queue.dequeueAll();
+		assertEquals( "Failed to empty queue.", 0, queue.size() );
+
+		reopen();
+		assertTrue( "Failed to persist empty queue.", queue.isEmpty() );
+		queue.enqueue( "x" );
+		assertEquals( "Failed to enqueue after dequeueAll.", "x", queue.peek() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDiskQueue#iterator()}
+	 * to read every element from the head to the tail without removing them.
+	 */
+	@Test
+	public void testIterator_acrossSegments()
+	{
+		for( int i = 0; i < 25; i++ )
+		{
+			queue.enqueue( "e" + i );
+		}
+
+		Iterator<String> it = queue.iterator();
+		for( int i = 0; i < 25; i++ )
+		{
+			assertTrue( "Failed to report next.", it.hasNext() );
+			assertEquals( "Failed to iterate in order.", "e" + i, it.next() );
+		}
+		assertFalse( "Failed to end iteration.", it.hasNext() );
+		assertEquals( "Failed to keep size.", 25, queue.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDiskQueue#search(Object)}
+	 * and contains to find elements by 1-based position from the front.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testSearch_afterDequeue() throws EmptyQueueException
+	{
+		for( int i = 0; i < 20; i++ )
+		{
+			queue.enqueue( "e" + i );
+		}
+		queue.dequeue();
+
+		assertEquals( "Failed to find element.", 5, queue.search( "e5" ) );
+		assertEquals( "Failed to report dequeued element.", -1, queue.search( "e0" ) );
+		assertTrue( "Failed to contain element.", queue.contains( "e19" ) );
+		assertFalse( "Failed to reject missing element.", queue.contains( "zz" ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDiskQueue#equals(utilities.QueueADT)}
+	 * to compare equal to an in-memory queue with the same elements.
+	 */
+	@Test
+	public void testEquals_inMemoryQueue()
+	{
+		MyQueue<String> other = new MyQueue<String>();
+		for( int i = 0; i < 10; i++ )
+		{
+			queue.enqueue( "e" + i );
+			other.enqueue( "e" + i );
+		}
+
+		assertTrue( "Failed to equal in-memory queue.", queue.equals( other ) );
+		other.enqueue( "more" );
+		assertFalse( "Failed to detect different sizes.", queue.equals( other ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDiskQueue#toArray(Object[])}
+	 * to allocate a larger array of the same type when needed.
+	 */
+	@Test
+	public void testToArray_holder()
+	{
+		queue.enqueue( "a" );
+		queue.enqueue( "b" );
+		queue.enqueue( "c" );
+
+		String[] result = queue.toArray( new String[1] );
+		assertArrayEquals( "Failed to copy elements.", new String[] { "a", "b", "c" }, result );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDiskQueue#enqueue(Object)}
+	 * to reject null and elements too large for a segment.
+	 */
+	@Test
+	public void testEnqueue_invalid()
+	{
+		try
+		{
+			queue.enqueue( null );
+			fail( "Failed to throw NullPointerException." );
+		}
+		catch( NullPointerException e )
+		{
+			assertTrue( true );
+		}
+		try
+		{
+			queue.enqueue( new String( new char[SEGMENT] ) );
+			fail( "Failed to throw IllegalArgumentException." );
+		}
+		catch( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+		assertEquals( "Failed to keep size.", 0, queue.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyDiskQueue#close()}
+	 * to refuse operations once closed.
+	 */
+	@Test
+	public void testClose_rejectsUse()
+	{
+		queue.enqueue( "a" );
+		queue.close();
+		try
+		{
+			queue.enqueue( "b" );
+			fail( "Failed to throw IllegalStateException." );
+		}
+		catch( IllegalStateException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ElementCodecs#INTEGER}
+	 * to store integers, including negative ones, through a reopen.
+	 * @throws Exception
+	 */
+	@Test
+	public void testIntegerCodec_reopen() throws Exception
+	{
+		File intDir = new File( dir, "ints" );
+		MyDiskQueue<Integer> ints = new MyDiskQueue<Integer>( intDir, ElementCodecs.INTEGER, SEGMENT, 1 );
+		ints.enqueue( -7 );
+		ints.enqueue( Integer.MAX_VALUE );
+		ints.close();
+
+		ints = new MyDiskQueue<Integer>( intDir, ElementCodecs.INTEGER, SEGMENT, 1 );
+		assertEquals( "Failed to decode negative value.", Integer.valueOf( -7 ), ints.dequeue() );
+		assertEquals( "Failed to decode large value.", Integer.valueOf( Integer.MAX_VALUE ), ints.dequeue() );
+		ints.close();
+		for( File file : intDir.listFiles() )
+		{
+			file.delete();
+		}
+		intDir.delete();
+	}
+}
@@ -0,0 +1,95 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import implementations.MyArrayList;
+import implementations.MyGapList;
+
+/**
+ * @author agent
+ * @version 1.0 Oct. 18, 2026
+ * Class Description:
+ * Test for the gap-buffer-based implementation of the ListADT defined in the CPRG304
+ * Assignment 2.
+ */
+
+public class GapListTest extends ListADTContract<MyGapList<Integer>>
+{
+	/**
+	 * Creates an empty MyGapList for the ListADT tests inherited from ListADTContract.
+	 * @return a new empty list
+	 */
+	@Override
+	protected MyGapList<Integer> newList()
+	{
+		return new MyGapList<>();
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyGapList#add(int, java.lang.Object)}
+	 * to keep order when inserting repeatedly at a cursor that moves back and forth.
+	 */
+	@Test
+	public void testAdd_movingCursor()
+	{
+		for( int i = 0; i < 20; i++ )
+		{
+			myList.add( i * 10 );
+		}
+		// insert 5, 15, ... after each multiple of ten, walking from the back
+		for( int i = 19; i >= 0; i-- )
+		{
+			myList.add( i + 1, i * 10 + 5 );
+		}
+		myList.remove( 0 );
+		myList.add( 0, 0 );
+
+		for( int i = 0; i < 40; i++ )
+		{
+			assertEquals( "Failed to keep order.", Integer.valueOf( i * 5 ), myList.get( i ) );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyGapList#remove(int)}
+	 * to keep positions right while the gap moves, compared against a MyArrayList
+	 * receiving the same operations.
+	 */
+	@Test
+	public void testMixedOperations_matchArrayList()
+	{
+		MyArrayList<Integer> expected = new MyArrayList<>();
+		java.util.Random random = new java.util.Random( 304 );
+		int cursor = 0;
+
+		for( int step = 0; step < 5000; step++ )
+		{
+			// mostly small cursor moves, sometimes a jump
+			cursor = random.nextInt( 10 ) == 0 ? random.nextInt( expected.size() + 1 )
+					: Math.max( 0, Math.min( expected.size(), cursor + random.nextInt( 5 ) - 2 ) );
+			int choice = random.nextInt( 10 );
+			if( choice < 5 || expected.isEmpty() )
+			{
+				myList.add( cursor, step );
+				expected.add( cursor, step );
+			}
+			else if( choice < 8 )
+			{
+				int index = Math.min( cursor, expected.size() - 1 );
+				assertEquals( "Failed to remove same item.", expected.remove( index ), myList.remove( index ) );
+			}
+			else
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( "Failed to set same item.", expected.set( index, step ), myList.set( index, step ) );
+			}
+		}
+
+		assertEquals( "Failed to keep size.", expected.size(), myList.size() );
+		assertArrayEquals( "Failed to keep order.", expected.toArray(), myList.toArray() );
+	}
+}
@@ -0,0 +1,182 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import exceptions.EmptyQueueException;
+import implementations.IntArrayList;
+import implementations.IntQueue;
+import utilities.IntIterator;
+
+/**
+ * @author agent
+ * @version 1.0 Oct. 18, 2026
+ * Class Description:
+ * Test for the unboxed int ring queue that mirrors the QueueADT operations of
+ * MyCircularQueue.
+ */
+
+public class IntQueueTest
+{
+	// Attributes
+	private IntQueue queue;
+
+	/**
+	 * Initializes a new IntQueue instance before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		queue = new IntQueue( 4 );
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		queue = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntQueue#enqueue(int)}
+	 * and {@link implementations.IntQueue#dequeueInt()}
+	 * to keep FIFO order while the ring wraps and grows.
+	 */
+	@Test
+	public void testEnqueueDequeue_wrapAndGrow() throws EmptyQueueException
+	{
+		queue.enqueue( 0 );
+		queue.enqueue( 1 );
+		queue.enqueue( 2 );
+		assertEquals( "Failed to dequeue front.", 0, queue.dequeueInt() );
+		assertEquals( "Failed to dequeue front.", 1, queue.dequeueInt() );
+		for( int i = 3; i < 20; i++ )
+		{
+			queue.enqueue( i );
+		}
+
+		for( int i = 2; i < 20; i++ )
+		{
+			assertEquals( "Failed to keep FIFO order.", i, queue.dequeueInt() );
+		}
+		assertTrue( "Failed to empty queue.", queue.isEmpty() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntQueue#peekInt()}
+	 * to throw EmptyQueueException on an empty queue.
+	 */
+	@Test
+	public void testPeek_EmptyQueueException()
+	{
+		try
+		{
+			queue.peekInt();
+			fail( "Failed to throw EmptyQueueException." );
+		}
+		catch( EmptyQueueException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntQueue#get(int)}
+	 * and {@link implementations.IntQueue#search(int)}
+	 * to count positions from the front after the ring has wrapped.
+	 */
+	@Test
+	public void testGetAndSearch() throws EmptyQueueException
+	{
+		for( int i = 0; i < 4; i++ )
+		{
+			queue.enqueue( i );
+		}
+		queue.dequeueInt();
+		queue.enqueue( 4 );
+
+		assertEquals( "Failed to get by position.", 4, queue.get( 3 ) );
+		assertEquals( "Failed to return 1-based position.", 2, queue.search( 2 ) );
+		assertEquals( "Failed to return -1.", -1, queue.search( 0 ) );
+		assertTrue( "Failed to find value.", queue.contains( 4 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntQueue#toArray()}
+	 * and {@link implementations.IntQueue#iterator()}
+	 * to list values from front to back.
+	 */
+	@Test
+	public void testToArrayAndIterator() throws EmptyQueueException
+	{
+		for( int i = 0; i < 4; i++ )
+		{
+			queue.enqueue( i );
+		}
+		queue.dequeueInt();
+		queue.enqueue( 4 );
+
+		int[] expected = { 1, 2, 3, 4 };
+		assertArrayEquals( "Failed to list front first.", expected, queue.toArray() );
+
+		IntIterator it = queue.iterator();
+		for( int value : expected )
+		{
+			assertEquals( "Failed to iterate front first.", value, it.nextInt() );
+		}
+		assertFalse( "Failed to stop at the back.", it.hasNext() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntQueue#drainTo(int[], int, int)}
+	 * to dequeue at most max values across the wrap point.
+	 */
+	@Test
+	public void testDrainTo_array() throws EmptyQueueException
+	{
+		for( int i = 0; i < 4; i++ )
+		{
+			queue.enqueue( i );
+		}
+		queue.dequeueInt();
+		queue.dequeueInt();
+		queue.enqueue( 4 );
+		queue.enqueue( 5 );
+
+		int[] dest = new int[3];
+		assertEquals( "Failed to return count.", 3, queue.drainTo( dest, 0, 3 ) );
+		int[] expected = { 2, 3, 4 };
+		assertArrayEquals( "Failed to drain in order.", expected, dest );
+		assertEquals( "Failed to leave the rest.", 5, queue.peekInt() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntQueue#drainTo(implementations.IntArrayList)}
+	 * to dequeue every value onto the end of a list.
+	 */
+	@Test
+	public void testDrainTo_list()
+	{
+		queue.enqueue( 1 );
+		queue.enqueue( 2 );
+		IntArrayList list = new IntArrayList();
+
+		assertEquals( "Failed to return count.", 2, queue.drainTo( list ) );
+		int[] expected = { 1, 2 };
+		assertArrayEquals( "Failed to append in order.", expected, list.toArray() );
+		assertTrue( "Failed to empty queue.", queue.isEmpty() );
+	}
+}
@@ -0,0 +1,183 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.EmptyStackException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.IntArrayList;
+import implementations.IntStack;
+import utilities.IntIterator;
+
+/**
+ * @author agent
+ * @version 1.0 Oct. 18, 2026
+ * Class Description:
+ * Test for the unboxed int stack that mirrors the StackADT operations of
+ * MyStack.
+ */
+
+public class IntStackTest
+{
+	// Attributes
+	private IntStack stack;
+
+	/**
+	 * Initializes a new IntStack instance before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		stack = new IntStack();
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		stack = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntStack#push(int)}
+	 * and {@link implementations.IntStack#popInt()}
+	 * to return values in LIFO order past the initial capacity.
+	 */
+	@Test
+	public void testPushPop()
+	{
+		for( int i = 0; i < 100; i++ )
+		{
+			stack.push( i );
+		}
+		assertEquals( "Failed to update size.", 100, stack.size() );
+		for( int i = 99; i >= 0; i-- )
+		{
+			assertEquals( "Failed to pop in LIFO order.", i, stack.popInt() );
+		}
+		assertTrue( "Failed to empty stack.", stack.isEmpty() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntStack#peekInt()}
+	 * to return the top value without removing it.
+	 */
+	@Test
+	public void testPeek()
+	{
+		stack.push( 1 );
+		stack.push( 2 );
+
+		assertEquals( "Failed to peek top.", 2, stack.peekInt() );
+		assertEquals( "Failed to keep size.", 2, stack.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntStack#popInt()}
+	 * to throw EmptyStackException on an empty stack.
+	 */
+	@Test
+	public void testPop_EmptyStackException()
+	{
+		try
+		{
+			stack.popInt();
+			fail( "Failed to throw EmptyStackException." );
+		}
+		catch( EmptyStackException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntStack#search(int)}
+	 * and {@link implementations.IntStack#contains(int)}
+	 * to count positions from the top.
+	 */
+	@Test
+	public void testSearch()
+	{
+		stack.push( 5 );
+		stack.push( 6 );
+		stack.push( 7 );
+
+		assertEquals( "Failed to return position from top.", 3, stack.search( 5 ) );
+		assertEquals( "Failed to return -1.", -1, stack.search( 8 ) );
+		assertTrue( "Failed to find value.", stack.contains( 6 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntStack#toArray()}
+	 * and {@link implementations.IntStack#iterator()}
+	 * to list values from top to bottom.
+	 */
+	@Test
+	public void testToArrayAndIterator()
+	{
+		stack.push( 1 );
+		stack.push( 2 );
+		stack.push( 3 );
+
+		int[] expected = { 3, 2, 1 };
+		assertArrayEquals( "Failed to list top first.", expected, stack.toArray() );
+
+		IntIterator it = stack.iterator();
+		for( int value : expected )
+		{
+			assertEquals( "Failed to iterate top first.", value, it.nextInt() );
+		}
+		assertFalse( "Failed to stop at the bottom.", it.hasNext() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntStack#drainTo(int[], int, int)}
+	 * to pop at most max values into the array, top first.
+	 */
+	@Test
+	public void testDrainTo_array()
+	{
+		for( int i = 1; i <= 5; i++ )
+		{
+			stack.push( i );
+		}
+
+		int[] dest = new int[4];
+		assertEquals( "Failed to return count.", 3, stack.drainTo( dest, 1, 3 ) );
+		int[] expected = { 0, 5, 4, 3 };
+		assertArrayEquals( "Failed to drain top first.", expected, dest );
+		assertEquals( "Failed to leave the rest.", 2, stack.peekInt() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.IntStack#drainTo(implementations.IntArrayList)}
+	 * to pop every value onto the end of a list.
+	 */
+	@Test
+	public void testDrainTo_list()
+	{
+		stack.push( 1 );
+		stack.push( 2 );
+		IntArrayList list = new IntArrayList();
+		list.add( 9 );
+
+		assertEquals( "Failed to return count.", 2, stack.drainTo( list ) );
+		int[] expected = { 9, 2, 1 };
+		assertArrayEquals( "Failed to append top first.", expected, list.toArray() );
+		assertTrue( "Failed to empty stack.", stack.isEmpty() );
+	}
+}
@@ -0,0 +1,274 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.NoSuchElementException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.LongArrayList;
+import utilities.LongIterator;
+
+/**
+ * @author agent
+ * @version 1.0 Oct. 18, 2026
+ * Class Description:
+ * Test for the unboxed long list that mirrors the ListADT operations of
+ * MyArrayList.
+ */
+
+public class LongArrayListTest
+{
+	// Attributes
+	private LongArrayList myList;
+
+	/**
+	 * Initializes a new LongArrayList instance before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		myList = new LongArrayList();
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		myList = null;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.LongArrayList#add(int)}
+	 * to append values past the initial capacity.
+	 */
+	@Test
+	public void testAdd_grows()
+	{
+		for( int i = 0; i < 1000; i++ )
+		{
+			myList.add( i * 3 + ( 1L << 40 ) );
+		}
+		assertEquals( "Failed to update size.", 1000, myList.size() );
+		assertEquals( "Failed to store value.", 2997 + ( 1L << 40 ), myList.get( 999 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.LongArrayList#add(int, long)}
+	 * to insert at the front, middle and end.
+	 */
+	@Test
+	public void testAdd_index()
+	{
+		myList.add( 0, 2 );
+		myList.add( 0, 0 );
+		myList.add( 1, 1 );
+		myList.add( 3, 3 );
+
+		long[] expected = { 0, 1, 2, 3 };
+		assertArrayEquals( "Failed to insert in order.", expected, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.LongArrayList#add(int, long)}
+	 * to throw IndexOutOfBoundsException past the end.
+	 */
+	@Test
+	public void testAdd_IndexOutOfBounds()
+	{
+		try
+		{
+			myList.add( 1, 5 );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.LongArrayList#addAll(implementations.LongArrayList)}
+	 * to append another list and the list itself.
+	 */
+	@Test
+	public void testAddAll()
+	{
+		LongArrayList other = new LongArrayList();
+		other.add( 7 );
+		other.add( 8 );
+		myList.add( 6 );
+
+		myList.addAll( other );
+		myList.addAll( myList );
+
+		long[] expected = { 6, 7, 8, 6, 7, 8 };
+		assertArrayEquals( "Failed to append lists.", expected, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.LongArrayList#set(int, long)}
+	 * to replace a value and return the old one.
+	 */
+	@Test
+	public void testSet()
+	{
+		myList.add( 1 );
+		myList.add( 2 );
+
+		assertEquals( "Failed to return old value.", 2, myList.set( 1, 5 ) );
+		assertEquals( "Failed to store new value.", 5, myList.get( 1 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.LongArrayList#get(int)}
+	 * to throw IndexOutOfBoundsException for an index at the size.
+	 */
+	@Test
+	public void testGet_IndexOutOfBounds()
+	{
+		myList.add( 1 );
+		try
+		{
+			myList.get( 1 );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.LongArrayList#remove(int)}
+	 * to remove by index and shift later values left.
+	 */
+	@Test
+	public void testRemove_index()
+	{
+		for( int i = 0; i < 5; i++ )
+		{
+			myList.add( i * 10 );
+		}
+
+		assertEquals( "Failed to return removed value.", 20, myList.remove( 2 ) );
+		long[] expected = { 0, 10, 30, 40 };
+		assertArrayEquals( "Failed to shift values.", expected, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.LongArrayList#removeValue(long)}
+	 * to remove only the first occurrence of a value.
+	 */
+	@Test
+	public void testRemoveValue()
+	{
+		myList.add( 4 );
+		myList.add( 5 );
+		myList.add( 4 );
+
+		assertTrue( "Failed to return true.", myList.removeValue( 4 ) );
+		assertFalse( "Failed to return false.", myList.removeValue( 9 ) );
+		long[] expected = { 5, 4 };
+		assertArrayEquals( "Failed to remove first occurrence.", expected, myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.LongArrayList#contains(long)}
+	 * and {@link implementations.LongArrayList#indexOf(long)}.
+	 */
+	@Test
+	public void testContainsAndIndexOf()
+	{
+		myList.add( 3 );
+		myList.add( 9 );
+
+		assertTrue( "Failed to find value.", myList.contains( 9 ) );
+		assertFalse( "Failed to miss value.", myList.contains( 4 ) );
+		assertEquals( "Failed to return index.", 1, myList.indexOf( 9 ) );
+		assertEquals( "Failed to return -1.", -1, myList.indexOf( 4 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.LongArrayList#toArray(long[])}
+	 * to fill a large enough holder and allocate a new array otherwise.
+	 */
+	@Test
+	public void testToArray_holder()
+	{
+		myList.add( 1 );
+		myList.add( 2 );
+
+		long[] holder = new long[4];
+		assertSame( "Failed to reuse holder.", holder, myList.toArray( holder ) );
+		assertEquals( "Failed to fill holder.", 2, holder[1] );
+
+		long[] small = new long[1];
+		long[] result = myList.toArray( small );
+		assertNotSame( "Failed to allocate new array.", small, result );
+		assertEquals( "Failed to size new array.", 2, result.length );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.LongArrayList#clear()}
+	 * to empty the list and keep it usable.
+	 */
+	@Test
+	public void testClear()
+	{
+		myList.add( 1 );
+		myList.clear();
+		myList.add( 2 );
+
+		assertEquals( "Failed to update size.", 1, myList.size() );
+		assertEquals( "Failed to store value.", 2, myList.get( 0 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.LongArrayList#iterator()}
+	 * to return every value in order and then throw NoSuchElementException.
+	 */
+	@Test
+	public void testIterator()
+	{
+		for( int i = 0; i < 3; i++ )
+		{
+			myList.add( i );
+		}
+
+		LongIterator it = myList.iterator();
+		for( int i = 0; i < 3; i++ )
+		{
+			assertTrue( "Failed to report next value.", it.hasNext() );
+			assertEquals( "Failed to return value in order.", i, it.nextLong() );
+		}
+		assertFalse( "Failed to stop at the end.", it.hasNext() );
+		try
+		{
+			it.nextLong();
+			fail( "Failed to throw NoSuchElementException." );
+		}
+		catch( NoSuchElementException e )
+		{
+			assertTrue( true );
+		}
+	}
+}
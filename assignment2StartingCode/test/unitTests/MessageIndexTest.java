@@ -0,0 +1,209 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import appDomain.MessageIndex;
+import implementations.MyArrayList;
+
+/**
+ * @author agent
+ * @version 1.0 Oct. 19, 2026
+ * Class Description:
+ * Test for the index XMLParser uses to find duplicate error messages. The index
+ * under test spills its hash table once it has 16 slots, so a few hundred
+ * messages already produce several run files in a temporary directory of the
+ * test's own. The indexed messages are kept in a MyArrayList.
+ */
+
+public class MessageIndexTest
+{
+	// Attributes
+	private File dir;
+	private MessageIndex index;
+	private MyArrayList<String> messages;
+
+	/**
+	 * Creates a small index spilling into a fresh temporary directory before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		dir = Files.createTempDirectory( "messageindex" ).toFile();
+		index = new MessageIndex( 16, dir );
+		messages = new MyArrayList<>();
+	}
+
+	/**
+	 * Clears the index and deletes the directory after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		index.clear();
+		File[] files = dir.listFiles();
+		for( File file : files == null ? new File[0] : files )
+		{
+			file.delete();
+		}
+		dir.delete();
+	}
+
+	private void add( String message )
+	{
+		messages.add( message );
+		index.add( message, messages.size() - 1 );
+	}
+
+	private int runFiles()
+	{
+		File[] files = dir.listFiles();
+		return files == null ? 0 : files.length;
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.MessageIndex#contains(utilities.ListADT, java.lang.String)}
+	 * to find added messages and not others, while everything fits in the hash table.
+	 */
+	@Test
+	public void testContains_inMemory()
+	{
+		add( "first" );
+		add( "second" );
+		assertTrue( index.contains( messages, "first" ) );
+		assertTrue( index.contains( messages, "second" ) );
+		assertFalse( index.contains( messages, "third" ) );
+		assertEquals( 0, index.getRunCount() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.MessageIndex#contains(utilities.ListADT, java.lang.String)}
+	 * to tell apart messages with the same hash code by reading them back.
+	 */
+	@Test
+	public void testContains_hashCollision()
+	{
+		assertEquals( "Aa".hashCode(), "BB".hashCode() );
+		add( "AaAa" );
+		add( "BBBB" );
+		assertTrue( index.contains( messages, "AaAa" ) );
+		assertTrue( index.contains( messages, "BBBB" ) );
+		assertEquals( "AaAa".hashCode(), "AaBB".hashCode() );
+		assertFalse( index.contains( messages, "AaBB" ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.MessageIndex#add(java.lang.String, int)}
+	 * to spill the full hash table to sorted runs, merging them so only
+	 * logarithmically many remain, and still find every message.
+	 */
+	@Test
+	public void testAdd_spillsToRuns()
+	{
+		for( int i = 0; i < 1000; i++ )
+		{
+			add( "message " + i );
+		}
+		assertTrue( index.getRunCount() > 0 );
+		assertTrue( index.getRunCount() <= 10 );
+		assertEquals( index.getRunCount(), runFiles() );
+
+		for( int i = 0; i < 1000; i++ )
+		{
+			assertTrue( index.contains( messages, "message " + i ) );
+		}
+		for( int i = 1000; i < 2000; i++ )
+		{
+			assertFalse( index.contains( messages, "message " + i ) );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.MessageIndex#truncate(int)}
+	 * to forget the messages past a truncated list, deleting runs that hold only
+	 * those, and never match an entry left behind once the list is refilled.
+	 */
+	@Test
+	public void testTruncate_refilledList()
+	{
+		for( int i = 0; i < 1000; i++ )
+		{
+			add( "message " + i );
+		}
+		int runs = index.getRunCount();
+		while( messages.size() > 100 )
+		{
+			messages.remove( messages.size() - 1 );
+		}
+		index.truncate( 100 );
+		assertTrue( index.getRunCount() < runs );
+		assertEquals( index.getRunCount(), runFiles() );
+
+		for( int i = 0; i < 900; i++ )
+		{
+			add( "other " + i );
+		}
+		for( int i = 0; i < 100; i++ )
+		{
+			assertTrue( index.contains( messages, "message " + i ) );
+		}
+		for( int i = 100; i < 1000; i++ )
+		{
+			assertFalse( index.contains( messages, "message " + i ) );
+		}
+		for( int i = 0; i < 900; i++ )
+		{
+			assertTrue( index.contains( messages, "other " + i ) );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.MessageIndex#clear()}
+	 * to forget every message and delete every run file.
+	 */
+	@Test
+	public void testClear_deletesRuns()
+	{
+		for( int i = 0; i < 1000; i++ )
+		{
+			add( "message " + i );
+		}
+		assertTrue( runFiles() > 0 );
+		index.clear();
+		assertEquals( 0, index.getRunCount() );
+		assertEquals( 0, runFiles() );
+		assertFalse( index.contains( messages, "message 0" ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.MessageIndex#MessageIndex(int, java.io.File)}
+	 * to reject a hash table bound that is not a power of two of at least 16.
+	 */
+	@Test
+	public void testConstructor_IllegalArgumentException()
+	{
+		try
+		{
+			new MessageIndex( 100, dir );
+			fail( "IllegalArgumentException was not thrown" );
+		}
+		catch( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+	}
+}
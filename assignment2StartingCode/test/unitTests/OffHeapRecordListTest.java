@@ -0,0 +1,228 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import implementations.OffHeapRecordList;
+
+/**
+ * @author agent
+ * @version 1.0 Oct. 18, 2026
+ * Class Description:
+ * Test for the off-heap list of fixed-width records. Records here are
+ * (tag id, line, offset) triples: an int at 0, an int at 4 and a long at 8.
+ * Segments hold only four records so that shifts cross segment boundaries.
+ */
+
+public class OffHeapRecordListTest
+{
+	private static final int TAG = 0;
+	private static final int LINE = 4;
+	private static final int OFFSET = 8;
+
+	// Attributes
+	private OffHeapRecordList records;
+
+	/**
+	 * Initializes a new OffHeapRecordList with 16-byte records before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		records = new OffHeapRecordList( 16, 4 );
+	}
+
+	/**
+	 * Frees the list after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		records.free();
+		records = null;
+	}
+
+	/**
+	 * Appends a record holding line i and offset i * 100.
+	 */
+	private void addRecord( int i )
+	{
+		int index = records.add();
+		records.putInt( index, TAG, i % 7 );
+		records.putInt( index, LINE, i );
+		records.putLong( index, OFFSET, i * 100L );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.OffHeapRecordList#add()}
+	 * to append zeroed records across several segments and keep their fields.
+	 */
+	@Test
+	public void testAdd_acrossSegments()
+	{
+		for( int i = 0; i < 50; i++ )
+		{
+			addRecord( i );
+		}
+
+		assertEquals( "Failed to update size.", 50, records.size() );
+		for( int i = 0; i < 50; i++ )
+		{
+			assertEquals( "Failed to keep int field.", i, records.getInt( i, LINE ) );
+			assertEquals( "Failed to keep long field.", i * 100L, records.getLong( i, OFFSET ) );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.OffHeapRecordList#add(int)}
+	 * to insert a zeroed record and shift later records across segments.
+	 */
+	@Test
+	public void testAdd_index()
+	{
+		for( int i = 0; i < 10; i++ )
+		{
+			addRecord( i );
+		}
+
+		records.add( 3 );
+
+		assertEquals( "Failed to update size.", 11, records.size() );
+		assertEquals( "Failed to zero new record.", 0L, records.getLong( 3, OFFSET ) );
+		assertEquals( "Failed to keep earlier record.", 2, records.getInt( 2, LINE ) );
+		for( int i = 4; i < 11; i++ )
+		{
+			assertEquals( "Failed to shift record.", i - 1, records.getInt( i, LINE ) );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.OffHeapRecordList#remove(int)}
+	 * to shift later records down across segments.
+	 */
+	@Test
+	public void testRemove()
+	{
+		for( int i = 0; i < 10; i++ )
+		{
+			addRecord( i );
+		}
+
+		records.remove( 1 );
+		records.remove( 7 );
+
+		int[] expected = { 0, 2, 3, 4, 5, 6, 7, 9 };
+		assertEquals( "Failed to update size.", expected.length, records.size() );
+		for( int i = 0; i < expected.length; i++ )
+		{
+			assertEquals( "Failed to shift record.", expected[i], records.getInt( i, LINE ) );
+			assertEquals( "Failed to shift whole record.", expected[i] * 100L, records.getLong( i, OFFSET ) );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.OffHeapRecordList#cursor()}
+	 * to walk every record in order and update fields in place.
+	 */
+	@Test
+	public void testCursor()
+	{
+		for( int i = 0; i < 20; i++ )
+		{
+			addRecord( i );
+		}
+
+		OffHeapRecordList.Cursor cursor = records.cursor();
+		int expected = 0;
+		while( cursor.next() )
+		{
+			assertEquals( "Failed to walk in order.", expected, cursor.getInt( LINE ) );
+			cursor.putInt( LINE, expected + 1000 );
+			expected++;
+		}
+		assertEquals( "Failed to visit every record.", 20, expected );
+
+		cursor.moveTo( 5 );
+		assertEquals( "Failed to move to record.", 1005, cursor.getInt( LINE ) );
+		assertEquals( "Failed to write in place.", 1019, records.getInt( 19, LINE ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.OffHeapRecordList#getLong(int, int)}
+	 * to throw IndexOutOfBoundsException for a field that runs past the record.
+	 */
+	@Test
+	public void testGetLong_fieldOutOfBounds()
+	{
+		addRecord( 0 );
+		try
+		{
+			records.getLong( 0, 12 );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.OffHeapRecordList#trimToSize()}
+	 * to keep the remaining records usable after unused segments are released.
+	 */
+	@Test
+	public void testTrimToSize()
+	{
+		for( int i = 0; i < 20; i++ )
+		{
+			addRecord( i );
+		}
+		for( int i = 0; i < 15; i++ )
+		{
+			records.remove( records.size() - 1 );
+		}
+
+		records.trimToSize();
+		addRecord( 42 );
+
+		assertEquals( "Failed to keep record.", 4, records.getInt( 4, LINE ) );
+		assertEquals( "Failed to append after trim.", 42, records.getInt( 5, LINE ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.OffHeapRecordList#free()}
+	 * to make the list and its cursors unusable.
+	 */
+	@Test
+	public void testFree()
+	{
+		addRecord( 0 );
+		OffHeapRecordList.Cursor cursor = records.cursor();
+		cursor.next();
+
+		records.free();
+
+		assertTrue( "Failed to report freed.", records.isFreed() );
+		try
+		{
+			cursor.getInt( LINE );
+			fail( "Failed to throw IllegalStateException." );
+		}
+		catch( IllegalStateException e )
+		{
+			assertTrue( true );
+		}
+	}
+}
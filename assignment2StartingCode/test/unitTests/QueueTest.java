@@ -10,6 +10,7 @@ import org.junit.Test;
 
 import exceptions.EmptyQueueException;
 import utilities.Iterator;
+import implementations.MyArrayDLL;
 import implementations.MyQueue;
 
 /**
@@ -613,4 +614,49 @@ public class QueueTest
 			assertEquals("Failed to return -1 for not found", expectedIndex, actualIndex);
 		} 
  
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyQueue#spliceAll(implementations.MyQueue)}
+	 * to move every item of another queue to the back and empty it.
+	 */
+	@Test
+	public void testSpliceAll() throws EmptyQueueException
+	{
+		MyQueue<Integer> other = new MyQueue<>();
+		other.enqueue( three );
+		other.enqueue( four );
+		queue.enqueue( one );
+		queue.enqueue( two );
+
+		queue.spliceAll( other );
+
+		assertEquals( "Failed to update size.", 4, queue.size() );
+		assertTrue( "Failed to empty other queue.", other.isEmpty() );
+		assertEquals( "Failed to keep front.", one, queue.dequeue() );
+		assertEquals( "Failed to keep order.", 3, queue.search( four ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyQueue#MyQueue(utilities.ListADT)}
+	 * to keep FIFO order when the queue is stored in a MyArrayDLL.
+	 */
+	@Test
+	public void testConstructor_arrayDLL() throws EmptyQueueException
+	{
+		MyQueue<Integer> arrayQueue = new MyQueue<>( new MyArrayDLL<Integer>() );
+		arrayQueue.enqueue( one );
+		arrayQueue.enqueue( two );
+		arrayQueue.enqueue( three );
+
+		assertEquals( "Failed to dequeue front.", one, arrayQueue.dequeue() );
+		assertEquals( "Failed to search.", 2, arrayQueue.search( three ) );
+
+		queue.enqueue( four );
+		queue.spliceAll( arrayQueue );
+		assertEquals( "Failed to splice.", 3, queue.size() );
+		assertTrue( "Failed to empty other queue.", arrayQueue.isEmpty() );
+		assertEquals( "Failed to keep order.", 3, queue.search( three ) );
+	}
 }
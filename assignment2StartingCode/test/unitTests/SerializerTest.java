@@ -0,0 +1,461 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import exceptions.EmptyQueueException;
+import implementations.ADTSerializer;
+import implementations.ElementCodecs;
+import implementations.MyArrayList;
+import implementations.MyDLL;
+import implementations.MyQueue;
+import implementations.MyStack;
+import utilities.ElementCodec;
+
+/**
+ * @author agent
+ * @version 1.0 Oct. 18, 2026
+ * Class Description:
+ * Test for the binary serializer of lists, stacks and queues. Most tests write
+ * to a byte array through a channel and read the bytes back; the staging
+ * buffer is kept small so that every structure spans several blocks.
+ */
+
+public class SerializerTest
+{
+	private static final int BUFFER = 64;
+
+	/**
+	 * Codec that does not have a fast path: a point stored as two ints.
+	 */
+	private static final ElementCodec<int[]> POINT = new ElementCodec<int[]>()
+	{
+		@Override
+		public byte[] encode( int[] point )
+		{
+			byte[] x = ElementCodecs.INTEGER.encode( point[0] );
+			byte[] y = ElementCodecs.INTEGER.encode( point[1] );
+			return new byte[] { x[0], x[1], x[2], x[3], y[0], y[1], y[2], y[3] };
+		}
+
+		@Override
+		public int[] decode( byte[] bytes, int offset, int length )
+		{
+			return new int[] { ElementCodecs.INTEGER.decode( bytes, offset, 4 ),
+					ElementCodecs.INTEGER.decode( bytes, offset + 4, 4 ) };
+		}
+	};
+
+	// Attributes
+	private ByteArrayOutputStream bytes;
+	private WritableByteChannel out;
+
+	/**
+	 * Creates an empty in-memory channel before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		bytes = new ByteArrayOutputStream();
+		out = Channels.newChannel( bytes );
+	}
+
+	private ReadableByteChannel in()
+	{
+		return Channels.newChannel( new ByteArrayInputStream( bytes.toByteArray() ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ADTSerializer#readArrayList(ReadableByteChannel)}
+	 * to read back a list of integers written through the integer fast path.
+	 * @throws IOException
+	 */
+	@Test
+	public void testList_integers() throws IOException
+	{
+		ADTSerializer<Integer> serializer = new ADTSerializer<>( ElementCodecs.INTEGER, BUFFER );
+		MyArrayList<Integer> list = new MyArrayList<>();
+		for( int i = -500; i < 500; i++ )
+		{
+			list.add( i * 7919 );
+		}
+
+		serializer.writeList( list, out );
+		MyArrayList<Integer> copy = serializer.readArrayList( in() );
+
+		assertArrayEquals( "Failed to round-trip list.", list.toArray(), copy.toArray() );
+		assertEquals( "Failed to store four bytes per element.", 10 + 4000, bytes.size() - blockHeaders( 4000, BUFFER ) );
+	}
+
+	/**
+	 * Bytes taken by block headers when records fill blocks of the given buffer size.
+	 */
+	private static int blockHeaders( int payload, int buffer )
+	{
+		int perBlock = ( buffer - 8 ) / 4 * 4;
+		return ( payload + perBlock - 1 ) / perBlock * 8;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ADTSerializer#readDLL(ReadableByteChannel)}
+	 * to read back ASCII and non-ASCII strings, including an empty one.
+	 * @throws IOException
+	 */
+	@Test
+	public void testList_strings() throws IOException
+	{
+		ADTSerializer<String> serializer = new ADTSerializer<>( ElementCodecs.STRING, BUFFER );
+		MyDLL<String> list = new MyDLL<>();
+		list.add( "" );
+		list.add( "<note>" );
+		list.add( "café 日本" );
+		for( int i = 0; i < 50; i++ )
+		{
+			list.add( "Error at line: " + i );
+		}
+
+		serializer.writeList( list, out );
+		MyDLL<String> copy = serializer.readDLL( in() );
+
+		assertArrayEquals( "Failed to round-trip strings.", list.toArray(), copy.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ADTSerializer#writeList(utilities.ListADT, WritableByteChannel)}
+	 * to write strings and generic elements larger than the buffer as blocks of their own.
+	 * @throws IOException
+	 */
+	@Test
+	public void testList_elementLargerThanBuffer() throws IOException
+	{
+		ADTSerializer<String> serializer = new ADTSerializer<>( ElementCodecs.STRING, BUFFER );
+		char[] chars = new char[1000];
+		Arrays.fill( chars, 'x' );
+		MyArrayList<String> list = new MyArrayList<>();
+		list.add( "before" );
+		list.add( new String( chars ) );
+		list.add( "after" );
+
+		serializer.writeList( list, out );
+		MyArrayList<String> copy = serializer.readArrayList( in() );
+
+		assertArrayEquals( "Failed to round-trip large element.", list.toArray(), copy.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ADTSerializer#readStack(ReadableByteChannel)}
+	 * to keep the top of the stack on top.
+	 * @throws IOException
+	 */
+	@Test
+	public void testStack_keepsOrder() throws IOException
+	{
+		ADTSerializer<Long> serializer = new ADTSerializer<>( ElementCodecs.LONG, BUFFER );
+		MyStack<Long> stack = new MyStack<>();
+		for( long i = 0; i < 100; i++ )
+		{
+			stack.push( i << 40 );
+		}
+
+		serializer.writeStack( stack, out );
+		MyStack<Long> copy = serializer.readStack( in() );
+
+		assertTrue( "Failed to round-trip stack.", stack.equals( copy ) );
+		assertEquals( "Failed to keep top.", Long.valueOf( 99L << 40 ), copy.peek() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ADTSerializer#readQueue(ReadableByteChannel)}
+	 * to keep the front of the queue in front, with a codec that has no fast path.
+	 * @throws IOException
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testQueue_genericCodec() throws IOException, EmptyQueueException
+	{
+		ADTSerializer<int[]> serializer = new ADTSerializer<>( POINT, BUFFER );
+		MyQueue<int[]> queue = new MyQueue<>();
+		for( int i = 0; i < 30; i++ )
+		{
+			queue.enqueue( new int[] { i, -i } );
+		}
+
+		serializer.writeQueue( queue, out );
+		MyQueue<int[]> copy = serializer.readQueue( in() );
+
+		assertEquals( "Failed to keep size.", 30, copy.size() );
+		for( int i = 0; i < 30; i++ )
+		{
+			assertArrayEquals( "Failed to keep order.", new int[] { i, -i }, copy.dequeue() );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ADTSerializer#readList(ReadableByteChannel, utilities.ListADT)}
+	 * to read several structures in turn from one file channel, including empty ones.
+	 * @throws IOException
+	 */
+	@Test
+	public void testSeveralStructures_fileChannel() throws IOException
+	{
+		File file = File.createTempFile( "adt", ".bin" );
+		ADTSerializer<String> serializer = new ADTSerializer<>( ElementCodecs.STRING, BUFFER );
+		MyArrayList<String> first = new MyArrayList<>();
+		for( int i = 0; i < 40; i++ )
+		{
+			first.add( "first" + i );
+		}
+		MyStack<String> second = new MyStack<>();
+		MyQueue<String> third = new MyQueue<>();
+		third.enqueue( "only" );
+
+		try( FileChannel channel = new RandomAccessFile( file, "rw" ).getChannel() )
+		{
+			serializer.writeList( first, channel );
+			serializer.writeStack( second, channel );
+			serializer.writeQueue( third, channel );
+
+			channel.position( 0 );
+			MyArrayList<String> target = new MyArrayList<>();
+			target.add( "existing" );
+			serializer.readList( channel, target );
+			assertEquals( "Failed to append to target.", 41, target.size() );
+			assertEquals( "Failed to keep existing element.", "existing", target.get( 0 ) );
+			assertEquals( "Failed to read last element.", "first39", target.get( 40 ) );
+			assertTrue( "Failed to read empty stack.", serializer.readStack( channel ).isEmpty() );
+			assertTrue( "Failed to read queue.", third.equals( serializer.readQueue( channel ) ) );
+			assertEquals( "Failed to stop at end of data.", channel.size(), channel.position() );
+		}
+		finally
+		{
+			file.delete();
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ADTSerializer#readStack(ReadableByteChannel)}
+	 * to reject a stream holding another kind of structure or another encoding.
+	 * @throws IOException
+	 */
+	@Test
+	public void testRead_mismatch() throws IOException
+	{
+		ADTSerializer<Integer> serializer = new ADTSerializer<>( ElementCodecs.INTEGER, BUFFER );
+		MyArrayList<Integer> list = new MyArrayList<>();
+		list.add( 1 );
+		serializer.writeList( list, out );
+
+		try
+		{
+			serializer.readStack( in() );
+			fail( "Failed to throw IOException." );
+		}
+		catch( IOException e )
+		{
+			assertTrue( true );
+		}
+		try
+		{
+			new ADTSerializer<>( ElementCodecs.LONG, BUFFER ).readArrayList( in() );
+			fail( "Failed to throw IOException." );
+		}
+		catch( IOException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ADTSerializer#readArrayList(ReadableByteChannel)}
+	 * to throw EOFException when the stream ends early.
+	 * @throws IOException
+	 */
+	@Test
+	public void testRead_truncated() throws IOException
+	{
+		ADTSerializer<Integer> serializer = new ADTSerializer<>( ElementCodecs.INTEGER, BUFFER );
+		MyArrayList<Integer> list = new MyArrayList<>();
+		for( int i = 0; i < 100; i++ )
+		{
+			list.add( i );
+		}
+		serializer.writeList( list, out );
+		byte[] data = bytes.toByteArray();
+
+		try
+		{
+			serializer.readArrayList( Channels.newChannel( new ByteArrayInputStream( data, 0, data.length - 3 ) ) );
+			fail( "Failed to throw EOFException." );
+		}
+		catch( EOFException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Writes a list of strings and returns its bytes with an int overwritten.
+	 */
+	private byte[] corrupt( int offset, int value ) throws IOException
+	{
+		ADTSerializer<String> serializer = new ADTSerializer<>( ElementCodecs.STRING, BUFFER );
+		MyArrayList<String> list = new MyArrayList<>();
+		for( int i = 0; i < 20; i++ )
+		{
+			list.add( "element " + i );
+		}
+		serializer.writeList( list, out );
+		byte[] data = bytes.toByteArray();
+		data[offset] = (byte) ( value >>> 24 );
+		data[offset + 1] = (byte) ( value >>> 16 );
+		data[offset + 2] = (byte) ( value >>> 8 );
+		data[offset + 3] = (byte) value;
+		return data;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ADTSerializer#readArrayList(ReadableByteChannel)}
+	 * and {@link implementations.ADTSerializer#readStack(ReadableByteChannel)}
+	 * to throw IOException, not OutOfMemoryError, when the header claims far
+	 * more elements than the stream holds.
+	 * @throws IOException
+	 */
+	@Test
+	public void testRead_corruptCount() throws IOException
+	{
+		byte[] data = corrupt( 6, Integer.MAX_VALUE );
+		try
+		{
+			new ADTSerializer<>( ElementCodecs.STRING, BUFFER )
+					.readArrayList( Channels.newChannel( new ByteArrayInputStream( data ) ) );
+			fail( "Failed to throw IOException." );
+		}
+		catch( IOException e )
+		{
+			assertTrue( true );
+		}
+
+		ADTSerializer<Integer> serializer = new ADTSerializer<>( ElementCodecs.INTEGER, BUFFER );
+		MyStack<Integer> stack = new MyStack<>();
+		stack.push( 1 );
+		bytes.reset();
+		serializer.writeStack( stack, out );
+		data = bytes.toByteArray();
+		data[6] = 0x7F;
+		try
+		{
+			serializer.readStack( Channels.newChannel( new ByteArrayInputStream( data ) ) );
+			fail( "Failed to throw IOException." );
+		}
+		catch( IOException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ADTSerializer#readArrayList(ReadableByteChannel)}
+	 * to reject a block of several records that is longer than the buffer.
+	 * @throws IOException
+	 */
+	@Test
+	public void testRead_corruptBlockLength() throws IOException
+	{
+		byte[] data = corrupt( 10, Integer.MAX_VALUE - 8 );
+		try
+		{
+			new ADTSerializer<>( ElementCodecs.STRING, BUFFER )
+					.readArrayList( Channels.newChannel( new ByteArrayInputStream( data ) ) );
+			fail( "Failed to throw IOException." );
+		}
+		catch( IOException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ADTSerializer#readArrayList(ReadableByteChannel)}
+	 * to throw EOFException for a single oversized record whose length runs
+	 * past the end of the stream, without allocating that length up front.
+	 * @throws IOException
+	 */
+	@Test
+	public void testRead_corruptLargeRecordLength() throws IOException
+	{
+		ADTSerializer<String> serializer = new ADTSerializer<>( ElementCodecs.STRING, BUFFER );
+		MyArrayList<String> list = new MyArrayList<>();
+		char[] large = new char[1000];
+		Arrays.fill( large, 'x' );
+		list.add( new String( large ) );
+		serializer.writeList( list, out );
+		byte[] data = bytes.toByteArray();
+		data[10] = 0x7F;
+
+		try
+		{
+			serializer.readArrayList( Channels.newChannel( new ByteArrayInputStream( data ) ) );
+			fail( "Failed to throw EOFException." );
+		}
+		catch( EOFException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.ADTSerializer#readArrayList(ReadableByteChannel)}
+	 * to reject a block of integers whose length does not match its count.
+	 * @throws IOException
+	 */
+	@Test
+	public void testRead_corruptFixedWidthBlock() throws IOException
+	{
+		ADTSerializer<Integer> serializer = new ADTSerializer<>( ElementCodecs.INTEGER, BUFFER );
+		MyArrayList<Integer> list = new MyArrayList<>();
+		for( int i = 0; i < 5; i++ )
+		{
+			list.add( i );
+		}
+		serializer.writeList( list, out );
+		byte[] data = bytes.toByteArray();
+		data[13] = 12;
+
+		try
+		{
+			serializer.readArrayList( Channels.newChannel( new ByteArrayInputStream( data ) ) );
+			fail( "Failed to throw IOException." );
+		}
+		catch( IOException e )
+		{
+			assertTrue( true );
+		}
+	}
+}
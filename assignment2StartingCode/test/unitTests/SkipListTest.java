@@ -0,0 +1,173 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import implementations.MyArrayList;
+import implementations.MySkipList;
+import utilities.Iterator;
+
+/**
+ * @author agent
+ * @version 1.0 Oct. 18, 2026
+ * Class Description:
+ * Test for the skip-list-based implementation of the ListADT defined in the CPRG304
+ * Assignment 2.
+ */
+
+public class SkipListTest extends ListADTContract<MySkipList<Integer>>
+{
+	/**
+	 * Creates an empty MySkipList for the ListADT tests inherited from ListADTContract.
+	 * @return a new empty list
+	 */
+	@Override
+	protected MySkipList<Integer> newList()
+	{
+		return new MySkipList<>();
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySkipList#indexOf(java.lang.Object)}
+	 * to return the index of the first occurrence of an item.
+	 */
+	@Test
+	public void testIndexOf_found()
+	{
+		myList.add( one );
+		myList.add( two );
+		myList.add( three );
+		myList.add( two );
+
+		int actual = myList.indexOf( two );
+		assertEquals( "Failed to return first index.", 1, actual );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySkipList#indexOf(java.lang.Object)}
+	 * to return -1 for an item that is not in the list.
+	 */
+	@Test
+	public void testIndexOf_notFound()
+	{
+		myList.add( one );
+		myList.add( two );
+
+		int actual = myList.indexOf( five );
+		assertEquals( "Failed to return -1.", -1, actual );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySkipList#remove(int)}
+	 * to keep positions and order right while nodes of random height come and go, compared
+	 * against a MyArrayList receiving the same operations.
+	 */
+	@Test
+	public void testMixedOperations_matchArrayList()
+	{
+		MyArrayList<Integer> expected = new MyArrayList<>();
+		java.util.Random random = new java.util.Random( 304 );
+
+		for( int step = 0; step < 5000; step++ )
+		{
+			int choice = random.nextInt( 10 );
+			if( choice < 5 || expected.isEmpty() )
+			{
+				int index = random.nextInt( expected.size() + 1 );
+				myList.add( index, step );
+				expected.add( index, step );
+			}
+			else if( choice < 8 )
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( "Failed to remove same item.", expected.remove( index ), myList.remove( index ) );
+			}
+			else
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( "Failed to get same item.", expected.get( index ), myList.get( index ) );
+			}
+		}
+
+		assertEquals( "Failed to keep size.", expected.size(), myList.size() );
+		assertArrayEquals( "Failed to keep order.", expected.toArray(), myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySkipList#get(int)}
+	 * to read consistent items from several threads while one writer appends and
+	 * then removes items from the front.
+	 */
+	@Test
+	public void testGet_concurrentReaders() throws InterruptedException
+	{
+		final int count = 20000;
+		final java.util.concurrent.atomic.AtomicBoolean done = new java.util.concurrent.atomic.AtomicBoolean();
+		final java.util.concurrent.atomic.AtomicInteger errors = new java.util.concurrent.atomic.AtomicInteger();
+		myList.add( 0 );
+
+		Thread[] readers = new Thread[3];
+		for( int r = 0; r < readers.length; r++ )
+		{
+			readers[r] = new Thread( () -> {
+				java.util.Random random = new java.util.Random();
+				while( !done.get() )
+				{
+					// items are consecutive, so each must be one more than the one before it
+					int size = myList.size();
+					int index = random.nextInt( size );
+					try
+					{
+						Integer first = myList.get( 0 );
+						Integer item = myList.get( index );
+						if( item < first || item > first + count )
+						{
+							errors.incrementAndGet();
+						}
+					}
+					catch( IndexOutOfBoundsException e )
+					{
+						// the writer removed from the front after size() was read
+					}
+
+					Integer previous = null;
+					Iterator<Integer> it = myList.iterator();
+					for( int i = 0; i < 100 && it.hasNext(); i++ )
+					{
+						Integer item = it.next();
+						if( previous != null && item <= previous )
+						{
+							errors.incrementAndGet();
+						}
+						previous = item;
+					}
+				}
+			} );
+			readers[r].start();
+		}
+
+		for( int i = 1; i < count; i++ )
+		{
+			myList.add( i );
+		}
+		for( int i = 0; i < count / 2; i++ )
+		{
+			myList.remove( 0 );
+		}
+		done.set( true );
+		for( Thread reader : readers )
+		{
+			reader.join();
+		}
+
+		assertEquals( "Failed to give readers consistent items.", 0, errors.get() );
+		assertEquals( "Failed to update size.", count / 2, myList.size() );
+		assertEquals( "Failed to keep order.", Integer.valueOf( count / 2 ), myList.get( 0 ) );
+		assertEquals( "Failed to keep order.", Integer.valueOf( count - 1 ), myList.get( count / 2 - 1 ) );
+	}
+}
@@ -0,0 +1,195 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Test;
+
+import implementations.ElementCodecs;
+import implementations.MyArrayList;
+import implementations.MySpillList;
+import utilities.Iterator;
+
+/**
+ * @author agent
+ * @version 1.0 Oct. 18, 2026
+ * Class Description:
+ * Test for the spill-to-disk implementation of the ListADT defined in the CPRG304
+ * Assignment 2. The memory budget is 16 bytes, so all but the last block or two
+ * of every list here are in the spill file.
+ */
+
+public class SpillListTest extends ListADTContract<MySpillList<Integer>>
+{
+	/**
+	 * Creates an empty MySpillList for the ListADT tests inherited from ListADTContract.
+	 * @return a new empty list
+	 */
+	@Override
+	protected MySpillList<Integer> newList()
+	{
+		return new MySpillList<>( ElementCodecs.INTEGER, 16, null );
+	}
+
+	/**
+	 * Deletes the spill file and cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@Override
+	@After
+	public void tearDown() throws Exception
+	{
+		myList.close();
+		super.tearDown();
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySpillList#add(java.lang.Object)}
+	 * to spill older blocks and still return every element in order.
+	 */
+	@Test
+	public void testAdd_spillsAndKeepsOrder()
+	{
+		for( int i = 0; i < 10000; i++ )
+		{
+			myList.add( i );
+		}
+
+		assertTrue( "Failed to spill.", myList.isSpilled() );
+		assertEquals( "Failed to update size.", 10000, myList.size() );
+		Iterator<Integer> it = myList.iterator();
+		for( int i = 0; i < 10000; i++ )
+		{
+			assertEquals( "Failed to iterate in order.", Integer.valueOf( i ), it.next() );
+		}
+		assertFalse( "Failed to end iteration.", it.hasNext() );
+		assertEquals( "Failed to get spilled element.", Integer.valueOf( 1234 ), myList.get( 1234 ) );
+		assertEquals( "Failed to get last element.", Integer.valueOf( 9999 ), myList.get( 9999 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySpillList#add(int, java.lang.Object)},
+	 * remove and set to match MyArrayList under random edits, in memory and in the spill file.
+	 */
+	@Test
+	public void testRandomEdits_matchArrayList()
+	{
+		MyArrayList<Integer> expected = new MyArrayList<>();
+		Random random = new Random( 304 );
+		for( int i = 0; i < 500; i++ )
+		{
+			myList.add( i );
+			expected.add( i );
+		}
+
+		for( int i = 0; i < 20000; i++ )
+		{
+			int choice = random.nextInt( 4 );
+			if( choice == 0 || expected.size() == 0 )
+			{
+				int index = random.nextInt( expected.size() + 1 );
+				myList.add( index, i );
+				expected.add( index, i );
+			}
+			else if( choice == 1 )
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( "Failed to remove same element.", expected.remove( index ), myList.remove( index ) );
+			}
+			else if( choice == 2 )
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( "Failed to set same element.", expected.set( index, -i ), myList.set( index, -i ) );
+			}
+			else
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( "Failed to get same element.", expected.get( index ), myList.get( index ) );
+			}
+		}
+
+		assertEquals( "Failed to keep size.", expected.size(), myList.size() );
+		assertArrayEquals( "Failed to keep contents.", expected.toArray(), myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySpillList#truncate(int)}
+	 * to drop the tail of a spilled list and keep appending after it.
+	 */
+	@Test
+	public void testTruncate_spilled()
+	{
+		for( int i = 0; i < 1000; i++ )
+		{
+			myList.add( i );
+		}
+
+		myList.truncate( 333 );
+		assertEquals( "Failed to truncate.", 333, myList.size() );
+		assertEquals( "Failed to keep last element.", Integer.valueOf( 332 ), myList.get( 332 ) );
+
+		myList.add( -1 );
+		assertEquals( "Failed to append after truncate.", Integer.valueOf( -1 ), myList.get( 333 ) );
+		assertEquals( "Failed to find element.", 100, myList.indexOf( 100 ) );
+
+		myList.truncate( 0 );
+		assertTrue( "Failed to empty list.", myList.isEmpty() );
+		assertFalse( "Failed to drop spill file.", myList.isSpilled() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySpillList#addAll(utilities.ListADT)}
+	 * to append a spilled list to itself once.
+	 */
+	@Test
+	public void testAddAll_self()
+	{
+		for( int i = 0; i < 100; i++ )
+		{
+			myList.add( i );
+		}
+
+		myList.addAll( myList );
+
+		assertEquals( "Failed to double size.", 200, myList.size() );
+		for( int i = 0; i < 200; i++ )
+		{
+			assertEquals( "Failed to copy in order.", Integer.valueOf( i % 100 ), myList.get( i ) );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySpillList#clear()}
+	 * to delete the spill file, with strings spilled to a given directory.
+	 * @throws Exception
+	 */
+	@Test
+	public void testClear_deletesSpillFile() throws Exception
+	{
+		File dir = Files.createTempDirectory( "spill" ).toFile();
+		MySpillList<String> strings = new MySpillList<>( ElementCodecs.STRING, 1024, dir );
+		for( int i = 0; i < 2000; i++ )
+		{
+			strings.add( "Error at line: " + i + " <tag> is not constructed correctly." );
+		}
+		assertTrue( "Failed to spill.", strings.isSpilled() );
+		assertEquals( "Failed to create spill file.", 1, dir.list().length );
+		assertTrue( "Failed to find spilled string.", strings.contains( "Error at line: 7 <tag> is not constructed correctly." ) );
+
+		strings.clear();
+		assertEquals( "Failed to delete spill file.", 0, dir.list().length );
+		strings.add( "again" );
+		assertEquals( "Failed to reuse list.", "again", strings.get( 0 ) );
+		strings.close();
+		dir.delete();
+	}
+}
@@ -0,0 +1,240 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import exceptions.EmptyQueueException;
+import implementations.ElementCodecs;
+import implementations.MyCircularQueue;
+import implementations.MySpillQueue;
+import utilities.Iterator;
+
+/**
+ * @author agent
+ * @version 1.0 Oct. 19, 2026
+ * Class Description:
+ * Test for the queue that keeps its front in a ring buffer and spills the rest
+ * through a MySpillList. The queue under test keeps four elements in its ring
+ * and 64 bytes of the spill list in memory, so a few dozen elements already
+ * reach the spill file in a temporary directory of the test's own.
+ */
+
+public class SpillQueueTest
+{
+	private static final int RESIDENT = 4;
+	private static final long BUDGET = 64;
+
+	// Attributes
+	private File dir;
+	private MySpillQueue<String> queue;
+
+	/**
+	 * Creates a small queue spilling into a fresh temporary directory before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		dir = Files.createTempDirectory( "spillqueue" ).toFile();
+		queue = new MySpillQueue<>( ElementCodecs.STRING, RESIDENT, BUDGET, dir );
+	}
+
+	/**
+	 * Closes the queue and deletes the directory after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		queue.close();
+		queue = null;
+		File[] files = dir.listFiles();
+		for( File file : files == null ? new File[0] : files )
+		{
+			file.delete();
+		}
+		dir.delete();
+	}
+
+	private int spillFiles()
+	{
+		File[] files = dir.listFiles();
+		return files == null ? 0 : files.length;
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySpillQueue#enqueue(java.lang.Object)}
+	 * to keep first-in, first-out order across the ring and the spill file.
+	 * @throws Exception
+	 */
+	@Test
+	public void testEnqueue_orderAcrossSpill() throws Exception
+	{
+		for( int i = 0; i < 1000; i++ )
+		{
+			queue.enqueue( "item " + i );
+		}
+		assertEquals( 1000, queue.size() );
+		assertTrue( queue.isSpilled() );
+		assertEquals( 1, spillFiles() );
+
+		for( int i = 0; i < 1000; i++ )
+		{
+			assertEquals( "item " + i, queue.peek() );
+			assertEquals( "item " + i, queue.dequeue() );
+		}
+		assertTrue( queue.isEmpty() );
+		assertEquals( 0, spillFiles() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySpillQueue#dequeue()}
+	 * to agree with java.util.ArrayDeque under random interleaved enqueues and
+	 * dequeues, as elements move between the ring and the spill list.
+	 * @throws Exception
+	 */
+	@Test
+	public void testDequeue_randomInterleaving() throws Exception
+	{
+		Random random = new Random( 5 );
+		ArrayDeque<String> model = new ArrayDeque<>();
+		for( int step = 0; step < 20000; step++ )
+		{
+			if( random.nextInt( 5 ) < 3 )
+			{
+				String item = "e" + step;
+				queue.enqueue( item );
+				model.addLast( item );
+			}
+			else if( !model.isEmpty() )
+			{
+				assertEquals( model.removeFirst(), queue.dequeue() );
+			}
+			assertEquals( model.size(), queue.size() );
+		}
+		assertArrayEquals( model.toArray(), queue.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySpillQueue#iterator()}
+	 * to visit the ring and then the waiting part of the spill list, and for
+	 * search and contains to see elements in both.
+	 * @throws Exception
+	 */
+	@Test
+	public void testIterator_ringThenSpill() throws Exception
+	{
+		for( int i = 0; i < 100; i++ )
+		{
+			queue.enqueue( "item " + i );
+		}
+		for( int i = 0; i < 10; i++ )
+		{
+			queue.dequeue();
+		}
+
+		Iterator<String> it = queue.iterator();
+		for( int i = 10; i < 100; i++ )
+		{
+			assertTrue( it.hasNext() );
+			assertEquals( "item " + i, it.next() );
+		}
+		assertFalse( it.hasNext() );
+		assertEquals( 1, queue.search( "item 10" ) );
+		assertEquals( 90, queue.search( "item 99" ) );
+		assertEquals( -1, queue.search( "item 5" ) );
+		assertTrue( queue.contains( "item 50" ) );
+		assertEquals( "item 99", queue.toArray( new String[0] )[89] );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySpillQueue#equals(utilities.QueueADT)}
+	 * to compare equal to a MyCircularQueue holding the same elements.
+	 * @throws Exception
+	 */
+	@Test
+	public void testEquals_circularQueue() throws Exception
+	{
+		MyCircularQueue<String> other = new MyCircularQueue<>();
+		for( int i = 0; i < 50; i++ )
+		{
+			queue.enqueue( "item " + i );
+			other.enqueue( "item " + i );
+		}
+		assertTrue( queue.equals( other ) );
+		other.dequeue();
+		assertFalse( queue.equals( other ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySpillQueue#dequeueAll()}
+	 * to empty the queue and delete the spill file, leaving the queue usable.
+	 * @throws Exception
+	 */
+	@Test
+	public void testDequeueAll_deletesSpillFile() throws Exception
+	{
+		for( int i = 0; i < 1000; i++ )
+		{
+			queue.enqueue( "item " + i );
+		}
+		assertEquals( 1, spillFiles() );
+		queue.dequeueAll();
+		assertTrue( queue.isEmpty() );
+		assertEquals( 0, spillFiles() );
+
+		queue.enqueue( "again" );
+		assertEquals( "again", queue.dequeue() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySpillQueue#dequeue()}
+	 * to throw EmptyQueueException on an empty queue.
+	 */
+	@Test
+	public void testDequeue_EmptyQueueException()
+	{
+		try
+		{
+			queue.dequeue();
+			fail( "EmptyQueueException was not thrown" );
+		}
+		catch( EmptyQueueException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySpillQueue#enqueue(java.lang.Object)}
+	 * to reject null.
+	 */
+	@Test
+	public void testEnqueue_NullPointerException()
+	{
+		try
+		{
+			queue.enqueue( null );
+			fail( "NullPointerException was not thrown" );
+		}
+		catch( NullPointerException e )
+		{
+			assertTrue( true );
+		}
+	}
+}
@@ -0,0 +1,827 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import exceptions.EmptyQueueException;
+import utilities.Iterator;
+import implementations.MySpscQueue;
+
+/**
+ * @author agent
+ * @version 1.0 Oct. 19, 2026
+ * Class Description:
+ * Test for the single-producer, single-consumer ring buffer implementation of the QueueADT defined in the CPRG 304
+ * Assignment 2. The contract tests run on one thread with a capacity large enough
+ * never to fill; the last tests hand items from a producer thread to a consumer.
+ */
+
+public class SpscQueueTest
+{
+	private static final int CAPACITY = 1024;
+
+	// Attributes
+	private MySpscQueue<Integer> queue;
+	private Integer one;
+	private Integer two;
+	private Integer three;
+	private Integer four;
+	private Integer five;
+	
+	/**
+	 * Initializes a MySpscQueue instance and five Integer instances before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		queue = new MySpscQueue<Integer>( CAPACITY );
+		one = 111;
+		two = 222;
+		three = 333;
+		four = 444;
+		five = 555;
+	}
+
+	/**
+	 * Cleans up instances used after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		queue = null;
+		one = null;
+		two = null;
+		three = null;
+		four = null;
+		five = null;
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MySpscQueue#MySpscQueue(int)}
+	 * to create a queue.
+	 */
+	@Test
+	public void testConstructor()
+	{
+		boolean expected = true;
+		boolean actual = queue != null;
+		assertEquals( "Failed to create the queue.", expected, actual );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MySpscQueue#dequeueAll()}
+	 * to clear the queue.
+	 */
+	@Test
+	public void testDequeueAll_Size()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.dequeueAll();
+		
+		assertEquals( "Failed to clear.", 0, queue.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySpscQueue#equals(utilities.QueueADT)}
+	 * to return true when two queues are equal.
+	 */
+	@Test
+	public void testEquals_True()
+	{
+		MySpscQueue<Integer> queue2 = new MySpscQueue<Integer>( CAPACITY );
+		boolean expected = true;
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+
+		queue2.enqueue( one );
+		queue2.enqueue( two );
+		queue2.enqueue( three );
+
+		boolean actual = queue.equals( queue2 );
+		assertEquals( "Failed to return true.", expected, actual );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySpscQueue#equals(utilities.QueueADT)}
+	 * to return false when two queues are not equal.
+	 * @throws EmptyQueueException 
+	 */
+	@Test
+	public void testEquals_False() throws EmptyQueueException
+	{
+		MySpscQueue<Integer> queue2 = new MySpscQueue<Integer>( CAPACITY );
+		boolean expected = false;
+		queue.enqueue( two );
+		queue.enqueue( one );
+		queue.enqueue( three );
+
+		queue2.enqueue( one );
+		queue2.enqueue( two );
+		queue2.enqueue( three );
+
+		boolean actual = queue.equals( queue2 );
+		assertEquals( "Failed to return false.", expected, actual );
+
+		
+		queue2.dequeue();
+		actual = queue.equals( queue2 );
+		assertEquals( "Failed to return false", expected, actual );
+
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MySpscQueue#isEmpty()}
+	 * to return true when queue is empty.
+	 */
+	@Test
+	public void testIsEmpty_True()
+	{
+		boolean expected = true;
+
+		boolean actual = queue.isEmpty();
+		assertEquals( "Failed to return true.", expected, actual );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MySpscQueue#isEmpty()}
+	 * to return false when the queue is not empty.
+	 */
+	@Test
+	public void testIsEmpty_False()
+	{
+		boolean expected = false;
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		boolean actual = queue.isEmpty();
+		assertEquals( "Failed to return false.", expected, actual );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MySpscQueue#iterator()} 
+	 * to return and iterator to iterate over the items of the queue from head to tail.
+	 */
+	@Test
+	public void testIterator()
+	{
+		int expected1 = 111;
+		int expected2 = 222;
+		int expected3 = 333;
+		int expected4 = 444;
+		int expected5 = 555;
+
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		queue.enqueue( four );
+		queue.enqueue( five );
+
+		Iterator<Integer> it = queue.iterator();
+		
+		assertTrue(it.hasNext());
+		
+		int actual1 = it.next();
+		int actual2 = it.next();
+		int actual3 = it.next();
+		int actual4 = it.next();
+		int actual5 = it.next();
+
+		assertFalse(it.hasNext());
+		
+		assertEquals( "Failed to return item at position.", expected1, actual1 );
+		assertEquals( "Failed to return item at position.", expected2, actual2 );
+		assertEquals( "Failed to return item at position.", expected3, actual3 );
+		assertEquals( "Failed to return item at position.", expected4, actual4 );
+		assertEquals( "Failed to return item at position.", expected5, actual5 );
+		
+	}
+	
+	/**
+	 * Test method for 
+	 * {@link implementations.MySpscQueue#iterator()} 
+	 * to return and iterator when the queue is empty.
+	 */
+	@Test
+	public void testIterator_EmptyQ()
+	{
+		Iterator<Integer> it = queue.iterator();
+		
+		assertFalse(it.hasNext());
+		
+		try
+		{
+			it.next();
+			fail("Failed to throw NoSuchElementException.");
+		}
+		catch(NoSuchElementException e)
+		{
+			assertTrue(true);
+		}
+
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MySpscQueue#peek()}
+	 * to return the first item in the queue.
+	 * @throws EmptyQueueException 
+	 */
+	@Test
+	public void testPeek_First() throws EmptyQueueException
+	{
+		int expected1 = 111;
+
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		queue.enqueue( four );
+		queue.enqueue( five );
+
+		int actual1 = queue.peek();
+		assertEquals( "Failed to return the item.", expected1, actual1 );
+		assertEquals( "Failed to maintain size.", 5, queue.size() );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MySpscQueue#peek()}
+	 * to throw EmptyQueueException when queue is empty.
+	 */
+	@Test
+	public void testPeek_Empty()
+	{
+		try
+		{
+			queue.peek();
+			fail( "Failed to throw EmptyQueueException." );
+		}
+		catch( EmptyQueueException e )
+		{
+			assertTrue( true );
+		}
+		assertEquals( "Failed to maintain size.", 0, queue.size() );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MySpscQueue#dequeue()}
+	 * to remove the first item in the queue.
+	 * 
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testDequeue_Front() throws EmptyQueueException
+	{
+		int expected1 = 111;
+
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		queue.enqueue( four );
+		queue.enqueue( five );
+
+		int actual1 = queue.dequeue();
+		assertEquals( "Failed to remove the item.", expected1, actual1 );
+		assertEquals( "Failed to update size.", 4, queue.size() );
+		
+		expected1 = 222;
+		actual1 = queue.peek();
+		
+		assertEquals( "Failed to remove the item.", expected1, actual1 );
+		
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySpscQueue#dequeue()}
+	 * to throw EmptyQueueException when removing from an empty queue.
+	 */
+	@Test
+	public void testDequeue_Empty()
+	{
+		try
+		{
+			queue.dequeue();
+			fail( "Failed to throw EmptyQueueException." );
+		}
+		catch( EmptyQueueException e )
+		{
+			assertTrue( true );
+		}
+		assertEquals( "Failed to maintain size.", 0, queue.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySpscQueue#enqueue(java.lang.Object)}.
+	 * to enqueue multiple items to the queue.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testEnqueue() throws EmptyQueueException
+	{
+		queue.enqueue( one );
+		int actual = queue.peek();
+		assertEquals( "Failed to enqueueed the correct element", 111, actual );
+		assertEquals( "Failed to update size", 1, queue.size() );
+
+		queue.enqueue( two );
+		actual = queue.peek();
+		assertEquals( "Queue enqueueed wrong element to head of Queue ", 111, actual );
+		assertEquals( "Queue size is incorrect ", 2, queue.size() );
+
+		queue.enqueue( three );
+		actual = queue.peek();
+		assertEquals( "Queue enqueueed wrong element to head of Queue ", 111, actual );
+		assertEquals( "Queue size is incorrect ", 3, queue.size() );
+
+		queue.enqueue( four );
+		actual = queue.peek();
+		assertEquals( "Queue enqueueed wrong element to head of Queue ", 111, actual );
+		assertEquals( "Queue size is incorrect ", 4, queue.size() );
+
+		queue.enqueue( five );
+		actual = queue.peek();
+		assertEquals( "Queue enqueueed wrong element to head of Queue ", 111, actual );
+		assertEquals( "Queue size is incorrect ", 5, queue.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySpscQueue#enqueue(java.lang.Object)}
+	 * to throw a NullPointerException when a null is passed.
+	 */
+	@Test
+	public void testEnqueue_NullPointerException()
+	{
+		Integer empty = null;
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		try
+		{
+			queue.enqueue( empty );
+			fail( "Failed to throw NullPointerException." );
+		}
+		catch( NullPointerException e )
+		{
+			assertTrue( true );
+		}
+		assertEquals( "Failed to maintain queue size.", 3, queue.size() );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link utilities.QueueADT#size()}
+	 * to return the size of the queue when the queue has one item.
+	 */
+	@Test
+	public void testSize_AddOneToEmpty()
+	{
+		queue.enqueue( one );
+		assertEquals( "Failed to update queue size.", 1, queue.size() );
+	}
+	
+	/**
+	 * Test method for 
+	 * {@link utilities.QueueADT#size()}
+	 * to return the size of the queue when the queue has multiple items.
+	 */
+	@Test
+	public void testSize_AddMany()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+		queue.enqueue( four );
+		queue.enqueue( five );
+		assertEquals( "Failed to update queue size.", 5, queue.size() );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MySpscQueue#toArray()}
+	 * to return an Object array storing all items in the queue from head to first.
+	 */
+	@Test
+	public void testToArray()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+
+		Integer[] expectedArray = new Integer[3];
+		
+		expectedArray[0] = one;
+		expectedArray[1] = two;
+		expectedArray[2] = three;
+
+		Object[] actualArray = queue.toArray();
+		assertArrayEquals( "Failed to convert queue to array.", expectedArray, actualArray );
+	}
+
+	/**
+	 * Test method for 
+	 * {@link implementations.MySpscQueue#toArray(E[])}
+	 * to return an array storing all items in the queue from head to first when the array passed has sufficient length.
+	 */
+	@Test
+	public void testToArrayEArray_SufficientArray()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+	
+		Object[] expectedArray = new Integer[3];
+		
+		expectedArray[0] = one;
+		expectedArray[1] = two;
+		expectedArray[2] = three;
+		
+		Integer[] actualArray = new Integer[3];;
+		actualArray = queue.toArray( actualArray );
+		assertArrayEquals( "Failed to convert queue to array.", expectedArray, actualArray );
+	}
+	
+	/**
+	 * Test method for 
+	 * {@link implementations.MySpscQueue#toArray(E[])}
+	 * to return an array storing all items in the queue from head to first when the array passed has insufficient length.
+	 */
+	@Test
+	public void testToArrayEArray_InsufficientArray()
+	{
+		queue.enqueue( one );
+		queue.enqueue( two );
+		queue.enqueue( three );
+	
+		Object[] expectedArray = new Integer[3];
+		
+		expectedArray[0] = one;
+		expectedArray[1] = two;
+		expectedArray[2] = three;
+		
+		Integer[] actualArray = new Integer[2];;
+		actualArray = queue.toArray( actualArray );
+		assertArrayEquals( "Failed to convert queue to array.", expectedArray, actualArray );
+	}
+	
+	/**
+	 * Test method for 
+	 * {@link implementations.MySpscQueue#toArray(E[])}
+	 * to throw NullPointerException when a null is passed.
+	 */@Test
+	public void testToArrayNullArray()
+	{
+		Integer[] returnArray = null;
+		try 
+		{
+			returnArray = queue.toArray(returnArray);
+			fail("Failed to throw NullPointerException.");
+		} 
+		catch (NullPointerException e) 
+		{
+			assertTrue(true);
+		}
+	}
+	 
+	 /**
+	  * Test method for 
+	  * {@link implementations.MySpscQueue#isFull()}
+	  * to return false.
+	  */@Test
+		public void testIsFull()
+		{
+			assertFalse(queue.isFull());
+			
+			for( int i = 0; i < 500; i++ )
+			{
+				queue.enqueue( i );
+			}
+	
+			assertFalse(queue.isFull());
+		} 
+	
+	 /**
+	  * Test method for 
+	  * {@link implementations.MySpscQueue#contains(java.lang.Object)}
+	  * to return true when item is found.
+	  */@Test
+		public void testContains_Found()
+		{
+		  	queue.enqueue( one );
+			queue.enqueue( two );
+			queue.enqueue( three );
+			
+			assertTrue( queue.contains( one ) );
+			assertTrue( queue.contains( two ) );
+			assertTrue( queue.contains( three ) );
+			
+		} 
+	  
+	  /**
+	  * Test method for 
+	  * {@link implementations.MySpscQueue#contains(java.lang.Object)}
+	  * to return true when item is not found.
+	  */@Test
+		public void testContains_NotFound()
+		{
+		  	queue.enqueue( one );
+			queue.enqueue( two );
+			queue.enqueue( three );
+			
+			assertFalse( queue.contains( four ) );
+			assertFalse( queue.contains( five ) );
+			
+		} 
+	  
+	  /**
+	  * Test method for 
+	  * {@link implementations.MySpscQueue#contains(java.lang.Object)}
+	  * to throw NullPointerException when null is passed.
+	  */@Test
+		public void testContains_NullPointerException()
+		{
+		  	try
+		  	{
+		  		queue.contains( null );
+		  		fail("Failed to throw NullPointerException.");
+		  	}
+		  	catch(NullPointerException e)
+		  	{
+		  		assertTrue(true);
+		  	}
+
+		}
+	  
+	  /**
+	  * Test method for 
+	  * {@link implementations.MySpscQueue#search(java.lang.Object)}
+	  * to return the index of the item when the item exists.
+	  */@Test
+		public void testSearch_Found()
+		{
+		  	queue.enqueue( one );
+			queue.enqueue( two );
+			queue.enqueue( three );
+			
+			int expectedIndex = 1;
+			int actualIndex = queue.search( one ); 
+			
+			assertEquals("Failed to find item", expectedIndex, actualIndex );
+			
+			expectedIndex = 2;
+			actualIndex = queue.search( two ); 
+			assertEquals("Failed to find item", expectedIndex, actualIndex );
+			
+			expectedIndex = 3;
+			actualIndex = queue.search( three ); 
+			assertEquals("Failed to find item", expectedIndex, actualIndex );
+			
+		} 
+	  
+	  /**
+	  * Test method for 
+	  * {@link implementations.MySpscQueue#search(java.lang.Object)}
+	  * to return the index of the item when the item doesn't exist.
+	  */@Test
+		public void testSearch_NotFound()
+		{
+			int expectedIndex = -1;
+			int actualIndex = queue.search( one ); 
+			assertEquals("Failed to return -1 for not found", expectedIndex, actualIndex);
+			
+		  	queue.enqueue( one );
+			queue.enqueue( two );
+			queue.enqueue( three );
+			
+			actualIndex = queue.search( five ); 
+			
+			assertEquals("Failed to return -1 for not found", expectedIndex, actualIndex);
+		} 
+ 
+	/**
+	 * Test method for
+	 * {@link implementations.MySpscQueue#isFull()}
+	 * to return true once the capacity, rounded up to a power of two, is reached.
+	 * @throws EmptyQueueException
+	 */
+	@Test
+	public void testIsFull_AtCapacity() throws EmptyQueueException
+	{
+		MySpscQueue<Integer> small = new MySpscQueue<Integer>( 3 );
+		assertEquals( "Failed to round capacity up.", 4, small.capacity() );
+		for( int i = 0; i < 4; i++ )
+		{
+			assertFalse( "Failed to report room.", small.isFull() );
+			small.enqueue( i );
+		}
+		assertTrue( "Failed to report full queue.", small.isFull() );
+		assertFalse( "Failed to refuse item.", small.offer( five ) );
+		try
+		{
+			small.enqueue( five );
+			fail( "Failed to throw IllegalStateException." );
+		}
+		catch( IllegalStateException e )
+		{
+			assertTrue( true );
+		}
+
+		small.dequeue();
+		assertTrue( "Failed to accept item after dequeue.", small.offer( five ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySpscQueue#fillFrom(Object[], int, int)} and
+	 * {@link implementations.MySpscQueue#drainTo(Object[], int, int)}
+	 * to move blocks in order, stopping at the room or items available, across the
+	 * end of the ring.
+	 */
+	@Test
+	public void testFillFromDrainTo_Blocks()
+	{
+		MySpscQueue<Integer> small = new MySpscQueue<Integer>( 8 );
+		Integer[] source = new Integer[12];
+		for( int i = 0; i < source.length; i++ )
+		{
+			source[i] = i;
+		}
+		Integer[] target = new Integer[12];
+
+		assertEquals( "Failed to fill block.", 5, small.fillFrom( source, 0, 5 ) );
+		assertEquals( "Failed to drain block.", 3, small.drainTo( target, 0, 3 ) );
+		assertEquals( "Failed to stop at room.", 6, small.fillFrom( source, 5, 7 ) );
+		assertTrue( "Failed to fill queue.", small.isFull() );
+		assertEquals( "Failed to refuse block when full.", 0, small.fillFrom( source, 11, 1 ) );
+		assertArrayEquals( "Failed to copy wrapped items.", new Object[] { 3, 4, 5, 6, 7, 8, 9, 10 }, small.toArray() );
+		assertEquals( "Failed to stop at items available.", 8, small.drainTo( target, 3, 9 ) );
+
+		for( int i = 0; i < 11; i++ )
+		{
+			assertEquals( "Failed to keep order.", Integer.valueOf( i ), target[i] );
+		}
+		assertTrue( "Failed to empty queue.", small.isEmpty() );
+		assertEquals( "Failed to drain empty queue.", 0, small.drainTo( target, 0, 1 ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySpscQueue#fillFrom(Object[], int, int)}
+	 * to add the items before a null one and then throw NullPointerException.
+	 */
+	@Test
+	public void testFillFrom_NullPointerException()
+	{
+		Integer[] source = { one, two, null, four };
+		try
+		{
+			queue.fillFrom( source, 0, source.length );
+			fail( "Failed to throw NullPointerException." );
+		}
+		catch( NullPointerException e )
+		{
+			assertTrue( true );
+		}
+		assertArrayEquals( "Failed to keep items before null.", new Object[] { one, two }, queue.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySpscQueue#drainTo(Object[], int, int)}
+	 * to reject a range outside the target array.
+	 */
+	@Test
+	public void testDrainTo_IndexOutOfBoundsException()
+	{
+		try
+		{
+			queue.drainTo( new Integer[4], 2, 3 );
+			fail( "Failed to throw IndexOutOfBoundsException." );
+		}
+		catch( IndexOutOfBoundsException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySpscQueue#offer(Object)} and
+	 * {@link implementations.MySpscQueue#poll()}
+	 * to hand every item from a producer thread to a consumer thread in order.
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testOfferPoll_ProducerToConsumer() throws InterruptedException
+	{
+		final int count = 500000;
+		final MySpscQueue<Integer> small = new MySpscQueue<Integer>( 64 );
+		final AtomicInteger errors = new AtomicInteger();
+
+		Thread consumer = new Thread( () -> {
+			for( int expected = 0; expected < count; )
+			{
+				Integer item = small.poll();
+				if( item == null )
+				{
+					Thread.yield();
+				}
+				else if( item != expected++ )
+				{
+					errors.incrementAndGet();
+				}
+			}
+		} );
+		consumer.start();
+		for( int i = 0; i < count; i++ )
+		{
+			while( !small.offer( i ) )
+			{
+				Thread.yield();
+			}
+		}
+		consumer.join();
+
+		assertEquals( "Failed to keep order.", 0, errors.get() );
+		assertTrue( "Failed to empty queue.", small.isEmpty() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MySpscQueue#fillFrom(Object[], int, int)} and
+	 * {@link implementations.MySpscQueue#drainTo(Object[], int, int)}
+	 * to hand every item from a producer thread to a consumer thread in order when
+	 * both sides move blocks of different sizes.
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testFillFromDrainTo_ProducerToConsumer() throws InterruptedException
+	{
+		final int count = 500000;
+		final MySpscQueue<Integer> small = new MySpscQueue<Integer>( 64 );
+		final AtomicInteger errors = new AtomicInteger();
+
+		Thread consumer = new Thread( () -> {
+			Integer[] block = new Integer[24];
+			for( int expected = 0; expected < count; )
+			{
+				int n = small.drainTo( block, 0, block.length );
+				if( n == 0 )
+				{
+					Thread.yield();
+				}
+				for( int i = 0; i < n; i++ )
+				{
+					if( block[i] != expected++ )
+					{
+						errors.incrementAndGet();
+					}
+				}
+			}
+		} );
+		consumer.start();
+
+		Integer[] block = new Integer[40];
+		for( int next = 0; next < count; )
+		{
+			int length = Math.min( block.length, count - next );
+			for( int i = 0; i < length; i++ )
+			{
+				block[i] = next + i;
+			}
+			for( int sent = 0; sent < length; )
+			{
+				int n = small.fillFrom( block, sent, length - sent );
+				if( n == 0 )
+				{
+					Thread.yield();
+				}
+				sent += n;
+			}
+			next += length;
+		}
+		consumer.join();
+
+		assertEquals( "Failed to keep order.", 0, errors.get() );
+		assertTrue( "Failed to empty queue.", small.isEmpty() );
+	}
+}
@@ -0,0 +1,227 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.util.NoSuchElementException;
+
+import org.junit.Test;
+
+import implementations.MyArrayList;
+import implementations.MyTreeList;
+import utilities.ListIterator;
+
+/**
+ * @author agent
+ * @version 1.0 Oct. 18, 2026
+ * Class Description:
+ * Test for the balanced-tree-based implementation of the ListADT defined in the CPRG304
+ * Assignment 2.
+ */
+
+public class TreeListTest extends ListADTContract<MyTreeList<Integer>>
+{
+	/**
+	 * Creates an empty MyTreeList for the ListADT tests inherited from ListADTContract.
+	 * @return a new empty list
+	 */
+	@Override
+	protected MyTreeList<Integer> newList()
+	{
+		return new MyTreeList<>();
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyTreeList#listIterator()}
+	 * to remove items at the cursor while walking the list.
+	 */
+	@Test
+	public void testListIterator_removeWhileIterating()
+	{
+		for( int i = 1; i <= 10; i++ )
+		{
+			myList.add( i );
+		}
+
+		ListIterator<Integer> it = myList.listIterator();
+		while( it.hasNext() )
+		{
+			if( it.next() % 2 == 0 )
+			{
+				it.remove();
+			}
+		}
+
+		Integer[] expected = { 1, 3, 5, 7, 9 };
+		assertArrayEquals( "Failed to remove at cursor.", expected, myList.toArray( new Integer[0] ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyTreeList#listIterator(int)}
+	 * to walk backwards and replace items with set.
+	 */
+	@Test
+	public void testListIterator_previousAndSet()
+	{
+		myList.add( one );
+		myList.add( two );
+		myList.add( three );
+
+		ListIterator<Integer> it = myList.listIterator( myList.size() );
+		assertEquals( "Failed to start at the end.", 3, it.nextIndex() );
+		assertEquals( "Failed to return previous item.", three, it.previous() );
+		assertEquals( "Failed to return previous item.", two, it.previous() );
+		it.set( five );
+		assertEquals( "Failed to update previous index.", 0, it.previousIndex() );
+
+		Integer[] expected = { 1, 5, 3 };
+		assertArrayEquals( "Failed to set at cursor.", expected, myList.toArray( new Integer[0] ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyTreeList#listIterator()}
+	 * to insert items in front of the cursor.
+	 */
+	@Test
+	public void testListIterator_add()
+	{
+		myList.add( one );
+		myList.add( three );
+
+		ListIterator<Integer> it = myList.listIterator();
+		it.next();
+		it.add( two );
+		assertEquals( "Failed to advance past added item.", three, it.next() );
+		it.add( four );
+		assertEquals( "Failed to place added item before cursor.", four, it.previous() );
+
+		Integer[] expected = { 1, 2, 3, 4 };
+		assertArrayEquals( "Failed to add at cursor.", expected, myList.toArray( new Integer[0] ) );
+		assertEquals( "Failed to update size.", 4, myList.size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyTreeList#listIterator()}
+	 * to throw IllegalStateException when remove is called before next.
+	 */
+	@Test
+	public void testListIterator_removeIllegalState()
+	{
+		myList.add( one );
+		ListIterator<Integer> it = myList.listIterator();
+		try
+		{
+			it.remove();
+			fail( "Failed to throw IllegalStateException." );
+		}
+		catch( IllegalStateException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyTreeList#listIterator()}
+	 * to throw NoSuchElementException when previous is called at the start.
+	 */
+	@Test
+	public void testListIterator_previousNoSuchElement()
+	{
+		myList.add( one );
+		ListIterator<Integer> it = myList.listIterator();
+		try
+		{
+			it.previous();
+			fail( "Failed to throw NoSuchElementException." );
+		}
+		catch( NoSuchElementException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyTreeList#indexOf(java.lang.Object)}
+	 * to return the index of the first occurrence of an item, or -1.
+	 */
+	@Test
+	public void testIndexOf()
+	{
+		myList.add( one );
+		myList.add( two );
+		myList.add( three );
+		myList.add( two );
+
+		assertEquals( "Failed to return first index.", 1, myList.indexOf( two ) );
+		assertEquals( "Failed to return -1.", -1, myList.indexOf( five ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyTreeList#add(int, java.lang.Object)}
+	 * and {@link implementations.MyTreeList#remove(int)}
+	 * to keep positions right through rebalancing, compared against a MyArrayList
+	 * receiving the same operations.
+	 */
+	@Test
+	public void testMixedOperations_matchArrayList()
+	{
+		MyArrayList<Integer> expected = new MyArrayList<>();
+		java.util.Random random = new java.util.Random( 304 );
+
+		for( int step = 0; step < 5000; step++ )
+		{
+			int choice = random.nextInt( 10 );
+			if( choice < 5 || expected.isEmpty() )
+			{
+				int index = random.nextInt( expected.size() + 1 );
+				myList.add( index, step );
+				expected.add( index, step );
+			}
+			else if( choice < 8 )
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( "Failed to remove same item.", expected.remove( index ), myList.remove( index ) );
+			}
+			else
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( "Failed to set same item.", expected.set( index, step ), myList.set( index, step ) );
+			}
+		}
+
+		assertEquals( "Failed to keep size.", expected.size(), myList.size() );
+		assertArrayEquals( "Failed to keep order.", expected.toArray(), myList.toArray() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyTreeList#listIterator()}
+	 * to visit every item in order, both ways, on a list large enough to rebalance.
+	 */
+	@Test
+	public void testListIterator_bothDirections()
+	{
+		for( int i = 0; i < 1000; i++ )
+		{
+			myList.add( 0, 999 - i );
+		}
+
+		ListIterator<Integer> it = myList.listIterator();
+		for( int i = 0; i < 1000; i++ )
+		{
+			assertEquals( "Failed to walk forward.", Integer.valueOf( i ), it.next() );
+		}
+		assertFalse( "Failed to stop at the end.", it.hasNext() );
+		for( int i = 999; i >= 0; i-- )
+		{
+			assertEquals( "Failed to walk backward.", Integer.valueOf( i ), it.previous() );
+		}
+		assertFalse( "Failed to stop at the start.", it.hasPrevious() );
+	}
+}
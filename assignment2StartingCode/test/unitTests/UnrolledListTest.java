@@ -0,0 +1,144 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import implementations.MyArrayList;
+import implementations.MyUnrolledList;
+
+/**
+ * @author agent
+ * @version 1.0 Oct. 18, 2026
+ * Class Description:
+ * Test for the unrolled-linked-list implementation of the ListADT defined in the CPRG304
+ * Assignment 2.
+ */
+
+public class UnrolledListTest extends ListADTContract<MyUnrolledList<Integer>>
+{
+	/**
+	 * Creates an empty MyUnrolledList for the ListADT tests inherited from ListADTContract.
+	 * @return a new empty list
+	 */
+	@Override
+	protected MyUnrolledList<Integer> newList()
+	{
+		return new MyUnrolledList<>();
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyUnrolledList#indexOf(java.lang.Object)}
+	 * to return the index of the first occurrence of an item.
+	 */
+	@Test
+	public void testIndexOf_found()
+	{
+		myList.add( one );
+		myList.add( two );
+		myList.add( three );
+		myList.add( two );
+
+		int actual = myList.indexOf( two );
+		assertEquals( "Failed to return first index.", 1, actual );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyUnrolledList#indexOf(java.lang.Object)}
+	 * to return -1 for an item that is not in the list.
+	 */
+	@Test
+	public void testIndexOf_notFound()
+	{
+		myList.add( one );
+		myList.add( two );
+
+		int actual = myList.indexOf( five );
+		assertEquals( "Failed to return -1.", -1, actual );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyUnrolledList#MyUnrolledList(int)}
+	 * to throw IllegalArgumentException for a block size that is too small.
+	 */
+	@Test
+	public void testConstructor_blockSizeTooSmall()
+	{
+		try
+		{
+			new MyUnrolledList<Integer>( 3 );
+			fail( "Failed to throw IllegalArgumentException." );
+		}
+		catch( IllegalArgumentException e )
+		{
+			assertTrue( true );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyUnrolledList#add(int, java.lang.Object)}
+	 * to split full blocks when inserting in the middle.
+	 */
+	@Test
+	public void testAdd_splitsBlocks()
+	{
+		myList = new MyUnrolledList<>( 4 );
+		for( int i = 0; i < 8; i++ )
+		{
+			myList.add( i * 2 );
+		}
+		for( int i = 7; i >= 0; i-- )
+		{
+			myList.add( i + 1, i * 2 + 1 );
+		}
+
+		Integer[] expected = new Integer[16];
+		for( int i = 0; i < 16; i++ )
+		{
+			expected[i] = i;
+		}
+		assertArrayEquals( "Failed to keep order across splits.", expected, myList.toArray( new Integer[0] ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link implementations.MyUnrolledList#remove(int)}
+	 * to keep positions and order right while blocks split and merge, compared
+	 * against a MyArrayList receiving the same operations.
+	 */
+	@Test
+	public void testMixedOperations_matchArrayList()
+	{
+		myList = new MyUnrolledList<>( 4 );
+		MyArrayList<Integer> expected = new MyArrayList<>();
+		java.util.Random random = new java.util.Random( 304 );
+
+		for( int step = 0; step < 5000; step++ )
+		{
+			int choice = random.nextInt( 10 );
+			if( choice < 5 || expected.isEmpty() )
+			{
+				int index = random.nextInt( expected.size() + 1 );
+				myList.add( index, step );
+				expected.add( index, step );
+			}
+			else if( choice < 8 )
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( "Failed to remove same item.", expected.remove( index ), myList.remove( index ) );
+			}
+			else
+			{
+				int index = random.nextInt( expected.size() );
+				assertEquals( "Failed to get same item.", expected.get( index ), myList.get( index ) );
+			}
+		}
+
+		assertEquals( "Failed to keep size.", expected.size(), myList.size() );
+		assertArrayEquals( "Failed to keep order.", expected.toArray(), myList.toArray() );
+	}
+}
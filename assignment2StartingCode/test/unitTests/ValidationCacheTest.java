@@ -0,0 +1,386 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import appDomain.ValidationCache;
+
+/**
+ * @author agent
+ * @version 1.0 Oct. 18, 2026
+ * Class Description:
+ * Test for the disk-backed cache of XMLParser verdicts. Each test works in its
+ * own temporary directory, which holds both the cache file and the XML files
+ * whose results are cached.
+ */
+
+public class ValidationCacheTest
+{
+	// Attributes
+	private File dir;
+	private File cacheFile;
+	private ValidationCache cache;
+
+	/**
+	 * Opens a cache in a fresh temporary directory before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		dir = Files.createTempDirectory( "validationcache" ).toFile();
+		cacheFile = new File( dir, "cache.bin" );
+		cache = new ValidationCache( cacheFile );
+	}
+
+	/**
+	 * Closes the cache and deletes its directory after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		cache.close();
+		cache = null;
+		File[] files = dir.listFiles();
+		for( File file : files == null ? new File[0] : files )
+		{
+			file.delete();
+		}
+		dir.delete();
+	}
+
+	/**
+	 * Writes an XML file in the test directory with a fixed modification time.
+	 */
+	private String write( String name, String content, long modified ) throws Exception
+	{
+		File file = new File( dir, name );
+		try( FileOutputStream out = new FileOutputStream( file ) )
+		{
+			out.write( content.getBytes( StandardCharsets.UTF_8 ) );
+		}
+		file.setLastModified( modified );
+		return file.getPath();
+	}
+
+	/**
+	 * Closes the cache and opens the same file again.
+	 */
+	private void reopen() throws Exception
+	{
+		cache.close();
+		cache = new ValidationCache( cacheFile );
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.ValidationCache#lookup(java.lang.String)}
+	 * to return null for a file that was never stored, and the stored result afterwards.
+	 * @throws Exception
+	 */
+	@Test
+	public void testLookup_storedResult() throws Exception
+	{
+		String path = write( "a.xml", "<a></a>", 1000000L );
+		assertNull( cache.lookup( path ) );
+		cache.store( path, false, Arrays.asList( "first", "second" ) );
+
+		ValidationCache.Result result = cache.lookup( path );
+		assertNotNull( result );
+		assertFalse( result.isValid() );
+		assertEquals( Arrays.asList( "first", "second" ), result.getErrors() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.ValidationCache#lookup(java.lang.String)}
+	 * to return null once the content of a file changes.
+	 * @throws Exception
+	 */
+	@Test
+	public void testLookup_changedContent() throws Exception
+	{
+		String path = write( "a.xml", "<a></a>", 1000000L );
+		cache.store( path, true, Collections.<String>emptyList() );
+		write( "a.xml", "<a><b></a>", 2000000L );
+		assertNull( cache.lookup( path ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.ValidationCache#lookup(java.lang.String)}
+	 * to answer from the size and modification time recorded for a path without
+	 * reading the file: content changed at the same size and time still hits.
+	 * @throws Exception
+	 */
+	@Test
+	public void testLookup_statMatchSkipsRead() throws Exception
+	{
+		String path = write( "a.xml", "<a></a>", 1000000L );
+		cache.store( path, true, Collections.<String>emptyList() );
+		write( "a.xml", "<b></b>", 1000000L );
+
+		ValidationCache.Result result = cache.lookup( path );
+		assertNotNull( result );
+		assertTrue( result.isValid() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.ValidationCache#lookup(java.lang.String)}
+	 * to share one result between identical files at two paths, and to answer
+	 * alternating lookups of both without growing the log.
+	 * @throws Exception
+	 */
+	@Test
+	public void testLookup_identicalFilesDoNotGrowLog() throws Exception
+	{
+		String first = write( "a.xml", "<a></a>", 1000000L );
+		String second = write( "b.xml", "<a></a>", 2000000L );
+		cache.store( first, true, Collections.<String>emptyList() );
+		assertNotNull( cache.lookup( second ) );
+		assertEquals( 1, cache.size() );
+
+		long length = cacheFile.length();
+		for( int i = 0; i < 10000; i++ )
+		{
+			assertNotNull( cache.lookup( i % 2 == 0 ? first : second ) );
+		}
+		assertEquals( length, cacheFile.length() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.ValidationCache#ValidationCache(java.io.File)}
+	 * to restore results and the paths they belong to from the log.
+	 * @throws Exception
+	 */
+	@Test
+	public void testReopen_restoresEntries() throws Exception
+	{
+		String first = write( "a.xml", "<a></a>", 1000000L );
+		String second = write( "b.xml", "<b/>", 1000000L );
+		cache.store( first, true, Collections.<String>emptyList() );
+		cache.store( second, false, Arrays.asList( "error" ) );
+		reopen();
+
+		assertEquals( 2, cache.size() );
+		assertTrue( cache.lookup( first ).isValid() );
+		assertEquals( Arrays.asList( "error" ), cache.lookup( second ).getErrors() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.ValidationCache#ValidationCache(java.io.File)}
+	 * to drop a garbage tail, as left by a crash, and keep the entries before it.
+	 * @throws Exception
+	 */
+	@Test
+	public void testReopen_garbageTail() throws Exception
+	{
+		String path = write( "a.xml", "<a></a>", 1000000L );
+		cache.store( path, true, Collections.<String>emptyList() );
+		cache.close();
+		long length = cacheFile.length();
+		try( FileOutputStream out = new FileOutputStream( cacheFile, true ) )
+		{
+			byte[] garbage = new byte[100];
+			for( int i = 0; i < garbage.length; i++ )
+			{
+				garbage[i] = (byte) ( i * 37 + 11 );
+			}
+			out.write( garbage );
+		}
+		cache = new ValidationCache( cacheFile );
+
+		assertEquals( 1, cache.size() );
+		assertNotNull( cache.lookup( path ) );
+		assertEquals( length, cacheFile.length() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.ValidationCache#ValidationCache(java.io.File)}
+	 * to drop a tail of zero bytes and keep the entries before it.
+	 * @throws Exception
+	 */
+	@Test
+	public void testReopen_zeroTail() throws Exception
+	{
+		String path = write( "a.xml", "<a></a>", 1000000L );
+		cache.store( path, true, Collections.<String>emptyList() );
+		cache.close();
+		long length = cacheFile.length();
+		try( FileOutputStream out = new FileOutputStream( cacheFile, true ) )
+		{
+			out.write( new byte[4096] );
+		}
+		cache = new ValidationCache( cacheFile );
+
+		assertEquals( 1, cache.size() );
+		assertNotNull( cache.lookup( path ) );
+		assertEquals( length, cacheFile.length() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.ValidationCache#ValidationCache(java.io.File)}
+	 * to reject a record whose length runs past the end of the file instead of
+	 * allocating it.
+	 * @throws Exception
+	 */
+	@Test
+	public void testReopen_hugeLength() throws Exception
+	{
+		String path = write( "a.xml", "<a></a>", 1000000L );
+		cache.store( path, true, Collections.<String>emptyList() );
+		cache.close();
+		long length = cacheFile.length();
+		try( RandomAccessFile raf = new RandomAccessFile( cacheFile, "rw" ) )
+		{
+			raf.seek( length );
+			raf.writeInt( Integer.MAX_VALUE - 1 );
+			raf.writeInt( 0 );
+			raf.writeByte( 1 );
+		}
+		cache = new ValidationCache( cacheFile );
+
+		assertEquals( 1, cache.size() );
+		assertEquals( length, cacheFile.length() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.ValidationCache#ValidationCache(java.io.File)}
+	 * to drop a record whose checksum does not match, and everything after it.
+	 * @throws Exception
+	 */
+	@Test
+	public void testReopen_checksumMismatch() throws Exception
+	{
+		String first = write( "a.xml", "<a></a>", 1000000L );
+		cache.store( first, true, Collections.<String>emptyList() );
+		cache.close();
+		long length = cacheFile.length();
+		cache = new ValidationCache( cacheFile );
+		String second = write( "b.xml", "<b/>", 1000000L );
+		cache.store( second, false, Arrays.asList( "error" ) );
+		cache.close();
+
+		// flip a byte in the payload of the second result
+		try( RandomAccessFile raf = new RandomAccessFile( cacheFile, "rw" ) )
+		{
+			raf.seek( length + 12 );
+			int b = raf.read();
+			raf.seek( length + 12 );
+			raf.write( b ^ 0xFF );
+		}
+		cache = new ValidationCache( cacheFile );
+
+		assertEquals( 1, cache.size() );
+		assertNotNull( cache.lookup( first ) );
+		assertNull( cache.lookup( second ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.ValidationCache#ValidationCache(java.io.File)}
+	 * to discard a log written by another version of the parser.
+	 * @throws Exception
+	 */
+	@Test
+	public void testReopen_otherParserVersion() throws Exception
+	{
+		String path = write( "a.xml", "<a></a>", 1000000L );
+		cache.store( path, true, Collections.<String>emptyList() );
+		cache.close();
+		try( RandomAccessFile raf = new RandomAccessFile( cacheFile, "rw" ) )
+		{
+			raf.seek( 4 );
+			int version = raf.readInt();
+			raf.seek( 4 );
+			raf.writeInt( version + 1 );
+		}
+		cache = new ValidationCache( cacheFile );
+
+		assertEquals( 0, cache.size() );
+		assertNull( cache.lookup( path ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.ValidationCache#store(java.lang.String, boolean, java.util.List)}
+	 * to leave the result a path held before its content changed at the least
+	 * recently used position, so it is evicted before the path's new result.
+	 * @throws Exception
+	 */
+	@Test
+	public void testStore_repointedPathKeepsEvictionOrder() throws Exception
+	{
+		cache.close();
+		cacheFile.delete();
+		cache = new ValidationCache( cacheFile, 4096 );
+
+		String[] errors = new String[50];
+		for( int i = 0; i < errors.length; i++ )
+		{
+			errors[i] = "error number " + i + " in the first version";
+		}
+		String path = write( "a.xml", "<a><b></a>", 1000000L );
+		cache.store( path, false, Arrays.asList( errors ) );
+		write( "a.xml", "<a></a>", 2000000L );
+		cache.store( path, true, Collections.<String>emptyList() );
+
+		boolean evicted = false;
+		for( int i = 0; i < 1000 && !evicted; i++ )
+		{
+			cache.store( write( "f" + i + ".xml", "<f" + i + "/>", 1000000L ), true,
+					Collections.<String>emptyList() );
+			evicted = cache.size() < i + 3;
+		}
+		assertTrue( evicted );
+		assertNotNull( cache.lookup( path ) );
+		assertNull( cache.lookup( write( "old.xml", "<a><b></a>", 3000000L ) ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.ValidationCache#store(java.lang.String, boolean, java.util.List)}
+	 * to evict the least recently used entries once the size bound is exceeded,
+	 * and keep the log within a few times the bound.
+	 * @throws Exception
+	 */
+	@Test
+	public void testStore_evictsToBound() throws Exception
+	{
+		cache.close();
+		cacheFile.delete();
+		cache = new ValidationCache( cacheFile, 2048 );
+
+		String kept = write( "kept.xml", "<kept/>", 1000000L );
+		cache.store( kept, true, Collections.<String>emptyList() );
+		for( int i = 0; i < 200; i++ )
+		{
+			String path = write( "f" + i + ".xml", "<f" + i + "/>", 1000000L );
+			cache.store( path, false, Arrays.asList( "error in file " + i ) );
+			assertNotNull( cache.lookup( kept ) );
+		}
+
+		assertTrue( cache.size() < 200 );
+		assertNotNull( cache.lookup( kept ) );
+		assertNull( cache.lookup( new File( dir, "f0.xml" ).getPath() ) );
+		assertTrue( cacheFile.length() <= 3 * 2048 );
+	}
+}
@@ -0,0 +1,464 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import appDomain.XMLParser;
+
+/**
+ * @author agent
+ * @version 1.0 Oct. 18, 2026
+ * Class Description:
+ * Test for revalidating an edited file from the checkpoints of the previous
+ * parse. Every revalidation is compared with a fresh parse of the same content
+ * by a second parser. Documents are plain ASCII, so character offsets are byte
+ * offsets, and checkpoints are taken every kilobyte. Pipelined parses, which read
+ * the file on a second thread, are compared with plain parses the same way. The
+ * verdicts of the tag scanner itself are checked against fixed documents.
+ */
+
+public class XMLParserTest
+{
+	private static final String[] TOKENS = { "<a>", "</a>", "<b x=\"1\">", "</b>", "<c/>", "text", "<d>",
+			"</d>", "<!-- note -->", "</e>", "<a\n>", "<b y='<'>", "<![CDATA[ <a> ]]>", " ", "\n" };
+	private static final String CORRECT = "XML document is constructed correctly.";
+
+	// Attributes
+	private File dir;
+	private File file;
+	private XMLParser parser;
+
+	/**
+	 * Creates a parser with checkpoints and a fresh temporary directory before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		dir = Files.createTempDirectory( "xmlparser" ).toFile();
+		file = new File( dir, "doc.xml" );
+		parser = new XMLParser();
+		parser.setCheckpointInterval( 1 );
+	}
+
+	/**
+	 * Deletes the temporary directory after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		file.delete();
+		dir.delete();
+		parser = null;
+	}
+
+	private void write( String content ) throws Exception
+	{
+		try( FileOutputStream out = new FileOutputStream( file ) )
+		{
+			out.write( content.getBytes( StandardCharsets.US_ASCII ) );
+		}
+	}
+
+	/**
+	 * Replaces part of the document, writes it, revalidates it, and compares the
+	 * result with a fresh parse.
+	 * @return the edited document
+	 */
+	private String edit( String content, int offset, int removed, String inserted ) throws Exception
+	{
+		String edited = content.substring( 0, offset ) + inserted + content.substring( offset + removed );
+		write( edited );
+		boolean valid = parser.revalidate( file.getPath(), offset, removed, inserted.length() );
+
+		XMLParser fresh = new XMLParser();
+		assertEquals( fresh.parseFile( file.getPath() ), valid );
+		assertEquals( fresh.getErrorMessage(), parser.getErrorMessage() );
+		return edited;
+	}
+
+	/**
+	 * Writes the document, parses it with a new parser and checks the verdict
+	 * and the error messages.
+	 */
+	private void assertVerdict( String content, boolean valid, String messages ) throws Exception
+	{
+		write( content );
+		XMLParser fresh = new XMLParser();
+		assertEquals( valid, fresh.parseFile( file.getPath() ) );
+		assertEquals( messages, fresh.getErrorMessage() );
+	}
+
+	private static String randomText( Random random, int tokens )
+	{
+		StringBuilder text = new StringBuilder();
+		for( int i = 0; i < tokens; i++ )
+		{
+			text.append( TOKENS[random.nextInt( TOKENS.length )] );
+		}
+		return text.toString();
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.XMLParser#parseFile(java.lang.String)}
+	 * to skip comments and CDATA sections that span lines, including the tags
+	 * and '>' characters inside them.
+	 * @throws Exception
+	 */
+	@Test
+	public void testParseFile_multilineCommentAndCdata() throws Exception
+	{
+		assertVerdict( "<a>\n<!-- <b>\n</c> -> --\n-->\n</a>\n", true, CORRECT );
+		assertVerdict( "<a>\n<![CDATA[\n</a> <b>\n]]>\n</a>\n", true, CORRECT );
+		assertVerdict( "<a>\n<!-- note\n-->\n</b>\n", false,
+				"Error at line: 4 </b> is not constructed correctly.\n"
+						+ "Error at line: 1 <a> is not constructed correctly.\n" );
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.XMLParser#parseFile(java.lang.String)}
+	 * to skip a DOCTYPE declaration whose internal subset spans lines and holds
+	 * markup declarations with their own '>' characters.
+	 * @throws Exception
+	 */
+	@Test
+	public void testParseFile_multilineDoctype() throws Exception
+	{
+		assertVerdict( "<!DOCTYPE a [\n<!ELEMENT a (#PCDATA)>\n<!ENTITY e \"<b>\">\n]>\n<a></a>\n", true,
+				CORRECT );
+		assertVerdict( "<!DOCTYPE a [\n<!ELEMENT a (#PCDATA)>\n]>\n<a>\n", false,
+				"Error at line: 4 <a> is not constructed correctly.\n" );
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.XMLParser#parseFile(java.lang.String)}
+	 * to ignore '>' and "/>" inside quoted attribute values, including a value
+	 * in a tag that spans lines.
+	 * @throws Exception
+	 */
+	@Test
+	public void testParseFile_quotedAttributeValues() throws Exception
+	{
+		assertVerdict( "<a x=\"/>\" y='>'>\n</a>\n", true, CORRECT );
+		assertVerdict( "<a x=\"/>\"\n y='>'>\n<b z=\">\"/>\n</a>\n", true, CORRECT );
+		assertVerdict( "<a x=\"/>\">\n", false, "Error at line: 1 <a x=\"/>\"> is not constructed correctly.\n" );
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.XMLParser#parseFile(java.lang.String)}
+	 * to accept an end tag whose closing '>' is on a later line, which the
+	 * scanner joins with whitespace, and to still match it against its start tag.
+	 * @throws Exception
+	 */
+	@Test
+	public void testParseFile_multilineEndTag() throws Exception
+	{
+		assertVerdict( "<a>\n</a\n>\n", true, CORRECT );
+		assertVerdict( "<a>\n<b>\n</b\n\n>\n</a >\n", true, CORRECT );
+		assertVerdict( "<a>\n</b\n>\n</a>\n", false, "Error at line: 2 </b > is not constructed correctly.\n" );
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.XMLParser#parseFile(java.lang.String)}
+	 * to report a comment, CDATA section, DOCTYPE declaration, tag or attribute
+	 * value still open at the end of the file at the line where it started.
+	 * @throws Exception
+	 */
+	@Test
+	public void testParseFile_unterminatedAtEof() throws Exception
+	{
+		assertVerdict( "<a>\n<!-- open\n", false, "Error at line: 2 <!-- is not constructed correctly.\n"
+				+ "Error at line: 1 <a> is not constructed correctly.\n" );
+		assertVerdict( "<a>\n<![CDATA[ <b>\n", false, "Error at line: 2 <![CDATA[ is not constructed correctly.\n"
+				+ "Error at line: 1 <a> is not constructed correctly.\n" );
+		assertVerdict( "<!DOCTYPE a [\n<!ELEMENT a (#PCDATA)>\n", false,
+				"Error at line: 1 <!DOCTYPE is not constructed correctly.\n" );
+		assertVerdict( "<a>\n<b\n", false, "Error at line: 2 <b is not constructed correctly.\n"
+				+ "Error at line: 1 <a> is not constructed correctly.\n" );
+		assertVerdict( "<a>\n<b x=\"1>\n</b>\n", false,
+				"Error at line: 2 <b x=\"1> </b> is not constructed correctly.\n"
+						+ "Error at line: 1 <a> is not constructed correctly.\n" );
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.XMLParser#revalidate(java.lang.String, long, long, long)}
+	 * to agree with a fresh parse after each of a series of random edits to a
+	 * document with errors throughout.
+	 * @throws Exception
+	 */
+	@Test
+	public void testRevalidate_randomEdits() throws Exception
+	{
+		Random random = new Random( 42 );
+		String content = randomText( random, 4000 );
+		write( content );
+		parser.parseFile( file.getPath() );
+
+		for( int i = 0; i < 300; i++ )
+		{
+			int offset = random.nextInt( content.length() + 1 );
+			int removed = random.nextInt( Math.min( 40, content.length() - offset ) + 1 );
+			content = edit( content, offset, removed, randomText( random, random.nextInt( 6 ) ) );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.XMLParser#revalidate(java.lang.String, long, long, long)}
+	 * to agree with a fresh parse after random edits to a well-formed document,
+	 * where most edits leave the state past them unchanged and the previous
+	 * result is adopted.
+	 * @throws Exception
+	 */
+	@Test
+	public void testRevalidate_randomEditsWellFormed() throws Exception
+	{
+		Random random = new Random( 7 );
+		StringBuilder document = new StringBuilder( "<root>\n" );
+		for( int i = 0; i < 2000; i++ )
+		{
+			document.append( "<item n=\"" ).append( i ).append( "\"><c/>text</item>\n" );
+		}
+		document.append( "</root>\n" );
+		String content = document.toString();
+		write( content );
+		assertTrue( parser.parseFile( file.getPath() ) );
+
+		for( int i = 0; i < 200; i++ )
+		{
+			int offset = content.indexOf( '\n', random.nextInt( content.length() ) ) + 1;
+			String inserted = random.nextBoolean() ? "<c/>\n" : "<x>\n";
+			content = edit( content, offset, 0, inserted );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.XMLParser#revalidate(java.lang.String, long, long, long)}
+	 * to shift 200,000 open tags past an edit without running out of call stack,
+	 * and to agree with a fresh parse. Checkpoints are 64 kilobytes apart here, as
+	 * every checkpoint past the edit holds a stack of that depth.
+	 * @throws Exception
+	 */
+	@Test
+	public void testRevalidate_deepNesting() throws Exception
+	{
+		int depth = 200000;
+		parser.setCheckpointInterval( 64 );
+		StringBuilder document = new StringBuilder();
+		for( int i = 0; i < depth; i++ )
+		{
+			document.append( "<a>\n" );
+		}
+		for( int i = 0; i < depth; i++ )
+		{
+			document.append( "</a>\n" );
+		}
+		String content = document.toString();
+		write( content );
+		assertTrue( parser.parseFile( file.getPath() ) );
+
+		content = edit( content, 4, 0, "\n\n" );
+		content = edit( content, 400000, 0, "<b/>\n" );
+		content = edit( content, 8, 0, "<open>\n" );
+		edit( content, 8, 7, "" );
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.XMLParser#revalidate(java.lang.String, long, long, long)}
+	 * to stop at the first checkpoint past the edit whose state matches the
+	 * previous parse, and reuse the rest of the previous result: a change past
+	 * that point that the edit does not report is not seen.
+	 * @throws Exception
+	 */
+	@Test
+	public void testRevalidate_stopsAtMatchingCheckpoint() throws Exception
+	{
+		StringBuilder document = new StringBuilder( "<root>\n" );
+		for( int i = 0; i < 1000; i++ )
+		{
+			document.append( "<item>text</item>\n" );
+		}
+		document.append( "</root>\n" );
+		String content = document.toString();
+		write( content );
+		assertTrue( parser.parseFile( file.getPath() ) );
+
+		// the edit near the top is reported; the broken tag near the end is not
+		int tail = content.lastIndexOf( "<item>" );
+		String edited = content.substring( 0, 7 ) + "<c/>\n" + content.substring( 7, tail ) + "<oops>\n"
+				+ content.substring( tail );
+		write( edited );
+		assertTrue( parser.revalidate( file.getPath(), 7, 0, 5 ) );
+		assertFalse( new XMLParser().parseFile( file.getPath() ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.XMLParser#revalidate(java.lang.String, long, long, long)}
+	 * to report each error once when there are more distinct messages than the
+	 * duplicate index keeps in memory, before and after an edit near the end.
+	 * @throws Exception
+	 */
+	@Test
+	public void testRevalidate_manyErrors() throws Exception
+	{
+		int errors = 250000;
+		parser.setCheckpointInterval( 256 );
+		StringBuilder document = new StringBuilder( "<root>\n" );
+		for( int i = 0; i < errors; i++ )
+		{
+			document.append( "</x" ).append( i ).append( ">\n" );
+		}
+		document.append( "</root>\n" );
+		String content = document.toString();
+		write( content );
+		assertFalse( parser.parseFile( file.getPath() ) );
+		assertEquals( errors, parser.getErrorMessage().split( "\n" ).length );
+
+		int offset = content.lastIndexOf( "</x" );
+		content = edit( content, offset, 0, "</y>\n" );
+		assertEquals( errors + 1, parser.getErrorMessage().split( "\n" ).length );
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.XMLParser#revalidate(java.lang.String, long, long, long)}
+	 * to fall back to a full parse when the previous parse was of another file.
+	 * @throws Exception
+	 */
+	@Test
+	public void testRevalidate_otherFile() throws Exception
+	{
+		write( "<a>\n</a>\n" );
+		File other = new File( dir, "other.xml" );
+		try( FileOutputStream out = new FileOutputStream( other ) )
+		{
+			out.write( "<b>\n".getBytes( StandardCharsets.US_ASCII ) );
+		}
+		try
+		{
+			assertFalse( parser.parseFile( other.getPath() ) );
+			assertTrue( parser.revalidate( file.getPath(), 0, 0, 0 ) );
+			assertEquals( "XML document is constructed correctly.", parser.getErrorMessage() );
+		}
+		finally
+		{
+			other.delete();
+		}
+	}
+
+	/**
+	 * Parses the file with a pipelined parser and a plain one, and checks they agree.
+	 */
+	private void comparePipelined() throws Exception
+	{
+		XMLParser pipelined = new XMLParser();
+		pipelined.setPipelined( true );
+		XMLParser plain = new XMLParser();
+		assertEquals( plain.parseFile( file.getPath() ), pipelined.parseFile( file.getPath() ) );
+		assertEquals( plain.getErrorMessage(), pipelined.getErrorMessage() );
+	}
+
+	private static boolean readerRunning()
+	{
+		for( Thread thread : Thread.getAllStackTraces().keySet() )
+		{
+			if( thread.getName().equals( "XMLParser-reader" ) && thread.isAlive() )
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.XMLParser#setPipelined(boolean)}
+	 * to give the same result as a plain parse, for random documents with errors
+	 * throughout and for documents long enough to fill the ring buffer between
+	 * the reading thread and the parsing thread.
+	 * @throws Exception
+	 */
+	@Test
+	public void testSetPipelined_matchesPlainParse() throws Exception
+	{
+		Random random = new Random( 11 );
+		for( int i = 0; i < 20; i++ )
+		{
+			write( randomText( random, random.nextInt( 20000 ) ) );
+			comparePipelined();
+		}
+
+		StringBuilder document = new StringBuilder( "<root>\n" );
+		for( int i = 0; i < 20000; i++ )
+		{
+			document.append( i % 1000 == 0 ? "</x" + i + ">\n" : "<item>text</item>\n" );
+		}
+		document.append( "</root>\n" );
+		write( document.toString() );
+		comparePipelined();
+
+		write( "" );
+		comparePipelined();
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.XMLParser#setPipelined(boolean)}
+	 * to stop a pipelined parse interrupted mid-file with an InterruptedIOException,
+	 * clearing the flag and stopping the reading thread while it may be waiting
+	 * on a full ring buffer. The next parse agrees with a plain one.
+	 * @throws Exception
+	 */
+	@Test
+	public void testSetPipelined_interrupted() throws Exception
+	{
+		StringBuilder document = new StringBuilder( "<root>\n" );
+		for( int i = 0; i < 200000; i++ )
+		{
+			document.append( "<item>text</item>\n" );
+		}
+		document.append( "</root>\n" );
+		write( document.toString() );
+
+		XMLParser pipelined = new XMLParser();
+		pipelined.setPipelined( true );
+		Thread.currentThread().interrupt();
+		try
+		{
+			pipelined.parseFile( file.getPath() );
+			fail( "InterruptedIOException was not thrown" );
+		}
+		catch( InterruptedIOException e )
+		{
+			assertTrue( true );
+		}
+		finally
+		{
+			assertFalse( Thread.interrupted() );
+		}
+		assertFalse( readerRunning() );
+
+		assertTrue( pipelined.parseFile( file.getPath() ) );
+		comparePipelined();
+	}
+}
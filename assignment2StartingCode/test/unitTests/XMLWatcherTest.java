@@ -0,0 +1,321 @@
+package unitTests;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import appDomain.XMLParser;
+import appDomain.XMLWatcher;
+
+/**
+ * @author agent
+ * @version 1.0 Oct. 18, 2026
+ * Class Description:
+ * Test for the directory watcher that revalidates XML files as they change.
+ * Each test watches its own temporary directory and runs the watcher on a
+ * background thread; the listener records every validation and removal so
+ * the test can wait for them.
+ */
+
+public class XMLWatcherTest
+{
+	private static final long WAIT_SECONDS = 10;
+
+	// Attributes
+	private Path dir;
+	private XMLWatcher watcher;
+	private Thread thread;
+	private BlockingQueue<String> events;
+	private volatile String blockOn;
+	private CountDownLatch release;
+
+	/**
+	 * Creates a watcher over a fresh temporary directory before each test.
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception
+	{
+		dir = Files.createTempDirectory( "xmlwatcher" ).toAbsolutePath().normalize();
+		events = new LinkedBlockingQueue<>();
+		release = new CountDownLatch( 1 );
+		watcher = new XMLWatcher( new XMLParser(), new XMLWatcher.Listener()
+		{
+			@Override
+			public void validated( Path file, XMLWatcher.Verdict verdict )
+			{
+				events.add( "validated " + file.getFileName() );
+				if( file.getFileName().toString().equals( blockOn ) )
+				{
+					try
+					{
+						release.await();
+					}
+					catch( InterruptedException e )
+					{
+						Thread.currentThread().interrupt();
+					}
+				}
+			}
+
+			@Override
+			public void removed( Path file )
+			{
+				events.add( "removed " + file.getFileName() );
+			}
+		} );
+	}
+
+	/**
+	 * Stops the watcher and deletes the directory after each test.
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception
+	{
+		release.countDown();
+		watcher.close();
+		if( thread != null )
+		{
+			thread.join( TimeUnit.SECONDS.toMillis( WAIT_SECONDS ) );
+		}
+		deleteTree( dir );
+	}
+
+	private void start()
+	{
+		thread = new Thread( () -> {
+			try
+			{
+				watcher.run();
+			}
+			catch( IOException e )
+			{
+				events.add( "failed " + e );
+			}
+		} );
+		thread.setDaemon( true );
+		thread.start();
+	}
+
+	private static Path write( Path file, String content ) throws IOException
+	{
+		return Files.write( file, content.getBytes( StandardCharsets.UTF_8 ) );
+	}
+
+	private static void deleteTree( Path start ) throws IOException
+	{
+		if( !Files.exists( start ) )
+		{
+			return;
+		}
+		Files.walkFileTree( start, new SimpleFileVisitor<Path>()
+		{
+			@Override
+			public FileVisitResult visitFile( Path file, BasicFileAttributes attrs ) throws IOException
+			{
+				Files.delete( file );
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult postVisitDirectory( Path directory, IOException e ) throws IOException
+			{
+				Files.delete( directory );
+				return FileVisitResult.CONTINUE;
+			}
+		} );
+	}
+
+	/**
+	 * Waits for the given event, failing if it does not arrive in time.
+	 */
+	private void await( String expected ) throws InterruptedException
+	{
+		long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis( WAIT_SECONDS );
+		while( true )
+		{
+			String event = events.poll( deadline - System.currentTimeMillis(), TimeUnit.MILLISECONDS );
+			if( event == null )
+			{
+				fail( "Timed out waiting for: " + expected );
+			}
+			if( event.equals( expected ) )
+			{
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.XMLWatcher#watch(java.nio.file.Path)}
+	 * to validate the files already in the tree, keeping the number of errors
+	 * and a bounded preview of them.
+	 * @throws Exception
+	 */
+	@Test
+	public void testWatch_initialScan() throws Exception
+	{
+		write( dir.resolve( "good.xml" ), "<a>\n</a>\n" );
+		StringBuilder bad = new StringBuilder( "<root>\n" );
+		for( int i = 0; i < 50; i++ )
+		{
+			bad.append( "</x" ).append( i ).append( ">\n" );
+		}
+		bad.append( "</root>\n" );
+		write( dir.resolve( "bad.xml" ), bad.toString() );
+		write( dir.resolve( "notes.txt" ), "<a>" );
+
+		watcher.watch( dir );
+
+		assertEquals( 2, watcher.getVerdicts().size() );
+		XMLWatcher.Verdict good = watcher.getVerdict( dir.resolve( "good.xml" ) );
+		assertTrue( good.isValid() );
+		assertEquals( 0, good.getErrorCount() );
+		XMLWatcher.Verdict verdict = watcher.getVerdict( dir.resolve( "bad.xml" ) );
+		assertFalse( verdict.isValid() );
+		assertEquals( 50, verdict.getErrorCount() );
+		assertEquals( XMLWatcher.PREVIEW_ERRORS, verdict.getPreview().size() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.XMLWatcher#run()}
+	 * to validate a file once after a burst of writes, no sooner than the
+	 * debounce period after the last one started.
+	 * @throws Exception
+	 */
+	@Test
+	public void testRun_debounce() throws Exception
+	{
+		watcher.watch( dir );
+		start();
+
+		Path file = dir.resolve( "burst.xml" );
+		long lastWrite = 0;
+		for( int i = 0; i < 5; i++ )
+		{
+			lastWrite = System.currentTimeMillis();
+			write( file, "<a>" + i + "</a>\n" );
+			Thread.sleep( 20 );
+		}
+
+		await( "validated burst.xml" );
+		long validatedAt = watcher.getVerdict( file ).getValidatedAt();
+		assertTrue( validatedAt - lastWrite >= XMLWatcher.DEFAULT_DEBOUNCE_MILLIS );
+
+		Thread.sleep( 2 * XMLWatcher.DEFAULT_DEBOUNCE_MILLIS );
+		assertFalse( events.contains( "validated burst.xml" ) );
+		assertEquals( validatedAt, watcher.getVerdict( file ).getValidatedAt() );
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.XMLWatcher#run()}
+	 * to drop the verdict of a deleted file.
+	 * @throws Exception
+	 */
+	@Test
+	public void testRun_deleteFile() throws Exception
+	{
+		Path file = write( dir.resolve( "a.xml" ), "<a></a>\n" );
+		watcher.watch( dir );
+		assertNotNull( watcher.getVerdict( file ) );
+		start();
+
+		Files.delete( file );
+		await( "removed a.xml" );
+		assertNull( watcher.getVerdict( file ) );
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.XMLWatcher#run()}
+	 * to drop the verdicts of every file under a directory moved out of the
+	 * tree, which only reports the directory itself as deleted.
+	 * @throws Exception
+	 */
+	@Test
+	public void testRun_deleteDirectory() throws Exception
+	{
+		Path sub = Files.createDirectories( dir.resolve( "sub" ).resolve( "deeper" ) ).getParent();
+		Path first = write( sub.resolve( "a.xml" ), "<a></a>\n" );
+		Path second = write( sub.resolve( "deeper" ).resolve( "b.xml" ), "<b>\n" );
+		Path kept = write( dir.resolve( "c.xml" ), "<c></c>\n" );
+		watcher.watch( dir );
+		assertEquals( 3, watcher.getVerdicts().size() );
+		start();
+
+		Path outside = Files.createTempDirectory( "xmlwatcher-moved" );
+		try
+		{
+			Files.move( sub, outside.resolve( "sub" ) );
+			long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis( WAIT_SECONDS );
+			while( watcher.getVerdicts().size() > 1 && System.currentTimeMillis() < deadline )
+			{
+				Thread.sleep( 10 );
+			}
+			assertNull( watcher.getVerdict( first ) );
+			assertNull( watcher.getVerdict( second ) );
+			assertNotNull( watcher.getVerdict( kept ) );
+		}
+		finally
+		{
+			deleteTree( outside );
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link appDomain.XMLWatcher#run()}
+	 * to rescan the tree after events were lost to an OVERFLOW: files created
+	 * meanwhile are validated and a file deleted meanwhile loses its verdict.
+	 * The watcher is held inside a listener call while more events pile up
+	 * than a watch key keeps.
+	 * @throws Exception
+	 */
+	@Test
+	public void testRun_overflowRescan() throws Exception
+	{
+		Path gone = write( dir.resolve( "gone.xml" ), "<a></a>\n" );
+		watcher.watch( dir );
+		start();
+
+		blockOn = "trigger.xml";
+		write( dir.resolve( "trigger.xml" ), "<t></t>\n" );
+		await( "validated trigger.xml" );
+
+		int files = 1000;
+		for( int i = 0; i < files; i++ )
+		{
+			write( dir.resolve( "f" + i + ".xml" ), "<f></f>\n" );
+		}
+		Files.delete( gone );
+		release.countDown();
+
+		await( "removed gone.xml" );
+		long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis( WAIT_SECONDS );
+		while( watcher.getVerdicts().size() < files + 1 && System.currentTimeMillis() < deadline )
+		{
+			Thread.sleep( 10 );
+		}
+		assertEquals( files + 1, watcher.getVerdicts().size() );
+		assertNull( watcher.getVerdict( gone ) );
+		assertNotNull( watcher.getVerdict( dir.resolve( "f" + ( files - 1 ) + ".xml" ) ) );
+	}
+}